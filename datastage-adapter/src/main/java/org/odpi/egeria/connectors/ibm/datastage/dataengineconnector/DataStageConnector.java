@@ -8,9 +8,11 @@ import org.odpi.egeria.connectors.ibm.datastage.dataengineconnector.auditlog.Dat
 import org.odpi.egeria.connectors.ibm.datastage.dataengineconnector.mapping.ProcessMapping;
 import org.odpi.egeria.connectors.ibm.datastage.dataengineconnector.mapping.SchemaTypeMapping;
 import org.odpi.egeria.connectors.ibm.datastage.dataengineconnector.model.*;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCClientSettings;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCRestClient;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCVersionEnum;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.http.HttpTransportSettings;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.base.*;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearch;
@@ -96,6 +98,8 @@ public class DataStageConnector extends DataEngineConnectorBase {
                 String igcPass = connectionProperties.getClearPassword();
 
                 Map<String, Object> proxyProperties = this.connectionBean.getConfigurationProperties();
+                HttpTransportSettings transportSettings = HttpTransportSettings.fromConfigurationProperties(proxyProperties);
+                IGCClientSettings clientSettings = IGCClientSettings.fromConfigurationProperties(proxyProperties);
                 Integer igcPage = null;
                 if (proxyProperties != null) {
                     igcPage = (Integer) proxyProperties.get(DataStageConnectorProvider.PAGE_SIZE);
@@ -113,7 +117,7 @@ public class DataStageConnector extends DataEngineConnectorBase {
                 IGCVersionEnum igcVersion;
                 try {
                     // Create new REST API client (opens a new session)
-                    this.igcRestClient = new IGCRestClient("https://" + address, igcUser, igcPass);
+                    this.igcRestClient = new IGCRestClient("https://" + address, igcUser, igcPass, transportSettings, clientSettings);
                     if (this.igcRestClient.start()) {
 
                         // Set the version based on the IGC client's auto-determination of the IGC environment's version
@@ -2,6 +2,8 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.egeria.connectors.ibm.datastage.dataengineconnector;
 
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCClientSettings;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.http.HttpTransportSettings;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 import org.odpi.openmetadata.governanceservers.dataengineproxy.connectors.DataEngineConnectorProviderBase;
 
@@ -37,6 +39,9 @@ import java.util.List;
  *         limitToLineageEnabledJobs - a boolean that indicates if the connector should only process lineage-enabled jobs.
  *         If this is set to 'true' then only jobs having 'include_for_lineage' set to 'true' will be processed for lineage information. Default is 'false'.
  *     </li>
+ *     <li>connectionPooling, maxConnectionsPerRoute, maxConnectionsTotal, idleConnectionTimeout, connectTimeout,
+ *          readTimeout, maxSessions, pagePrefetchParallelism, maxConcurrentRequests, requestQueueTimeout, maxRetries
+ *          and typeCacheDirectory - settings for the HTTP connections to IGC, as for the IGC repository connector.</li>
  * </ul>
  */
 public class DataStageConnectorProvider extends DataEngineConnectorProviderBase {
@@ -74,6 +79,18 @@ public class DataStageConnectorProvider extends DataEngineConnectorProviderBase
         recognizedConfigurationProperties.add(CREATE_DATA_STORE_SCHEMAS);
         recognizedConfigurationProperties.add(LIMIT_TO_PROJECTS);
         recognizedConfigurationProperties.add(LIMIT_TO_LINEAGE_ENABLED_JOBS);
+        recognizedConfigurationProperties.add(HttpTransportSettings.CONNECTION_POOLING);
+        recognizedConfigurationProperties.add(HttpTransportSettings.MAX_CONNECTIONS_PER_ROUTE);
+        recognizedConfigurationProperties.add(HttpTransportSettings.MAX_CONNECTIONS_TOTAL);
+        recognizedConfigurationProperties.add(HttpTransportSettings.IDLE_CONNECTION_TIMEOUT);
+        recognizedConfigurationProperties.add(HttpTransportSettings.CONNECT_TIMEOUT);
+        recognizedConfigurationProperties.add(HttpTransportSettings.READ_TIMEOUT);
+        recognizedConfigurationProperties.add(HttpTransportSettings.MAX_SESSIONS);
+        recognizedConfigurationProperties.add(IGCClientSettings.PAGE_PREFETCH_PARALLELISM);
+        recognizedConfigurationProperties.add(IGCClientSettings.MAX_CONCURRENT_REQUESTS);
+        recognizedConfigurationProperties.add(IGCClientSettings.REQUEST_QUEUE_TIMEOUT);
+        recognizedConfigurationProperties.add(IGCClientSettings.MAX_RETRIES);
+        recognizedConfigurationProperties.add(IGCClientSettings.TYPE_CACHE_DIRECTORY);
         connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
 
         super.connectorTypeBean = connectorType;
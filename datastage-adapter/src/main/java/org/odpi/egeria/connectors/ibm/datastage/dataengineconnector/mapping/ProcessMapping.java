@@ -220,6 +220,12 @@ public class ProcessMapping extends BaseMapping {
         final String methodName = "addImplementationDetails";
         try {
             String stageQN = getFullyQualifiedName(stage);
+            // Retrieve any of the links that are not yet cached all at once, rather than one-by-one below
+            List<String> rids = new ArrayList<>();
+            for (Link linkRef : links) {
+                rids.add(linkRef.getId());
+            }
+            job.cacheLinksByRid(rids);
             // Setup an x_PORT for each x_link into / out of the stage
             for (Link linkRef : links) {
                 Link linkObjFull = job.getLinkByRid(linkRef.getId());
@@ -9,6 +9,7 @@ import org.odpi.egeria.connectors.ibm.datastage.dataengineconnector.mapping.Proc
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCRestClient;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.cache.ObjectCache;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCPagingException;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.base.*;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Identity;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
@@ -305,11 +306,19 @@ public class DataStageCache {
         if (virtualFields != null) {
             fullFields = new ArrayList<>();
             try {
-                List<T> allVirtualFields = igcRestClient.getAllPages(propertyName, virtualFields);
-                for (Classificationenabledgroup virtualField : allVirtualFields) {
+                // Retrieve each page of virtual fields only as we reach it, since we need the full details of each
+                // field (not the paged list itself)
+                Iterator<T> allVirtualFields = igcRestClient.iterateAllPages(propertyName, virtualFields);
+                while (allVirtualFields.hasNext()) {
+                    Classificationenabledgroup virtualField = allVirtualFields.next();
                     Classificationenabledgroup fullField = (Classificationenabledgroup) igcRestClient.getAssetById(virtualField.getId(), igcCache);
                     fullFields.add(fullField);
                 }
+            } catch (IGCPagingException e) {
+                DataStageConnector.raiseRuntimeError(DataStageErrorCode.UNKNOWN_RUNTIME_ERROR,
+                        this.getClass().getName(),
+                        methodName,
+                        e.getCause());
             } catch (IGCException e) {
                 DataStageConnector.raiseRuntimeError(DataStageErrorCode.UNKNOWN_RUNTIME_ERROR,
                         this.getClass().getName(),
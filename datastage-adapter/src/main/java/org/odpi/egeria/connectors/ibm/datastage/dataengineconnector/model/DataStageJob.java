@@ -168,6 +168,38 @@ public class DataStageJob {
         return link;
     }
 
+    /**
+     * Ensure that all of the links with the provided RIDs are cached, retrieving any that are not yet cached through
+     * as few requests as possible (rather than one request per link).
+     *
+     * @param rids the RIDs of the link objects
+     */
+    public void cacheLinksByRid(Collection<String> rids) {
+        final String methodName = "cacheLinksByRid";
+        List<String> missing = new ArrayList<>();
+        for (String rid : rids) {
+            if (!linkMap.containsKey(rid)) {
+                missing.add(rid);
+            }
+        }
+        if (!missing.isEmpty()) {
+            log.debug("(cache miss) -- retrieving and caching links: {}", missing);
+            try {
+                Map<String, Reference> links = igcRestClient.getAssetsByIds(missing, "link", DataStageConstants.getLinkSearchProperties());
+                for (Map.Entry<String, Reference> entry : links.entrySet()) {
+                    if (entry.getValue() instanceof Link) {
+                        linkMap.put(entry.getKey(), (Link) entry.getValue());
+                    }
+                }
+            } catch (IGCException e) {
+                DataStageConnector.raiseRuntimeError(DataStageErrorCode.UNKNOWN_RUNTIME_ERROR,
+                        this.getClass().getName(),
+                        methodName,
+                        e);
+            }
+        }
+    }
+
     /**
      * Retrieve the complete column-level lineage object ('stage_column' or 'stage_variable') based on its RID.
      *
@@ -80,7 +80,22 @@ public enum IGCOMRSAuditCode implements AuditLogMessageSet {
             OMRSAuditLogRecordSeverity.EXCEPTION,
             "The IBM Information Governance Catalog connector failed to disconnect",
             "The local server failed to disconnect from IBM Information Governance Catalog.",
-            "Investigate the logs for additional information and clear session manually in IGC if needed.")
+            "Investigate the logs for additional information and clear session manually in IGC if needed."),
+    REQUEST_METRICS_SUMMARY("OMRS-IGC-REPOSITORY-0013",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The IBM Information Governance Catalog proxy has made {0} requests to IGC ({1} failed) since it started: {2}",
+            "The local server has summarized the requests made to IBM Information Governance Catalog, by operation and asset type.",
+            "No action is required.  Use the summary to size the IGC environment and to spot any change in its performance."),
+    TYPE_WARM_UP_COMPLETE("OMRS-IGC-REPOSITORY-0014",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The IBM Information Governance Catalog proxy has warmed up the details of {0} IGC types in {1} milliseconds ({2} failed, retrieving up to {3} at a time)",
+            "The local server has retrieved and cached the details of the IGC types used by its mappings, so that the first requests to use them do not need to wait for them.",
+            "No action is required.  If any types failed to warm up, their details will be retrieved again when they are first needed."),
+    OBJECT_CACHE_SUMMARY("OMRS-IGC-REPOSITORY-0015",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The IBM Information Governance Catalog proxy's cache of IGC objects since it started: {0}",
+            "The local server has summarized its use of the cache of IBM Information Governance Catalog objects that is shared across requests.",
+            "No action is required.  Use the summary to size the cache: many evictions with a low hit ratio suggest the cache is too small.")
     ;
 
     private String logMessageId;
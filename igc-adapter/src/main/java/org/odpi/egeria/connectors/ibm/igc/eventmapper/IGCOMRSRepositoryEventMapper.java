@@ -17,6 +17,7 @@ import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCParsingExcepti
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.events.*;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCPreparedSearch;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearch;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearchCondition;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearchConditionSet;
@@ -48,6 +49,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -60,6 +62,7 @@ public class IGCOMRSRepositoryEventMapper extends OMRSRepositoryEventMapperBase
 
     private static final Logger log = LoggerFactory.getLogger(IGCOMRSRepositoryEventMapper.class);
     private static final Duration pollDuration = Duration.ofMillis(100);
+    private static final Map<String, IGCPreparedSearch> childSearches = new ConcurrentHashMap<>();
 
     private String sourceName;
     private IGCOMRSRepositoryConnector igcomrsRepositoryConnector;
@@ -211,7 +214,7 @@ public class IGCOMRSRepositoryEventMapper extends OMRSRepositoryEventMapperBase
     @Override
     public void processEvent(String event) {
         log.debug("Processing event: {}", event);
-        ObjectCache cache = new ObjectCache();
+        ObjectCache cache = igcomrsRepositoryConnector.newObjectCache();
         if (igcVersion.isEqualTo(IGCVersionEnum.V11702) || igcVersion.isHigherThan(IGCVersionEnum.V11702)) {
             processEventV117(event, cache);
         } else {
@@ -418,10 +421,8 @@ public class IGCOMRSRepositoryEventMapper extends OMRSRepositoryEventMapperBase
                     // We should also check the columns / file fields within the table / file for changes to be processed,
                     // as the relationship itself between column and table may not change but there may be
                     // new classifications on the columns / fields from the publication
-                    IGCSearchCondition igcSearchCondition = new IGCSearchCondition(searchProperty, "=", containerAsset.getId());
-                    IGCSearchConditionSet igcSearchConditionSet = new IGCSearchConditionSet(igcSearchCondition);
-                    IGCSearch igcSearch = new IGCSearch(searchAssetType, new String[]{searchProperty}, igcSearchConditionSet);
-                    ItemList<Reference> subAssets = igcRestClient.search(igcSearch);
+                    IGCPreparedSearch childSearch = getChildSearch(searchAssetType, searchProperty);
+                    ItemList<Reference> subAssets = igcRestClient.search(childSearch, containerAsset.getId());
                     if (subAssets != null) {
                         List<Reference> allSubAssets = igcRestClient.getAllPages(null, subAssets);
                         log.debug("Processing {} child assets from IA publication: {}", subAssets.getPaging().getNumTotal(), containerRid);
@@ -442,6 +443,22 @@ public class IGCOMRSRepositoryEventMapper extends OMRSRepositoryEventMapperBase
 
     }
 
+    /**
+     * Retrieve the (prepared) search for the child assets of a container published by IA, by the RID of the
+     * container.
+     *
+     * @param childAssetType the IGC asset type of the child assets
+     * @param containerProperty the property of the child assets that refers to their container
+     * @return IGCPreparedSearch
+     */
+    private static IGCPreparedSearch getChildSearch(String childAssetType, String containerProperty) {
+        return childSearches.computeIfAbsent(childAssetType + "." + containerProperty, k -> {
+            IGCSearchCondition igcSearchCondition = new IGCSearchCondition(containerProperty, "=", IGCPreparedSearch.PARAMETER);
+            IGCSearchConditionSet igcSearchConditionSet = new IGCSearchConditionSet(igcSearchCondition);
+            return new IGCPreparedSearch(new IGCSearch(childAssetType, new String[]{containerProperty}, igcSearchConditionSet));
+        });
+    }
+
     /**
      * Attempt to retrieve the EntityDetail object for the provided asset, using the provided Repository ID (RID).
      * Useful for when the RID indicates there is some generated entity that does not actually exist on its own in
@@ -558,6 +575,8 @@ public class IGCOMRSRepositoryEventMapper extends OMRSRepositoryEventMapperBase
      * @param assetType the type of asset (ie. if provided in the event payload)
      */
     private void processAsset(ObjectCache cache, String rid, String assetType) {
+        // The event tells us the asset has changed, so anything already cached about it is out-of-date
+        cache.invalidate(rid);
         processAsset(cache, rid, assetType, null, null);
     }
 
@@ -1544,6 +1563,7 @@ public class IGCOMRSRepositoryEventMapper extends OMRSRepositoryEventMapperBase
     }
 
     private void sendPurgedEntity(String igcAssetType, String rid, ObjectCache cache) {
+        cache.invalidate(rid);
         sendPurgedEntity(igcAssetType, rid, new HashSet<>(), cache);
     }
 
@@ -0,0 +1,450 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.repositoryconnector;
+
+import org.odpi.egeria.connectors.ibm.igc.auditlog.IGCOMRSErrorCode;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCRestClient;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.cache.ObjectCache;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearch;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearchSorting;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.entities.EntityMapping;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pages through the results of an OMRS entity search that spans several mappings (and therefore several IGC
+ * searches), as a single sequence of results.
+ * <br><br>
+ * Each mapping's IGC search is sorted (by the sequencing order requested, or by RID), and read through a cursor that
+ * only retrieves further pages of its results as they are needed. The cursors are then merged on the IGC results
+ * themselves (a k-way merge, on the same sort key and then the RID, ties going to the earlier mapping) so that the
+ * position of every result in the merged sequence is the same whichever page is requested.
+ * <br><br>
+ * When the search has no criteria against which its results must be checked, positions count every IGC result, so
+ * only the results within the requested page are translated (and a search of a single mapping starts from the
+ * requested position itself). Otherwise positions count only the results that match the criteria, so every result
+ * merged up to the end of the page must be translated to check it. Once a page has been returned, the cursors are kept
+ * for a short time, so that a request for the following page resumes from them rather than reading every mapping's
+ * results from the start again.
+ */
+class EntitySearchPager {
+
+    private static final Logger log = LoggerFactory.getLogger(EntitySearchPager.class);
+
+    private static final int MAX_CURSORS = 100;
+    private static final long CURSOR_TTL = TimeUnit.MINUTES.toMillis(1);
+
+    private final IGCOMRSRepositoryConnector igcomrsRepositoryConnector;
+    private final IGCRepositoryHelper igcRepositoryHelper;
+    private final Map<String, MergeState> cursors;
+
+    /**
+     * Create a new pager for the entity searches of the provided connector.
+     *
+     * @param igcomrsRepositoryConnector the connector through which to search
+     * @param igcRepositoryHelper the helper through which to translate search results
+     */
+    EntitySearchPager(IGCOMRSRepositoryConnector igcomrsRepositoryConnector, IGCRepositoryHelper igcRepositoryHelper) {
+        this.igcomrsRepositoryConnector = igcomrsRepositoryConnector;
+        this.igcRepositoryHelper = igcRepositoryHelper;
+        this.cursors = new LinkedHashMap<String, MergeState>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, MergeState> eldest) {
+                return size() > MAX_CURSORS;
+            }
+        };
+    }
+
+    /**
+     * Compose the key identifying a search, for resuming from the cursors of its previous page: any parameters other
+     * than the position and size of the page that could change the results of the search.
+     *
+     * @param parameters the parameters of the search
+     * @return String
+     */
+    static String getKey(Object... parameters) {
+        return Arrays.deepToString(parameters);
+    }
+
+    /**
+     * Retrieve a single page of the merged results of searching each of the provided mappings.
+     *
+     * @param key the key identifying the search (see {@link #getKey(Object...)}), or null to never resume
+     * @param mappingsToSearch the mappings for which to search
+     * @param search the search to run for each mapping
+     * @param igcSearchSorting the sorting requested for the results (or null to sort them by RID)
+     * @param matchProperties the set of properties that results should match (or null if none)
+     * @param searchCriteria the string search criteria that results should match (or null if none)
+     * @param fromElement the position in the merged results from which to start the page
+     * @param pageSize the maximum number of results to include in the page (0 for all results)
+     * @param cache a cache of information that may already have been retrieved about the results
+     * @param userId the user making the request
+     * @param entityDetails the list of EntityDetails to which to append the page of results
+     * @throws FunctionNotSupportedException when a regular expression is used for the search that is not supported
+     * @throws RepositoryErrorException on any other error
+     */
+    void getPage(String key,
+                 List<EntityMapping> mappingsToSearch,
+                 MappingSearch search,
+                 IGCSearchSorting igcSearchSorting,
+                 SearchProperties matchProperties,
+                 String searchCriteria,
+                 int fromElement,
+                 int pageSize,
+                 ObjectCache cache,
+                 String userId,
+                 List<EntityDetail> entityDetails) throws
+            FunctionNotSupportedException,
+            RepositoryErrorException {
+
+        final String methodName = "getPage";
+
+        MergeState state = resume(key, fromElement);
+        if (state == null) {
+            List<Cursor> candidates = new ArrayList<>();
+            SearchPredicate searchPredicate = igcRepositoryHelper.getSearchPredicate(matchProperties, searchCriteria);
+            for (EntityMapping mapping : mappingsToSearch) {
+                IGCSearch igcSearch = search.getSearch(mapping);
+                if (igcSearch != null) {
+                    candidates.add(new Cursor(candidates.size(), mapping, igcSearch, searchPredicate));
+                }
+            }
+            // A single search whose results are all counted can start from the requested position itself, while
+            // merged (or checked) searches can only know which of their results fall before it by merging them from
+            // the start (a page at a time, each cursor only retrieving its next page once its results are needed)
+            int beginAt = candidates.size() == 1 && searchPredicate == SearchPredicate.MATCH_ALL ? fromElement : 0;
+            for (Cursor cursor : candidates) {
+                igcRepositoryHelper.setPagingForSearch(cursor.igcSearch, beginAt, pageSize);
+                igcRepositoryHelper.setSortingForSearch(cursor.igcSearch, igcSearchSorting, beginAt, pageSize);
+            }
+            state = new MergeState(candidates, searchPredicate, beginAt);
+        } else {
+            log.debug("Resuming search from its cursors at {}: {}", fromElement, key);
+        }
+        int skip = fromElement - state.position;
+        int needed = pageSize == 0 ? Integer.MAX_VALUE : skip + pageSize;
+
+        // Start by running the first search of every cursor (all at once, if search parallelism is configured)
+        start(state.cursors, methodName);
+
+        PriorityQueue<Cursor> heads = new PriorityQueue<>(getComparator(igcSearchSorting));
+        for (Cursor cursor : state.cursors) {
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+        // Without criteria every result is counted, so those before the page need not be translated; otherwise only
+        // the results that match the search are counted, which requires translating every one of them
+        boolean countAll = state.searchPredicate == SearchPredicate.MATCH_ALL;
+        int taken = 0;
+        while (!heads.isEmpty() && taken < needed) {
+            Cursor cursor = heads.poll();
+            Reference reference = cursor.take();
+            EntityDetail ed = null;
+            if (!countAll || taken >= skip) {
+                ed = igcRepositoryHelper.getEntityDetailForResult(cursor.mapping, reference, cache, cursor.searchPredicate, userId);
+            }
+            if (ed != null && taken >= skip) {
+                entityDetails.add(ed);
+            }
+            if (countAll || ed != null) {
+                taken++;
+            }
+            // Only retrieve a further page of a search's results once its next result is needed for the merge
+            if (taken < needed && cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+        state.position += taken;
+
+        if (key != null && pageSize > 0 && state.hasMore()) {
+            state.expiry = System.currentTimeMillis() + CURSOR_TTL;
+            synchronized (cursors) {
+                cursors.put(getCursorKey(key, state.position), state);
+            }
+        }
+
+    }
+
+    /**
+     * Remove all cursors kept for resuming searches.
+     */
+    void clear() {
+        synchronized (cursors) {
+            cursors.clear();
+        }
+    }
+
+    /**
+     * Take the cursors kept for resuming the provided search from the provided position, if there are any that have
+     * not yet expired. (Once taken, no other request can resume from the same cursors.)
+     *
+     * @param key the key identifying the search
+     * @param fromElement the position from which to resume
+     * @return MergeState - the cursors, or null if there are none
+     */
+    private MergeState resume(String key, int fromElement) {
+        if (key == null || fromElement == 0) {
+            return null;
+        }
+        MergeState state;
+        synchronized (cursors) {
+            state = cursors.remove(getCursorKey(key, fromElement));
+        }
+        return state == null || state.expiry < System.currentTimeMillis() ? null : state;
+    }
+
+    /**
+     * Run the first search of each of the provided cursors (that has not already been run) -- concurrently, if search
+     * parallelism is configured.
+     *
+     * @param toStart the cursors to start
+     * @param methodName the name of the method starting the cursors
+     * @throws RepositoryErrorException on any error running the searches
+     */
+    private void start(List<Cursor> toStart, String methodName) throws RepositoryErrorException {
+        ExecutorService executor = igcomrsRepositoryConnector.getSearchExecutor();
+        if (executor == null || toStart.size() < 2) {
+            for (Cursor cursor : toStart) {
+                cursor.start();
+            }
+        } else {
+            List<Future<Void>> futures = new ArrayList<>();
+            try {
+                for (Cursor cursor : toStart) {
+                    futures.add(executor.submit(() -> {
+                        cursor.start();
+                        return null;
+                    }));
+                }
+                for (Future<Void> future : futures) {
+                    future.get();
+                }
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RepositoryErrorException) {
+                    throw (RepositoryErrorException) e.getCause();
+                }
+                raiseRepositoryErrorException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                raiseRepositoryErrorException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
+            } finally {
+                // Stop any searches still running once their results are no longer needed
+                for (Future<Void> future : futures) {
+                    future.cancel(true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieve the order in which to merge the next results of each cursor: the same order by which each IGC search
+     * is sorted (then by RID), with ties going to the earlier mapping.
+     *
+     * @param igcSearchSorting the sorting requested for the results (or null to sort them by RID)
+     * @return {@code Comparator<Cursor>}
+     */
+    private static Comparator<Cursor> getComparator(IGCSearchSorting igcSearchSorting) {
+        Comparator<Reference> byKey;
+        String property = igcSearchSorting == null ? null : igcSearchSorting.getProperty();
+        if ("created_on".equals(property)) {
+            byKey = Comparator.comparing(Reference::getCreatedOn, Comparator.nullsLast(Comparator.naturalOrder()));
+        } else if ("modified_on".equals(property)) {
+            byKey = Comparator.comparing(Reference::getModifiedOn, Comparator.nullsLast(Comparator.naturalOrder()));
+        } else {
+            byKey = Comparator.comparing(Reference::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+        }
+        if (igcSearchSorting != null && Boolean.FALSE.equals(igcSearchSorting.getAscending())) {
+            byKey = byKey.reversed();
+        }
+        Comparator<Reference> order = byKey.thenComparing(Reference::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+        return Comparator.<Cursor, Reference>comparing(Cursor::head, order).thenComparingInt(c -> c.index);
+    }
+
+    /**
+     * Compose the key under which to keep the cursors for resuming a search from a given position.
+     *
+     * @param key the key identifying the search
+     * @param position the position from which the cursors resume
+     * @return String
+     */
+    private static String getCursorKey(String key, int position) {
+        return position + ":" + key;
+    }
+
+    /**
+     * Throws a RepositoryErrorException using the provided parameters.
+     * @param errorCode the error code for the exception
+     * @param methodName the name of the method throwing the exception
+     * @param cause the underlying cause of the exception
+     * @param params any parameters for formatting the error message
+     * @throws RepositoryErrorException always
+     */
+    private void raiseRepositoryErrorException(IGCOMRSErrorCode errorCode, String methodName, Exception cause, String ...params) throws RepositoryErrorException {
+        throw new RepositoryErrorException(errorCode.getMessageDefinition(params),
+                this.getClass().getName(),
+                methodName,
+                cause);
+    }
+
+    /**
+     * The search for the entities of a single mapping.
+     */
+    @FunctionalInterface
+    interface MappingSearch {
+
+        /**
+         * Construct the search to run against IGC for the provided mapping (without paging or sorting).
+         *
+         * @param mapping the mapping for which to search
+         * @return IGCSearch - the search, or null if the mapping cannot have any results
+         * @throws FunctionNotSupportedException when a regular expression is used for the search that is not supported
+         * @throws RepositoryErrorException on any other error
+         */
+        IGCSearch getSearch(EntityMapping mapping) throws
+                FunctionNotSupportedException,
+                RepositoryErrorException;
+
+    }
+
+    /**
+     * The cursors of a search, and the position in its merged results that they have reached.
+     */
+    private static final class MergeState {
+
+        private final List<Cursor> cursors;
+        private final SearchPredicate searchPredicate;
+        private int position;
+        private long expiry;
+
+        MergeState(List<Cursor> cursors, SearchPredicate searchPredicate, int position) {
+            this.cursors = cursors;
+            this.searchPredicate = searchPredicate;
+            this.position = position;
+        }
+
+        boolean hasMore() {
+            for (Cursor cursor : cursors) {
+                if (!cursor.isExhausted()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+    /**
+     * Reads through the results of the IGC search for a single mapping, retrieving further pages of results from IGC
+     * only as they are needed.
+     */
+    private final class Cursor {
+
+        private final int index;
+        private final EntityMapping mapping;
+        private final IGCSearch igcSearch;
+        private final SearchPredicate searchPredicate;
+
+        private boolean started;
+        private ItemList<Reference> page;
+        private int next;
+
+        Cursor(int index, EntityMapping mapping, IGCSearch igcSearch, SearchPredicate searchPredicate) {
+            this.index = index;
+            this.mapping = mapping;
+            this.igcSearch = igcSearch;
+            this.searchPredicate = searchPredicate;
+        }
+
+        /**
+         * Indicates whether every result of the search has been read.
+         *
+         * @return boolean
+         */
+        boolean isExhausted() {
+            return started && (page == null || (next >= getItems().size() && !page.hasMorePages()));
+        }
+
+        /**
+         * Retrieve the results in the current page.
+         *
+         * @return {@code List<Reference>}
+         */
+        private List<Reference> getItems() {
+            return page.getItems() == null ? Collections.emptyList() : page.getItems();
+        }
+
+        /**
+         * Run the first search for the results, if it has not already been run.
+         *
+         * @throws RepositoryErrorException on any error running the search
+         */
+        void start() throws RepositoryErrorException {
+            final String methodName = "start";
+            if (!started) {
+                try {
+                    page = igcomrsRepositoryConnector.getIGCRestClient().search(igcSearch);
+                    next = 0;
+                    started = true;
+                } catch (IGCException e) {
+                    raiseRepositoryErrorException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
+                }
+            }
+        }
+
+        /**
+         * Move to the next result that has not yet been merged, retrieving the next page of results if the current
+         * page has been read in its entirety.
+         *
+         * @return boolean - true if there is such a result (see {@link #head()}), false if every result has been read
+         * @throws RepositoryErrorException on any error retrieving the next page of results
+         */
+        boolean advance() throws RepositoryErrorException {
+            final String methodName = "advance";
+            start();
+            IGCRestClient igcRestClient = igcomrsRepositoryConnector.getIGCRestClient();
+            try {
+                while (!isExhausted() && next >= getItems().size()) {
+                    page = igcRestClient.getNextPage(null, page);
+                    next = 0;
+                }
+            } catch (IGCException e) {
+                raiseRepositoryErrorException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
+            }
+            return !isExhausted();
+        }
+
+        /**
+         * Retrieve the next result that has not yet been merged (only valid once {@link #advance()} has found one).
+         *
+         * @return Reference
+         */
+        Reference head() {
+            return getItems().get(next);
+        }
+
+        /**
+         * Take the next result that has not yet been merged (only valid once {@link #advance()} has found one).
+         *
+         * @return Reference
+         */
+        Reference take() {
+            return getItems().get(next++);
+        }
+
+    }
+
+}
@@ -10,6 +10,7 @@ import org.odpi.egeria.connectors.ibm.igc.clientlibrary.cache.ObjectCache;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCException;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCParsingException;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Identity;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearch;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearchConditionSet;
@@ -17,6 +18,7 @@ import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearchSorting;
 import org.odpi.egeria.connectors.ibm.igc.eventmapper.IGCOMRSRepositoryEventMapper;
 import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.EntityMappingInstance;
 import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.InstanceMapping;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.MappingRegistry;
 import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.entities.EntityMapping;
 import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.model.IGCEntityGuid;
 import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.model.IGCRelationshipGuid;
@@ -36,6 +38,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Provides the OMRSMetadataCollection implementation for IBM InfoSphere Information Governance Catalog ("IGC").
@@ -47,12 +51,14 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
     private IGCRestClient igcRestClient;
     private IGCOMRSRepositoryConnector igcomrsRepositoryConnector;
     private IGCRepositoryHelper igcRepositoryHelper;
+    private EntitySearchPager entitySearchPager;
     private IGCOMRSRepositoryEventMapper eventMapper = null;
 
     private TypeDefStore typeDefStore;
     private AttributeMappingStore attributeMappingStore;
 
     private String mappingPackage;
+    private final ConcurrentMap<String, Optional<Class<?>>> mappingClassesByName;
 
     /**
      * @param parentConnector      connector that this metadata collection supports.
@@ -74,9 +80,11 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
         this.igcRestClient = parentConnector.getIGCRestClient();
         this.igcomrsRepositoryConnector = parentConnector;
         this.igcRepositoryHelper = new IGCRepositoryHelper(igcomrsRepositoryConnector, repositoryHelper, igcRestClient);
+        this.entitySearchPager = new EntitySearchPager(igcomrsRepositoryConnector, igcRepositoryHelper);
         this.typeDefStore = new TypeDefStore();
         this.attributeMappingStore = new AttributeMappingStore(parentConnector);
         this.mappingPackage = IGCRepositoryHelper.MAPPING_PKG;
+        this.mappingClassesByName = new ConcurrentHashMap<>();
     }
 
     /**
@@ -350,47 +358,22 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
         log.debug("Looking for mapping for {} of type {}", omrsTypeDefName, typeDefCategory.getName());
 
         // See if we have a Mapper defined for the class -- if so, it's implemented
-        StringBuilder sbMapperClassnamePreferred = new StringBuilder();
-        StringBuilder sbMapperClassnameFallback = new StringBuilder();
-        sbMapperClassnamePreferred.append(getMappingPackage());
-        sbMapperClassnameFallback.append(IGCRepositoryHelper.MAPPING_PKG);
+        String subPackage = "";
         switch(typeDefCategory) {
             case RELATIONSHIP_DEF:
-                sbMapperClassnamePreferred.append("relationships.");
-                sbMapperClassnameFallback.append("relationships.");
+                subPackage = "relationships.";
                 break;
             case CLASSIFICATION_DEF:
-                sbMapperClassnamePreferred.append("classifications.");
-                sbMapperClassnameFallback.append("classifications.");
+                subPackage = "classifications.";
                 break;
             case ENTITY_DEF:
-                sbMapperClassnamePreferred.append("entities.");
-                sbMapperClassnameFallback.append("entities.");
+                subPackage = "entities.";
                 break;
             default:
                 log.info("Unknown TypeDef category '{}', no mapping available.", typeDefCategory.getName());
                 break;
         }
-        sbMapperClassnamePreferred.append(omrsTypeDefName);
-        sbMapperClassnameFallback.append(omrsTypeDefName);
-        sbMapperClassnamePreferred.append("Mapper");
-        sbMapperClassnameFallback.append("Mapper");
-
-        Class<?> mappingClass = null;
-        try {
-            mappingClass = Class.forName(sbMapperClassnamePreferred.toString());
-            log.debug(" ... found preferred mapping class: {}", mappingClass.getCanonicalName());
-        } catch (ClassNotFoundException e) {
-            // Only bother checking the fallback if it is not identical to the preferred
-            if (!getMappingPackage().equals(IGCRepositoryHelper.MAPPING_PKG)) {
-                try {
-                    mappingClass = Class.forName(sbMapperClassnameFallback.toString());
-                    log.debug(" ... found fallback mapping class: {}", mappingClass.getCanonicalName());
-                } catch (ClassNotFoundException e1) {
-                    // Fall-through to null check below
-                }
-            }
-        }
+        Class<?> mappingClass = getMappingClass(subPackage, omrsTypeDefName);
 
         if (mappingClass == null) {
             // If still not found, mark as unimplemented
@@ -453,32 +436,7 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
         } else {
 
             // See if we have a Mapper defined for the class -- if so, it's implemented
-            StringBuilder sbMapperClassnamePreferred = new StringBuilder();
-            StringBuilder sbMapperClassnameFallback = new StringBuilder();
-            sbMapperClassnamePreferred.append(getMappingPackage());
-            sbMapperClassnameFallback.append(IGCRepositoryHelper.MAPPING_PKG);
-            sbMapperClassnamePreferred.append("attributes.");
-            sbMapperClassnameFallback.append("attributes.");
-            sbMapperClassnamePreferred.append(omrsTypeDefName);
-            sbMapperClassnameFallback.append(omrsTypeDefName);
-            sbMapperClassnamePreferred.append("Mapper");
-            sbMapperClassnameFallback.append("Mapper");
-
-            Class<?> mappingClass = null;
-            try {
-                mappingClass = Class.forName(sbMapperClassnamePreferred.toString());
-                log.debug(" ... found preferred mapping class: {}", mappingClass.getCanonicalName());
-            } catch (ClassNotFoundException e) {
-                // Only bother checking the fallback if it is not identical to the preferred
-                if (!getMappingPackage().equals(IGCRepositoryHelper.MAPPING_PKG)) {
-                    try {
-                        mappingClass = Class.forName(sbMapperClassnameFallback.toString());
-                        log.debug(" ... found fallback mapping class: {}", mappingClass.getCanonicalName());
-                    } catch (ClassNotFoundException e1) {
-                        // Fall-through to null check below
-                    }
-                }
-            }
+            Class<?> mappingClass = getMappingClass("attributes.", omrsTypeDefName);
             if (mappingClass == null) {
                 // If still not found, mark as unimplemented
                 attributeMappingStore.addUnimplementedAttributeTypeDef(newAttributeTypeDef);
@@ -495,6 +453,53 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
 
     }
 
+    /**
+     * Retrieve the mapping class for the provided OMRS type, preferring one from the configured mapping package and
+     * falling back to the out-of-the-box mapping package.
+     *
+     * @param subPackage the sub-package (including a trailing '.') of the mapping package for the category of the type
+     * @param omrsTypeDefName the name of the OMRS type
+     * @return {@code Class<?>} - or null if there is no mapping class for the type
+     */
+    private Class<?> getMappingClass(String subPackage, String omrsTypeDefName) {
+        boolean customPackage = !getMappingPackage().equals(IGCRepositoryHelper.MAPPING_PKG);
+        String preferred = getMappingPackage() + subPackage + omrsTypeDefName + "Mapper";
+        Class<?> mappingClass = getMappingClass(preferred);
+        if (mappingClass != null) {
+            log.debug(" ... found preferred mapping class: {}", mappingClass.getCanonicalName());
+        } else if (customPackage) {
+            // Only bother checking the fallback if it is not identical to the preferred
+            String fallback = IGCRepositoryHelper.MAPPING_PKG + subPackage + omrsTypeDefName + "Mapper";
+            mappingClass = getMappingClass(fallback);
+            if (mappingClass != null) {
+                log.debug(" ... found fallback mapping class: {}", mappingClass.getCanonicalName());
+            }
+        }
+        return mappingClass;
+    }
+
+    /**
+     * Retrieve the mapping class with the provided name: directly from the registry for registered mapping classes,
+     * or otherwise by name (caching the outcome, whether found or not) -- so that mapping classes from a custom mapping
+     * package, or any out-of-the-box mapping class missing from the registry, are still picked up.
+     *
+     * @param className the fully-qualified name of the mapping class
+     * @return {@code Class<?>} - or null if there is no such mapping class
+     */
+    private Class<?> getMappingClass(String className) {
+        Class<?> mappingClass = MappingRegistry.getMappingClass(className);
+        if (mappingClass != null) {
+            return mappingClass;
+        }
+        return mappingClassesByName.computeIfAbsent(className, name -> {
+            try {
+                return Optional.of(Class.forName(name));
+            } catch (ClassNotFoundException e) {
+                return Optional.empty();
+            }
+        }).orElse(null);
+    }
+
     /**
      * Verify that the mapped properties provided support all of the properties defined on the provided type definition
      * (and its supertypes).
@@ -722,7 +727,7 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
 
         log.debug("getEntitySummary with guid = {}", guid);
 
-        ObjectCache cache = new ObjectCache();
+        ObjectCache cache = igcomrsRepositoryConnector.newObjectCache();
 
         // Lookup the basic asset based on the RID (strip off prefix (indicating a generated type), if there)
         IGCEntityGuid igcGuid = IGCEntityGuid.fromGuid(guid);
@@ -780,7 +785,7 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
             raiseEntityNotKnownException(IGCOMRSErrorCode.ENTITY_NOT_KNOWN, methodName, guid, "<null>", repositoryName);
         }
 
-        return igcRepositoryHelper.getEntityDetail(new ObjectCache(), userId, igcGuid);
+        return igcRepositoryHelper.getEntityDetail(igcomrsRepositoryConnector.newObjectCache(), userId, igcGuid);
 
     }
 
@@ -844,7 +849,7 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
         );
 
         ArrayList<Relationship> alRelationships = new ArrayList<>();
-        ObjectCache cache = new ObjectCache();
+        ObjectCache cache = igcomrsRepositoryConnector.newObjectCache();
 
         // Immediately throw unimplemented exception if trying to retrieve historical view
         if (asOfTime != null) {
@@ -991,6 +996,7 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
                         mappers = findMappingsForInputs(entityTypeGUID, prefix, entitySubtypeGUIDs, userId);
                     }
                 }
+                List<EntityMapping> mappersToSearch = new ArrayList<>();
                 for (EntityMapping mapper : mappers) {
                     // validate mapped OMRS type against the provided entityTypeGUID (if non-null), and
                     // only proceed with the search if IGC identity is a (sub)type of the one requested
@@ -1004,26 +1010,12 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
                         runSearch = repositoryHelper.isTypeOf(metadataCollectionId, mappedOmrsTypeName, entityTypeDef.getName());
                     }
                     if (runSearch) {
-                        if (pageSize == 0 || (pageSize > 0 && entityDetails.size() < pageSize)) {
-                            igcRepositoryHelper.processResultsForMapping(
-                                    mapper,
-                                    entityDetails,
-                                    cache,
-                                    userId,
-                                    entityTypeGUID,
-                                    entitySubtypeGUIDs,
-                                    matchProperties,
-                                    fromEntityElement,
-                                    matchClassifications,
-                                    sequencingProperty,
-                                    sequencingOrder,
-                                    pageSize
-                            );
-                        }
+                        mappersToSearch.add(mapper);
                     } else {
                         log.info("The qualifiedName-embedded type ({}) is not a subtype of the requested type ({}) -- skipping qualifiedName search.", mapper.getOmrsTypeDefName(), entityTypeGUID);
                     }
                 }
+                findEntitiesForMappings(userId, mappersToSearch, entityTypeGUID, entitySubtypeGUIDs, cache, matchProperties, matchClassifications, fromEntityElement, sequencingProperty, sequencingOrder, pageSize, entityDetails);
 
             } else if (repositoryHelper.isStartsWithRegex(qualifiedNameToFind) || repositoryHelper.isContainsRegex(qualifiedNameToFind)) {
 
@@ -1042,24 +1034,7 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
                     }
                     mappers = findMappingsForInputs(entityTypeGUID, prefix, entitySubtypeGUIDs, userId);
                 }
-                for (EntityMapping mapper : mappers) {
-                    if (pageSize == 0 || (pageSize > 0 && entityDetails.size() < pageSize)) {
-                        igcRepositoryHelper.processResultsForMapping(
-                                mapper,
-                                entityDetails,
-                                cache,
-                                userId,
-                                entityTypeGUID,
-                                entitySubtypeGUIDs,
-                                matchProperties,
-                                fromEntityElement,
-                                matchClassifications,
-                                sequencingProperty,
-                                sequencingOrder,
-                                pageSize
-                        );
-                    }
-                }
+                findEntitiesForMappings(userId, mappers, entityTypeGUID, entitySubtypeGUIDs, cache, matchProperties, matchClassifications, fromEntityElement, sequencingProperty, sequencingOrder, pageSize, entityDetails);
             }
         } else {
             log.debug("Skipping search for non-IGC-owned asset: {}", qualifiedNameToFind);
@@ -1140,7 +1115,7 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
         );
 
         ArrayList<EntityDetail> entityDetails = new ArrayList<>();
-        ObjectCache cache = new ObjectCache();
+        ObjectCache cache = igcomrsRepositoryConnector.newObjectCache();
 
         // Immediately throw unimplemented exception if trying to retrieve historical view
         if (asOfTime != null) {
@@ -1183,28 +1158,20 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
                     log.warn("Found no mappings to search for entityTypeGUID: {}", entityTypeGUID);
                 }
 
-                for (EntityMapping mapping : mappingsToSearch) {
-
-                    // Only continue to add results to the list if we are after all results (pageSize of 0) or we have
-                    // not yet filled up the page size in the list
-                    if (pageSize == 0 || (pageSize > 0 && entityDetails.size() < pageSize)) {
-                        igcRepositoryHelper.processResultsForMapping(
-                                mapping,
-                                entityDetails,
-                                cache,
-                                userId,
-                                entityTypeGUID,
-                                entitySubtypeGUIDs,
-                                matchProperties,
-                                fromEntityElement,
-                                matchClassifications,
-                                sequencingProperty,
-                                sequencingOrder,
-                                pageSize
-                        );
-                    }
-
-                }
+                findEntitiesForMappings(
+                        userId,
+                        mappingsToSearch,
+                        entityTypeGUID,
+                        entitySubtypeGUIDs,
+                        cache,
+                        matchProperties,
+                        matchClassifications,
+                        fromEntityElement,
+                        sequencingProperty,
+                        sequencingOrder,
+                        pageSize,
+                        entityDetails
+                );
 
             }
 
@@ -1285,7 +1252,7 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
         );
 
         List<EntityDetail> entityDetails = new ArrayList<>();
-        ObjectCache cache = new ObjectCache();
+        ObjectCache cache = igcomrsRepositoryConnector.newObjectCache();
 
         // Immediately throw unimplemented exception if trying to retrieve historical view
         if (asOfTime != null) {
@@ -1329,28 +1296,20 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
                     log.warn("Found no mappings to search for entityTypeGUID: {}", entityTypeGUID);
                 }
 
-                for (EntityMapping mapping : mappingsToSearch) {
-
-                    // Only continue to add results to the list if we are after all results (pageSize of 0) or we have
-                    // not yet filled up the page size in the list
-                    if (pageSize == 0 || (pageSize > 0 && entityDetails.size() < pageSize)) {
-                        igcRepositoryHelper.processResultsForMapping(
-                                mapping,
-                                entityDetails,
-                                cache,
-                                userId,
-                                entityTypeGUID,
-                                null,
-                                repositoryHelper.getSearchPropertiesFromInstanceProperties(repositoryName, matchProperties, matchCriteria),
-                                fromEntityElement,
-                                matchClassifications,
-                                sequencingProperty,
-                                sequencingOrder,
-                                pageSize
-                        );
-                    }
-
-                }
+                findEntitiesForMappings(
+                        userId,
+                        mappingsToSearch,
+                        entityTypeGUID,
+                        null,
+                        cache,
+                        repositoryHelper.getSearchPropertiesFromInstanceProperties(repositoryName, matchProperties, matchCriteria),
+                        matchClassifications,
+                        fromEntityElement,
+                        sequencingProperty,
+                        sequencingOrder,
+                        pageSize,
+                        entityDetails
+                );
 
             }
 
@@ -1432,7 +1391,7 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
         );
 
         ArrayList<EntityDetail> entityDetails = new ArrayList<>();
-        ObjectCache cache = new ObjectCache();
+        ObjectCache cache = igcomrsRepositoryConnector.newObjectCache();
 
         // Immediately throw unimplemented exception if trying to retrieve historical view
         if (asOfTime != null) {
@@ -1451,86 +1410,89 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
 
             // Now iterate through all of the mappings we need to search, construct and run an appropriate search
             // for each one
-            for (EntityMapping mapping : mappingsToSearch) {
+            entitySearchPager.getPage(
+                    EntitySearchPager.getKey(methodName, userId, entityTypeGUID, classificationName, matchClassificationProperties, matchCriteria, sequencingProperty, sequencingOrder),
+                    mappingsToSearch,
+                    mapping -> getSearchForClassification(mapping, classificationName, matchClassificationProperties, matchCriteria),
+                    getSorting(sequencingProperty, sequencingOrder),
+                    null,
+                    null,
+                    fromEntityElement,
+                    pageSize,
+                    cache,
+                    userId,
+                    entityDetails
+            );
 
-                ClassificationMapping foundMapping = null;
+        }
 
-                // Check which classifications (if any) are implemented for the entity mapping
-                List<ClassificationMapping> classificationMappings = mapping.getClassificationMappers();
-                for (ClassificationMapping classificationMapping : classificationMappings) {
+        return entityDetails.isEmpty() ? null : entityDetails;
 
-                    // Check whether the implemented classification matches the one we're searching based on
-                    String candidateName = classificationMapping.getOmrsClassificationType();
-                    if (candidateName.equals(classificationName)) {
-                        foundMapping = classificationMapping;
-                        break;
-                    }
+    }
 
-                }
+    /**
+     * Construct the search to run against IGC for the entities of a single mapping that have the requested type of
+     * classification attached.
+     *
+     * @param mapping the mapping for which to search
+     * @param classificationName the name of the classification an entity must have attached
+     * @param matchClassificationProperties optional list of classification properties to match
+     * @param matchCriteria enum defining how the properties should be matched to the classifications in the repository
+     * @return IGCSearch - the search, or null if the mapping does not implement the classification
+     * @throws FunctionNotSupportedException when a regular expression is used for the search that is not supported
+     * @throws RepositoryErrorException on any other error
+     */
+    private IGCSearch getSearchForClassification(EntityMapping mapping,
+                                                 String classificationName,
+                                                 InstanceProperties matchClassificationProperties,
+                                                 MatchCriteria matchCriteria) throws
+            FunctionNotSupportedException,
+            RepositoryErrorException {
 
-                // Only proceed if we have found a classification mapping for this entity that matches the search
-                // criteria provided
-                if (foundMapping != null) {
+        ClassificationMapping foundMapping = null;
 
-                    IGCSearch igcSearch = new IGCSearch();
-                    igcSearch.addType(mapping.getIgcAssetType());
-                    IGCSearchConditionSet igcSearchConditionSet = new IGCSearchConditionSet();
+        // Check which classifications (if any) are implemented for the entity mapping
+        List<ClassificationMapping> classificationMappings = mapping.getClassificationMappers();
+        for (ClassificationMapping classificationMapping : classificationMappings) {
 
-                    IGCRepositoryHelper.addTypeSpecificConditions(mapping,
-                            matchCriteria,
-                            null,
-                            igcSearchConditionSet);
-
-                    // Compose the search criteria for the classification as a set of nested conditions, so that
-                    // matchCriteria does not change the meaning of what we're searching
-                    IGCSearchConditionSet baseCriteria = foundMapping.getIGCSearchCriteria(repositoryHelper,
-                            repositoryName,
-                            repositoryHelper.getSearchPropertiesFromInstanceProperties(repositoryName, matchClassificationProperties, matchCriteria));
-                    igcSearchConditionSet.addNestedConditionSet(baseCriteria);
-
-                    IGCSearchSorting igcSearchSorting = null;
-                    if (sequencingProperty == null && sequencingOrder != null) {
-                        igcSearchSorting = IGCRepositoryHelper.sortFromNonPropertySequencingOrder(sequencingOrder);
-                    }
+            // Check whether the implemented classification matches the one we're searching based on
+            String candidateName = classificationMapping.getOmrsClassificationType();
+            if (candidateName.equals(classificationName)) {
+                foundMapping = classificationMapping;
+                break;
+            }
 
-                    IGCRepositoryHelper.setConditionsFromMatchCriteria(igcSearchConditionSet, matchCriteria);
-                    igcSearch.addProperties(mapping.getAllPropertiesForEntityDetail(igcRestClient, mapping.getIgcAssetType()));
-                    igcSearch.addConditions(igcSearchConditionSet);
+        }
 
-                    igcRepositoryHelper.setPagingForSearch(igcSearch, fromEntityElement, pageSize);
+        // Only proceed if we have found a classification mapping for this entity that matches the search
+        // criteria provided
+        if (foundMapping != null) {
 
-                    if (igcSearchSorting != null) {
-                        igcSearch.addSortingCriteria(igcSearchSorting);
-                    } else {
-                        // Add a default sorting (by RID) to ensure consistent paging
-                        igcSearch.addSortingCriteria(IGCRepositoryHelper.sortFromNonPropertySequencingOrder(SequencingOrder.GUID));
-                    }
+            IGCSearch igcSearch = new IGCSearch();
+            igcSearch.addType(mapping.getIgcAssetType());
+            IGCSearchConditionSet igcSearchConditionSet = new IGCSearchConditionSet();
 
-                    try {
-                        igcRepositoryHelper.processResults(
-                                mapping,
-                                this.igcRestClient.search(igcSearch),
-                                entityDetails,
-                                cache,
-                                null,
-                                null,
-                                pageSize,
-                                userId
-                        );
-                    } catch (IGCException e) {
-                        raiseRepositoryErrorException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
-                    }
+            IGCRepositoryHelper.addTypeSpecificConditions(mapping,
+                    matchCriteria,
+                    null,
+                    igcSearchConditionSet);
 
-                } else {
-                    log.info("No classification mapping has been implemented for {} on entity {} -- skipping from search.", classificationName, mapping.getOmrsTypeDefName());
-                }
+            // Compose the search criteria for the classification as a set of nested conditions, so that
+            // matchCriteria does not change the meaning of what we're searching
+            IGCSearchConditionSet baseCriteria = foundMapping.getIGCSearchCriteria(repositoryHelper,
+                    repositoryName,
+                    repositoryHelper.getSearchPropertiesFromInstanceProperties(repositoryName, matchClassificationProperties, matchCriteria));
+            igcSearchConditionSet.addNestedConditionSet(baseCriteria);
 
-            }
+            IGCRepositoryHelper.setConditionsFromMatchCriteria(igcSearchConditionSet, matchCriteria);
+            igcSearch.addProperties(mapping.getAllPropertiesForEntityDetail(igcRestClient, mapping.getIgcAssetType()));
+            igcSearch.addConditions(igcSearchConditionSet);
+            return igcSearch;
 
+        } else {
+            log.info("No classification mapping has been implemented for {} on entity {} -- skipping from search.", classificationName, mapping.getOmrsTypeDefName());
         }
-
-        return entityDetails.isEmpty() ? null : entityDetails;
-
+        return null;
     }
 
     /**
@@ -1604,7 +1566,7 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
         );
 
         ArrayList<EntityDetail> entityDetails = new ArrayList<>();
-        ObjectCache cache = new ObjectCache();
+        ObjectCache cache = igcomrsRepositoryConnector.newObjectCache();
 
         // Immediately throw unimplemented exception if trying to retrieve historical view
         if (asOfTime != null) {
@@ -1653,164 +1615,167 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
 
             // Now iterate through all of the mappings we need to search, construct and run an appropriate search
             // for each one
-            for (EntityMapping mapping : mappingsToSearch) {
-
-                if (pageSize == 0 || (pageSize > 0 && entityDetails.size() < pageSize)) {
-                    IGCSearch igcSearch = new IGCSearch();
-                    String igcAssetType = igcRepositoryHelper.addTypeToSearch(mapping, igcSearch);
-
-                    // If the type we are searching for is a user type, we need to consider complexity in the search
-                    // criteria as it could be from the qualifiedName, which in this one case is actually a combination
-                    // of various fields on the instance
-                    StringBuilder sbNewCriteria = new StringBuilder();
-                    if (IGCRestConstants.getUserTypes().contains(igcAssetType) && searchCriteria != null) {
-                        // In all cases we should take out what is likely to be the full name
-                        String[] tokens = searchCriteria.split(" ");
-                        if (tokens.length > 1) {
-                            if (repositoryHelper.isExactMatchRegex(searchCriteria) || repositoryHelper.isStartsWithRegex(searchCriteria)) {
-                                sbNewCriteria.append("\\Q");
-                                if (tokens.length == 2) {
-                                    sbNewCriteria.append(tokens[1]);
-                                } else {
-                                    int iLastToken = tokens.length - 1;
-                                    sbNewCriteria.append(tokens[iLastToken - 1]).append(" ").append(tokens[iLastToken]);
-                                }
-                            } else if (repositoryHelper.isEndsWithRegex(searchCriteria) || repositoryHelper.isContainsRegex(searchCriteria)) {
-                                sbNewCriteria.append(".*\\Q");
-                                if (tokens.length == 2) {
-                                    sbNewCriteria.append(tokens[1]);
-                                } else {
-                                    int iLastToken = tokens.length - 1;
-                                    sbNewCriteria.append(tokens[iLastToken - 1]).append(" ").append(tokens[iLastToken]);
-                                }
-                            }
-                        }
-                    }
+            entitySearchPager.getPage(
+                    EntitySearchPager.getKey(methodName, userId, entityTypeGUID, searchCriteria, limitResultsByClassification, sequencingProperty, sequencingOrder),
+                    mappingsToSearch,
+                    mapping -> getSearchForPropertyValue(mapping, searchCriteria, limitResultsByClassification),
+                    getSorting(sequencingProperty, sequencingOrder),
+                    null,
+                    searchCriteria,
+                    fromEntityElement,
+                    pageSize,
+                    cache,
+                    userId,
+                    entityDetails
+            );
 
-                    // Get list of string properties from the asset type -- these are the list of properties we should use
-                    // for the search
-                    try {
-                        List<String> properties = igcRestClient.getAllStringPropertiesForType(igcAssetType);
-                        Set<String> simpleMappedIgcProperties = mapping.getSimpleMappedIgcProperties();
-                        if (properties != null) {
-
-                            IGCSearchConditionSet classificationLimiters = igcRepositoryHelper.getSearchCriteriaForClassifications(
-                                    igcAssetType,
-                                    repositoryHelper.getSearchClassificationsFromList(limitResultsByClassification)
-                            );
-
-                            if (limitResultsByClassification != null && !limitResultsByClassification.isEmpty() && classificationLimiters == null) {
-                                log.info("Classification limiters were specified, but none apply to the asset type {}, so excluding this asset type from search.", igcAssetType);
-                            } else {
-
-                                IGCSearchConditionSet outerConditions = new IGCSearchConditionSet();
-                                IGCRepositoryHelper.addTypeSpecificConditions(mapping,
-                                        MatchCriteria.ALL,
-                                        null,
-                                        outerConditions);
-
-                                // If the searchCriteria is empty, retrieve all entities of the type (no conditions)
-                                String newCriteria = sbNewCriteria.toString();
-                                if (newCriteria.equals("")) {
-                                    newCriteria = searchCriteria;
-                                }
-                                if (newCriteria != null && !newCriteria.equals("")) {
-
-                                    // POST'd search to IGC doesn't work on v11.7.0.2 using long_description
-                                    // Using "searchText" requires using "searchProperties" (no "where" conditions) -- but does not
-                                    // work with 'main_object', must be used with a specific asset type
-                                    // Therefore for v11.7.0.2 we will simply drop long_description from the fields we search
-                                    if (igcRestClient.getIgcVersion().isEqualTo(IGCVersionEnum.V11702)) {
-                                        ArrayList<String> propertiesWithoutLongDescription = new ArrayList<>();
-                                        for (String property : properties) {
-                                            if (!property.equals("long_description")) {
-                                                propertiesWithoutLongDescription.add(property);
-                                            }
-                                        }
-                                        properties = propertiesWithoutLongDescription;
-                                    }
-
-                                    IGCSearchConditionSet innerConditions = new IGCSearchConditionSet();
-                                    innerConditions.setMatchAnyCondition(true);
-                                    for (String property : properties) {
-                                        // Only include the simple-mapped properties in the search here, as any complex-mapped
-                                        // properties should be included by the criteria below, thereby excluding results for
-                                        // things like 'modified_by' and 'created_by'
-                                        if (simpleMappedIgcProperties.contains(property)) {
-                                            innerConditions.addCondition(
-                                                    IGCRepositoryHelper.getRegexSearchCondition(
-                                                            repositoryHelper,
-                                                            repositoryName,
-                                                            methodName,
-                                                            property,
-                                                            newCriteria
-                                                    ));
-                                        }
-                                    }
-                                    // Add any complex mappings needed by the mapping (a no-op if there are none)
-                                    mapping.addComplexStringSearchCriteria(repositoryHelper,
-                                            repositoryName,
-                                            igcRestClient,
-                                            innerConditions,
-                                            newCriteria);
-                                    outerConditions.addNestedConditionSet(innerConditions);
+        }
 
-                                }
+        return entityDetails.isEmpty() ? null : entityDetails;
 
-                                if (classificationLimiters != null) {
-                                    outerConditions.addNestedConditionSet(classificationLimiters);
-                                    outerConditions.setMatchAnyCondition(false);
-                                }
+    }
 
-                                IGCSearchSorting igcSearchSorting = null;
-                                if (sequencingProperty == null && sequencingOrder != null) {
-                                    igcSearchSorting = IGCRepositoryHelper.sortFromNonPropertySequencingOrder(sequencingOrder);
-                                }
+    /**
+     * Construct the search to run against IGC for the entities of a single mapping whose string based property values
+     * match the search criteria.
+     *
+     * @param mapping the mapping for which to search
+     * @param searchCriteria String Java regular expression used to match against any of the String property values
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @return IGCSearch - the search, or null if the mapping cannot have any results
+     * @throws FunctionNotSupportedException when a regular expression is used for the search that is not supported
+     * @throws RepositoryErrorException on any other error
+     */
+    private IGCSearch getSearchForPropertyValue(EntityMapping mapping,
+                                                String searchCriteria,
+                                                List<String> limitResultsByClassification) throws
+            FunctionNotSupportedException,
+            RepositoryErrorException {
+
+        final String methodName = "getSearchForPropertyValue";
+
+        IGCSearch igcSearch = new IGCSearch();
+        String igcAssetType = igcRepositoryHelper.addTypeToSearch(mapping, igcSearch);
+
+        // If the type we are searching for is a user type, we need to consider complexity in the search
+        // criteria as it could be from the qualifiedName, which in this one case is actually a combination
+        // of various fields on the instance
+        StringBuilder sbNewCriteria = new StringBuilder();
+        if (IGCRestConstants.getUserTypes().contains(igcAssetType) && searchCriteria != null) {
+            // In all cases we should take out what is likely to be the full name
+            String[] tokens = searchCriteria.split(" ");
+            if (tokens.length > 1) {
+                if (repositoryHelper.isExactMatchRegex(searchCriteria) || repositoryHelper.isStartsWithRegex(searchCriteria)) {
+                    sbNewCriteria.append("\\Q");
+                    if (tokens.length == 2) {
+                        sbNewCriteria.append(tokens[1]);
+                    } else {
+                        int iLastToken = tokens.length - 1;
+                        sbNewCriteria.append(tokens[iLastToken - 1]).append(" ").append(tokens[iLastToken]);
+                    }
+                } else if (repositoryHelper.isEndsWithRegex(searchCriteria) || repositoryHelper.isContainsRegex(searchCriteria)) {
+                    sbNewCriteria.append(".*\\Q");
+                    if (tokens.length == 2) {
+                        sbNewCriteria.append(tokens[1]);
+                    } else {
+                        int iLastToken = tokens.length - 1;
+                        sbNewCriteria.append(tokens[iLastToken - 1]).append(" ").append(tokens[iLastToken]);
+                    }
+                }
+            }
+        }
 
-                                igcSearch.addConditions(outerConditions);
+        // Get list of string properties from the asset type -- these are the list of properties we should use
+        // for the search
+        try {
+            List<String> properties = igcRestClient.getAllStringPropertiesForType(igcAssetType);
+            Set<String> simpleMappedIgcProperties = mapping.getSimpleMappedIgcProperties();
+            if (properties != null) {
 
-                                igcRepositoryHelper.setPagingForSearch(igcSearch, fromEntityElement, pageSize);
+                IGCSearchConditionSet classificationLimiters = igcRepositoryHelper.getSearchCriteriaForClassifications(
+                        igcAssetType,
+                        repositoryHelper.getSearchClassificationsFromList(limitResultsByClassification)
+                );
 
-                                if (igcSearchSorting != null) {
-                                    igcSearch.addSortingCriteria(igcSearchSorting);
-                                } else {
-                                    // Add a default sorting (by RID) to ensure consistent paging
-                                    igcSearch.addSortingCriteria(IGCRepositoryHelper.sortFromNonPropertySequencingOrder(SequencingOrder.GUID));
-                                }
+                if (limitResultsByClassification != null && !limitResultsByClassification.isEmpty() && classificationLimiters == null) {
+                    log.info("Classification limiters were specified, but none apply to the asset type {}, so excluding this asset type from search.", igcAssetType);
+                } else {
 
-                                // Add properties for this IGC asset type to the search, since ultimately we will
-                                // be retrieving EntityDetails for each result
-                                igcSearch.addProperties(mapping.getAllPropertiesForEntityDetail(igcRestClient, igcAssetType));
-
-                                igcRepositoryHelper.processResults(
-                                        mapping,
-                                        this.igcRestClient.search(igcSearch),
-                                        entityDetails,
-                                        cache,
-                                        null,
-                                        searchCriteria,
-                                        pageSize,
-                                        userId
-                                );
+                    IGCSearchConditionSet outerConditions = new IGCSearchConditionSet();
+                    IGCRepositoryHelper.addTypeSpecificConditions(mapping,
+                            MatchCriteria.ALL,
+                            null,
+                            outerConditions);
 
+                    // If the searchCriteria is empty, retrieve all entities of the type (no conditions)
+                    String newCriteria = sbNewCriteria.toString();
+                    if (newCriteria.equals("")) {
+                        newCriteria = searchCriteria;
+                    }
+                    if (newCriteria != null && !newCriteria.equals("")) {
+
+                        // POST'd search to IGC doesn't work on v11.7.0.2 using long_description
+                        // Using "searchText" requires using "searchProperties" (no "where" conditions) -- but does not
+                        // work with 'main_object', must be used with a specific asset type
+                        // Therefore for v11.7.0.2 we will simply drop long_description from the fields we search
+                        if (igcRestClient.getIgcVersion().isEqualTo(IGCVersionEnum.V11702)) {
+                            ArrayList<String> propertiesWithoutLongDescription = new ArrayList<>();
+                            for (String property : properties) {
+                                if (!property.equals("long_description")) {
+                                    propertiesWithoutLongDescription.add(property);
+                                }
                             }
+                            properties = propertiesWithoutLongDescription;
+                        }
 
-                        } else {
-                            log.warn("Unable to find POJO to handle IGC asset type '{}' -- skipping search against this asset type.", igcAssetType);
+                        IGCSearchConditionSet innerConditions = new IGCSearchConditionSet();
+                        innerConditions.setMatchAnyCondition(true);
+                        for (String property : properties) {
+                            // Only include the simple-mapped properties in the search here, as any complex-mapped
+                            // properties should be included by the criteria below, thereby excluding results for
+                            // things like 'modified_by' and 'created_by'
+                            if (simpleMappedIgcProperties.contains(property)) {
+                                innerConditions.addCondition(
+                                        IGCRepositoryHelper.getRegexSearchCondition(
+                                                repositoryHelper,
+                                                repositoryName,
+                                                methodName,
+                                                property,
+                                                newCriteria
+                                        ));
+                            }
                         }
-                    } catch (IGCException e) {
-                        raiseRepositoryErrorException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
+                        // Add any complex mappings needed by the mapping (a no-op if there are none)
+                        mapping.addComplexStringSearchCriteria(repositoryHelper,
+                                repositoryName,
+                                igcRestClient,
+                                innerConditions,
+                                newCriteria);
+                        outerConditions.addNestedConditionSet(innerConditions);
+
                     }
 
-                } else {
-                    log.debug("Search has overrun the page size, stopping any further results.");
-                }
-            }
+                    if (classificationLimiters != null) {
+                        outerConditions.addNestedConditionSet(classificationLimiters);
+                        outerConditions.setMatchAnyCondition(false);
+                    }
 
-        }
+                    igcSearch.addConditions(outerConditions);
 
-        return entityDetails.isEmpty() ? null : entityDetails;
+                    // Add properties for this IGC asset type to the search, since ultimately we will
+                    // be retrieving EntityDetails for each result
+                    igcSearch.addProperties(mapping.getAllPropertiesForEntityDetail(igcRestClient, igcAssetType));
+                    return igcSearch;
 
+                }
+
+            } else {
+                log.warn("Unable to find POJO to handle IGC asset type '{}' -- skipping search against this asset type.", igcAssetType);
+            }
+        } catch (IGCException e) {
+            raiseRepositoryErrorException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
+        }
+        return null;
     }
 
     /**
@@ -1848,7 +1813,7 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
 
         log.debug("Looking up relationship: {}", guid);
 
-        ObjectCache cache = new ObjectCache();
+        ObjectCache cache = igcomrsRepositoryConnector.newObjectCache();
 
         // Translate the key properties of the GUID into IGC-retrievables
         IGCRelationshipGuid igcRelationshipGuid = IGCRelationshipGuid.fromGuid(guid);
@@ -1869,6 +1834,7 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
         String relationshipLevelRid = igcRelationshipGuid.isRelationshipLevelObject() ? proxyOneRid : null;
         Reference proxyOne = null;
         Reference proxyTwo = null;
+        Reference oneEnd = null;
         RelationshipMapping relationshipMapping;
         if (relationshipLevelRid != null) {
 
@@ -1890,17 +1856,27 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
         } else {
 
             try {
-                // TODO: replace with singular retrieval?
-                Reference oneEnd = igcRestClient.getAssetWithSubsetOfProperties(proxyOneRid, proxyOneType, igcRestClient.getAllPropertiesForType(proxyOneType));
-                proxyTwo = igcRestClient.getAssetWithSubsetOfProperties(proxyTwoRid, proxyTwoType, igcRestClient.getAllPropertiesForType(proxyTwoType));
                 relationshipMapping = igcRepositoryHelper.getRelationshipMappingByTypes(
                         omrsRelationshipName,
                         proxyOneType,
                         proxyTwoType
                 );
-                proxyOne = relationshipMapping.getProxyOneAssetFromAsset(oneEnd, igcRestClient, cache).get(0);
-                // TODO: why no getProxyTwoAssetFromAsset here?
-                mappings.add(relationshipMapping);
+                if (relationshipMapping != null) {
+                    // Only retrieve the properties of each end that the mapping actually needs
+                    List<String> oneEndProperties = relationshipMapping.getMinimalPropertiesForType(igcRestClient, proxyOneType);
+                    if (proxyOneType != null && proxyOneType.equals(proxyTwoType)) {
+                        // When both ends are of the same type, we can retrieve them both at once
+                        Map<String, Reference> ends = igcRestClient.getAssetsByIds(Arrays.asList(proxyOneRid, proxyTwoRid), proxyOneType, oneEndProperties);
+                        oneEnd = ends.get(proxyOneRid);
+                        proxyTwo = ends.get(proxyTwoRid);
+                    } else {
+                        oneEnd = igcRestClient.getAssetWithSubsetOfProperties(proxyOneRid, proxyOneType, oneEndProperties);
+                        proxyTwo = igcRestClient.getAssetWithSubsetOfProperties(proxyTwoRid, proxyTwoType, relationshipMapping.getMinimalPropertiesForType(igcRestClient, proxyTwoType));
+                    }
+                    proxyOne = relationshipMapping.getProxyOneAssetFromAsset(oneEnd, igcRestClient, cache).get(0);
+                    // TODO: why no getProxyTwoAssetFromAsset here?
+                    mappings.add(relationshipMapping);
+                }
             } catch (IGCException e) {
                 raiseRepositoryErrorException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
             }
@@ -1913,6 +1889,39 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
         }
 
         Relationship found = null;
+        RelationshipMapping mapping = mappings.get(0);
+
+        if (relationshipLevelRid == null && !mapping.isCustomMapping() && !mapping.isSelfReferencing()) {
+            // Both ends are already known and in order, so build the single relationship directly rather than
+            // mapping every other relationship of the asset only to filter them back down by GUID -- though only once
+            // IGC confirms the ends are actually related, as a GUID could name any two assets of the right types
+            if (oneEnd == null || proxyOne == null || proxyTwo == null || !isRelated(mapping, oneEnd, proxyTwo, cache, methodName)) {
+                raiseRelationshipNotKnownException(IGCOMRSErrorCode.RELATIONSHIP_NOT_KNOWN, methodName, guid, repositoryName);
+            }
+            try {
+                RelationshipDef relationshipDef = (RelationshipDef) getTypeDefByName(userId, omrsRelationshipName);
+                found = RelationshipMapping.getMappedRelationship(
+                        igcomrsRepositoryConnector,
+                        mapping,
+                        relationshipDef,
+                        cache,
+                        proxyOne,
+                        proxyTwo,
+                        null,
+                        userId,
+                        null,
+                        true
+                );
+            } catch (TypeDefNotKnownException e) {
+                raiseRepositoryErrorException(IGCOMRSErrorCode.TYPEDEF_NOT_MAPPED, methodName, omrsRelationshipName, repositoryName);
+            } catch (RepositoryErrorException e) {
+                log.error("Unable to map relationship {}.", guid, e);
+            }
+            if (found == null) {
+                raiseRelationshipNotKnownException(IGCOMRSErrorCode.RELATIONSHIP_NOT_KNOWN, methodName, guid, repositoryName);
+            }
+            return found;
+        }
 
         // Otherwise proceed by obtaining all relationships that are mapped
         try {
@@ -1988,7 +1997,7 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
                 pageSize);
 
         List<Relationship> relationships = new ArrayList<>();
-        ObjectCache cache = new ObjectCache();
+        ObjectCache cache = igcomrsRepositoryConnector.newObjectCache();
 
         // Immediately throw unimplemented exception if trying to retrieve historical view
         if (asOfTime != null) {
@@ -2078,7 +2087,7 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
                 pageSize);
 
         List<Relationship> relationships = new ArrayList<>();
-        ObjectCache cache = new ObjectCache();
+        ObjectCache cache = igcomrsRepositoryConnector.newObjectCache();
 
         // Immediately throw unimplemented exception if trying to retrieve historical view
         if (asOfTime != null) {
@@ -2261,6 +2270,165 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
         return typeDefStore.getAnyTypeDefByGUID(guid);
     }
 
+    /**
+     * Indicates whether IGC actually relates the provided ends of a relationship: that is, whether the relationship
+     * properties of either end (as already retrieved) include the other end, or an asset that translates to it.
+     *
+     * @param mapping the mapping of the relationship
+     * @param oneEnd the asset retrieved for endpoint one of the relationship (before any translation)
+     * @param twoEnd the asset retrieved for endpoint two of the relationship
+     * @param cache a cache of information that may already have been retrieved about the ends
+     * @param methodName the name of the method checking the relationship
+     * @return boolean
+     * @throws RepositoryErrorException if there is any issue retrieving the relationships of either end
+     */
+    private boolean isRelated(RelationshipMapping mapping,
+                              Reference oneEnd,
+                              Reference twoEnd,
+                              ObjectCache cache,
+                              String methodName) throws RepositoryErrorException {
+        IGCRestClient igcRestClient = igcomrsRepositoryConnector.getIGCRestClient();
+        try {
+            List<Reference> fromOne = getRelatedAssets(igcRestClient, mapping, oneEnd);
+            if (containsRid(fromOne, twoEnd.getId())) {
+                return true;
+            }
+            List<Reference> fromTwo = getRelatedAssets(igcRestClient, mapping, twoEnd);
+            if (containsRid(fromTwo, oneEnd.getId())) {
+                return true;
+            }
+            // Otherwise the ends may only be related through other assets (eg. multi-hop mappings)
+            for (Reference related : fromOne) {
+                if (containsRid(mapping.getProxyTwoAssetFromAsset(related, igcRestClient, cache), twoEnd.getId())) {
+                    return true;
+                }
+            }
+            for (Reference related : fromTwo) {
+                if (containsRid(mapping.getProxyOneAssetFromAsset(related, igcRestClient, cache), oneEnd.getId())) {
+                    return true;
+                }
+            }
+        } catch (IGCException e) {
+            raiseRepositoryErrorException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
+        }
+        return false;
+    }
+
+    /**
+     * Retrieve all of the assets to which the provided asset is related through the relationship properties of the
+     * provided mapping.
+     *
+     * @param igcRestClient connectivity to IGC
+     * @param mapping the mapping of the relationship
+     * @param asset the asset whose related assets should be retrieved (with its relationship properties)
+     * @return {@code List<Reference>}
+     * @throws IGCException if there is any issue retrieving further pages of the related assets
+     */
+    @SuppressWarnings("unchecked")
+    private List<Reference> getRelatedAssets(IGCRestClient igcRestClient,
+                                             RelationshipMapping mapping,
+                                             Reference asset) throws IGCException {
+        List<Reference> related = new ArrayList<>();
+        for (String property : mapping.getIgcRelationshipPropertiesForType(asset.getType())) {
+            Object value = igcRestClient.getPropertyByName(asset, property);
+            if (value instanceof Reference) {
+                related.add((Reference) value);
+            } else if (value instanceof ItemList) {
+                related.addAll(igcRestClient.getAllPages(property, (ItemList<Reference>) value));
+            }
+        }
+        return related;
+    }
+
+    /**
+     * Indicates whether any of the provided assets has the provided RID.
+     *
+     * @param assets the assets to check
+     * @param rid the RID to look for
+     * @return boolean
+     */
+    private static boolean containsRid(List<Reference> assets, String rid) {
+        for (Reference asset : assets) {
+            if (asset != null && rid.equals(asset.getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Search for the entities of each of the provided mappings that match the provided criteria, appending a single
+     * page of their merged results to the provided list.
+     *
+     * @param userId unique identifier for requesting user
+     * @param mappingsToSearch the mappings for which to search
+     * @param entityTypeGUID the GUID of the entity type that was requested as part of the search (or null for all)
+     * @param entitySubtypeGUIDs optional list of GUIDs of subtypes by which to further limit results
+     * @param cache a cache of information that may already have been retrieved about the results
+     * @param matchProperties Optional list of property-based conditions to match.
+     * @param matchClassifications optional list of classification-based conditions to match.
+     * @param fromEntityElement the starting element number of the entities to return.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request (0 for all)
+     * @param entityDetails the list of EntityDetails to append
+     * @throws FunctionNotSupportedException when a regular expression is used for the search that is not supported
+     * @throws RepositoryErrorException on any other error
+     */
+    private void findEntitiesForMappings(String userId,
+                                         List<EntityMapping> mappingsToSearch,
+                                         String entityTypeGUID,
+                                         List<String> entitySubtypeGUIDs,
+                                         ObjectCache cache,
+                                         SearchProperties matchProperties,
+                                         SearchClassifications matchClassifications,
+                                         int fromEntityElement,
+                                         String sequencingProperty,
+                                         SequencingOrder sequencingOrder,
+                                         int pageSize,
+                                         List<EntityDetail> entityDetails) throws
+            FunctionNotSupportedException,
+            RepositoryErrorException {
+
+        final String methodName = "findEntitiesForMappings";
+
+        entitySearchPager.getPage(
+                EntitySearchPager.getKey(methodName, userId, mappingsToSearch, entityTypeGUID, entitySubtypeGUIDs, matchProperties, matchClassifications, sequencingProperty, sequencingOrder),
+                mappingsToSearch,
+                mapping -> igcRepositoryHelper.getSearchForMapping(
+                        mapping,
+                        entityTypeGUID,
+                        entitySubtypeGUIDs,
+                        matchProperties,
+                        matchClassifications
+                ),
+                getSorting(sequencingProperty, sequencingOrder),
+                matchProperties,
+                null,
+                fromEntityElement,
+                pageSize,
+                cache,
+                userId,
+                entityDetails
+        );
+
+    }
+
+    /**
+     * Retrieve the sorting of the IGC searches for the provided sequencing (if IGC can sort by it).
+     *
+     * @param sequencingProperty String name of the property that is to be used to sequence the results
+     * @param sequencingOrder Enum defining how the results should be ordered
+     * @return IGCSearchSorting - the sorting, or null to sort by RID
+     */
+    private static IGCSearchSorting getSorting(String sequencingProperty, SequencingOrder sequencingOrder) {
+        IGCSearchSorting igcSearchSorting = null;
+        if (sequencingProperty == null && sequencingOrder != null) {
+            igcSearchSorting = IGCRepositoryHelper.sortFromNonPropertySequencingOrder(sequencingOrder);
+        }
+        return igcSearchSorting;
+    }
+
     /**
      * Retrieve the listing of implemented mappings that should be used for an entity search, including navigating
      * subtypes when a supertype is the entity type provided.
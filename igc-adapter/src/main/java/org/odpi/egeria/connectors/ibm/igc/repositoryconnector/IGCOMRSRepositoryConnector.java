@@ -4,28 +4,65 @@ package org.odpi.egeria.connectors.ibm.igc.repositoryconnector;
 
 import org.odpi.egeria.connectors.ibm.igc.auditlog.IGCOMRSAuditCode;
 import org.odpi.egeria.connectors.ibm.igc.auditlog.IGCOMRSErrorCode;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCClientSettings;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCConfigurationValues;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCRestClient;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCVersionEnum;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.cache.ObjectCache;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.cache.SharedObjectCache;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCConnectivityException;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.http.HttpTransportSettings;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.metrics.IGCRequestMetrics;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.entities.EntityMapping;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ClassPathResource;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class IGCOMRSRepositoryConnector extends OMRSRepositoryConnector {
 
+    private static final Logger log = LoggerFactory.getLogger(IGCOMRSRepositoryConnector.class);
+
     protected IGCRestClient igcRestClient;
     protected IGCVersionEnum igcVersion;
 
     protected List<String> defaultZones;
     protected boolean ignoreUnmappedInstances;
+    protected int metricsSummaryInterval;
+    protected int typeWarmUpParallelism;
+    protected int objectCacheSize;
+    protected int objectCacheTTL;
+    protected boolean keysetPaging;
+    protected int searchParallelism;
+
+    private SharedObjectCache objectCache;
+
+    private ScheduledExecutorService metricsReporter;
+
+    private ExecutorService typeWarmUp;
+    private ExecutorService searchExecutor;
+    private final Set<String> warmedUpTypes = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger pendingWarmUps = new AtomicInteger(0);
+    private long warmUpStart;
+    private int warmUpCount;
+    private int warmUpFailures;
 
     /**
      * Default constructor used by the OCF Connector Provider.
@@ -33,6 +70,12 @@ public class IGCOMRSRepositoryConnector extends OMRSRepositoryConnector {
     public IGCOMRSRepositoryConnector() {
         defaultZones = new ArrayList<>();
         ignoreUnmappedInstances = false;
+        metricsSummaryInterval = 3600;
+        typeWarmUpParallelism = 0;
+        objectCacheSize = 0;
+        objectCacheTTL = 300;
+        keysetPaging = false;
+        searchParallelism = 1;
     }
 
     /**
@@ -68,10 +111,40 @@ public class IGCOMRSRepositoryConnector extends OMRSRepositoryConnector {
             connectToIGC(methodName);
         }
 
+        if (metricsSummaryInterval > 0 && metricsReporter == null) {
+            metricsReporter = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "igc-metrics-summary");
+                thread.setDaemon(true);
+                return thread;
+            });
+            metricsReporter.scheduleAtFixedRate(this::logRequestMetrics, metricsSummaryInterval, metricsSummaryInterval, TimeUnit.SECONDS);
+        }
+
         auditLog.logMessage(methodName, IGCOMRSAuditCode.REPOSITORY_SERVICE_STARTED.getMessageDefinition(getServerName(), getIGCVersion().getVersionString()));
 
     }
 
+    /**
+     * Write a summary of the requests made to IGC so far to the audit log (if any requests have been made).
+     */
+    protected void logRequestMetrics() {
+        final String methodName = "logRequestMetrics";
+        if (auditLog != null && igcRestClient != null) {
+            IGCRequestMetrics metrics = igcRestClient.getRequestMetrics();
+            long requests = metrics.getCount();
+            if (requests > 0) {
+                auditLog.logMessage(methodName, IGCOMRSAuditCode.REQUEST_METRICS_SUMMARY.getMessageDefinition(
+                        Long.toString(requests),
+                        Long.toString(metrics.getErrorCount()),
+                        metrics.getSummary()));
+            }
+            if (objectCache != null && objectCache.getHitCount() + objectCache.getMissCount() > 0) {
+                auditLog.logMessage(methodName, IGCOMRSAuditCode.OBJECT_CACHE_SUMMARY.getMessageDefinition(
+                        objectCache.getSummary()));
+            }
+        }
+    }
+
     /**
      * Retrieve the version identifier of the IGC environment.
      *
@@ -89,6 +162,22 @@ public class IGCOMRSRepositoryConnector extends OMRSRepositoryConnector {
 
         final String methodName = "disconnect";
 
+        if (metricsReporter != null) {
+            metricsReporter.shutdownNow();
+            metricsReporter = null;
+            logRequestMetrics();
+        }
+        synchronized (this) {
+            if (typeWarmUp != null) {
+                typeWarmUp.shutdownNow();
+                typeWarmUp = null;
+            }
+            if (searchExecutor != null) {
+                searchExecutor.shutdownNow();
+                searchExecutor = null;
+            }
+        }
+
         // Close the session on the IGC REST client
         try {
             this.igcRestClient.disconnect();
@@ -123,6 +212,131 @@ public class IGCOMRSRepositoryConnector extends OMRSRepositoryConnector {
      */
     public boolean ignoreUnmappedInstances() { return this.ignoreUnmappedInstances; }
 
+    /**
+     * Retrieve whether searches that retrieve all of their results (sorted by RID) should page through them by the
+     * last RID of each page (true) or by offset (default: false).
+     *
+     * @return boolean
+     */
+    public boolean useKeysetPaging() { return this.keysetPaging; }
+
+    /**
+     * Retrieve the executor on which to run the searches for each of the mappings of a single OMRS search concurrently,
+     * at most the configured number at a time.
+     *
+     * @return ExecutorService - the executor, or null if the searches should be run one after the other (the default)
+     */
+    public synchronized ExecutorService getSearchExecutor() {
+        if (searchParallelism <= 1) {
+            return null;
+        }
+        if (searchExecutor == null) {
+            AtomicInteger threads = new AtomicInteger(0);
+            searchExecutor = Executors.newFixedThreadPool(searchParallelism, r -> {
+                Thread thread = new Thread(r, "igc-search-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return searchExecutor;
+    }
+
+    /**
+     * Create a new cache of IGC objects for a single request (or event), backed by the cache that is shared across
+     * all requests if one is configured.
+     *
+     * @return ObjectCache
+     */
+    public ObjectCache newObjectCache() { return new ObjectCache(this.objectCache); }
+
+    /**
+     * Retrieve the cache of IGC objects that is shared across all requests, including its statistics.
+     *
+     * @return SharedObjectCache - the shared cache, or null if no cache is shared across requests
+     */
+    public SharedObjectCache getSharedObjectCache() { return this.objectCache; }
+
+    /**
+     * Indicates whether the details of IGC types are retrieved eagerly and concurrently, as soon as a mapping that
+     * uses them is registered (true), or only as each is first needed (false, the default).
+     *
+     * @return boolean
+     */
+    public boolean isTypeWarmUpEnabled() { return this.typeWarmUpParallelism > 0; }
+
+    /**
+     * Retrieve (and cache) the details of the provided IGC types in the background, at most the configured number
+     * at a time, so that the first requests to use each type do not need to wait for them. Types that have already
+     * been warmed up (or are being warmed up) are skipped. Each time all the pending types have been retrieved, the
+     * number of types and time taken are written to the audit log.
+     * <br><br>
+     * Does nothing unless warm-up is enabled.
+     *
+     * @param igcTypes the names of the IGC types to warm up
+     * @return int - the number of types newly scheduled to be warmed up
+     * @see #isTypeWarmUpEnabled()
+     */
+    public int warmUpTypes(Collection<String> igcTypes) {
+        int scheduled = 0;
+        if (!isTypeWarmUpEnabled() || igcTypes == null || igcRestClient == null) {
+            return scheduled;
+        }
+        for (String igcType : igcTypes) {
+            if (igcType != null
+                    && !igcType.equals(EntityMapping.SUPERTYPE_SENTINEL)
+                    && !igcType.equals(IGCRepositoryHelper.DEFAULT_IGC_TYPE)
+                    && warmedUpTypes.add(igcType)) {
+                synchronized (this) {
+                    if (typeWarmUp == null) {
+                        AtomicInteger threads = new AtomicInteger(0);
+                        typeWarmUp = Executors.newFixedThreadPool(typeWarmUpParallelism, r -> {
+                            Thread thread = new Thread(r, "igc-type-warm-up-" + threads.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+                    }
+                    if (pendingWarmUps.getAndIncrement() == 0) {
+                        warmUpStart = System.currentTimeMillis();
+                        warmUpCount = 0;
+                        warmUpFailures = 0;
+                    }
+                    typeWarmUp.execute(() -> warmUpType(igcType));
+                }
+                scheduled++;
+            }
+        }
+        return scheduled;
+    }
+
+    /**
+     * Retrieve (and cache) the details of a single IGC type, as part of the warm-up.
+     *
+     * @param igcType the name of the IGC type to warm up
+     */
+    private void warmUpType(String igcType) {
+        final String methodName = "warmUpType";
+        boolean failed = false;
+        try {
+            igcRestClient.cacheTypeDetails(igcType);
+        } catch (IGCException e) {
+            log.warn("Unable to warm up the details of IGC type: {}", igcType, e);
+            failed = true;
+        }
+        synchronized (this) {
+            warmUpCount++;
+            if (failed) {
+                warmUpFailures++;
+            }
+            if (pendingWarmUps.decrementAndGet() == 0 && auditLog != null) {
+                auditLog.logMessage(methodName, IGCOMRSAuditCode.TYPE_WARM_UP_COMPLETE.getMessageDefinition(
+                        Integer.toString(warmUpCount),
+                        Long.toString(System.currentTimeMillis() - warmUpStart),
+                        Integer.toString(warmUpFailures),
+                        Integer.toString(typeWarmUpParallelism)));
+            }
+        }
+    }
+
     /**
      * Connect to the IBM Information Governance Catalog host.
      *
@@ -143,6 +357,8 @@ public class IGCOMRSRepositoryConnector extends OMRSRepositoryConnector {
 
             // Retrieve connection details
             Map<String, Object> proxyProperties = this.connectionBean.getConfigurationProperties();
+            HttpTransportSettings transportSettings = HttpTransportSettings.fromConfigurationProperties(proxyProperties);
+            IGCClientSettings clientSettings = IGCClientSettings.fromConfigurationProperties(proxyProperties);
             if (proxyProperties != null) {
                 Object zones = proxyProperties.get(IGCOMRSRepositoryConnectorProvider.DEFAULT_ZONES);
                 if (zones instanceof List) {
@@ -156,6 +372,15 @@ public class IGCOMRSRepositoryConnector extends OMRSRepositoryConnector {
                 if (ignore instanceof Boolean) {
                     this.ignoreUnmappedInstances = (Boolean) ignore;
                 }
+                this.keysetPaging = IGCConfigurationValues.getBoolean(proxyProperties, IGCOMRSRepositoryConnectorProvider.KEYSET_PAGING, this.keysetPaging);
+                this.metricsSummaryInterval = IGCConfigurationValues.getInteger(proxyProperties, IGCOMRSRepositoryConnectorProvider.METRICS_SUMMARY_INTERVAL, this.metricsSummaryInterval);
+                this.typeWarmUpParallelism = IGCConfigurationValues.getInteger(proxyProperties, IGCOMRSRepositoryConnectorProvider.TYPE_WARM_UP_PARALLELISM, this.typeWarmUpParallelism);
+                this.objectCacheSize = IGCConfigurationValues.getInteger(proxyProperties, IGCOMRSRepositoryConnectorProvider.OBJECT_CACHE_SIZE, this.objectCacheSize);
+                this.objectCacheTTL = IGCConfigurationValues.getInteger(proxyProperties, IGCOMRSRepositoryConnectorProvider.OBJECT_CACHE_TTL, this.objectCacheTTL);
+                this.searchParallelism = IGCConfigurationValues.getInteger(proxyProperties, IGCOMRSRepositoryConnectorProvider.SEARCH_PARALLELISM, this.searchParallelism);
+            }
+            if (this.objectCacheSize > 0) {
+                this.objectCache = new SharedObjectCache(this.objectCacheSize, this.objectCacheTTL, TimeUnit.SECONDS);
             }
 
             boolean successfulInit = false;
@@ -164,7 +389,7 @@ public class IGCOMRSRepositoryConnector extends OMRSRepositoryConnector {
 
             // Create new REST API client (opens a new session)
             try {
-                this.igcRestClient = new IGCRestClient(address, igcUser, igcPass);
+                this.igcRestClient = new IGCRestClient(address, igcUser, igcPass, transportSettings, clientSettings);
                 if (this.igcRestClient.start()) {
                     if (getMaxPageSize() > 0) {
                         this.igcRestClient.setDefaultPageSize(getMaxPageSize());
@@ -2,6 +2,8 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.egeria.connectors.ibm.igc.repositoryconnector;
 
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCClientSettings;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.http.HttpTransportSettings;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnectorProviderBase;
 
@@ -25,6 +27,39 @@ import java.util.List;
  *     <li>ignoreUnmappedInstances - a boolean indicating whether to ignore instances that are not mapped (will log
  *          a warning, but not throw any exception when set to 'true') or to throw an exception if an unmapped instance
  *          is retrieved (when set to 'false').</li>
+ *     <li>connectionPooling - a boolean indicating whether to pool and keep alive connections to IGC (default: true).</li>
+ *     <li>maxConnectionsPerRoute - the maximum number of pooled connections to keep open to IGC (default: 20).</li>
+ *     <li>maxConnectionsTotal - the maximum number of pooled connections to keep open in total (default: 20).</li>
+ *     <li>idleConnectionTimeout - the number of seconds after which an idle pooled connection is closed (default: 60).</li>
+ *     <li>connectTimeout - the number of milliseconds to wait to establish a connection to IGC (default: 0, no timeout).</li>
+ *     <li>readTimeout - the number of milliseconds to wait for a response from IGC (default: 0, no timeout).</li>
+ *     <li>maxSessions - the maximum number of sessions to open concurrently against IGC (default: 4).</li>
+ *     <li>pagePrefetchParallelism - the maximum number of pages of results to retrieve concurrently when all pages
+ *          are needed (default: 1, one page after the other).</li>
+ *     <li>maxConcurrentRequests - the maximum number of requests to send concurrently to IGC, adapted downwards
+ *          when IGC shows signs of overload (default: 0, the same as maxSessions).</li>
+ *     <li>requestQueueTimeout - the number of milliseconds a request may wait to be sent to IGC before it fails
+ *          (default: 0, wait indefinitely).</li>
+ *     <li>maxRetries - the maximum number of times to retry a retrieval or search that failed because IGC was
+ *          overloaded (default: 2).</li>
+ *     <li>typeCacheDirectory - a directory in which to cache the details of IGC's types, so that they need not be
+ *          retrieved from IGC again on every restart (default: none, always retrieve them from IGC).</li>
+ *     <li>metricsSummaryInterval - the number of seconds between each summary of the requests made to IGC that is
+ *          written to the audit log (default: 3600, or 0 to never write a summary).</li>
+ *     <li>typeWarmUpParallelism - the number of IGC types whose details to retrieve at a time, in the background, as
+ *          soon as the mappings that use them are registered (default: 0, only retrieve each as it is first needed).</li>
+ *     <li>objectCacheSize - the maximum number of IGC objects to cache across requests, so that frequently-used
+ *          objects need not be retrieved again for every request (default: 0, only cache objects within a request).</li>
+ *     <li>objectCacheTTL - the number of seconds for which each IGC object is cached across requests, unless an event
+ *          from IGC shows that it has changed sooner (default: 300, or 0 to keep objects until the cache is full).</li>
+ *     <li>keysetPaging - a boolean indicating whether searches that start from their first result should page through
+ *          them by searching for the results after the last RID of each page (when set to 'true'), rather than by
+ *          offset (default: false).</li>
+ *     <li>searchParallelism - the maximum number of IGC searches to run concurrently for a single search across many
+ *          types, such as a search for all Referenceables (default: 1, one IGC search after the other).</li>
+ *     <li>pageLatencyBudget - the number of milliseconds within which each page of search results should be retrieved
+ *          from IGC, to which the size of each page is adapted based on the pages of the same search shape already
+ *          retrieved (default: 0, always use the requested page size).</li>
  * </ul>
  */
 public class IGCOMRSRepositoryConnectorProvider extends OMRSRepositoryConnectorProviderBase {
@@ -35,6 +70,12 @@ public class IGCOMRSRepositoryConnectorProvider extends OMRSRepositoryConnectorP
 
     public static final String DEFAULT_ZONES = "defaultZones";
     public static final String IGNORE_UNMAPPED_INSTANCES = "ignoreUnmappedInstances";
+    public static final String METRICS_SUMMARY_INTERVAL = "metricsSummaryInterval";
+    public static final String TYPE_WARM_UP_PARALLELISM = "typeWarmUpParallelism";
+    public static final String OBJECT_CACHE_SIZE = "objectCacheSize";
+    public static final String OBJECT_CACHE_TTL = "objectCacheTTL";
+    public static final String KEYSET_PAGING = "keysetPaging";
+    public static final String SEARCH_PARALLELISM = "searchParallelism";
 
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
@@ -56,6 +97,25 @@ public class IGCOMRSRepositoryConnectorProvider extends OMRSRepositoryConnectorP
         List<String> recognizedConfigurationProperties = new ArrayList<>();
         recognizedConfigurationProperties.add(DEFAULT_ZONES);
         recognizedConfigurationProperties.add(IGNORE_UNMAPPED_INSTANCES);
+        recognizedConfigurationProperties.add(METRICS_SUMMARY_INTERVAL);
+        recognizedConfigurationProperties.add(TYPE_WARM_UP_PARALLELISM);
+        recognizedConfigurationProperties.add(OBJECT_CACHE_SIZE);
+        recognizedConfigurationProperties.add(OBJECT_CACHE_TTL);
+        recognizedConfigurationProperties.add(KEYSET_PAGING);
+        recognizedConfigurationProperties.add(SEARCH_PARALLELISM);
+        recognizedConfigurationProperties.add(HttpTransportSettings.CONNECTION_POOLING);
+        recognizedConfigurationProperties.add(HttpTransportSettings.MAX_CONNECTIONS_PER_ROUTE);
+        recognizedConfigurationProperties.add(HttpTransportSettings.MAX_CONNECTIONS_TOTAL);
+        recognizedConfigurationProperties.add(HttpTransportSettings.IDLE_CONNECTION_TIMEOUT);
+        recognizedConfigurationProperties.add(HttpTransportSettings.CONNECT_TIMEOUT);
+        recognizedConfigurationProperties.add(HttpTransportSettings.READ_TIMEOUT);
+        recognizedConfigurationProperties.add(HttpTransportSettings.MAX_SESSIONS);
+        recognizedConfigurationProperties.add(IGCClientSettings.PAGE_PREFETCH_PARALLELISM);
+        recognizedConfigurationProperties.add(IGCClientSettings.MAX_CONCURRENT_REQUESTS);
+        recognizedConfigurationProperties.add(IGCClientSettings.REQUEST_QUEUE_TIMEOUT);
+        recognizedConfigurationProperties.add(IGCClientSettings.MAX_RETRIES);
+        recognizedConfigurationProperties.add(IGCClientSettings.TYPE_CACHE_DIRECTORY);
+        recognizedConfigurationProperties.add(IGCClientSettings.PAGE_LATENCY_BUDGET);
         connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
 
         super.connectorTypeBean = connectorType;
@@ -9,10 +9,13 @@ import org.odpi.egeria.connectors.ibm.igc.clientlibrary.cache.ObjectCache;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCConnectivityException;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCException;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCIOException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCPagingException;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCParsingException;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Identity;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ProjectedReference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCPreparedSearch;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearch;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearchCondition;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearchConditionSet;
@@ -31,10 +34,10 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.RelationshipDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
-import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,8 +49,6 @@ import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class IGCRepositoryHelper {
 
@@ -60,6 +61,10 @@ public class IGCRepositoryHelper {
     private static final String GENERATED_ENTITY_QNAME_PREFIX = "gen!";
     private static final String GENERATED_ENTITY_QNAME_POSTFIX = "@";
 
+    private static final IGCPreparedSearch OMRS_STUB_BY_NAME = new IGCPreparedSearch(new IGCSearch("$OMRS-Stub",
+            new String[]{ "$sourceRID", "$sourceType", "$payload" },
+            new IGCSearchConditionSet(new IGCSearchCondition("name", "=", IGCPreparedSearch.PARAMETER))));
+
     private IGCOMRSRepositoryConnector igcomrsRepositoryConnector;
     private OMRSRepositoryHelper repositoryHelper;
     private IGCRestClient igcRestClient;
@@ -363,43 +368,27 @@ public class IGCRepositoryHelper {
     }
 
     /**
-     * Run a search against IGC and process the results, based on the provided parameters.
+     * Construct the search to run against IGC for a single mapping, based on the provided parameters. (The paging and
+     * sorting of the search are left to be set up by whatever runs it.)
      *
      * @param mapping the mapping to use for running the search
-     * @param entityDetails the list of results to append into
-     * @param cache a cache of information that may already have been retrieved about the provided object
-     * @param userId unique identifier for requesting user
      * @param entityTypeGUID the GUID of the entity type that was requested as part of the search (or null for all)
      * @param entitySubtypeGUIDs optional list of GUIDs of subtypes by which to further limit results
      * @param matchProperties Optional list of property-based conditions to match.
-     * @param fromEntityElement the starting element number of the entities to return.
-     *                                This is used when retrieving elements
-     *                                beyond the first page of results. Zero means start from the first element.
      * @param matchClassifications optional list of classification-based conditions to match.
-     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
-     *                           Null means do not sequence on a property name (see SequencingOrder).
-     * @param sequencingOrder Enum defining how the results should be ordered.
-     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
-     *                 unrestricted return results size.
+     * @return IGCSearch - the search to run, or null if the mapping cannot have any results for the parameters
      * @throws FunctionNotSupportedException when a regular expression is used for the search that is not supported
      * @throws RepositoryErrorException on any other error
      */
-    void processResultsForMapping(EntityMapping mapping,
-                                  List<EntityDetail> entityDetails,
-                                  ObjectCache cache,
-                                  String userId,
+    IGCSearch getSearchForMapping(EntityMapping mapping,
                                   String entityTypeGUID,
                                   List<String> entitySubtypeGUIDs,
                                   SearchProperties matchProperties,
-                                  int fromEntityElement,
-                                  SearchClassifications matchClassifications,
-                                  String sequencingProperty,
-                                  SequencingOrder sequencingOrder,
-                                  int pageSize) throws
+                                  SearchClassifications matchClassifications) throws
             FunctionNotSupportedException,
             RepositoryErrorException {
 
-        final String methodName = "processResultsForMapping";
+        final String methodName = "getSearchForMapping";
 
         IGCOMRSMetadataCollection igcomrsMetadataCollection = (IGCOMRSMetadataCollection)igcomrsRepositoryConnector.getMetadataCollection();
 
@@ -448,23 +437,9 @@ public class IGCRepositoryHelper {
                     igcSearchConditionSet.addNestedConditionSet(classificationLimiters);
                 }
 
-                IGCSearchSorting igcSearchSorting = null;
-                if (sequencingProperty == null && sequencingOrder != null) {
-                    igcSearchSorting = IGCRepositoryHelper.sortFromNonPropertySequencingOrder(sequencingOrder);
-                }
-
                 igcSearch.addProperties(mapping.getAllPropertiesForEntityDetail(igcRestClient, igcAssetType));
                 igcSearch.addConditions(igcSearchConditionSet);
 
-                setPagingForSearch(igcSearch, fromEntityElement, pageSize);
-
-                if (igcSearchSorting != null) {
-                    igcSearch.addSortingCriteria(igcSearchSorting);
-                } else {
-                    // Add a default sorting (by RID) to ensure consistent paging
-                    igcSearch.addSortingCriteria(IGCRepositoryHelper.sortFromNonPropertySequencingOrder(SequencingOrder.GUID));
-                }
-
                 // If searching by qualifiedName, exact match (or starts with) we need to check results
                 // to remove any (non-)generated type based on the qualifiedName (because the search results
                 // will contain both from various iterations of this loop, and only one or the other should be
@@ -510,20 +485,7 @@ public class IGCRepositoryHelper {
                 }
 
                 if (includeResult) {
-                    try {
-                        processResults(
-                                mapping,
-                                this.igcRestClient.search(igcSearch),
-                                entityDetails,
-                                cache,
-                                matchProperties,
-                                null,
-                                pageSize,
-                                userId
-                        );
-                    } catch (IGCException e) {
-                        raiseRepositoryErrorException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
-                    }
+                    return igcSearch;
                 } else {
                     log.debug("Skipping search for type '{}' as entitySubtypeGUIDs would filter it out anyway: {}.", igcAssetType, entitySubtypeGUIDs);
                 }
@@ -531,6 +493,7 @@ public class IGCRepositoryHelper {
                 log.debug("Skipping search for type '{}' as filter determined there would be no results anyway.", igcAssetType);
             }
         }
+        return null;
     }
 
     private String addAllConditions(IGCSearchConditionSet igcSearchConditionSet,
@@ -592,7 +555,8 @@ public class IGCRepositoryHelper {
     }
 
     /**
-     * Setup paging properties of the IGC search.
+     * Setup paging properties of the IGC search. (The types and properties of the search should already have been
+     * added, as the page size may be adapted to them.)
      *
      * @param igcSearch the IGC search object to which to add the criteria
      * @param beginAt the starting index for results
@@ -602,15 +566,40 @@ public class IGCRepositoryHelper {
         if (pageSize > 0) {
             /* Only set pageSize if it has been provided; otherwise we'll end up defaulting to IGC's
              * minimal pageSize of 10 (so will need to make many calls to get all pages) */
-            igcSearch.setPageSize(pageSize);
+            igcSearch.setPageSize(igcRestClient.getPageSize(igcSearch, pageSize));
         } else {
             /* So if none has been specified, we'll set a large pageSize to be able to more efficiently
              * retrieve all pages of results */
-            igcSearch.setPageSize(igcomrsRepositoryConnector.getMaxPageSize());
+            igcSearch.setPageSize(igcRestClient.getPageSize(igcSearch, igcomrsRepositoryConnector.getMaxPageSize()));
         }
         igcSearch.setBeginAt(beginAt);
     }
 
+    /**
+     * Setup sorting of the IGC search, defaulting to sorting by RID to ensure consistent paging. If configured, a
+     * search sorted by RID that starts from its first result (whether it retrieves all of its results or only a page of
+     * them) pages through them by the last RID of each page rather than by offset. (A search that starts part-way
+     * through its results has no previous RID from which to start, so is still paged by offset.)
+     *
+     * @param igcSearch the IGC search object to which to add the criteria
+     * @param igcSearchSorting the sorting criteria requested (or null to sort by RID)
+     * @param beginAt the starting index for results
+     * @param pageSize the number of results to include in each page (0 for all results)
+     */
+    void setSortingForSearch(IGCSearch igcSearch, IGCSearchSorting igcSearchSorting, int beginAt, int pageSize) {
+        IGCSearchSorting byRid = IGCRepositoryHelper.sortFromNonPropertySequencingOrder(SequencingOrder.GUID);
+        if (igcSearchSorting != null) {
+            igcSearch.addSortingCriteria(igcSearchSorting);
+        } else {
+            // Add a default sorting (by RID) to ensure consistent paging
+            igcSearch.addSortingCriteria(byRid);
+        }
+        if (igcomrsRepositoryConnector.useKeysetPaging() && beginAt == 0
+                && (igcSearchSorting == null || (igcSearchSorting.getProperty().equals(byRid.getProperty()) && igcSearchSorting.getAscending()))) {
+            igcSearch.useKeysetPaging();
+        }
+    }
+
     /**
      * Process the search results into the provided list of EntityDetail objects.
      *
@@ -618,8 +607,7 @@ public class IGCRepositoryHelper {
      * @param results the IGC search results
      * @param entityDetails the list of EntityDetails to append
      * @param cache a cache of information that may already have been retrieved about the provided object
-     * @param matchProperties the set of properties that should be matched (or null if none)
-     * @param searchCriteria the string search criteria that should be matched (or null if none)
+     * @param searchPredicate the compiled criteria that results should match (see {@link #getSearchPredicate(SearchProperties, String)})
      * @param pageSize the number of results per page (0 for all results)
      * @param userId the user making the request
      */
@@ -627,48 +615,21 @@ public class IGCRepositoryHelper {
                         ItemList<Reference> results,
                         List<EntityDetail> entityDetails,
                         ObjectCache cache,
-                        SearchProperties matchProperties,
-                        String searchCriteria,
+                        SearchPredicate searchPredicate,
                         int pageSize,
                         String userId) throws RepositoryErrorException {
 
         final String methodName = "processResults";
-        if (pageSize == 0) {
-            try {
-                // If the provided pageSize was 0, we need to retrieve ALL pages of results...
-                List<Reference> allPages = igcRestClient.getAllPages(null, results);
-                results.setAllPages(allPages);
-            } catch (IGCException e) {
-                raiseRepositoryErrorException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
-            }
-        }
-        for (Reference reference : results.getItems()) {
-            /* Only proceed with retrieving the EntityDetail if the type from IGC is not explicitly
-             * a 'main_object' (as these are non-API-accessible asset types in IGC like column analysis master,
-             * etc and will simply result in 400-code Bad Request messages from the API) */
-            if (!reference.getType().equals(DEFAULT_IGC_TYPE)) {
-                EntityDetail ed = null;
-
-                log.debug("processResults with mapper: {}", mapper.getClass().getCanonicalName());
-                IGCEntityGuid idToLookup;
-                if (mapper.igcRidNeedsPrefix()) {
-                    log.debug(" ... prefix required, getEntityDetail with: {}", mapper.getIgcRidPrefix() + "!" + reference.getId());
-                    idToLookup = new IGCEntityGuid(metadataCollectionId, reference.getType(), mapper.getIgcRidPrefix(), reference.getId());
-                } else {
-                    log.debug(" ... no prefix required, getEntityDetail with: {}", reference.getId());
-                    idToLookup = new IGCEntityGuid(metadataCollectionId, reference.getType(), reference.getId());
-                }
-                try {
-                    ed = getEntityDetailFromFullAsset(cache, userId, idToLookup, reference);
-                } catch (EntityNotKnownException e) {
-                    log.error("Unable to find entity: {}", idToLookup, e);
-                }
-                if (ed != null && includeResult(ed, matchProperties, searchCriteria)) {
-                    entityDetails.add(ed);
-                    // Stop adding details if we have hit the page size
-                    if (pageSize > 0 && entityDetails.size() == pageSize) {
-                        break;
-                    }
+        // If the provided pageSize was 0, we need to process ALL pages of results, which we retrieve only as we
+        // iterate through them (rather than holding every page in memory at once)
+        Iterator<Reference> iterator = (pageSize == 0) ? igcRestClient.iterateAllPages(null, results) : results.getItems().iterator();
+        while (hasNextResult(iterator, methodName)) {
+            EntityDetail ed = getEntityDetailForResult(mapper, iterator.next(), cache, searchPredicate, userId);
+            if (ed != null) {
+                entityDetails.add(ed);
+                // Stop adding details if we have hit the page size
+                if (pageSize > 0 && entityDetails.size() == pageSize) {
+                    break;
                 }
             }
         }
@@ -677,7 +638,7 @@ public class IGCRepositoryHelper {
         if (results.hasMorePages() && entityDetails.size() < pageSize) {
             try {
                 ItemList<Reference> nextPage = igcRestClient.getNextPage(null, results);
-                processResults(mapper, nextPage, entityDetails, cache, matchProperties, searchCriteria, pageSize, userId);
+                processResults(mapper, nextPage, entityDetails, cache, searchPredicate, pageSize, userId);
             } catch (IGCException e) {
                 raiseRepositoryErrorException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
             }
@@ -685,6 +646,68 @@ public class IGCRepositoryHelper {
 
     }
 
+    /**
+     * Translate a single search result into an EntityDetail, provided it matches the search.
+     *
+     * @param mapper the EntityMapping that should be used to translate the result
+     * @param reference the IGC search result
+     * @param cache a cache of information that may already have been retrieved about the provided object
+     * @param searchPredicate the compiled criteria that results should match (see {@link #getSearchPredicate(SearchProperties, String)})
+     * @param userId the user making the request
+     * @return EntityDetail - the translated result, or null if it should not be included in the search results
+     * @throws RepositoryErrorException on any error translating the result
+     */
+    EntityDetail getEntityDetailForResult(EntityMapping mapper,
+                                          Reference reference,
+                                          ObjectCache cache,
+                                          SearchPredicate searchPredicate,
+                                          String userId) throws RepositoryErrorException {
+        EntityDetail ed = null;
+        /* Only proceed with retrieving the EntityDetail if the type from IGC is not explicitly
+         * a 'main_object' (as these are non-API-accessible asset types in IGC like column analysis master,
+         * etc and will simply result in 400-code Bad Request messages from the API) */
+        if (!reference.getType().equals(DEFAULT_IGC_TYPE)) {
+
+            log.debug("processResults with mapper: {}", mapper.getClass().getCanonicalName());
+            IGCEntityGuid idToLookup;
+            if (mapper.igcRidNeedsPrefix()) {
+                log.debug(" ... prefix required, getEntityDetail with: {}", mapper.getIgcRidPrefix() + "!" + reference.getId());
+                idToLookup = new IGCEntityGuid(metadataCollectionId, reference.getType(), mapper.getIgcRidPrefix(), reference.getId());
+            } else {
+                log.debug(" ... no prefix required, getEntityDetail with: {}", reference.getId());
+                idToLookup = new IGCEntityGuid(metadataCollectionId, reference.getType(), reference.getId());
+            }
+            try {
+                ed = getEntityDetailFromFullAsset(cache, userId, idToLookup, reference);
+            } catch (EntityNotKnownException e) {
+                log.error("Unable to find entity: {}", idToLookup, e);
+            }
+            if (ed != null && !searchPredicate.test(ed)) {
+                ed = null;
+            }
+        }
+        return ed;
+    }
+
+    /**
+     * Indicates whether the provided iterator over search results has any further results, retrieving the next page
+     * of results if needed.
+     *
+     * @param iterator the iterator over search results
+     * @param methodName the name of the method processing the results
+     * @return boolean
+     * @throws RepositoryErrorException if there is any issue retrieving the next page of results
+     */
+    private boolean hasNextResult(Iterator<Reference> iterator, String methodName) throws RepositoryErrorException {
+        boolean hasNext = false;
+        try {
+            hasNext = iterator.hasNext();
+        } catch (IGCPagingException e) {
+            raiseRepositoryErrorException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e.getCause());
+        }
+        return hasNext;
+    }
+
     /**
      * Process the search results into the provided list of Relationship objects.
      *
@@ -695,7 +718,6 @@ public class IGCRepositoryHelper {
      * @param pageSize the number of results per page (0 for all results)
      * @param userId the user making the request
      */
-    @SuppressWarnings("unchecked")
     void processResults(RelationshipMapping mapper,
                         ItemList<Reference> results,
                         List<Relationship> relationships,
@@ -716,79 +738,70 @@ public class IGCRepositoryHelper {
 
         IGCOMRSMetadataCollection igcomrsMetadataCollection = (IGCOMRSMetadataCollection) igcomrsRepositoryConnector.getMetadataCollection();
 
-        // Recall that our search should always be entities of proxy endpoint TWO
-        for (Reference candidateTwo : results.getItems()) {
-
-            String igcType = candidateTwo.getType();
-            String relationshipLevelType = mapper.getRelationshipLevelIgcAsset();
-
-            String relationshipLevelRid = null;
-            List<Reference> endOnes = new ArrayList<>();
-            List<Reference> endTwos = new ArrayList<>();
-
-            if (relationshipLevelType != null && relationshipLevelType.equals(igcType)) {
+        RelationshipDef omrsRelationshipDef = null;
+        if (!mapper.isCustomMapping() && !mapper.isSelfReferencing()) {
+            omrsRelationshipDef = (RelationshipDef) repositoryHelper.getTypeDefByName(repositoryName, mapper.getOmrsRelationshipType());
+        }
 
-                try {
-                    // If the type is a relationship-level type, then use a relationship-level ProxyMapping to determine
-                    // the appropriate relationship ends
-                    relationshipLevelRid = candidateTwo.getId();
-                    log.debug("processResults (relationship-level) with mapper: {}", mapper.getClass().getCanonicalName());
-                    RelationshipMapping.RelationshipLevelProxyMapping pmRelationship = mapper.getRelationshipLevelProxyMapping();
-                    String propertyToOne = pmRelationship.getIgcRelationshipPropertyToEndOne();
-                    String propertyToTwo = pmRelationship.getIgcRelationshipPropertyToEndTwo();
-                    Object endOne = igcRestClient.getPropertyByName(candidateTwo, propertyToOne);
-                    IGCRepositoryHelper.addReferencesToList(igcRestClient, endOnes, endOne);
-                    Object endTwo = igcRestClient.getPropertyByName(candidateTwo, propertyToTwo);
-                    IGCRepositoryHelper.addReferencesToList(igcRestClient, endTwos, endTwo);
-                } catch (IGCException e) {
-                    raiseRepositoryErrorException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
+        // Recall that our search should always be entities of proxy endpoint TWO
+        List<Reference[]> candidates = new ArrayList<>();
+        List<String> relationshipLevelRids = new ArrayList<>();
+        Iterator<Reference> items = results.getItems().iterator();
+        int next = 0;
+        boolean pageFull = false;
+        while (!pageFull && (next < candidates.size() || items.hasNext())) {
+
+            // Only collect (and retrieve the ends of) as many candidates as are still needed to fill the page
+            int needed = pageSize > 0 ? pageSize - relationships.size() : Integer.MAX_VALUE;
+            while (candidates.size() - next < needed && items.hasNext()) {
+                addCandidates(mapper, items.next(), candidates, relationshipLevelRids, cache);
+            }
+            int end = (int) Math.min(candidates.size(), (long) next + needed);
+
+            // Relationships that are mapped purely from the objects at each end can be built directly from the search
+            // results, once the details needed for the ends of all of them have been retrieved together (rather than
+            // looking up each relationship again by its GUID, which retrieves both of its ends again)
+            if (omrsRelationshipDef != null) {
+                List<Reference> ends = new ArrayList<>();
+                for (int i = next; i < end; i++) {
+                    if (relationshipLevelRids.get(i) == null) {
+                        ends.addAll(Arrays.asList(candidates.get(i)));
+                    }
                 }
-
-            } else if (!igcType.equals(DEFAULT_IGC_TYPE)) {
-
-                // Otherwise, only proceed with retrieving the Relationship if the type from IGC is not explicitly
-                // a 'main_object' (as these are non-API-accessible asset types in IGC like column analysis master,
-                // etc and will simply result in 400-code Bad Request messages from the API)
-                endTwos.add(candidateTwo);
-
                 try {
-                    log.debug("processResults with mapper: {}", mapper.getClass().getCanonicalName());
-                    RelationshipMapping.ProxyMapping pmTwo = mapper.getProxyTwoMapping();
-                    List<String> relationshipProperties = pmTwo.getIgcRelationshipProperties();
-                    for (String igcPropertyName : relationshipProperties) {
-                        if (igcPropertyName.equals(RelationshipMapping.SELF_REFERENCE_SENTINEL)) {
-                            endOnes.add(candidateTwo);
-                        } else {
-                            Object otherEnd = igcRestClient.getPropertyByName(candidateTwo, igcPropertyName);
-                            if (otherEnd != null) {
-                                if (otherEnd instanceof Reference) {
-                                    Reference other = (Reference) otherEnd;
-                                    if (other.getType() != null) {
-                                        endOnes.addAll(mapper.getProxyOneAssetFromAsset(other, igcRestClient, cache));
-                                    }
-                                } else if (otherEnd instanceof ItemList) {
-                                    ItemList<Reference> otherEnds = (ItemList<Reference>) otherEnd;
-                                    List<Reference> allOtherEnds = igcRestClient.getAllPages(igcPropertyName, otherEnds);
-                                    for (Reference other : allOtherEnds) {
-                                        endOnes.addAll(mapper.getProxyOneAssetFromAsset(other, igcRestClient, cache));
-                                    }
-                                } else {
-                                    log.warn("Not a relationship, skipping: {}", otherEnd);
-                                }
-                            }
-                        }
-                    }
+                    cacheRelationshipEnds(ends, cache);
                 } catch (IGCException e) {
                     raiseRepositoryErrorException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
                 }
             }
-            for (Reference endOne : endOnes) {
-                for (Reference endTwo : endTwos) {
-                    String endOneType = endOne.getType();
-                    String endTwoType = endTwo.getType();
-                    if (endOneType != null && !endOneType.equals(DEFAULT_IGC_TYPE)
-                            && endTwoType != null && !endTwoType.equals(DEFAULT_IGC_TYPE)
-                            && mapper.includeRelationshipForIgcObjects(igcomrsRepositoryConnector, cache, endOne, endTwo)) {
+
+            for (; next < end && !pageFull; next++) {
+                Reference endOne = candidates.get(next)[0];
+                Reference endTwo = candidates.get(next)[1];
+                String relationshipLevelRid = relationshipLevelRids.get(next);
+                if (mapper.includeRelationshipForIgcObjects(igcomrsRepositoryConnector, cache, endOne, endTwo)) {
+                    Relationship relationship = null;
+                    if (omrsRelationshipDef != null && relationshipLevelRid == null) {
+                        try {
+                            relationship = RelationshipMapping.getMappedRelationship(
+                                    igcomrsRepositoryConnector,
+                                    mapper,
+                                    omrsRelationshipDef,
+                                    cache,
+                                    endOne,
+                                    endTwo,
+                                    null,
+                                    userId,
+                                    null,
+                                    true
+                            );
+                        } catch (RepositoryErrorException e) {
+                            log.error("Unable to map relationship {} from {} to {}", mapper.getOmrsRelationshipType(), endOne.getId(), endTwo.getId(), e);
+                        }
+                        if (relationship != null && (relationship.getEntityOneProxy() == null || relationship.getEntityTwoProxy() == null)) {
+                            relationship = null;
+                        }
+                    } else {
                         // We do not need a property name when the proxy order is known...
                         IGCRelationshipGuid idToLookup = RelationshipMapping.getRelationshipGUID(
                                 this,
@@ -799,30 +812,20 @@ public class IGCRepositoryHelper {
                                 relationshipLevelRid,
                                 true
                         );
-                        Relationship relationship = null;
                         try {
                             relationship = igcomrsMetadataCollection.getRelationship(userId, idToLookup.toString());
                         } catch (InvalidParameterException | RelationshipNotKnownException e) {
                             log.error("Unable to find relationship: {}", idToLookup);
                         }
-                        if (relationship != null) {
-                            relationships.add(relationship);
-                            // Stop adding relationships if we have hit the page size
-                            if (pageSize > 0 && relationships.size() == pageSize) {
-                                break;
-                            }
-                        }
                     }
-                }
-                // Stop adding relationships if we have hit the page size
-                if (pageSize > 0 && relationships.size() == pageSize) {
-                    break;
+                    if (relationship != null) {
+                        relationships.add(relationship);
+                        // Stop adding relationships if we have hit the page size
+                        pageFull = pageSize > 0 && relationships.size() == pageSize;
+                    }
                 }
             }
-            // Stop adding relationships if we have hit the page size
-            if (pageSize > 0 && relationships.size() == pageSize) {
-                break;
-            }
+
         }
 
         // If we haven't filled a page of results (because we needed to skip some above), recurse...
@@ -838,167 +841,144 @@ public class IGCRepositoryHelper {
     }
 
     /**
-     * Indicates whether we should include the provided EntityDetail as a search result. This is necessary to enforce
-     * case-sensitivity, which IGC's REST-based searches are not able to enforce themselves.
+     * Add the candidate pairs of relationship ends that the provided search result represents to the provided lists.
      *
-     * @param ed the EntityDetail to check
-     * @param matchProperties the set of match properties against which to check (or null if none)
-     * @param searchCriteria the single string-based property to match against (or null if none)
-     * @return boolean
+     * @param mapper the RelationshipMapping that should be used to translate the result
+     * @param candidateTwo the IGC search result (which should always be an entity of proxy endpoint TWO)
+     * @param candidates the list of candidate pairs of relationship ends to append
+     * @param relationshipLevelRids the list of relationship-level RIDs (or nulls) of the candidates to append
+     * @param cache a cache of information that may already have been retrieved about the provided object
+     * @throws RepositoryErrorException if there is any issue retrieving the ends of the relationships
      */
-    private boolean includeResult(EntityDetail ed,
-                                  SearchProperties matchProperties,
-                                  String searchCriteria) {
-        if (matchProperties != null) {
-            MatchCriteria matchCriteria = matchProperties.getMatchCriteria();
-            List<PropertyCondition> conditions = matchProperties.getConditions();
-            InstanceProperties edProperties = ed.getProperties();
-            if (edProperties == null) {
-                edProperties = new InstanceProperties();
-            }
-            if (conditions != null) {
-                for (PropertyCondition conditionToMatch : conditions) {
-                    boolean bValuesMatch;
-                    SearchProperties nestedConditions = conditionToMatch.getNestedConditions();
-                    if (nestedConditions != null) {
-                        bValuesMatch = includeResult(ed, nestedConditions, searchCriteria);
-                    } else {
+    @SuppressWarnings("unchecked")
+    private void addCandidates(RelationshipMapping mapper,
+                               Reference candidateTwo,
+                               List<Reference[]> candidates,
+                               List<String> relationshipLevelRids,
+                               ObjectCache cache) throws RepositoryErrorException {
 
-                        String propertyName = conditionToMatch.getProperty();
-                        PropertyComparisonOperator operator = conditionToMatch.getOperator();
-                        InstancePropertyValue valueToMatch = conditionToMatch.getValue();
+        final String methodName = "addCandidates";
 
-                        InstancePropertyValue edValue;
-                        if (InstanceMapping.getHeaderProperties().contains(propertyName)) {
-                            edValue = InstanceMapping.getHeaderPropertyValue(ed, propertyName);
-                        } else {
-                            edValue = edProperties.getPropertyValue(propertyName);
-                        }
+        String igcType = candidateTwo.getType();
+        String relationshipLevelType = mapper.getRelationshipLevelIgcAsset();
 
-                        bValuesMatch = valuesMatch(valueToMatch, operator, edValue);
+        String relationshipLevelRid = null;
+        List<Reference> endOnes = new ArrayList<>();
+        List<Reference> endTwos = new ArrayList<>();
 
-                    }
-                    if (matchCriteria.equals(MatchCriteria.ANY) && bValuesMatch) {
-                        // If we just need to match one of the criteria and the values match, immediately return true
-                        return true;
-                    } else if (matchCriteria.equals(MatchCriteria.NONE) && bValuesMatch) {
-                        // If we need to match no criteria and one of them matches, immediately return false
-                        return false;
-                    } else if (matchCriteria.equals(MatchCriteria.ALL) && !bValuesMatch) {
-                        // If we need to match all criteria and one of them does not match, immediately return false
-                        return false;
+        if (relationshipLevelType != null && relationshipLevelType.equals(igcType)) {
+
+            try {
+                // If the type is a relationship-level type, then use a relationship-level ProxyMapping to determine
+                // the appropriate relationship ends
+                relationshipLevelRid = candidateTwo.getId();
+                log.debug("processResults (relationship-level) with mapper: {}", mapper.getClass().getCanonicalName());
+                RelationshipMapping.RelationshipLevelProxyMapping pmRelationship = mapper.getRelationshipLevelProxyMapping();
+                String propertyToOne = pmRelationship.getIgcRelationshipPropertyToEndOne();
+                String propertyToTwo = pmRelationship.getIgcRelationshipPropertyToEndTwo();
+                Object endOne = igcRestClient.getPropertyByName(candidateTwo, propertyToOne);
+                IGCRepositoryHelper.addReferencesToList(igcRestClient, endOnes, endOne);
+                Object endTwo = igcRestClient.getPropertyByName(candidateTwo, propertyToTwo);
+                IGCRepositoryHelper.addReferencesToList(igcRestClient, endTwos, endTwo);
+            } catch (IGCException e) {
+                raiseRepositoryErrorException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
+            }
+
+        } else if (!igcType.equals(DEFAULT_IGC_TYPE)) {
+
+            // Otherwise, only proceed with retrieving the Relationship if the type from IGC is not explicitly
+            // a 'main_object' (as these are non-API-accessible asset types in IGC like column analysis master,
+            // etc and will simply result in 400-code Bad Request messages from the API)
+            endTwos.add(candidateTwo);
+
+            try {
+                log.debug("processResults with mapper: {}", mapper.getClass().getCanonicalName());
+                RelationshipMapping.ProxyMapping pmTwo = mapper.getProxyTwoMapping();
+                List<String> relationshipProperties = pmTwo.getIgcRelationshipProperties();
+                for (String igcPropertyName : relationshipProperties) {
+                    if (igcPropertyName.equals(RelationshipMapping.SELF_REFERENCE_SENTINEL)) {
+                        endOnes.add(candidateTwo);
+                    } else {
+                        Object otherEnd = igcRestClient.getPropertyByName(candidateTwo, igcPropertyName);
+                        if (otherEnd != null) {
+                            if (otherEnd instanceof Reference) {
+                                Reference other = (Reference) otherEnd;
+                                if (other.getType() != null) {
+                                    endOnes.addAll(mapper.getProxyOneAssetFromAsset(other, igcRestClient, cache));
+                                }
+                            } else if (otherEnd instanceof ItemList) {
+                                ItemList<Reference> otherEnds = (ItemList<Reference>) otherEnd;
+                                List<Reference> allOtherEnds = igcRestClient.getAllPages(igcPropertyName, otherEnds);
+                                for (Reference other : allOtherEnds) {
+                                    endOnes.addAll(mapper.getProxyOneAssetFromAsset(other, igcRestClient, cache));
+                                }
+                            } else {
+                                log.warn("Not a relationship, skipping: {}", otherEnd);
+                            }
+                        }
                     }
                 }
-                // If we manage to get through the loop above without returning, we must have matched successfully
-                // if we were either matching everything or nothing
-                return !matchCriteria.equals(MatchCriteria.ANY);
-            }
-            // If there were no properties defined to match (empty list), then return true
-            return true;
-        } else if (searchCriteria != null && !searchCriteria.equals("")) {
-            InstanceProperties edProperties = ed.getProperties();
-            if (edProperties == null) {
-                return false;
+            } catch (IGCException e) {
+                raiseRepositoryErrorException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
             }
-            Pattern pattern = Pattern.compile(searchCriteria);
-            Map<String, InstancePropertyValue> allProperties = edProperties.getInstanceProperties();
-            for (InstancePropertyValue value : allProperties.values()) {
-                if (value.getInstancePropertyCategory().equals(InstancePropertyCategory.PRIMITIVE)
-                        && ((PrimitivePropertyValue)value).getPrimitiveDefCategory().equals(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING)) {
-                    Matcher matcher = pattern.matcher(value.valueAsString());
-                    // Return true immediately on the first match we find
-                    if (matcher.matches()) {
-                        return true;
-                    }
+        }
+        for (Reference endOne : endOnes) {
+            for (Reference endTwo : endTwos) {
+                String endOneType = endOne.getType();
+                String endTwoType = endTwo.getType();
+                if (endOneType != null && !endOneType.equals(DEFAULT_IGC_TYPE)
+                        && endTwoType != null && !endTwoType.equals(DEFAULT_IGC_TYPE)) {
+                    candidates.add(new Reference[]{ endOne, endTwo });
+                    relationshipLevelRids.add(relationshipLevelRid);
                 }
             }
-            // If we manage to get through all of the properties without finding a match, return false
-            return false;
         }
-        // If either sets of criteria were empty, we should return true
-        return true;
 
     }
 
     /**
-     * Indicates whether the provided values match each other. This is necessary to check not only simple equality,
-     * but also cases where one of the values could contain a regular expression and the other needs to be matched
-     * against it.
+     * Retrieve into the cache the details needed to map each of the provided IGC objects as the end of a relationship
+     * (its identity and, if its type has them, its modification details), for any that do not already have them. The
+     * objects are retrieved by as few requests as possible: one bulk retrieval per type of object.
      *
-     * @param valueRequested the value that was requested by the search
-     * @param operator the comparison to apply
-     * @param valueToCheck the actual value on the instance, to check against the first value
-     * @return boolean
+     * @param ends the IGC objects that are the ends of relationships
+     * @param cache the cache into which to retrieve the details (only for this request, not any shared cache)
+     * @throws IGCException if there is any issue retrieving the details from IGC
      */
-    private boolean valuesMatch(InstancePropertyValue valueRequested,
-                                PropertyComparisonOperator operator,
-                                InstancePropertyValue valueToCheck) {
-
-        if (operator.equals(PropertyComparisonOperator.IS_NULL)) {
-            return valueToCheck == null || valueToCheck.valueAsObject() == null;
-        } else if (operator.equals(PropertyComparisonOperator.NOT_NULL)) {
-            if (valueToCheck == null) {
-                return false;
-            } else {
-                return valueToCheck.valueAsObject() != null;
+    private void cacheRelationshipEnds(List<Reference> ends, ObjectCache cache) throws IGCException {
+        List<Reference> toRetrieve = new ArrayList<>();
+        Map<String, List<String>> propertiesByType = new HashMap<>();
+        for (Reference end : ends) {
+            String type = end.getType();
+            if (end.getId() != null && cache.get(end.getId()) == null) {
+                boolean hasModDetails = igcRestClient.hasModificationDetails(type);
+                boolean needsContext = !end.isIdentityPopulated() && (end.getContext() == null || end.getContext().isEmpty());
+                boolean needsModDetails = hasModDetails && !end.areModificationDetailsPopulated();
+                if (needsContext || needsModDetails) {
+                    toRetrieve.add(end);
+                    propertiesByType.put(type, hasModDetails ? IGCRestConstants.getModificationProperties() : Collections.emptyList());
+                }
             }
         }
-
-        OMRSRepositoryValidator repositoryValidator = igcomrsRepositoryConnector.getRepositoryValidator();
-        BigDecimal requestAsNumber = repositoryValidator.getNumericRepresentation(valueRequested);
-        BigDecimal valueAsNumber = repositoryValidator.getNumericRepresentation(valueToCheck);
-
-        // At this point, there should be a non-null requested value
-        switch (operator) {
-            case EQ:
-                return valueRequested.equals(valueToCheck);
-            case NEQ:
-                return !valueRequested.equals(valueToCheck);
-            case GTE:
-                if (requestAsNumber != null && valueAsNumber != null) {
-                    return valueAsNumber.compareTo(requestAsNumber) >= 0;
-                }
-            case GT:
-                if (requestAsNumber != null && valueAsNumber != null) {
-                    return valueAsNumber.compareTo(requestAsNumber) > 0;
-                }
-            case LTE:
-                if (requestAsNumber != null && valueAsNumber != null) {
-                    return valueAsNumber.compareTo(requestAsNumber) <= 0;
-                }
-            case LT:
-                if (requestAsNumber != null && valueAsNumber != null) {
-                    return valueAsNumber.compareTo(requestAsNumber) < 0;
-                }
-            case LIKE:
-                if (valueToCheck == null) {
-                    return false;
-                } else {
-                    return valueToCheck.valueAsString().matches(valueRequested.valueAsString());
-                }
-            case IN:
-                if (valueRequested instanceof ArrayPropertyValue) {
-                    ArrayPropertyValue apv = (ArrayPropertyValue) valueRequested;
-                    InstanceProperties ip = apv.getArrayValues();
-                    Map<String, InstancePropertyValue> map = ip.getInstanceProperties();
-                    for (InstancePropertyValue valueCandidate : map.values()) {
-                        if (valueCandidate.equals(valueToCheck)) {
-                            // Short-circuit out the moment we find a matching value in the array
-                            return true;
-                        }
-                    }
-                } else {
-                    // If the IN operator was used against a non-array value this was an invalid search, so terminate it
-                    return false;
-                }
-            default:
-                // do nothing...
-                break;
+        // Only the identity and modification details are read, so there is no need for the full POJO of each type
+        Map<String, ProjectedReference> assets = igcRestClient.getProjectedAssetsByIds(toRetrieve, propertiesByType::get);
+        for (Reference asset : assets.values()) {
+            // Only the request itself should use these partial objects, so they are kept out of any shared cache
+            cache.addLocal(asset);
         }
+    }
 
-        // If we managed to get through all of the conditions above, default to a non-match
-        return false;
-
+    /**
+     * Compile the provided search criteria into a predicate that indicates whether each candidate result should be
+     * included as a search result. This is necessary to enforce case-sensitivity, which IGC's REST-based searches are
+     * not able to enforce themselves.
+     *
+     * @param matchProperties the set of match properties against which to check (or null if none)
+     * @param searchCriteria the single string-based property to match against (or null if none)
+     * @return SearchPredicate
+     */
+    SearchPredicate getSearchPredicate(SearchProperties matchProperties, String searchCriteria) {
+        return SearchPredicate.compile(matchProperties, searchCriteria, igcomrsRepositoryConnector.getRepositoryValidator());
     }
 
     /**
@@ -2233,15 +2213,7 @@ public class IGCRepositoryHelper {
 
         // We need to translate the provided asset into a unique name for the stub
         String stubName = getStubNameForAsset(rid, type);
-        IGCSearchCondition condition = new IGCSearchCondition(
-                "name",
-                "=",
-                stubName
-        );
-        String[] properties = new String[]{ "$sourceRID", "$sourceType", "$payload" };
-        IGCSearchConditionSet conditionSet = new IGCSearchConditionSet(condition);
-        IGCSearch igcSearch = new IGCSearch("$OMRS-Stub", properties, conditionSet);
-        ItemList<OMRSStub> results = igcRestClient.search(igcSearch);
+        ItemList<OMRSStub> results = igcRestClient.search(OMRS_STUB_BY_NAME, stubName);
         OMRSStub stub = null;
         if (results.getPaging().getNumTotal() > 0) {
             if (results.getPaging().getNumTotal() > 1) {
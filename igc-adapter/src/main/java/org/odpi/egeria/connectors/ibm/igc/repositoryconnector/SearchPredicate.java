@@ -0,0 +1,415 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.repositoryconnector;
+
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.InstanceMapping;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyComparisonOperator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyCondition;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * The criteria of an entity search, compiled (once per request) into an immutable predicate that indicates whether a
+ * candidate result from IGC should be included in the search results. This is necessary to enforce case-sensitivity,
+ * which IGC's REST-based searches are not able to enforce themselves.
+ * <br><br>
+ * Any regular expression in the criteria is compiled only once, and where the expression is simply an exact,
+ * starts-with, ends-with or contains match of a literal string (as produced by the OMRS repository helper) it is
+ * matched by comparing strings directly rather than by running the expression at all. Searches without any criteria
+ * compile to {@link #MATCH_ALL}, which does not inspect the results at all.
+ */
+final class SearchPredicate {
+
+    /**
+     * A predicate that includes every result.
+     */
+    static final SearchPredicate MATCH_ALL = new SearchPredicate(MatchCriteria.ALL, Collections.emptyList(), null);
+
+    private final MatchCriteria matchCriteria;
+    private final List<Condition> conditions;
+    private final TextMatcher searchCriteria;
+
+    private SearchPredicate(MatchCriteria matchCriteria, List<Condition> conditions, TextMatcher searchCriteria) {
+        this.matchCriteria = matchCriteria;
+        this.conditions = conditions;
+        this.searchCriteria = searchCriteria;
+    }
+
+    /**
+     * Compile the provided search criteria into a predicate.
+     *
+     * @param matchProperties the set of match properties against which to check (or null if none)
+     * @param searchCriteria the single string-based property to match against (or null if none), only used if there
+     *                       are no match properties
+     * @param repositoryValidator the validator through which to compare numeric values
+     * @return SearchPredicate
+     */
+    static SearchPredicate compile(SearchProperties matchProperties,
+                                   String searchCriteria,
+                                   OMRSRepositoryValidator repositoryValidator) {
+        if (matchProperties != null) {
+            MatchCriteria matchCriteria = matchProperties.getMatchCriteria();
+            List<PropertyCondition> conditions = matchProperties.getConditions();
+            if (conditions == null || (conditions.isEmpty() && !MatchCriteria.ANY.equals(matchCriteria))) {
+                // If there were no properties defined to match, every result matches
+                return MATCH_ALL;
+            }
+            List<Condition> compiled = new ArrayList<>(conditions.size());
+            for (PropertyCondition condition : conditions) {
+                compiled.add(new Condition(condition, repositoryValidator));
+            }
+            return new SearchPredicate(matchCriteria, Collections.unmodifiableList(compiled), null);
+        } else if (searchCriteria != null && !searchCriteria.equals("")) {
+            return new SearchPredicate(null, null, TextMatcher.compile(searchCriteria));
+        }
+        // If either sets of criteria were empty, every result matches
+        return MATCH_ALL;
+    }
+
+    /**
+     * Indicates whether the provided EntityDetail should be included as a search result.
+     *
+     * @param ed the EntityDetail to check
+     * @return boolean
+     */
+    boolean test(EntityDetail ed) {
+        if (this == MATCH_ALL) {
+            return true;
+        } else if (searchCriteria != null) {
+            return anyStringPropertyMatches(ed);
+        }
+        InstanceProperties edProperties = ed.getProperties();
+        if (edProperties == null) {
+            edProperties = new InstanceProperties();
+        }
+        for (Condition condition : conditions) {
+            boolean bValuesMatch = condition.matches(ed, edProperties);
+            if (MatchCriteria.ANY.equals(matchCriteria) && bValuesMatch) {
+                // If we just need to match one of the criteria and the values match, immediately return true
+                return true;
+            } else if (MatchCriteria.NONE.equals(matchCriteria) && bValuesMatch) {
+                // If we need to match no criteria and one of them matches, immediately return false
+                return false;
+            } else if (!MatchCriteria.ANY.equals(matchCriteria) && !MatchCriteria.NONE.equals(matchCriteria) && !bValuesMatch) {
+                // If we need to match all criteria and one of them does not match, immediately return false
+                return false;
+            }
+        }
+        // If we manage to get through the loop above without returning, we must have matched successfully
+        // if we were either matching everything or nothing
+        return !MatchCriteria.ANY.equals(matchCriteria);
+    }
+
+    /**
+     * Indicates whether any of the string properties of the provided EntityDetail match the search criteria.
+     *
+     * @param ed the EntityDetail to check
+     * @return boolean
+     */
+    private boolean anyStringPropertyMatches(EntityDetail ed) {
+        InstanceProperties edProperties = ed.getProperties();
+        if (edProperties == null) {
+            return false;
+        }
+        Map<String, InstancePropertyValue> allProperties = edProperties.getInstanceProperties();
+        for (InstancePropertyValue value : allProperties.values()) {
+            if (value.getInstancePropertyCategory().equals(InstancePropertyCategory.PRIMITIVE)
+                    && ((PrimitivePropertyValue)value).getPrimitiveDefCategory().equals(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING)
+                    && searchCriteria.matches(value.valueAsString())) {
+                // Return true immediately on the first match we find
+                return true;
+            }
+        }
+        // If we manage to get through all of the properties without finding a match, return false
+        return false;
+    }
+
+    /**
+     * A single compiled property condition: either a nested set of conditions, or a comparison of a single property.
+     */
+    private static final class Condition {
+
+        private final SearchPredicate nestedConditions;
+        private final String propertyName;
+        private final boolean headerProperty;
+        private final PropertyComparisonOperator operator;
+        private final InstancePropertyValue valueRequested;
+        private final BigDecimal requestAsNumber;
+        private final TextMatcher like;
+        private final OMRSRepositoryValidator repositoryValidator;
+
+        Condition(PropertyCondition condition, OMRSRepositoryValidator repositoryValidator) {
+            SearchProperties nested = condition.getNestedConditions();
+            this.nestedConditions = nested == null ? null : compile(nested, null, repositoryValidator);
+            this.propertyName = condition.getProperty();
+            this.headerProperty = InstanceMapping.getHeaderProperties().contains(propertyName);
+            this.operator = condition.getOperator();
+            this.valueRequested = condition.getValue();
+            this.repositoryValidator = repositoryValidator;
+            if (nested == null && operator != null
+                    && !operator.equals(PropertyComparisonOperator.IS_NULL)
+                    && !operator.equals(PropertyComparisonOperator.NOT_NULL)) {
+                this.requestAsNumber = repositoryValidator.getNumericRepresentation(valueRequested);
+            } else {
+                this.requestAsNumber = null;
+            }
+            if (nested == null && PropertyComparisonOperator.LIKE.equals(operator) && valueRequested != null) {
+                this.like = TextMatcher.compile(valueRequested.valueAsString());
+            } else {
+                this.like = null;
+            }
+        }
+
+        /**
+         * Indicates whether the provided EntityDetail meets this condition.
+         *
+         * @param ed the EntityDetail to check
+         * @param edProperties the properties of the EntityDetail
+         * @return boolean
+         */
+        boolean matches(EntityDetail ed, InstanceProperties edProperties) {
+            if (nestedConditions != null) {
+                return nestedConditions.test(ed);
+            }
+            InstancePropertyValue edValue;
+            if (headerProperty) {
+                edValue = InstanceMapping.getHeaderPropertyValue(ed, propertyName);
+            } else {
+                edValue = edProperties.getPropertyValue(propertyName);
+            }
+            return valuesMatch(edValue);
+        }
+
+        /**
+         * Indicates whether the provided value matches the value requested by this condition. This is necessary to
+         * check not only simple equality, but also cases where the requested value could contain a regular
+         * expression and the other needs to be matched against it.
+         *
+         * @param valueToCheck the actual value on the instance, to check against the requested value
+         * @return boolean
+         */
+        private boolean valuesMatch(InstancePropertyValue valueToCheck) {
+
+            if (operator.equals(PropertyComparisonOperator.IS_NULL)) {
+                return valueToCheck == null || valueToCheck.valueAsObject() == null;
+            } else if (operator.equals(PropertyComparisonOperator.NOT_NULL)) {
+                if (valueToCheck == null) {
+                    return false;
+                } else {
+                    return valueToCheck.valueAsObject() != null;
+                }
+            }
+
+            BigDecimal valueAsNumber = repositoryValidator.getNumericRepresentation(valueToCheck);
+
+            // At this point, there should be a non-null requested value
+            switch (operator) {
+                case EQ:
+                    return valueRequested.equals(valueToCheck);
+                case NEQ:
+                    return !valueRequested.equals(valueToCheck);
+                case GTE:
+                    if (requestAsNumber != null && valueAsNumber != null) {
+                        return valueAsNumber.compareTo(requestAsNumber) >= 0;
+                    }
+                case GT:
+                    if (requestAsNumber != null && valueAsNumber != null) {
+                        return valueAsNumber.compareTo(requestAsNumber) > 0;
+                    }
+                case LTE:
+                    if (requestAsNumber != null && valueAsNumber != null) {
+                        return valueAsNumber.compareTo(requestAsNumber) <= 0;
+                    }
+                case LT:
+                    if (requestAsNumber != null && valueAsNumber != null) {
+                        return valueAsNumber.compareTo(requestAsNumber) < 0;
+                    }
+                case LIKE:
+                    if (valueToCheck == null) {
+                        return false;
+                    } else if (like != null) {
+                        return like.matches(valueToCheck.valueAsString());
+                    } else {
+                        // Only reached by non-numeric values of the other comparisons above, which are compared as
+                        // regular expressions as well
+                        return valueToCheck.valueAsString().matches(valueRequested.valueAsString());
+                    }
+                case IN:
+                    if (valueRequested instanceof ArrayPropertyValue) {
+                        ArrayPropertyValue apv = (ArrayPropertyValue) valueRequested;
+                        InstanceProperties ip = apv.getArrayValues();
+                        Map<String, InstancePropertyValue> map = ip.getInstanceProperties();
+                        for (InstancePropertyValue valueCandidate : map.values()) {
+                            if (valueCandidate.equals(valueToCheck)) {
+                                // Short-circuit out the moment we find a matching value in the array
+                                return true;
+                            }
+                        }
+                    } else {
+                        // If the IN operator was used against a non-array value this was an invalid search, so terminate it
+                        return false;
+                    }
+                default:
+                    // do nothing...
+                    break;
+            }
+
+            // If we managed to get through all of the conditions above, default to a non-match
+            return false;
+
+        }
+
+    }
+
+    /**
+     * A compiled regular expression, matched against an entire string value. Expressions that are simply an exact,
+     * starts-with, ends-with or contains match of a quoted literal string (optionally case-insensitive) are matched by
+     * comparing the literal directly, with the same semantics as the expression itself: case-insensitivity applies
+     * only to US-ASCII characters, and the wildcards of the expression do not match line terminators.
+     */
+    static final class TextMatcher {
+
+        private static final String CASE_INSENSITIVE = "(?i)";
+        private static final String WILDCARD = ".*";
+        private static final String QUOTE_START = "\\Q";
+        private static final String QUOTE_END = "\\E";
+
+        private enum Kind { EXACT, STARTS_WITH, ENDS_WITH, CONTAINS, REGEX }
+
+        private final Kind kind;
+        private final String literal;
+        private final boolean ignoreCase;
+        private final Pattern pattern;
+
+        private TextMatcher(Kind kind, String literal, boolean ignoreCase, Pattern pattern) {
+            this.kind = kind;
+            this.literal = literal;
+            this.ignoreCase = ignoreCase;
+            this.pattern = pattern;
+        }
+
+        /**
+         * Compile the provided regular expression.
+         *
+         * @param regex the regular expression to compile
+         * @return TextMatcher
+         */
+        static TextMatcher compile(String regex) {
+            Pattern pattern = Pattern.compile(regex);
+            String body = regex;
+            boolean ignoreCase = body.startsWith(CASE_INSENSITIVE);
+            if (ignoreCase) {
+                body = body.substring(CASE_INSENSITIVE.length());
+            }
+            boolean leading = body.startsWith(WILDCARD);
+            if (leading) {
+                body = body.substring(WILDCARD.length());
+            }
+            boolean trailing = body.endsWith(WILDCARD);
+            if (trailing) {
+                body = body.substring(0, body.length() - WILDCARD.length());
+            }
+            if (body.length() >= QUOTE_START.length() + QUOTE_END.length()
+                    && body.startsWith(QUOTE_START)
+                    && body.indexOf(QUOTE_END) == body.length() - QUOTE_END.length()) {
+                String literal = body.substring(QUOTE_START.length(), body.length() - QUOTE_END.length());
+                Kind kind;
+                if (leading && trailing) {
+                    kind = Kind.CONTAINS;
+                } else if (leading) {
+                    kind = Kind.ENDS_WITH;
+                } else if (trailing) {
+                    kind = Kind.STARTS_WITH;
+                } else {
+                    kind = Kind.EXACT;
+                }
+                return new TextMatcher(kind, literal, ignoreCase, pattern);
+            }
+            return new TextMatcher(Kind.REGEX, null, ignoreCase, pattern);
+        }
+
+        /**
+         * Indicates whether the entire provided value matches.
+         *
+         * @param value the value to check
+         * @return boolean
+         */
+        boolean matches(String value) {
+            if (value == null) {
+                return false;
+            }
+            if (kind == Kind.REGEX || (kind != Kind.EXACT && hasLineTerminator(value))) {
+                return pattern.matcher(value).matches();
+            }
+            int length = literal.length();
+            switch (kind) {
+                case EXACT:
+                    return value.length() == length && regionMatches(value, 0);
+                case STARTS_WITH:
+                    return value.length() >= length && regionMatches(value, 0);
+                case ENDS_WITH:
+                    return value.length() >= length && regionMatches(value, value.length() - length);
+                default:
+                    if (!ignoreCase) {
+                        return value.contains(literal);
+                    }
+                    for (int i = 0; i <= value.length() - length; i++) {
+                        if (regionMatches(value, i)) {
+                            return true;
+                        }
+                    }
+                    return false;
+            }
+        }
+
+        /**
+         * Indicates whether the literal appears in the provided value at the provided offset.
+         *
+         * @param value the value to check
+         * @param offset the offset within the value at which to check
+         * @return boolean
+         */
+        private boolean regionMatches(String value, int offset) {
+            if (!ignoreCase) {
+                return value.startsWith(literal, offset);
+            }
+            for (int i = 0; i < literal.length(); i++) {
+                char a = literal.charAt(i);
+                char b = value.charAt(offset + i);
+                if (a != b && (a >= 128 || b >= 128 || Character.toLowerCase(a) != Character.toLowerCase(b))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Indicates whether the provided value contains any character that the wildcard of a regular expression does
+         * not match.
+         *
+         * @param value the value to check
+         * @return boolean
+         */
+        private static boolean hasLineTerminator(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+}
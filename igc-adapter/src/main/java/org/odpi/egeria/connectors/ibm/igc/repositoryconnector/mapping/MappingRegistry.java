@@ -0,0 +1,160 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping;
+
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCVersionEnum;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.attributes.*;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.classifications.*;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.entities.*;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.relationships.*;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Registry of the out-of-the-box mapping classes, keyed by their fully-qualified class names, along with the factory
+ * for each one's singleton. This allows the mappings for OMRS types to be resolved without any reflection (or any
+ * exceptions for those types that are not mapped).
+ * <br><br>
+ * Any new mapping class (named after the OMRS type it maps, eg. {@code GlossaryTermMapper}) should be registered here;
+ * any mapping class that is not (including those from a custom mapping package) is instead resolved (and cached) by
+ * name, and its singleton retrieved by introspection.
+ */
+public final class MappingRegistry {
+
+    private static final Map<String, Class<?>> CLASSES = new HashMap<>();
+    private static final Map<Class<?>, Function<IGCVersionEnum, ?>> FACTORIES = createFactories();
+
+    private MappingRegistry() { }
+
+    /**
+     * Retrieve the out-of-the-box mapping class with the provided name.
+     *
+     * @param className the fully-qualified name of the mapping class
+     * @return {@code Class<?>} - or null if there is no such out-of-the-box mapping class
+     */
+    public static Class<?> getMappingClass(String className) {
+        return CLASSES.get(className);
+    }
+
+    /**
+     * Retrieve the singleton instance of the provided mapping class, for the provided version of IGC.
+     *
+     * @param mappingClass the mapping class for which to retrieve an instance
+     * @param version the version of IGC
+     * @return Object - the instance of the mapping class
+     * @throws NoSuchMethodException if a (custom) mapping class has no static getInstance(IGCVersionEnum) method
+     * @throws IllegalAccessException if a (custom) mapping class's getInstance method is inaccessible
+     * @throws InvocationTargetException if a (custom) mapping class's getInstance method fails
+     */
+    public static Object getMapper(Class<?> mappingClass, IGCVersionEnum version) throws
+            NoSuchMethodException,
+            IllegalAccessException,
+            InvocationTargetException {
+        Function<IGCVersionEnum, ?> factory = FACTORIES.get(mappingClass);
+        if (factory != null) {
+            return factory.apply(version);
+        }
+        // Mapping classes that are not registered (eg. custom ones) leave us no choice but to introspect them
+        return mappingClass.getMethod("getInstance", IGCVersionEnum.class).invoke(null, version);
+    }
+
+    private static <T> void register(Map<Class<?>, Function<IGCVersionEnum, ?>> map,
+                                     Class<T> mappingClass,
+                                     Function<IGCVersionEnum, T> factory) {
+        map.put(mappingClass, factory);
+        CLASSES.put(mappingClass.getName(), mappingClass);
+    }
+
+    private static Map<Class<?>, Function<IGCVersionEnum, ?>> createFactories() {
+        Map<Class<?>, Function<IGCVersionEnum, ?>> map = new HashMap<>();
+
+        // Attribute (enum) mappings
+        register(map, ContactMethodTypeMapper.class, ContactMethodTypeMapper::getInstance);
+        register(map, DataClassAssignmentStatusMapper.class, DataClassAssignmentStatusMapper::getInstance);
+        register(map, GovernanceClassificationStatusMapper.class, GovernanceClassificationStatusMapper::getInstance);
+        register(map, KeyPatternMapper.class, KeyPatternMapper::getInstance);
+        register(map, TermAssignmentStatusMapper.class, TermAssignmentStatusMapper::getInstance);
+        register(map, TermRelationshipStatusMapper.class, TermRelationshipStatusMapper::getInstance);
+
+        // Classification mappings
+        register(map, AssetZoneMembershipMapper.class, AssetZoneMembershipMapper::getInstance);
+        register(map, ConfidentialityMapper.class, ConfidentialityMapper::getInstance);
+        register(map, PrimaryKeyMapper.class, PrimaryKeyMapper::getInstance);
+        register(map, SpineAttributeMapper.class, SpineAttributeMapper::getInstance);
+        register(map, SpineObjectMapper.class, SpineObjectMapper::getInstance);
+        register(map, SubjectAreaMapper.class, SubjectAreaMapper::getInstance);
+        register(map, TypeEmbeddedAttributeMapper.class, TypeEmbeddedAttributeMapper::getInstance);
+
+        // Entity mappings
+        register(map, ActorProfileMapper.class, ActorProfileMapper::getInstance);
+        register(map, AssetMapper.class, AssetMapper::getInstance);
+        register(map, ComplexSchemaTypeMapper.class, ComplexSchemaTypeMapper::getInstance);
+        register(map, ConnectionMapper.class, ConnectionMapper::getInstance);
+        register(map, ConnectorTypeMapper.class, ConnectorTypeMapper::getInstance);
+        register(map, ContactDetailsMapper.class, ContactDetailsMapper::getInstance);
+        register(map, DataClassMapper.class, DataClassMapper::getInstance);
+        register(map, DataFileMapper.class, DataFileMapper::getInstance);
+        register(map, DataSetMapper.class, DataSetMapper::getInstance);
+        register(map, DataStoreMapper.class, DataStoreMapper::getInstance);
+        register(map, DatabaseMapper.class, DatabaseMapper::getInstance);
+        register(map, DeployedDatabaseSchemaMapper.class, DeployedDatabaseSchemaMapper::getInstance);
+        register(map, EndpointMapper.class, EndpointMapper::getInstance);
+        register(map, FileFolderMapper.class, FileFolderMapper::getInstance);
+        register(map, GlossaryCategoryMapper.class, GlossaryCategoryMapper::getInstance);
+        register(map, GlossaryMapper.class, GlossaryMapper::getInstance);
+        register(map, GlossaryTermMapper.class, GlossaryTermMapper::getInstance);
+        register(map, GovernanceDefinitionMapper.class, GovernanceDefinitionMapper::getInstance);
+        register(map, GovernancePolicyMapper.class, GovernancePolicyMapper::getInstance);
+        register(map, InformalTagMapper.class, InformalTagMapper::getInstance);
+        register(map, NoteEntryMapper.class, NoteEntryMapper::getInstance);
+        register(map, NoteLogMapper.class, NoteLogMapper::getInstance);
+        register(map, OpenMetadataRootMapper.class, OpenMetadataRootMapper::getInstance);
+        register(map, PersonMapper.class, PersonMapper::getInstance);
+        register(map, ReferenceableMapper.class, ReferenceableMapper::getInstance);
+        register(map, RelationalColumnMapper.class, RelationalColumnMapper::getInstance);
+        register(map, RelationalDBSchemaTypeMapper.class, RelationalDBSchemaTypeMapper::getInstance);
+        register(map, RelationalTableMapper.class, RelationalTableMapper::getInstance);
+        register(map, SchemaAttributeMapper.class, SchemaAttributeMapper::getInstance);
+        register(map, SchemaElementMapper.class, SchemaElementMapper::getInstance);
+        register(map, SchemaTypeMapper.class, SchemaTypeMapper::getInstance);
+        register(map, TabularColumnMapper.class, TabularColumnMapper::getInstance);
+        register(map, TabularSchemaTypeMapper.class, TabularSchemaTypeMapper::getInstance);
+        register(map, TeamMapper.class, TeamMapper::getInstance);
+
+        // Relationship mappings
+        register(map, AssetSchemaTypeMapper.class, AssetSchemaTypeMapper::getInstance);
+        register(map, AttachedNoteLogEntryMapper.class, AttachedNoteLogEntryMapper::getInstance);
+        register(map, AttachedNoteLogMapper.class, AttachedNoteLogMapper::getInstance);
+        register(map, AttachedTagMapper.class, AttachedTagMapper::getInstance);
+        register(map, AttributeForSchemaMapper.class, AttributeForSchemaMapper::getInstance);
+        register(map, CategoryAnchorMapper.class, CategoryAnchorMapper::getInstance);
+        register(map, CategoryHierarchyLinkMapper.class, CategoryHierarchyLinkMapper::getInstance);
+        register(map, ConnectionConnectorTypeMapper.class, ConnectionConnectorTypeMapper::getInstance);
+        register(map, ConnectionEndpointMapper.class, ConnectionEndpointMapper::getInstance);
+        register(map, ConnectionToAssetMapper.class, ConnectionToAssetMapper::getInstance);
+        register(map, ContactThroughMapper.class, ContactThroughMapper::getInstance);
+        register(map, DataClassAssignmentMapper.class, DataClassAssignmentMapper::getInstance);
+        register(map, DataClassHierarchyMapper.class, DataClassHierarchyMapper::getInstance);
+        register(map, DataContentForDataSetMapper.class, DataContentForDataSetMapper::getInstance);
+        register(map, FolderHierarchyMapper.class, FolderHierarchyMapper::getInstance);
+        register(map, ForeignKeyMapper.class, ForeignKeyMapper::getInstance);
+        register(map, GovernancePolicyLinkMapper.class, GovernancePolicyLinkMapper::getInstance);
+        register(map, NestedFileMapper.class, NestedFileMapper::getInstance);
+        register(map, NestedSchemaAttributeMapper.class, NestedSchemaAttributeMapper::getInstance);
+        register(map, RelatedTermMapper.class, RelatedTermMapper::getInstance);
+        register(map, ReplacementTermMapper.class, ReplacementTermMapper::getInstance);
+        register(map, SemanticAssignmentMapper.class, SemanticAssignmentMapper::getInstance);
+        register(map, SynonymMapper.class, SynonymMapper::getInstance);
+        register(map, TermAnchorMapper.class, TermAnchorMapper::getInstance);
+        register(map, TermCategorizationMapper.class, TermCategorizationMapper::getInstance);
+        register(map, TermHASARelationshipMapper.class, TermHASARelationshipMapper::getInstance);
+        register(map, TermISATypeOFRelationshipMapper.class, TermISATypeOFRelationshipMapper::getInstance);
+        register(map, TranslationMapper.class, TranslationMapper::getInstance);
+        return Collections.unmodifiableMap(map);
+    }
+
+}
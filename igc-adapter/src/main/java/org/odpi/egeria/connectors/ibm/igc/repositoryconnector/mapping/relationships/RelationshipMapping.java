@@ -509,6 +509,14 @@ public abstract class RelationshipMapping extends InstanceMapping {
      */
     public boolean isSelfReferencing() { return (this.one.isSelfReferencing() || this.two.isSelfReferencing()); }
 
+    /**
+     * Indicates whether the relationship is mapped by complex / custom logic (true), rather than purely from the IGC
+     * objects at each end of the relationship (false).
+     *
+     * @return boolean
+     */
+    public boolean isCustomMapping() { return OptimalStart.CUSTOM.equals(this.optimalStart); }
+
     /**
      * Retrieves the mapping details for the relationship-level asset (if any, otherwise null).
      *
@@ -659,6 +667,30 @@ public abstract class RelationshipMapping extends InstanceMapping {
 
     }
 
+    /**
+     * Retrieve the minimal set of IGC properties needed to map this relationship from an asset of the provided type:
+     * the relationship properties for that type, plus the modification details used for the header of each end.
+     * Custom and self-referencing mappings may rely on any other property of the asset (to translate proxies or to
+     * decide whether to include the relationship), so for these all of the properties of the type are returned.
+     *
+     * @param igcRestClient connectivity to the IGC environment
+     * @param igcAssetType IGC asset type for which to retrieve the properties
+     * @return {@code List<String>}
+     * @throws IGCException if there is any issue retrieving the properties of the type from IGC
+     */
+    public List<String> getMinimalPropertiesForType(IGCRestClient igcRestClient, String igcAssetType) throws IGCException {
+
+        if (isCustomMapping() || isSelfReferencing()) {
+            return igcRestClient.getAllPropertiesForType(igcAssetType);
+        }
+        Set<String> properties = new TreeSet<>(getIgcRelationshipPropertiesForType(igcAssetType));
+        if (igcRestClient.hasModificationDetails(igcAssetType)) {
+            properties.addAll(IGCRestConstants.getModificationProperties());
+        }
+        return new ArrayList<>(properties);
+
+    }
+
     /**
      * Keep unique properties in the list, and avoid the SELF_REFERENCE_SENTINEL value.
      *
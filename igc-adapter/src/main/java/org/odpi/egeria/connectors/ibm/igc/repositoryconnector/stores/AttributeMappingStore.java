@@ -2,8 +2,8 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.egeria.connectors.ibm.igc.repositoryconnector.stores;
 
-import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCVersionEnum;
 import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.IGCOMRSRepositoryConnector;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.MappingRegistry;
 import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.attributes.AttributeMapping;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDefCategory;
@@ -12,7 +12,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -205,7 +204,7 @@ public class AttributeMappingStore {
     }
 
     /**
-     * Introspect a mapping class to retrieve an AttributeMapping.
+     * Retrieve the instance of a mapping class, as an AttributeMapping.
      *
      * @param mappingClass the mapping class to retrieve an instance of
      * @return RelationshipMapping
@@ -213,8 +212,7 @@ public class AttributeMappingStore {
     private AttributeMapping getAttributeMapper(Class<?> mappingClass) {
         AttributeMapping attributeMapper = null;
         try {
-            Method getInstance = mappingClass.getMethod("getInstance", IGCVersionEnum.class);
-            attributeMapper = (AttributeMapping) getInstance.invoke(null, igcomrsRepositoryConnector.getIGCVersion());
+            attributeMapper = (AttributeMapping) MappingRegistry.getMapper(mappingClass, igcomrsRepositoryConnector.getIGCVersion());
         } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
             log.error("Unable to find or instantiate AttributeMapping class: {}", mappingClass, e);
         }
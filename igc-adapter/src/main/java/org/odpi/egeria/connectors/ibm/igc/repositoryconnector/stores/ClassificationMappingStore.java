@@ -2,15 +2,14 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.egeria.connectors.ibm.igc.repositoryconnector.stores;
 
-import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCVersionEnum;
 import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.IGCOMRSRepositoryConnector;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.MappingRegistry;
 import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.classifications.ClassificationMapping;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.*;
 
 /**
@@ -42,6 +41,7 @@ public class ClassificationMappingStore extends MappingStore {
             String guid = omrsTypeDef.getGUID();
             addTypeDef(omrsTypeDef);
             omrsGuidToMapping.put(guid, mapping);
+            igcomrsRepositoryConnector.warmUpTypes(Collections.singletonList(mapping.getIgcAssetType()));
         }
 
         return (mapping != null);
@@ -111,7 +111,7 @@ public class ClassificationMappingStore extends MappingStore {
     }
 
     /**
-     * Introspect a mapping class to retrieve a ClassificationMapping.
+     * Retrieve the instance of a mapping class, as a ClassificationMapping.
      *
      * @param mappingClass the mapping class to retrieve an instance of
      * @return ClassificationMapping
@@ -119,8 +119,7 @@ public class ClassificationMappingStore extends MappingStore {
     private ClassificationMapping getClassificationMapper(Class<?> mappingClass) {
         ClassificationMapping classificationMapper = null;
         try {
-            Method getInstance = mappingClass.getMethod("getInstance", IGCVersionEnum.class);
-            classificationMapper = (ClassificationMapping) getInstance.invoke(null, igcomrsRepositoryConnector.getIGCVersion());
+            classificationMapper = (ClassificationMapping) MappingRegistry.getMapper(mappingClass, igcomrsRepositoryConnector.getIGCVersion());
         } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
             log.error("Unable to find or instantiate ClassificationMapping class: {}", mappingClass, e);
         }
@@ -5,10 +5,10 @@ package org.odpi.egeria.connectors.ibm.igc.repositoryconnector.stores;
 import org.odpi.egeria.connectors.ibm.igc.auditlog.IGCOMRSErrorCode;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCRestClient;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCRestConstants;
-import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCVersionEnum;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCException;
-import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.IGCRepositoryHelper;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.MappingRegistry;
 import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.entities.EntityMapping;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.entities.ReferenceableMapper;
 import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.IGCOMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
@@ -77,8 +77,16 @@ public class EntityMappingStore extends MappingStore {
                 log.debug(" ... adding additional mapping from {} to: {}", otherKey, guid);
                 igcAssetTypeAndPrefixToOmrsGuid.put(otherKey, guid);
             }
-            // Only proceed with retrieving and caching details from IGC if it is mapped to a real IGC type
-            if (!mapping.getIgcAssetType().equals(EntityMapping.SUPERTYPE_SENTINEL)) {
+            // Only proceed with retrieving and caching details from IGC if it is mapped to a real IGC type (and
+            // then in the background, if the connector has been configured to warm them up)
+            if (igcomrsRepositoryConnector.isTypeWarmUpEnabled()) {
+                List<String> igcTypes = new ArrayList<>();
+                igcTypes.add(igcAssetType);
+                if (mapping.getOtherIGCAssetTypes() != null) {
+                    igcTypes.addAll(mapping.getOtherIGCAssetTypes());
+                }
+                igcomrsRepositoryConnector.warmUpTypes(igcTypes);
+            } else if (!mapping.getIgcAssetType().equals(EntityMapping.SUPERTYPE_SENTINEL)) {
                 IGCRestClient igcRestClient = igcomrsRepositoryConnector.getIGCRestClient();
                 try {
                     igcRestClient.cacheTypeDetails(mapping.getIgcAssetType());
@@ -239,14 +247,7 @@ public class EntityMappingStore extends MappingStore {
      * @return EntityMapping
      */
     public EntityMapping getDefaultEntityMapper() {
-        EntityMapping referenceable = null;
-        try {
-            Class<?> mappingClass = Class.forName(IGCRepositoryHelper.MAPPING_PKG + "entities.ReferenceableMapper");
-            referenceable = getEntityMapper(mappingClass);
-        } catch (ClassNotFoundException e) {
-            log.error("Unable to find default ReferenceableMapper class: {}", IGCRepositoryHelper.MAPPING_PKG + "entities.ReferenceableMapper", e);
-        }
-        return referenceable;
+        return ReferenceableMapper.getInstance(igcomrsRepositoryConnector.getIGCVersion());
     }
 
     /**
@@ -258,7 +259,7 @@ public class EntityMappingStore extends MappingStore {
     private EntityMapping getEntityMapper(Class<?> mappingClass) {
         EntityMapping entityMapper = null;
         try {
-            entityMapper = (EntityMapping) mappingClass.getMethod("getInstance", IGCVersionEnum.class).invoke(null, igcomrsRepositoryConnector.getIGCVersion());
+            entityMapper = (EntityMapping) MappingRegistry.getMapper(mappingClass, igcomrsRepositoryConnector.getIGCVersion());
         } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
             log.error("Unable to find or instantiate EntityMapping class: {}", mappingClass, e);
         }
@@ -2,15 +2,14 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.egeria.connectors.ibm.igc.repositoryconnector.stores;
 
-import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCVersionEnum;
 import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.IGCOMRSRepositoryConnector;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.MappingRegistry;
 import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.relationships.RelationshipMapping;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.*;
 
 /**
@@ -42,6 +41,13 @@ public class RelationshipMappingStore extends MappingStore {
             addTypeDef(omrsTypeDef);
             String guid = omrsTypeDef.getGUID();
             omrsGuidToMapping.put(guid, mapping);
+            if (igcomrsRepositoryConnector.isTypeWarmUpEnabled()) {
+                Set<String> igcTypes = new HashSet<>(mapping.getProxyOneMapping().getAllPossibleAssetTypes());
+                igcTypes.addAll(mapping.getProxyTwoMapping().getAllPossibleAssetTypes());
+                igcTypes.add(mapping.getLinkingAssetType());
+                igcTypes.add(mapping.getRelationshipLevelIgcAsset());
+                igcomrsRepositoryConnector.warmUpTypes(igcTypes);
+            }
         }
 
         return (mapping != null);
@@ -147,7 +153,7 @@ public class RelationshipMappingStore extends MappingStore {
     }
 
     /**
-     * Introspect a mapping class to retrieve a RelationshipMapping.
+     * Retrieve the instance of a mapping class, as a RelationshipMapping.
      *
      * @param mappingClass the mapping class to retrieve an instance of
      * @return RelationshipMapping
@@ -155,8 +161,7 @@ public class RelationshipMappingStore extends MappingStore {
     private RelationshipMapping getRelationshipMapper(Class<?> mappingClass) {
         RelationshipMapping relationshipMapper = null;
         try {
-            Method getInstance = mappingClass.getMethod("getInstance", IGCVersionEnum.class);
-            relationshipMapper = (RelationshipMapping) getInstance.invoke(null, igcomrsRepositoryConnector.getIGCVersion());
+            relationshipMapper = (RelationshipMapping) MappingRegistry.getMapper(mappingClass, igcomrsRepositoryConnector.getIGCVersion());
         } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
             log.error("Unable to find or instantiate RelationshipMapping class: {}", mappingClass, e);
         }
@@ -10,6 +10,7 @@ import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.base.Term;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.eventmapper.IGCOMRSRepositoryEventMapper;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.entities.EntityMapping;
 import org.odpi.egeria.connectors.ibm.igc.eventmapper.model.ChangeSet;
 import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.attributes.AttributeMapping;
 import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.classifications.ClassificationMapping;
@@ -413,6 +414,23 @@ public class ConnectorTest {
 
     }
 
+    @Test
+    public void testTypeWarmUp() {
+
+        List<String> igcTypes = Arrays.asList("term", "category", IGCRepositoryHelper.DEFAULT_IGC_TYPE, EntityMapping.SUPERTYPE_SENTINEL, null);
+        assertFalse(igcomrsRepositoryConnector.isTypeWarmUpEnabled());
+        assertEquals(igcomrsRepositoryConnector.warmUpTypes(igcTypes), 0);
+        igcomrsRepositoryConnector.typeWarmUpParallelism = 2;
+        try {
+            assertTrue(igcomrsRepositoryConnector.isTypeWarmUpEnabled());
+            assertEquals(igcomrsRepositoryConnector.warmUpTypes(igcTypes), 2);
+            assertEquals(igcomrsRepositoryConnector.warmUpTypes(igcTypes), 0);
+        } finally {
+            igcomrsRepositoryConnector.typeWarmUpParallelism = 0;
+        }
+
+    }
+
     @Test
     public void testAttributeTypeDefSearches() {
 
@@ -565,6 +583,30 @@ public class ConnectorTest {
 
     }
 
+    @Test
+    public void testRelationshipOfUnrelatedEnds() {
+
+        // DEPCODE is the primary key referenced by DEPT, but no foreign key relates it to REDIF
+        String depcode = "b1c497ce.60641b50.001mts4qb.nu5284a.iu4h8h.q2r8u0bpctosrasegb7be";
+        String dept = "b1c497ce.60641b50.001mts4qb.ntk0miu.418lel.j1lf6ar4e9bltku1v2b0n";
+        String redif = "b1c497ce.60641b50.001mts4qn.7n9efgm.d9qapv.r45rvbjneccr5r04ut201";
+
+        String related = new IGCRelationshipGuid(metadataCollectionId, "database_column", "database_column", depcode, dept, "ForeignKey").toString();
+        String unrelated = new IGCRelationshipGuid(metadataCollectionId, "database_column", "database_column", depcode, redif, "ForeignKey").toString();
+
+        try {
+            Relationship relationship = igcomrsMetadataCollection.getRelationship(MockConstants.EGERIA_USER, related);
+            assertEquals(relationship.getGUID(), related);
+        } catch (InvalidParameterException | RepositoryErrorException | RelationshipNotKnownException e) {
+            log.error("Unable to retrieve relationship: {}", related, e);
+            assertNull(e);
+        }
+        assertThrows(RelationshipNotKnownException.class, () -> igcomrsMetadataCollection.getRelationship(MockConstants.EGERIA_USER, unrelated));
+        assertThrows(RelationshipNotKnownException.class, () -> igcomrsMetadataCollection.getRelationship(MockConstants.EGERIA_USER,
+                new IGCRelationshipGuid(metadataCollectionId, "database_column", "database_column", redif, depcode, "ForeignKey").toString()));
+
+    }
+
     @Test
     public void testRelationshipGuids() {
 
@@ -1140,6 +1182,39 @@ public class ConnectorTest {
 
     }
 
+    @Test
+    public void testParallelMappingSearches() {
+
+        List<String> sequential = getGUIDsForSearch(repositoryHelper.getContainsRegex("Address"), 0, MockConstants.EGERIA_PAGESIZE);
+        List<String> sequentialPage = getGUIDsForSearch(repositoryHelper.getContainsRegex("Address"), 0, 4);
+        assertNull(igcomrsRepositoryConnector.getSearchExecutor());
+        igcomrsRepositoryConnector.searchParallelism = 4;
+        try {
+            assertNotNull(igcomrsRepositoryConnector.getSearchExecutor());
+            assertEquals(getGUIDsForSearch(repositoryHelper.getContainsRegex("Address"), 0, MockConstants.EGERIA_PAGESIZE), sequential);
+            assertEquals(getGUIDsForSearch(repositoryHelper.getContainsRegex("Address"), 0, 4), sequentialPage);
+        } finally {
+            igcomrsRepositoryConnector.searchParallelism = 1;
+        }
+        assertEquals(sequential.size(), 13);
+        assertEquals(sequentialPage, sequential.subList(0, 4));
+
+    }
+
+    @Test
+    public void testConsecutivePagesOfBroadSearch() {
+
+        List<String> all = getGUIDsForSearch(repositoryHelper.getContainsRegex("Address"), 0, MockConstants.EGERIA_PAGESIZE);
+        List<String> paged = new ArrayList<>();
+        for (int fromElement = 0; fromElement < all.size(); fromElement += 4) {
+            List<String> page = getGUIDsForSearch(repositoryHelper.getContainsRegex("Address"), fromElement, 4);
+            assertEquals(page.size(), Math.min(4, all.size() - fromElement));
+            paged.addAll(page);
+        }
+        assertEquals(paged, all);
+
+    }
+
     @Test
     public void testAllTypesFindByPropertyValue_limitToConfidentiality() {
 
@@ -2614,7 +2689,7 @@ public class ConnectorTest {
         InstanceProperties ip = new InstanceProperties();
         ip = repositoryHelper.addIntPropertyToInstance(sourceName, ip, "confidence", 100, methodName);
 
-        testFindRelationshipsByProperty(
+        List<Relationship> results = testFindRelationshipsByProperty(
                 relationshipType,
                 typeName,
                 ip,
@@ -2622,6 +2697,35 @@ public class ConnectorTest {
                 MockConstants.EGERIA_PAGESIZE,
                 3);
 
+        // Relationships are built directly from the search results, so check that each has the ends (and their
+        // details) given by the mocked responses
+        String[][] expected = {
+                { "b1c497ce.60641b50.001mts4qb.nu5284a.iu4h8h.q2r8u0bpctosrasegb7be", "(host)=INFOSVR::(database)=EMPLOYEE::(database_schema)=DB2INST1::(database_table)=DEPT::(database_column)=DEPCODE",
+                        "b1c497ce.60641b50.001mts4qb.ntk0miu.418lel.j1lf6ar4e9bltku1v2b0n", "(host)=INFOSVR::(database)=EMPLOYEE::(database_schema)=DB2INST1::(database_table)=EMPLOYEE::(database_column)=DEPT",
+                        "1575994680000" },
+                { "b1c497ce.60641b50.001mts4qn.7mp2d8d.lvh17n.38ibhqtic7fgfih5u31v2", "(host)=INFOSVR::(database)=COMPDIR::(database_schema)=DB2INST1::(database_table)=CONTACTLIST::(database_column)=RECID",
+                        "b1c497ce.60641b50.001mts4qn.7monjif.5ufb77.4gf2evd7l332341p99ng4", "(host)=INFOSVR::(database)=COMPDIR::(database_schema)=DB2INST1::(database_table)=CONTACTPHONE::(database_column)=RECID",
+                        "1575994703000" },
+                { "b1c497ce.60641b50.001mts4qn.7mp2d8d.lvh17n.38ibhqtic7fgfih5u31v2", "(host)=INFOSVR::(database)=COMPDIR::(database_schema)=DB2INST1::(database_table)=CONTACTLIST::(database_column)=RECID",
+                        "b1c497ce.60641b50.001mts4qn.7n9efgm.d9qapv.r45rvbjneccr5r04ut201", "(host)=INFOSVR::(database)=COMPDIR::(database_schema)=DB2INST1::(database_table)=CONTACTEMAIL::(database_column)=REDIF",
+                        "1575994703000" }
+        };
+        for (int i = 0; i < expected.length; i++) {
+            Relationship result = results.get(i);
+            String[] ends = expected[i];
+            IGCRelationshipGuid guid = new IGCRelationshipGuid(metadataCollectionId, "database_column", "database_column", ends[0], ends[2], typeName);
+            assertEquals(result.getGUID(), guid.toString());
+            assertEquals(result.getVersion(), Long.parseLong(ends[4]));
+            EntityProxy one = result.getEntityOneProxy();
+            assertEquals(one.getGUID(), new IGCEntityGuid(metadataCollectionId, "database_column", ends[0]).toString());
+            assertEquals(one.getType().getTypeDefName(), "RelationalColumn");
+            testQualifiedNameEquality(ends[1], one.getUniqueProperties().getPropertyValue("qualifiedName"));
+            EntityProxy two = result.getEntityTwoProxy();
+            assertEquals(two.getGUID(), new IGCEntityGuid(metadataCollectionId, "database_column", ends[2]).toString());
+            assertEquals(two.getType().getTypeDefName(), "RelationalColumn");
+            testQualifiedNameEquality(ends[3], two.getUniqueProperties().getPropertyValue("qualifiedName"));
+        }
+
         testFindRelationshipsByProperty(
                 relationshipType,
                 typeName,
@@ -3658,6 +3762,40 @@ public class ConnectorTest {
         return testFindEntitiesByPropertyValue(null, possibleTypes, classificationLimiters, queryString, pageSize, totalNumberExpected);
     }
 
+    /**
+     * Retrieve the GUIDs of the entities of any type found by the provided property value, in the order found.
+     *
+     * @param queryString the string criteria by which to search
+     * @param fromElement the starting element number of the results to return
+     * @param pageSize limit the number of results
+     * @return {@code List<String>} the GUIDs of the results of the query
+     */
+    private List<String> getGUIDsForSearch(String queryString, int fromElement, int pageSize) {
+        List<String> guids = new ArrayList<>();
+        try {
+            List<EntityDetail> results = igcomrsMetadataCollection.findEntitiesByPropertyValue(
+                    MockConstants.EGERIA_USER,
+                    null,
+                    queryString,
+                    fromElement,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    pageSize
+            );
+            assertNotNull(results);
+            for (EntityDetail result : results) {
+                guids.add(result.getGUID());
+            }
+        } catch (Exception e) {
+            log.error("Unexpected exception trying to search for entities by property value.", e);
+            assertNull(e);
+        }
+        return guids;
+    }
+
     /**
      * Executes a common set of tests against a list of EntityDetail objects after first searching for them by property
      * value.
@@ -0,0 +1,70 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.regex.Pattern;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the compilation of search criteria by the SearchPredicate class.
+ */
+public class SearchPredicateTest {
+
+    private static final String[] LITERALS = { "Address", "addr.*", "a\\E(b)", "x\\", "K" };
+    private static final String[] VALUES = {
+            "Address", "address", "ADDRESS Line 1", "Home Address", "My address line", "Line\nAddress", "Address\r\n",
+            "addr.*", "ADDR.*ess", "a\\E(b)", "A\\E(B)!", "x\\", "K", "k", "\u212A", "", "Add"
+    };
+
+    public SearchPredicateTest() {
+        // Do nothing...
+    }
+
+    @Test
+    public void testLiteralMatchesAgreeWithRegex() {
+
+        for (String literal : LITERALS) {
+            String quoted = Pattern.quote(literal);
+            for (String prefix : new String[]{ "", "(?i)" }) {
+                testAgreement(prefix + quoted);
+                testAgreement(prefix + quoted + ".*");
+                testAgreement(prefix + ".*" + quoted);
+                testAgreement(prefix + ".*" + quoted + ".*");
+            }
+        }
+        testAgreement("Add.*s+");
+        testAgreement("(?i).*\\Qline\\E.*\\Q1\\E");
+
+    }
+
+    @Test
+    public void testNoCriteria() {
+
+        assertSame(SearchPredicate.compile(null, null, null), SearchPredicate.MATCH_ALL);
+        assertSame(SearchPredicate.compile(null, "", null), SearchPredicate.MATCH_ALL);
+        SearchProperties searchProperties = new SearchProperties();
+        searchProperties.setMatchCriteria(MatchCriteria.ALL);
+        assertSame(SearchPredicate.compile(searchProperties, "Address", null), SearchPredicate.MATCH_ALL);
+        searchProperties.setConditions(new ArrayList<>());
+        assertSame(SearchPredicate.compile(searchProperties, null, null), SearchPredicate.MATCH_ALL);
+        searchProperties.setMatchCriteria(MatchCriteria.ANY);
+        assertNotSame(SearchPredicate.compile(searchProperties, null, null), SearchPredicate.MATCH_ALL);
+
+    }
+
+    private void testAgreement(String regex) {
+        SearchPredicate.TextMatcher matcher = SearchPredicate.TextMatcher.compile(regex);
+        Pattern pattern = Pattern.compile(regex);
+        for (String value : VALUES) {
+            assertEquals(matcher.matches(value), pattern.matcher(value).matches(), "'" + value + "' against: " + regex);
+        }
+        assertFalse(matcher.matches(null));
+    }
+
+}
@@ -0,0 +1,204 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary;
+
+import java.util.Map;
+
+import static org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCConfigurationValues.getInteger;
+import static org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCConfigurationValues.getString;
+
+/**
+ * Settings for how the IGC REST client itself sends its requests (as opposed to the HTTP transport over which it sends
+ * them): how many pages of results may be retrieved concurrently, how requests are limited and retried when the
+ * services tier is overloaded, how the size of each page of search results is adapted, and where the details of IGC's
+ * types are cached between restarts.
+ * <br><br>
+ * The defaults retain the behavior of earlier releases: pages are retrieved one after the other, at the page size
+ * requested, and type details are retrieved from IGC every time the client is started.
+ *
+ * @see org.odpi.egeria.connectors.ibm.igc.clientlibrary.http.HttpTransportSettings
+ */
+public class IGCClientSettings {
+
+    /**
+     * Configuration property giving the maximum number of pages of results to retrieve concurrently when retrieving
+     * all pages of results (1 to retrieve pages one after the other).
+     */
+    public static final String PAGE_PREFETCH_PARALLELISM = "pagePrefetchParallelism";
+
+    /**
+     * Configuration property giving the maximum number of requests to send concurrently to the IGC services tier (the
+     * actual number is adapted to what the services tier can sustain, up to this maximum).
+     */
+    public static final String MAX_CONCURRENT_REQUESTS = "maxConcurrentRequests";
+
+    /**
+     * Configuration property giving the number of milliseconds a request may wait to be sent to the IGC services tier
+     * before it fails (0 to wait indefinitely).
+     */
+    public static final String REQUEST_QUEUE_TIMEOUT = "requestQueueTimeout";
+
+    /**
+     * Configuration property giving the maximum number of times to retry a retrieval or search that failed because the
+     * IGC services tier was overloaded (server errors and timeouts).
+     */
+    public static final String MAX_RETRIES = "maxRetries";
+
+    /**
+     * The maximum number of times to retry a retrieval or search that failed due to overload, if not otherwise
+     * configured.
+     */
+    public static final int DEFAULT_MAX_RETRIES = 2;
+
+    /**
+     * Configuration property giving the directory in which to cache the details of IGC's types between restarts (if
+     * not provided, type details are retrieved from IGC every time the client is started).
+     */
+    public static final String TYPE_CACHE_DIRECTORY = "typeCacheDirectory";
+
+    /**
+     * Configuration property giving the number of milliseconds within which each page of search results should be
+     * retrieved, by adapting the size of each page to the shape of the search (0 to always use the page size
+     * requested).
+     */
+    public static final String PAGE_LATENCY_BUDGET = "pageLatencyBudget";
+
+    private int pagePrefetchParallelism = 1;
+    private int maxConcurrentRequests = 0;
+    private int requestQueueTimeout = 0;
+    private int maxRetries = DEFAULT_MAX_RETRIES;
+    private String typeCacheDirectory = null;
+    private int pageLatencyBudget = 0;
+
+    /**
+     * Create a new set of client settings, initialised with the default values.
+     */
+    public IGCClientSettings() {
+        // Nothing to do: all values have defaults
+    }
+
+    /**
+     * Create a new set of client settings from the configuration properties of a connector, falling back to the
+     * default for any setting that is not provided.
+     *
+     * @param configurationProperties the configuration properties of the connector (may be null)
+     * @return IGCClientSettings
+     */
+    public static IGCClientSettings fromConfigurationProperties(Map<String, Object> configurationProperties) {
+        IGCClientSettings settings = new IGCClientSettings();
+        if (configurationProperties != null) {
+            settings.setPagePrefetchParallelism(getInteger(configurationProperties, PAGE_PREFETCH_PARALLELISM, settings.getPagePrefetchParallelism()));
+            settings.setMaxConcurrentRequests(getInteger(configurationProperties, MAX_CONCURRENT_REQUESTS, settings.getMaxConcurrentRequests()));
+            settings.setRequestQueueTimeout(getInteger(configurationProperties, REQUEST_QUEUE_TIMEOUT, settings.getRequestQueueTimeout()));
+            settings.setMaxRetries(getInteger(configurationProperties, MAX_RETRIES, settings.getMaxRetries()));
+            settings.setTypeCacheDirectory(getString(configurationProperties, TYPE_CACHE_DIRECTORY, settings.getTypeCacheDirectory()));
+            settings.setPageLatencyBudget(getInteger(configurationProperties, PAGE_LATENCY_BUDGET, settings.getPageLatencyBudget()));
+        }
+        return settings;
+    }
+
+    /**
+     * Retrieve the maximum number of pages of results to retrieve concurrently when retrieving all pages of results.
+     *
+     * @return int
+     */
+    public int getPagePrefetchParallelism() { return pagePrefetchParallelism; }
+
+    /**
+     * Set the maximum number of pages of results to retrieve concurrently when retrieving all pages of results
+     * (1 to retrieve pages one after the other).
+     *
+     * @param pagePrefetchParallelism maximum number of pages to retrieve concurrently
+     */
+    public void setPagePrefetchParallelism(int pagePrefetchParallelism) { this.pagePrefetchParallelism = pagePrefetchParallelism; }
+
+    /**
+     * Retrieve the maximum number of requests to send concurrently to the IGC services tier (0 to use the maximum
+     * number of sessions).
+     *
+     * @return int
+     */
+    public int getMaxConcurrentRequests() { return maxConcurrentRequests; }
+
+    /**
+     * Set the maximum number of requests to send concurrently to the IGC services tier (0 to use the maximum number of
+     * sessions). The number actually sent concurrently is adapted to what the services tier can sustain.
+     *
+     * @param maxConcurrentRequests maximum number of concurrent requests
+     */
+    public void setMaxConcurrentRequests(int maxConcurrentRequests) { this.maxConcurrentRequests = maxConcurrentRequests; }
+
+    /**
+     * Retrieve the number of milliseconds a request may wait to be sent before it fails (0 to wait indefinitely).
+     *
+     * @return int
+     */
+    public int getRequestQueueTimeout() { return requestQueueTimeout; }
+
+    /**
+     * Set the number of milliseconds a request may wait to be sent before it fails (0 to wait indefinitely).
+     *
+     * @param requestQueueTimeout milliseconds a request may wait to be sent
+     */
+    public void setRequestQueueTimeout(int requestQueueTimeout) { this.requestQueueTimeout = requestQueueTimeout; }
+
+    /**
+     * Retrieve the maximum number of times to retry a retrieval or search that failed due to overload.
+     *
+     * @return int
+     */
+    public int getMaxRetries() { return maxRetries; }
+
+    /**
+     * Set the maximum number of times to retry a retrieval or search that failed due to overload (0 to never retry).
+     *
+     * @param maxRetries maximum number of retries
+     */
+    public void setMaxRetries(int maxRetries) { this.maxRetries = maxRetries; }
+
+    /**
+     * Retrieve the directory in which to cache the details of IGC's types between restarts (null if not cached).
+     *
+     * @return String
+     */
+    public String getTypeCacheDirectory() { return typeCacheDirectory; }
+
+    /**
+     * Set the directory in which to cache the details of IGC's types between restarts (null to not cache them).
+     *
+     * @param typeCacheDirectory the directory in which to cache type details
+     */
+    public void setTypeCacheDirectory(String typeCacheDirectory) { this.typeCacheDirectory = typeCacheDirectory; }
+
+    /**
+     * Retrieve the number of milliseconds within which each page of search results should be retrieved (0 if page
+     * sizes are not adapted).
+     *
+     * @return int
+     */
+    public int getPageLatencyBudget() { return pageLatencyBudget; }
+
+    /**
+     * Set the number of milliseconds within which each page of search results should be retrieved (0 to always use
+     * the page size requested).
+     *
+     * @param pageLatencyBudget the latency budget for each page, in milliseconds
+     */
+    public void setPageLatencyBudget(int pageLatencyBudget) { this.pageLatencyBudget = pageLatencyBudget; }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "IGCClientSettings{" +
+                "pagePrefetchParallelism=" + pagePrefetchParallelism +
+                ", maxConcurrentRequests=" + maxConcurrentRequests +
+                ", requestQueueTimeout=" + requestQueueTimeout +
+                ", maxRetries=" + maxRetries +
+                ", typeCacheDirectory=" + typeCacheDirectory +
+                ", pageLatencyBudget=" + pageLatencyBudget +
+                '}';
+    }
+
+}
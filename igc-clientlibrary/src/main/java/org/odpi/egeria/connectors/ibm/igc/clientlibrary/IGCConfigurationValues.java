@@ -0,0 +1,76 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+/**
+ * Utilities for reading the values of (connector) configuration properties, which may be provided either as their
+ * native type or as strings, falling back to a default for any that are not provided (or cannot be interpreted).
+ */
+public final class IGCConfigurationValues {
+
+    private static final Logger log = LoggerFactory.getLogger(IGCConfigurationValues.class);
+
+    private IGCConfigurationValues() { }
+
+    /**
+     * Retrieve an integer-valued configuration property, or the provided default if it is not set (or invalid).
+     *
+     * @param properties the configuration properties (may be null)
+     * @param name the name of the configuration property
+     * @param defaultValue the value to use if the property is not set (or invalid)
+     * @return int
+     */
+    public static int getInteger(Map<String, Object> properties, String name, int defaultValue) {
+        Object value = properties == null ? null : properties.get(name);
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        } else if (value instanceof String) {
+            try {
+                return Integer.parseInt(((String) value).trim());
+            } catch (NumberFormatException e) {
+                log.warn("Invalid {} ({}) -- using the default: {}", name, value, defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Retrieve a string-valued configuration property, or the provided default if it is not set (or empty).
+     *
+     * @param properties the configuration properties (may be null)
+     * @param name the name of the configuration property
+     * @param defaultValue the value to use if the property is not set (or empty)
+     * @return String
+     */
+    public static String getString(Map<String, Object> properties, String name, String defaultValue) {
+        Object value = properties == null ? null : properties.get(name);
+        if (value != null && !value.toString().trim().isEmpty()) {
+            return value.toString().trim();
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Retrieve a boolean-valued configuration property, or the provided default if it is not set.
+     *
+     * @param properties the configuration properties (may be null)
+     * @param name the name of the configuration property
+     * @param defaultValue the value to use if the property is not set
+     * @return boolean
+     */
+    public static boolean getBoolean(Map<String, Object> properties, String name, boolean defaultValue) {
+        Object value = properties == null ? null : properties.get(name);
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        } else if (value instanceof String) {
+            return Boolean.parseBoolean(((String) value).trim());
+        }
+        return defaultValue;
+    }
+
+}
@@ -0,0 +1,89 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary;
+
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCPagingException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates over every item across all pages of an {@link ItemList}, retrieving each subsequent page only once the
+ * items of the previous page have all been consumed.
+ * <br><br>
+ * Only a single page is retained at any time (once the iterator has moved beyond the first page), so that even
+ * very large sets of results can be processed in constant memory. Abandoning the iterator part-way through avoids
+ * retrieving any of the remaining pages.
+ * <br><br>
+ * Since an Iterator cannot throw checked exceptions, any problem retrieving a page is thrown as an
+ * {@link IGCPagingException}, whose cause is the underlying IGCException.
+ *
+ * @param <T> the type of items over which to iterate
+ * @see IGCRestClient#iterateAllPages(String, ItemList)
+ */
+public class IGCPageIterator<T extends Reference> implements Iterator<T> {
+
+    private final IGCRestClient igcRestClient;
+    private final String propertyName;
+
+    private ItemList<T> page;
+    private List<T> items;
+    private int index;
+
+    /**
+     * Create a new iterator starting from the provided page.
+     *
+     * @param igcRestClient the client through which to retrieve subsequent pages
+     * @param propertyName the name of the property for which the list provides items (or null if the result of a search)
+     * @param first the first page of items
+     */
+    IGCPageIterator(IGCRestClient igcRestClient, String propertyName, ItemList<T> first) {
+        this.igcRestClient = igcRestClient;
+        this.propertyName = propertyName;
+        setPage(first);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        // Note that an empty page also indicates there are no further pages
+        if (index >= items.size() && !items.isEmpty() && page.hasMorePages()) {
+            try {
+                setPage(igcRestClient.getNextPage(propertyName, page));
+            } catch (IGCException e) {
+                throw new IGCPagingException(e);
+            }
+        }
+        return index < items.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return items.get(index++);
+    }
+
+    /**
+     * Move the iterator to the start of the provided page, releasing the previous page.
+     *
+     * @param next the page to move to
+     */
+    private void setPage(ItemList<T> next) {
+        this.page = next;
+        this.items = (next == null || next.getItems() == null) ? Collections.emptyList() : next.getItems();
+        this.index = 0;
+    }
+
+}
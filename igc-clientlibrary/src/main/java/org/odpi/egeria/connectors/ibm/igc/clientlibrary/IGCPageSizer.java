@@ -0,0 +1,225 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Adaptively sizes the pages of search results retrieved from IGC, separately for each shape of search (the asset
+ * types searched and the properties retrieved for each result), since a page of terms with a few properties each
+ * costs IGC far less than a page of database columns with all of their relationships.
+ * <br><br>
+ * For each shape, the latency of retrieving a page is modelled as a fixed overhead plus a cost per item, fitted (by
+ * least squares, favouring recent pages) to the pages retrieved so far. The number of items per second only rises as
+ * pages get larger, so the page size chosen is the largest whose predicted latency is within the latency budget --
+ * limited also by the size of the response it would produce, by at most doubling the largest full page yet seen (so
+ * that the model is never relied upon far beyond what it was fitted to), and by the page size the caller requested.
+ * Pages that come back short (the last page of a search, or every page of a search with few results) still inform
+ * the model, but say nothing about how large a page IGC could return quickly, so they never limit that growth.
+ */
+class IGCPageSizer {
+
+    private static final Pattern SEARCH_TYPES = Pattern.compile("\"types\":\\[([^\\]]*)]");
+    private static final Pattern SEARCH_PROPERTIES = Pattern.compile("\"properties\":\\[([^\\]]*)]");
+
+    private static final double DECAY = 0.9;
+    private static final double MAX_GROWTH = 2.0;
+    private static final int MIN_PAGE_SIZE = 10;
+    private static final long MAX_PAGE_BYTES = 16L * 1024 * 1024;
+
+    private final long latencyBudget;
+    private final Map<String, Shape> shapes;
+
+    /**
+     * Create a new page sizer.
+     *
+     * @param latencyBudget the latency within which each page of results should be retrieved
+     * @param unit the unit of the latency budget
+     */
+    IGCPageSizer(long latencyBudget, TimeUnit unit) {
+        this.latencyBudget = unit.toNanos(latencyBudget);
+        this.shapes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Retrieve the latency within which each page of results should be retrieved.
+     *
+     * @return long - the latency budget, in milliseconds
+     */
+    long getLatencyBudget() { return TimeUnit.NANOSECONDS.toMillis(latencyBudget); }
+
+    /**
+     * Retrieve the page size to use for the provided search.
+     *
+     * @param query the JSON query of the search
+     * @param limit the page size requested by the caller, which is never exceeded
+     * @return int - the page size to use (the limit itself, until a full page of the search's shape has been retrieved)
+     */
+    int getPageSize(String query, int limit) {
+        Shape shape = shapes.get(getShapeOfSearch(query));
+        if (shape == null || limit <= 0) {
+            return limit;
+        }
+        return shape.getPageSize(latencyBudget, limit);
+    }
+
+    /**
+     * Record the retrieval of a page of results.
+     *
+     * @param shape the shape of the search that retrieved the page (or null if it was not a search)
+     * @param items the number of items in the page
+     * @param requested the page size requested for the page (or 0 if it is not known)
+     * @param latency the latency of retrieving the page, in nanoseconds
+     * @param bytes the number of bytes received for the page
+     */
+    void record(String shape, int items, int requested, long latency, long bytes) {
+        if (shape != null && items > 0) {
+            shapes.computeIfAbsent(shape, k -> new Shape()).record(items, requested, latency, bytes);
+        }
+    }
+
+    /**
+     * Retrieve the shape of a search from its JSON query: the asset types searched and the properties retrieved.
+     *
+     * @param query the JSON query of the search
+     * @return String - the shape, or null if the query does not search any types
+     */
+    static String getShapeOfSearch(String query) {
+        if (query == null) {
+            return null;
+        }
+        Matcher types = SEARCH_TYPES.matcher(query);
+        if (!types.find()) {
+            return null;
+        }
+        Matcher properties = SEARCH_PROPERTIES.matcher(query);
+        return getShape(types.group(1).replace("\"", ""), properties.find() ? properties.group(1).replace("\"", "") : "");
+    }
+
+    /**
+     * Retrieve the shape of a search from the query string of the URL to one of its subsequent pages of results.
+     *
+     * @param queryString the query string of the URL (including the leading '?')
+     * @return String - the shape, or null if the URL is not for a page of search results
+     */
+    static String getShapeOfNextPage(String queryString) {
+        List<String> types = new ArrayList<>();
+        List<String> properties = new ArrayList<>();
+        for (String parameter : queryString.substring(queryString.indexOf('?') + 1).split("&")) {
+            if (parameter.startsWith("types=")) {
+                types.add(decode(parameter.substring("types=".length())));
+            } else if (parameter.startsWith("properties=")) {
+                properties.add(decode(parameter.substring("properties=".length())));
+            }
+        }
+        return types.isEmpty() ? null : getShape(String.join(",", types), String.join(",", properties));
+    }
+
+    /**
+     * Compose the shape of a search.
+     *
+     * @param types the comma-separated asset types searched
+     * @param properties the comma-separated properties retrieved
+     * @return String
+     */
+    private static String getShape(String types, String properties) {
+        return types + "|" + properties;
+    }
+
+    /**
+     * Decode the provided (URL-encoded) query string parameter value.
+     *
+     * @param value the value to decode
+     * @return String
+     */
+    private static String decode(String value) {
+        try {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            return value;
+        }
+    }
+
+    /**
+     * What has been learned about the pages of results for a single shape of search.
+     */
+    private static final class Shape {
+
+        // Decayed sums of the observations (items per page, latency per page) for the least squares fit
+        private double weight = 0;
+        private double sumItems = 0;
+        private double sumLatency = 0;
+        private double sumItemsSquared = 0;
+        private double sumItemsByLatency = 0;
+        private double sumBytes = 0;
+        // Largest page that came back full, from which the page size may grow
+        private int largest = 0;
+
+        /**
+         * Record the retrieval of a page of results of this shape.
+         *
+         * @param items the number of items in the page
+         * @param requested the page size requested for the page (or 0 if it is not known)
+         * @param latency the latency of retrieving the page, in nanoseconds
+         * @param bytes the number of bytes received for the page
+         */
+        synchronized void record(int items, int requested, long latency, long bytes) {
+            weight = weight * DECAY + 1;
+            sumItems = sumItems * DECAY + items;
+            sumLatency = sumLatency * DECAY + latency;
+            sumItemsSquared = sumItemsSquared * DECAY + (double) items * items;
+            sumItemsByLatency = sumItemsByLatency * DECAY + (double) items * latency;
+            sumBytes = sumBytes * DECAY + bytes;
+            if (requested <= 0 || items >= requested) {
+                largest = Math.max(largest, items);
+            }
+        }
+
+        /**
+         * Retrieve the largest page size predicted to be retrieved within the latency budget.
+         *
+         * @param latencyBudget the latency budget, in nanoseconds
+         * @param limit the page size requested by the caller, which is never exceeded
+         * @return int
+         */
+        synchronized int getPageSize(long latencyBudget, int limit) {
+            if (largest == 0) {
+                // Only short pages have been seen, so there is nothing yet from which to grow
+                return limit;
+            }
+            // Fit latency = overhead + (perItem * items)
+            double overhead = 0;
+            double perItem = 0;
+            double determinant = weight * sumItemsSquared - sumItems * sumItems;
+            if (determinant > 1e-9 * weight * sumItemsSquared) {
+                perItem = (weight * sumItemsByLatency - sumItems * sumLatency) / determinant;
+                overhead = (sumLatency - perItem * sumItems) / weight;
+            }
+            if (perItem <= 0 || overhead < 0) {
+                // Until pages of different sizes have been seen (or if they do not fit the model), conservatively
+                // treat all of the latency as a cost per item
+                overhead = 0;
+                perItem = sumLatency / sumItems;
+            }
+            double candidate = perItem > 0 ? (latencyBudget - overhead) / perItem : limit;
+            double bytesPerItem = sumBytes / sumItems;
+            if (bytesPerItem > 0) {
+                candidate = Math.min(candidate, MAX_PAGE_BYTES / bytesPerItem);
+            }
+            candidate = Math.min(candidate, largest * MAX_GROWTH);
+            int pageSize = (int) Math.min(candidate, limit);
+            return Math.max(pageSize, Math.min(MIN_PAGE_SIZE, limit));
+        }
+
+    }
+
+}
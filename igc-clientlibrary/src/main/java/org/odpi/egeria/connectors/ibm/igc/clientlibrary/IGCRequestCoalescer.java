@@ -0,0 +1,126 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary;
+
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCConnectivityException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCParsingException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coalesces identical read-only requests that are in-flight at the same time (single-flight), so that only the first
+ * of them is actually sent to IGC and every other caller shares its (parsed) result.
+ * <br><br>
+ * Requests are only coalesced while they are in-flight: as soon as a request completes its result is no longer
+ * retained, so a subsequent identical request will again be sent to IGC.
+ */
+class IGCRequestCoalescer {
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight;
+    private final LongAdder executed;
+    private final LongAdder coalesced;
+
+    /**
+     * A read-only request to IGC.
+     *
+     * @param <R> the type of object into which the response is parsed
+     */
+    interface Request<R> {
+        R send() throws IGCConnectivityException, IGCParsingException;
+    }
+
+    /**
+     * Create a new (empty) set of in-flight requests.
+     */
+    IGCRequestCoalescer() {
+        this.inFlight = new ConcurrentHashMap<>();
+        this.executed = new LongAdder();
+        this.coalesced = new LongAdder();
+    }
+
+    /**
+     * Send the provided request, unless an identical request (by key) is already in-flight, in which case wait for
+     * that request to complete and share its result (or error) instead.
+     *
+     * @param key uniquely identifies the request (and how its response is parsed)
+     * @param request the request to send if no identical request is already in-flight
+     * @param <R> the type of object into which the response is parsed
+     * @return R - the parsed response
+     * @throws IGCConnectivityException if there is any connectivity issue during the request
+     * @throws IGCParsingException if there is any issue parsing the response from IGC
+     */
+    @SuppressWarnings("unchecked")
+    <R> R execute(String key, Request<R> request) throws IGCConnectivityException, IGCParsingException {
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            return (R) await(existing);
+        }
+
+        executed.increment();
+        try {
+            R result = request.send();
+            mine.complete(result);
+            return result;
+        } catch (IGCConnectivityException | IGCParsingException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+            if (!mine.isDone()) {
+                mine.completeExceptionally(new IllegalStateException("Coalesced request did not complete: " + key));
+            }
+        }
+
+    }
+
+    /**
+     * Wait for an in-flight request to complete, re-throwing any error it encountered.
+     *
+     * @param future the in-flight request
+     * @return Object - the parsed response
+     * @throws IGCConnectivityException if there was any connectivity issue during the request
+     * @throws IGCParsingException if there was any issue parsing the response from IGC
+     */
+    private Object await(CompletableFuture<Object> future) throws IGCConnectivityException, IGCParsingException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IGCConnectivityException("Interrupted while waiting for an identical IGC request.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IGCConnectivityException) {
+                throw (IGCConnectivityException) cause;
+            } else if (cause instanceof IGCParsingException) {
+                throw (IGCParsingException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new IllegalStateException(cause);
+            }
+        }
+    }
+
+    /**
+     * Retrieve the number of requests that have actually been sent to IGC.
+     *
+     * @return long
+     */
+    long getExecutedCount() { return executed.sum(); }
+
+    /**
+     * Retrieve the number of requests that shared the result of an identical in-flight request rather than being
+     * sent to IGC.
+     *
+     * @return long
+     */
+    long getCoalescedCount() { return coalesced.sum(); }
+
+}
@@ -0,0 +1,253 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary;
+
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCConnectivityException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptively limits the number of requests in-flight against IGC at any one time, to apply backpressure before the
+ * services tier is overwhelmed.
+ * <br><br>
+ * The limit follows an additive-increase / multiplicative-decrease (AIMD) scheme: every successful request raises the
+ * limit slightly (by roughly one request per limit's-worth of requests), while any sign of overload lowers it sharply.
+ * Overload is signalled by server errors (5xx) and timeouts or I/O errors, which halve the limit, and by the recent
+ * latency of requests rising well above their long-term latency, which lowers the limit more gently. The limit is
+ * lowered at most once per (long-term) request latency, so that a single burst of failures does not collapse it.
+ * <br><br>
+ * Requests beyond the limit wait (queue) for a slot, optionally only for a bounded time after which they are shed.
+ * Idempotent requests that fail due to overload are retried, after an exponential backoff with full jitter.
+ */
+class IGCRequestLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(IGCRequestLimiter.class);
+
+    private static final double ERROR_DECREASE = 0.5;
+    private static final double LATENCY_DECREASE = 0.9;
+    private static final double LATENCY_TOLERANCE = 2.0;
+    private static final double SHORT_SMOOTHING = 0.2;
+    private static final double LONG_SMOOTHING = 0.02;
+    private static final int LATENCY_WARMUP = 20;
+    private static final long MAX_BACKOFF = 5000;
+
+    private final int maxLimit;
+    private final long queueTimeout;
+    private final int maxRetries;
+    private final long retryBackoff;
+
+    private double limit;
+    private int inFlight = 0;
+    private long samples = 0;
+    private double shortLatency = 0;
+    private double longLatency = 0;
+    private long lastDecrease = 0;
+    private long shed = 0;
+    private long retried = 0;
+
+    /**
+     * A request to IGC that is subject to the limit.
+     *
+     * @param <R> the type of object returned by the request
+     * @param <E> any (checked) exception, other than connectivity issues, that the request may throw
+     */
+    interface Request<R, E extends Exception> {
+        R send() throws IGCConnectivityException, E;
+    }
+
+    /**
+     * Create a new limiter.
+     *
+     * @param maxLimit the maximum number of requests to allow in-flight at the same time (minimum of 1), which is
+     *                 also the initial limit
+     * @param queueTimeout the number of milliseconds a request may wait for a slot before being shed (0 to wait
+     *                     indefinitely)
+     * @param maxRetries the maximum number of times to retry an idempotent request that failed due to overload
+     * @param retryBackoff the base number of milliseconds to back off before retrying a request (doubled for each
+     *                     subsequent retry, up to a maximum of 5 seconds)
+     */
+    IGCRequestLimiter(int maxLimit, long queueTimeout, int maxRetries, long retryBackoff) {
+        this.maxLimit = Math.max(1, maxLimit);
+        this.queueTimeout = Math.max(0, queueTimeout);
+        this.maxRetries = Math.max(0, maxRetries);
+        this.retryBackoff = Math.max(1, retryBackoff);
+        this.limit = this.maxLimit;
+    }
+
+    /**
+     * Send the provided request once a slot is available under the limit, retrying it (if idempotent) should it fail
+     * due to the services tier being overloaded.
+     *
+     * @param request the request to send
+     * @param idempotent true if the request may safely be sent more than once, otherwise false
+     * @param <R> the type of object returned by the request
+     * @param <E> any (checked) exception, other than connectivity issues, that the request may throw
+     * @return R - the result of the request
+     * @throws IGCConnectivityException if there is any connectivity issue during the request, or it was shed
+     * @throws E if the request throws any other error
+     */
+    <R, E extends Exception> R execute(Request<R, E> request, boolean idempotent) throws IGCConnectivityException, E {
+        int attempt = 0;
+        while (true) {
+            acquire();
+            long start = System.nanoTime();
+            boolean overloaded = false;
+            try {
+                return request.send();
+            } catch (IGCConnectivityException e) {
+                overloaded = isOverloaded(e);
+                if (!overloaded || !idempotent || attempt >= maxRetries) {
+                    throw e;
+                }
+                log.warn("Request failed -- IGC may be overloaded, retrying (attempt {} of {})...", attempt + 1, maxRetries, e);
+            } finally {
+                release(System.nanoTime() - start, overloaded);
+            }
+            backoff(attempt++);
+        }
+    }
+
+    /**
+     * Wait for a slot under the current limit.
+     *
+     * @throws IGCConnectivityException if interrupted while waiting, or the request is shed
+     */
+    private synchronized void acquire() throws IGCConnectivityException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(queueTimeout);
+        while (inFlight >= (int) limit) {
+            try {
+                if (queueTimeout == 0) {
+                    wait();
+                } else {
+                    long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                    if (remaining <= 0) {
+                        shed++;
+                        throw new IGCConnectivityException("Too many concurrent requests to IGC -- request was not sent.",
+                                "Waited " + queueTimeout + "ms with " + inFlight + " requests in-flight (limit: " + (int) limit + ").");
+                    }
+                    wait(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IGCConnectivityException("Interrupted while waiting to send a request to IGC.", e);
+            }
+        }
+        inFlight++;
+    }
+
+    /**
+     * Release a slot, adjusting the limit according to the outcome of the request that held it.
+     *
+     * @param latency the number of nanoseconds the request took
+     * @param overloaded true if the request failed due to the services tier being overloaded, otherwise false
+     */
+    private synchronized void release(long latency, boolean overloaded) {
+        inFlight--;
+        long now = System.nanoTime();
+        if (overloaded) {
+            decrease(now, ERROR_DECREASE);
+        } else {
+            samples++;
+            if (samples == 1) {
+                shortLatency = latency;
+                longLatency = latency;
+            } else {
+                shortLatency += SHORT_SMOOTHING * (latency - shortLatency);
+                longLatency += LONG_SMOOTHING * (latency - longLatency);
+            }
+            if (samples > LATENCY_WARMUP && shortLatency > LATENCY_TOLERANCE * longLatency) {
+                decrease(now, LATENCY_DECREASE);
+            } else {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+        }
+        notifyAll();
+    }
+
+    /**
+     * Lower the limit by the provided factor, unless it was already lowered within the last (long-term) latency.
+     *
+     * @param now the current time, in nanoseconds
+     * @param factor the factor by which to lower the limit
+     */
+    private void decrease(long now, double factor) {
+        if (lastDecrease == 0 || now - lastDecrease > longLatency) {
+            double previous = limit;
+            limit = Math.max(1, limit * factor);
+            lastDecrease = now;
+            log.debug("Lowered limit of concurrent requests to IGC from {} to {}.", previous, limit);
+        }
+    }
+
+    /**
+     * Wait before retrying a request: a random period up to an exponentially-increasing backoff.
+     *
+     * @param attempt the number of the attempt that failed (from 0)
+     * @throws IGCConnectivityException if interrupted while waiting
+     */
+    private void backoff(int attempt) throws IGCConnectivityException {
+        synchronized (this) {
+            retried++;
+        }
+        long ceiling = Math.min(MAX_BACKOFF, retryBackoff << Math.min(attempt, 16));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IGCConnectivityException("Interrupted while waiting to retry a request to IGC.", e);
+        }
+    }
+
+    /**
+     * Indicates whether the provided error signals that the services tier is overloaded: a server error (5xx),
+     * timeout or other I/O error.
+     *
+     * @param e the error to check
+     * @return boolean
+     */
+    static boolean isOverloaded(IGCConnectivityException e) {
+        Throwable cause = e.getCause();
+        return cause instanceof HttpServerErrorException || cause instanceof ResourceAccessException;
+    }
+
+    /**
+     * Retrieve the current limit on the number of requests in-flight at the same time.
+     *
+     * @return int
+     */
+    synchronized int getLimit() { return (int) limit; }
+
+    /**
+     * Retrieve the maximum limit on the number of requests in-flight at the same time.
+     *
+     * @return int
+     */
+    int getMaxLimit() { return maxLimit; }
+
+    /**
+     * Retrieve the number of requests currently in-flight.
+     *
+     * @return int
+     */
+    synchronized int getInFlight() { return inFlight; }
+
+    /**
+     * Retrieve the number of requests that were shed, because they could not be sent within the queue timeout.
+     *
+     * @return long
+     */
+    synchronized long getShedCount() { return shed; }
+
+    /**
+     * Retrieve the number of times requests have been retried due to overload.
+     *
+     * @return long
+     */
+    synchronized long getRetryCount() { return retried; }
+
+}
@@ -5,28 +5,49 @@ package org.odpi.egeria.connectors.ibm.igc.clientlibrary;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.cache.ObjectCache;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCConnectivityException;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCIOException;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCParsingException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.http.HttpTransportFactory;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.http.HttpTransportSettings;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.metrics.IGCOperation;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.metrics.IGCRequestMetrics;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.*;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.types.TypeDetails;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.types.TypeHeader;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.types.TypeProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCPreparedSearch;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearch;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearchCondition;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearchConditionSet;
@@ -36,12 +57,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.AbstractResource;
 import org.springframework.http.*;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.util.Base64Utils;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponents;
@@ -75,26 +101,34 @@ public class IGCRestClient {
     private String authorization;
     private String baseURL;
     private Boolean workflowEnabled = false;
-    private List<String> cookies = null;
+    private IGCSessionPool sessions;
     private RestTemplate restTemplate;
+    private ClientHttpRequestFactory requestFactory;
 
     private IGCVersionEnum igcVersion;
-    private HashMap<String, DynamicPropertyReader> typeAndPropertyToAccessor;
+    private ConcurrentMap<String, Optional<DynamicPropertyReader>> typeAndPropertyToAccessor;
 
-    private Set<String> typesThatCanBeCreated;
-    private Set<String> typesThatIncludeModificationDetails;
-    private Map<String, String> typeToDisplayName;
-    private Map<String, List<String>> typeToNonRelationshipProperties;
-    private Map<String, List<String>> typeToStringProperties;
-    private Map<String, List<String>> typeToAllProperties;
-    private Map<String, List<String>> typeToPagedRelationshipProperties;
+    private ConcurrentMap<String, IGCTypeMetadata> typeMetadata;
+    private ConcurrentMap<String, Object> typeMetadataLocks;
+    private IGCTypeMetadataCache typeCache;
+    private String typesChecksum;
+    private volatile boolean typeCacheChanged = false;
 
-    private Map<String, Class<?>> registeredTypes;
+    private ConcurrentMap<String, Class<?>> registeredTypes;
 
     private int defaultPageSize = 100;
+    private int pagePrefetchParallelism = 1;
+    private volatile IGCPageSizer pageSizer = null;
+    private ThreadPoolExecutor pageExecutor = null;
 
     private ObjectMapper mapper;
     private ObjectMapper typeMapper;
+    private IGCRequestCoalescer inFlightRequests;
+    private volatile IGCRequestLimiter limiter;
+    private Map<List<String>, IGCPreparedSearch> subsetSearches;
+    private Map<List<String>, Projection> projections;
+    private IGCRequestMetrics metrics;
+    private IdentityCache identities;
 
     private static final String EP_BASE_API = "/ibm/iis/igc-rest/v1";
     private static final String EP_TYPES = EP_BASE_API + "/types";
@@ -103,6 +137,14 @@ public class IGCRestClient {
     private static final String EP_LOGOUT  = EP_BASE_API + "/logout";
     private static final String EP_BUNDLES = EP_BASE_API + "/bundles";
     private static final String EP_BUNDLE_ASSETS = EP_BUNDLES + "/assets";
+    private static final String EP_DETECT_LINEAGE = EP_BASE_API + "/flows/detectFlows/dsjob/";
+
+    private static final Pattern PAGING_BEGIN = Pattern.compile("([?&]begin=)\\d+");
+    private static final long RETRY_BACKOFF = 200;
+    private static final Pattern SEARCH_TYPES = Pattern.compile("\"types\":\\[([^\\]]*)]");
+    private static final Pattern CREATE_TYPE = Pattern.compile("\"_type\"\\s*:\\s*\"([^\"]+)\"");
+    private static final IGCPreparedSearch ASSET_REF_BY_ID = prepareAssetRefById();
+    private static final int MAX_PREPARED = 500;
 
     /**
      * Default constructor used by the IGCRestClient.
@@ -120,6 +162,42 @@ public class IGCRestClient {
         this("https://" + host + ":" + port, user, password);
     }
 
+    /**
+     * Creates a new session on the server and retains the cookies to re-use the same session for the life
+     * of the client (or until the session times out); whichever occurs first.
+     *
+     * @param host the services (domain) tier host
+     * @param port the services (domain) tier port number
+     * @param user the username with which to open and retain the session
+     * @param password the password for the user
+     * @param transportSettings the settings to use for the HTTP transport (connection pooling, timeouts, etc)
+     * @throws IGCConnectivityException if there is any issue connecting to IGC
+     */
+    public IGCRestClient(String host, String port, String user, String password, HttpTransportSettings transportSettings) throws IGCConnectivityException {
+        this(host, port, user, password, transportSettings, null);
+    }
+
+    /**
+     * Creates a new session on the server and retains the cookies to re-use the same session for the life
+     * of the client (or until the session times out); whichever occurs first.
+     *
+     * @param host the services (domain) tier host
+     * @param port the services (domain) tier port number
+     * @param user the username with which to open and retain the session
+     * @param password the password for the user
+     * @param transportSettings the settings to use for the HTTP transport (connection pooling, timeouts, etc)
+     * @param clientSettings the settings for how the client sends its requests (prefetching, retries, etc)
+     * @throws IGCConnectivityException if there is any issue connecting to IGC
+     */
+    public IGCRestClient(String host,
+                         String port,
+                         String user,
+                         String password,
+                         HttpTransportSettings transportSettings,
+                         IGCClientSettings clientSettings) throws IGCConnectivityException {
+        this("https://" + host + ":" + port, user, password, transportSettings, clientSettings);
+    }
+
     /**
      * Creates a new session on the server and retains the cookies to re-use the same session for the life
      * of the client (or until the session times out); whichever occurs first.
@@ -133,6 +211,51 @@ public class IGCRestClient {
         this(baseURL, encodeBasicAuth(user, password));
     }
 
+    /**
+     * Creates a new session on the server and retains the cookies to re-use the same session for the life
+     * of the client (or until the session times out); whichever occurs first.
+     *
+     * @param baseURL the base URL of the domain tier of Information Server
+     * @param user the username with which to open and retain the session
+     * @param password the password of the user
+     * @param transportSettings the settings to use for the HTTP transport (connection pooling, timeouts, etc)
+     * @throws IGCConnectivityException if there is any issue connecting to IGC
+     */
+    public IGCRestClient(String baseURL, String user, String password, HttpTransportSettings transportSettings) throws IGCConnectivityException {
+        this(baseURL, user, password, transportSettings, null);
+    }
+
+    /**
+     * Creates a new session on the server and retains the cookies to re-use the same session for the life
+     * of the client (or until the session times out); whichever occurs first.
+     *
+     * @param baseURL the base URL of the domain tier of Information Server
+     * @param user the username with which to open and retain the session
+     * @param password the password of the user
+     * @param transportSettings the settings to use for the HTTP transport (connection pooling, timeouts, etc)
+     * @param clientSettings the settings for how the client sends its requests (prefetching, retries, etc)
+     * @throws IGCConnectivityException if there is any issue connecting to IGC
+     */
+    public IGCRestClient(String baseURL,
+                         String user,
+                         String password,
+                         HttpTransportSettings transportSettings,
+                         IGCClientSettings clientSettings) throws IGCConnectivityException {
+        this(baseURL,
+                encodeBasicAuth(user, password),
+                HttpTransportFactory.getRequestFactory(transportSettings),
+                transportSettings == null ? HttpTransportSettings.DEFAULT_MAX_SESSIONS : transportSettings.getMaxSessions());
+        if (clientSettings != null) {
+            int maxSessions = transportSettings == null ? HttpTransportSettings.DEFAULT_MAX_SESSIONS : transportSettings.getMaxSessions();
+            setPagePrefetchParallelism(clientSettings.getPagePrefetchParallelism());
+            setRequestLimits(clientSettings.getMaxConcurrentRequests() > 0 ? clientSettings.getMaxConcurrentRequests() : maxSessions,
+                    clientSettings.getRequestQueueTimeout(),
+                    clientSettings.getMaxRetries());
+            setTypeCacheDirectory(clientSettings.getTypeCacheDirectory());
+            setPageLatencyBudget(clientSettings.getPageLatencyBudget());
+        }
+    }
+
     /**
      * Creates a new session on the server and retains the cookies to re-use the same session for the life
      * of the client (or until the session times out); whichever occurs first.
@@ -142,6 +265,36 @@ public class IGCRestClient {
      * @throws IGCConnectivityException if there is any issue connecting to IGC
      */
     protected IGCRestClient(String baseURL, String authorization) throws IGCConnectivityException {
+        this(baseURL, authorization, HttpTransportFactory.getRequestFactory(null));
+    }
+
+    /**
+     * Creates a new session on the server and retains the cookies to re-use the same session for the life
+     * of the client (or until the session times out); whichever occurs first.
+     *
+     * @param baseURL the base URL of the domain tier of Information Server
+     * @param authorization the Basic-encoded authorization string to use to login to Information Server
+     * @param requestFactory the HTTP transport through which to send all requests
+     * @throws IGCConnectivityException if there is any issue connecting to IGC
+     * @see HttpTransportFactory
+     */
+    protected IGCRestClient(String baseURL, String authorization, ClientHttpRequestFactory requestFactory) throws IGCConnectivityException {
+        this(baseURL, authorization, requestFactory, HttpTransportSettings.DEFAULT_MAX_SESSIONS);
+    }
+
+    /**
+     * Creates new sessions on the server as they are needed (up to the specified maximum), and retains the cookies of
+     * each to re-use the same sessions for the life of the client (or until each session times out); whichever occurs
+     * first.
+     *
+     * @param baseURL the base URL of the domain tier of Information Server
+     * @param authorization the Basic-encoded authorization string to use to login to Information Server
+     * @param requestFactory the HTTP transport through which to send all requests
+     * @param maxSessions the maximum number of sessions to open concurrently against Information Server
+     * @throws IGCConnectivityException if there is any issue connecting to IGC
+     * @see HttpTransportFactory
+     */
+    protected IGCRestClient(String baseURL, String authorization, ClientHttpRequestFactory requestFactory, int maxSessions) throws IGCConnectivityException {
 
         if (baseURL == null || !baseURL.startsWith("https://")) {
             throw new IGCConnectivityException("Cannot instantiate IGCRestClient -- baseURL must be https.", baseURL);
@@ -158,31 +311,35 @@ public class IGCRestClient {
                             .enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)
                             .enable(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT);
         this.typeMapper = new ObjectMapper();
-        this.typeAndPropertyToAccessor = new HashMap<>();
-        this.restTemplate = new RestTemplate();
+        this.typeAndPropertyToAccessor = new ConcurrentHashMap<>();
+        this.requestFactory = requestFactory;
+        this.restTemplate = new RestTemplate(requestFactory);
+        this.sessions = new IGCSessionPool(maxSessions);
+        this.inFlightRequests = new IGCRequestCoalescer();
+        this.subsetSearches = getBoundedMap(MAX_PREPARED);
+        this.projections = getBoundedMap(MAX_PREPARED);
+        this.metrics = new IGCRequestMetrics();
+        this.identities = new IdentityCache();
+        this.limiter = new IGCRequestLimiter(maxSessions, 0, IGCClientSettings.DEFAULT_MAX_RETRIES, RETRY_BACKOFF);
 
         // Ensure that the REST template always uses UTF-8
         List<HttpMessageConverter<?>> converters = restTemplate.getMessageConverters();
         converters.removeIf(httpMessageConverter -> httpMessageConverter instanceof StringHttpMessageConverter);
         converters.add(0, new StringHttpMessageConverter(StandardCharsets.UTF_8));
 
-        this.typesThatCanBeCreated = new HashSet<>();
-        this.typesThatIncludeModificationDetails = new HashSet<>();
-        this.typeToDisplayName = new HashMap<>();
-        this.typeToNonRelationshipProperties = new HashMap<>();
-        this.typeToStringProperties = new HashMap<>();
-        this.typeToAllProperties = new HashMap<>();
-        this.typeToPagedRelationshipProperties = new HashMap<>();
+        this.typeMetadata = new ConcurrentHashMap<>();
+        this.typeMetadataLocks = new ConcurrentHashMap<>();
 
-        this.registeredTypes = new HashMap<>();
+        this.registeredTypes = new ConcurrentHashMap<>();
 
         // Setup these values up-front for the 'note' type, which is not formally a type otherwise
-        this.typesThatIncludeModificationDetails.add(IGCRestConstants.NOTE);
-        this.typeToDisplayName.put(IGCRestConstants.NOTE, "Note");
-        this.typeToNonRelationshipProperties.put(IGCRestConstants.NOTE, Arrays.asList("note", "status", "subject", "type"));
-        this.typeToStringProperties.put(IGCRestConstants.NOTE, Arrays.asList("note", "status", "subject", "type"));
-        this.typeToAllProperties.put(IGCRestConstants.NOTE, Arrays.asList("belonging_to", "note", "status", "subject", "type"));
-        this.typeToPagedRelationshipProperties.put(IGCRestConstants.NOTE, Arrays.asList("note", "status", "subject", "type"));
+        this.typeMetadata.put(IGCRestConstants.NOTE, new IGCTypeMetadata("Note",
+                false,
+                true,
+                Arrays.asList("belonging_to", "note", "status", "subject", "type"),
+                Arrays.asList("note", "status", "subject", "type"),
+                Arrays.asList("note", "status", "subject", "type"),
+                Arrays.asList("note", "status", "subject", "type")));
 
     }
 
@@ -201,15 +358,20 @@ public class IGCRestClient {
         igcSearch.addType("information_governance_rule");
         igcSearch.setPageSize(1);
         igcSearch.setDevGlossary(true);
-        String response = searchJson(igcSearch);
+        // (Note that we use a separate mapper here, as POJOs will not yet have been registered for the client's mapper)
+        ObjectMapper tmpMapper = new ObjectMapper();
+        ItemList<Reference> response = makeStreamingRequest(EP_SEARCH,
+                HttpMethod.POST,
+                MediaType.APPLICATION_JSON,
+                igcSearch.getQuery().toString(),
+                null,
+                tmpMapper.readerFor(new TypeReference<ItemList<Reference>>(){}));
 
         log.debug("Checking for workflow and registering version...");
-        ObjectMapper tmpMapper = new ObjectMapper();
-        try {
-            this.workflowEnabled = tmpMapper.readValue(response, new TypeReference<ItemList<Reference>>(){}).getPaging().getNumTotal() > 0;
-        } catch (IOException e) {
-            throw new IGCConnectivityException("Unable to determine if workflow is enabled.", e);
+        if (response == null) {
+            throw new IGCConnectivityException("Unable to determine if workflow is enabled.", igcSearch.getQuery().toString());
         }
+        this.workflowEnabled = response.getPaging().getNumTotal() > 0;
 
         // Start with lowest version supported
         this.igcVersion = IGCVersionEnum.values()[0];
@@ -224,6 +386,16 @@ public class IGCRestClient {
         }
         log.info("Detected IGC version: {}", this.igcVersion.getVersionString());
 
+        // Re-use any type details cached by an earlier client, so long as IGC still reports precisely the same types
+        if (typeCache != null) {
+            this.typesChecksum = IGCTypeMetadataCache.getChecksum(igcTypes);
+            Map<String, IGCTypeMetadata> cached = typeCache.load(this.igcVersion, this.typesChecksum);
+            for (Map.Entry<String, IGCTypeMetadata> entry : cached.entrySet()) {
+                typeMetadata.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+            log.info("Loaded cached details of {} types from: {}", cached.size(), typeCache.getFile());
+        }
+
         // So long as no runtime exception was thrown by the steps above, we have successfully started
         return true;
 
@@ -233,15 +405,17 @@ public class IGCRestClient {
      * Setup the HTTP headers of a request based on either session reuse (forceLogin = false) or forcing a new
      * session (forceLogin = true).
      *
+     * @param session the session for which to setup the headers
      * @param forceLogin indicates whether to create a new session by forcing login (true), or reuse existing session (false)
      * @return HttpHeaders
      */
-    private HttpHeaders getHttpHeaders(boolean forceLogin) {
+    private HttpHeaders getHttpHeaders(IGCSession session, boolean forceLogin) {
 
         HttpHeaders headers = new HttpHeaders();
         headers.add(HttpHeaders.CACHE_CONTROL, "no-cache");
         headers.add(HttpHeaders.CONTENT_TYPE, "application/json");
 
+        List<String> cookies = session.getCookies();
         // If we have cookies already, and haven't been asked to force the login,
         // re-use these (to maintain the same session)
         if (cookies != null && !forceLogin) {
@@ -261,6 +435,7 @@ public class IGCRestClient {
      * and we are unable to open a new session with this attempt, will give up. If the alreadyTriedNewSession is false,
      * will attempt to re-send this request to open a new session precisely once before giving up.
      *
+     * @param session the session to re-open
      * @param url the URL to which to send the request
      * @param method the HTTP method to use in sending the request
      * @param contentType the type of content to expect in the payload (if any)
@@ -270,7 +445,8 @@ public class IGCRestClient {
      * @return {@code ResponseEntity<String>}
      * @throws IGCConnectivityException if the attempt to open a new session fails
      */
-    private ResponseEntity<String> openNewSessionWithRequest(String url,
+    private ResponseEntity<String> openNewSessionWithRequest(IGCSession session,
+                                                             String url,
                                                              HttpMethod method,
                                                              MediaType contentType,
                                                              String payload,
@@ -280,9 +456,9 @@ public class IGCRestClient {
             String formattedMessage = "Opening a new session already attempted without success -- giving up: " + method + " to " + url + " with: " + payload;
             throw new IGCConnectivityException(formattedMessage, cause);
         } else {
-            // By removing cookies, we'll force a login
-            this.cookies = null;
-            return makeRequest(url, method, contentType, payload, true);
+            // By removing cookies, we'll force a login (of only this session)
+            session.invalidate();
+            return makeRequest(session, url, method, contentType, payload, true);
         }
     }
 
@@ -291,6 +467,7 @@ public class IGCRestClient {
      * and we are unable to open a new session with this attempt, will give up. If the alreadyTriedNewSession is false,
      * will attempt to re-upload the file to open a new session precisely once before giving up.
      *
+     * @param session the session to re-open
      * @param endpoint the endpoint to which to upload the file
      * @param method the HTTP method to use in sending the request
      * @param file the Spring FileSystemResource or ClassPathResource containing the file to be uploaded
@@ -299,7 +476,8 @@ public class IGCRestClient {
      * @return {@code ResponseEntity<String>}
      * @throws IGCConnectivityException if the attempt to open a new session fails
      */
-    private ResponseEntity<String> openNewSessionWithUpload(String endpoint,
+    private ResponseEntity<String> openNewSessionWithUpload(IGCSession session,
+                                                            String endpoint,
                                                             HttpMethod method,
                                                             AbstractResource file,
                                                             boolean alreadyTriedNewSession,
@@ -309,9 +487,9 @@ public class IGCRestClient {
             throw new IGCConnectivityException(formattedMessage, cause);
         } else {
             log.info("Session appears to have timed out -- starting a new session and re-trying the upload.");
-            // By removing cookies, we'll force a login
-            this.cookies = null;
-            return uploadFile(endpoint, method, file, true);
+            // By removing cookies, we'll force a login (of only this session)
+            session.invalidate();
+            return uploadFile(session, endpoint, method, file, true);
         }
     }
 
@@ -319,21 +497,22 @@ public class IGCRestClient {
      * Adds the cookies from a response into subsequent headers, so that we re-use the session indicated by those
      * cookies.
      *
-     * @param response the response from which to obtain the cookies
+     * @param session the session into which to retain the cookies
+     * @param status the status of the response
+     * @param headers the headers of the response, from which to obtain the cookies
      * @throws IGCConnectivityException if an invalid cookie is found, suggesting some attempt at hacking
      */
-    private void setCookiesFromResponse(ResponseEntity<String> response) throws IGCConnectivityException {
+    private void setCookiesFromResponse(IGCSession session, HttpStatus status, HttpHeaders headers) throws IGCConnectivityException {
 
         // If we had a successful response, setup the cookies
-        if (response.getStatusCode() == HttpStatus.OK
-                || response.getStatusCode() == HttpStatus.CREATED
-                || response.getStatusCode() == HttpStatus.ACCEPTED) {
-            HttpHeaders headers = response.getHeaders();
+        if (status == HttpStatus.OK
+                || status == HttpStatus.CREATED
+                || status == HttpStatus.ACCEPTED) {
             if (headers.get(HttpHeaders.SET_COOKIE) != null) {
                 // Validate each cookie against our whitelist of valid cookies, to avoid any potential security exposure
                 List<String> candidateCookies = headers.get(HttpHeaders.SET_COOKIE);
                 if (candidateCookies != null) {
-                    cookies = new ArrayList<>();
+                    List<String> cookies = new ArrayList<>();
                     for (String candidate : candidateCookies) {
                         String[] tokens = candidate.split("=");
                         if (tokens.length < 2) {
@@ -350,10 +529,11 @@ public class IGCRestClient {
                             throw new IGCConnectivityException("A cookie was found that has invalid characters and could therefore present a security problem.", candidate);
                         }
                     }
+                    session.setCookies(cookies);
                 }
             }
         } else {
-            throw new IGCConnectivityException("Unable to make request or unexpected status.", response.getStatusCode().toString());
+            throw new IGCConnectivityException("Unable to make request or unexpected status.", status.toString());
         }
 
     }
@@ -425,6 +605,13 @@ public class IGCRestClient {
      */
     public String getBaseURL() { return baseURL; }
 
+    /**
+     * Retrieve the number of sessions this client has opened against IGC (some of which may since have timed out).
+     *
+     * @return int
+     */
+    public int getSessionCount() { return sessions.getSessions().size(); }
+
     /**
      * Retrieve the default page size for this IGC REST API connection.
      *
@@ -439,6 +626,134 @@ public class IGCRestClient {
      */
     public void setDefaultPageSize(int pageSize) { this.defaultPageSize = pageSize; }
 
+    /**
+     * Set the latency within which each page of search results should be retrieved. When set, the page size for each
+     * shape of search (the asset types searched and the properties retrieved) is learned from the latency and size of
+     * the pages of that shape already retrieved, to retrieve as many results per second as possible within the budget.
+     *
+     * @param pageLatencyBudget the latency budget for each page, in milliseconds (0 to always use the page size
+     *                          requested)
+     * @see #getPageSize(IGCSearch, int)
+     */
+    public void setPageLatencyBudget(long pageLatencyBudget) {
+        this.pageSizer = pageLatencyBudget > 0 ? new IGCPageSizer(pageLatencyBudget, TimeUnit.MILLISECONDS) : null;
+    }
+
+    /**
+     * Retrieve the latency within which each page of search results should be retrieved.
+     *
+     * @return long - the latency budget for each page, in milliseconds (0 if page sizes are not adapted)
+     */
+    public long getPageLatencyBudget() {
+        IGCPageSizer sizer = pageSizer;
+        return sizer == null ? 0 : sizer.getLatencyBudget();
+    }
+
+    /**
+     * Retrieve the page size to use for the provided search: the largest page predicted to be retrieved within the
+     * page latency budget (if one is set), but never more than the page size requested.
+     *
+     * @param igcSearch the search (with all of its types and properties already added)
+     * @param limit the page size requested
+     * @return int - the page size to use
+     * @see #setPageLatencyBudget(long)
+     */
+    public int getPageSize(IGCSearch igcSearch, int limit) {
+        IGCPageSizer sizer = pageSizer;
+        return sizer == null ? limit : sizer.getPageSize(igcSearch.getQuery().toString(), limit);
+    }
+
+    /**
+     * Retrieve the maximum number of pages of results this client will retrieve concurrently when retrieving all
+     * pages of results.
+     *
+     * @return int
+     */
+    public int getPagePrefetchParallelism() { return pagePrefetchParallelism; }
+
+    /**
+     * Set the maximum number of pages of results this client will retrieve concurrently when retrieving all pages of
+     * results (1 to retrieve pages one after the other). Note that each concurrent request also requires its own
+     * session, so the number of sessions may further limit how many pages are actually retrieved concurrently.
+     * <br><br>
+     * If pages are already being retrieved concurrently, the existing threads are resized in place rather than replaced,
+     * so that any retrieval still in progress is unaffected.
+     *
+     * @param pagePrefetchParallelism the maximum number of pages to retrieve concurrently
+     * @see #getAllPages(String, ItemList)
+     */
+    public synchronized void setPagePrefetchParallelism(int pagePrefetchParallelism) {
+        this.pagePrefetchParallelism = Math.max(1, pagePrefetchParallelism);
+        if (pageExecutor != null) {
+            // The core size can never exceed the maximum, so which to change first depends on the direction
+            if (this.pagePrefetchParallelism > pageExecutor.getMaximumPoolSize()) {
+                pageExecutor.setMaximumPoolSize(this.pagePrefetchParallelism);
+                pageExecutor.setCorePoolSize(this.pagePrefetchParallelism);
+            } else {
+                pageExecutor.setCorePoolSize(this.pagePrefetchParallelism);
+                pageExecutor.setMaximumPoolSize(this.pagePrefetchParallelism);
+            }
+        }
+    }
+
+    /**
+     * Set the directory in which to keep a snapshot of the details of IGC's types (display names and the kinds of
+     * properties of each type), so that they need not be retrieved from IGC again each time a client is started
+     * against the same environment. The snapshot is only used while IGC reports the same version and list of types,
+     * and is updated when the client is disconnected (or explicitly saved). Must be set before the client is started.
+     *
+     * @param directory the directory in which to keep the snapshot (null to not keep any snapshot)
+     * @see #saveTypeDetails()
+     */
+    public void setTypeCacheDirectory(String directory) {
+        if (directory == null || directory.trim().isEmpty()) {
+            this.typeCache = null;
+        } else {
+            this.typeCache = new IGCTypeMetadataCache(new File(directory.trim()), baseURL, typeMapper);
+        }
+    }
+
+    /**
+     * Set the limits that apply backpressure to the requests this client sends to IGC. The number of requests sent
+     * concurrently is adapted to what the services tier can sustain (lowered sharply on server errors, timeouts or
+     * rising latency, and raised gradually again as requests succeed), never exceeding the provided maximum.
+     * Requests beyond the current limit wait until they can be sent, and idempotent requests (retrievals and
+     * searches) that fail due to overload are retried after a jittered, exponential backoff.
+     *
+     * @param maxConcurrentRequests the maximum number of requests to send concurrently
+     * @param requestQueueTimeout the number of milliseconds a request may wait to be sent before it fails (0 to wait
+     *                            indefinitely)
+     * @param maxRetries the maximum number of times to retry an idempotent request that failed due to overload
+     */
+    public void setRequestLimits(int maxConcurrentRequests, long requestQueueTimeout, int maxRetries) {
+        this.limiter = new IGCRequestLimiter(maxConcurrentRequests, requestQueueTimeout, maxRetries, RETRY_BACKOFF);
+    }
+
+    /**
+     * Retrieve the current (adaptive) limit on the number of requests this client will send to IGC concurrently.
+     *
+     * @return int
+     * @see #setRequestLimits(int, long, int)
+     */
+    public int getConcurrentRequestLimit() { return limiter.getLimit(); }
+
+    /**
+     * Retrieve the number of requests this client did not send to IGC, because they could not be sent within the
+     * request queue timeout.
+     *
+     * @return long
+     * @see #setRequestLimits(int, long, int)
+     */
+    public long getShedRequestCount() { return limiter.getShedCount(); }
+
+    /**
+     * Retrieve the number of times this client has retried a request to IGC, because the services tier was overloaded.
+     *
+     * @return long
+     * @see #setRequestLimits(int, long, int)
+     */
+    public long getRetriedRequestCount() { return limiter.getRetryCount(); }
+
     /**
      * Utility function to easily encode a username and password to send through as authorization info.
      *
@@ -474,15 +789,16 @@ public class IGCRestClient {
      * Internal utility for making potentially repeat requests (if session expires and needs to be re-opened),
      * to upload a file to a given endpoint.
      *
+     * @param session the session through which to upload the file
      * @param endpoint the REST resource against which to POST the upload
      * @param file the Spring FileSystemResource or ClassPathResource of the file to be uploaded
      * @param forceLogin a boolean indicating whether login should be forced (true) or session reused (false)
      * @return {@code ResponseEntity<String>}
      * @throws IGCConnectivityException if there is any connectivity issue during the upload
      */
-    private ResponseEntity<String> uploadFile(String endpoint, HttpMethod method, AbstractResource file, boolean forceLogin) throws IGCConnectivityException {
+    private ResponseEntity<String> uploadFile(IGCSession session, String endpoint, HttpMethod method, AbstractResource file, boolean forceLogin) throws IGCConnectivityException {
 
-        HttpHeaders headers = getHttpHeaders(forceLogin);
+        HttpHeaders headers = getHttpHeaders(session, forceLogin);
         headers.setContentType(MediaType.MULTIPART_FORM_DATA);
 
         ResponseEntity<String> response;
@@ -493,6 +809,8 @@ public class IGCRestClient {
 
         String url = baseURL + (endpoint.startsWith("/") ? endpoint : "/" + endpoint);
 
+        long sent = getContentLength(file);
+        long start = System.nanoTime();
         try {
             response = restTemplate.exchange(
                     url,
@@ -500,11 +818,14 @@ public class IGCRestClient {
                     toSend,
                     String.class
             );
+            recordRequest(url, method, null, start, sent, getUtf8Length(response.getBody()), null, false);
         } catch (HttpClientErrorException.Forbidden | HttpClientErrorException.Unauthorized e) {
+            recordRequest(url, method, null, start, sent, 0, null, true);
             log.warn("Request failed -- session may have expired, retrying...", e);
             // If the response was forbidden or unauthorized (fails with exception), the session may have expired so
             // attempt to create a new one
             response = openNewSessionWithUpload(
+                    session,
                     endpoint,
                     method,
                     file,
@@ -512,6 +833,7 @@ public class IGCRestClient {
                     e
             );
         } catch (RestClientException e) {
+            recordRequest(url, method, null, start, sent, 0, null, true);
             throw new IGCConnectivityException("Request failed -- check IGC environment connectivity and authentication details.", e);
         }
 
@@ -529,13 +851,21 @@ public class IGCRestClient {
      * @throws IGCConnectivityException if there is any connectivity issue during the upload
      */
     public boolean uploadFile(String endpoint, HttpMethod method, AbstractResource file) throws IGCConnectivityException {
-        ResponseEntity<String> response = uploadFile(endpoint, method, file, false);
+        ResponseEntity<String> response = limiter.execute(() -> {
+            IGCSession session = sessions.lease();
+            try {
+                return uploadFile(session, endpoint, method, file, false);
+            } finally {
+                sessions.release(session);
+            }
+        }, false);
         return (response != null && response.getStatusCode() == HttpStatus.OK);
     }
 
     /**
      * Internal utility for making potentially repeat requests (if session expires and needs to be re-opened).
      *
+     * @param session the session through which to make the request
      * @param url the URL against which to make the request
      * @param method HttpMethod (GET, POST, etc)
      * @param contentType the type of content to expect in the payload (if any)
@@ -544,12 +874,13 @@ public class IGCRestClient {
      * @return {@code ResponseEntity<String>}
      * @throws IGCConnectivityException if there is any connectivity issue during the request
      */
-    private ResponseEntity<String> makeRequest(String url,
+    private ResponseEntity<String> makeRequest(IGCSession session,
+                                               String url,
                                                HttpMethod method,
                                                MediaType contentType,
                                                String payload,
                                                boolean forceLogin) throws IGCConnectivityException {
-        HttpHeaders headers = getHttpHeaders(forceLogin);
+        HttpHeaders headers = getHttpHeaders(session, forceLogin);
         HttpEntity<String> toSend;
         if (payload != null) {
             headers.setContentType(contentType);
@@ -558,6 +889,7 @@ public class IGCRestClient {
             toSend = new HttpEntity<>(headers);
         }
         ResponseEntity<String> response;
+        long start = System.nanoTime();
         try {
             log.debug("{}ing to {} with: {}", method, url, payload);
             UriComponents uriComponents = UriComponentsBuilder.fromHttpUrl(url).build(true);
@@ -566,12 +898,15 @@ public class IGCRestClient {
                     method,
                     toSend,
                     String.class);
-            setCookiesFromResponse(response);
+            recordRequest(url, method, payload, start, getUtf8Length(payload), getUtf8Length(response.getBody()), null, false);
+            setCookiesFromResponse(session, response.getStatusCode(), response.getHeaders());
         } catch (HttpClientErrorException.Forbidden | HttpClientErrorException.Unauthorized e) {
+            recordRequest(url, method, payload, start, getUtf8Length(payload), 0, null, true);
             log.warn("Request failed -- session may have expired, retrying...", e);
             // If the response was forbidden or unauthorized (fails with exception), the session may have expired so
             // attempt to create a new one
             response = openNewSessionWithRequest(
+                    session,
                     url,
                     method,
                     contentType,
@@ -580,11 +915,224 @@ public class IGCRestClient {
                     e
             );
         } catch (RestClientException e) {
+            recordRequest(url, method, payload, start, getUtf8Length(payload), 0, null, true);
             throw new IGCConnectivityException("Request failed -- check IGC environment connectivity and authentication details.", e);
         }
         return response;
     }
 
+    /**
+     * Internal utility for making a request through whichever session is next available, waiting for one to become
+     * available if all sessions are already in use (and for the request to be allowed under the concurrency limit).
+     *
+     * @param url the URL against which to make the request
+     * @param method HttpMethod (GET, POST, etc)
+     * @param contentType the type of content to expect in the payload (if any)
+     * @param payload if POSTing some content, the JSON structure providing what should be POSTed
+     * @return {@code ResponseEntity<String>}
+     * @throws IGCConnectivityException if there is any connectivity issue during the request
+     */
+    private ResponseEntity<String> sendRequest(String url,
+                                               HttpMethod method,
+                                               MediaType contentType,
+                                               String payload) throws IGCConnectivityException {
+        return limiter.execute(() -> {
+            IGCSession session = sessions.lease();
+            try {
+                return makeRequest(session, url, method, contentType, payload, false);
+            } finally {
+                sessions.release(session);
+            }
+        }, isReadOnly(url, method));
+    }
+
+    /**
+     * Internal utility for making potentially repeat requests (if session expires and needs to be re-opened), parsing
+     * the JSON response directly from the response stream rather than first reading it into a String.
+     *
+     * @param session the session through which to make the request
+     * @param url the URL against which to make the request
+     * @param method HttpMethod (GET, POST, etc)
+     * @param contentType the type of content to expect in the payload (if any)
+     * @param payload if POSTing some content, the JSON structure providing what should be POSTed
+     * @param wrapperName the name of the field that wraps the value to parse in the response (or null if not wrapped)
+     * @param reader the Jackson reader through which to parse the response
+     * @param forceLogin a boolean indicating whether login should be forced (true) or session reused (false)
+     * @param <R> the type of object into which to parse the response
+     * @return R - the parsed response, or null if the response had no content
+     * @throws IGCConnectivityException if there is any connectivity issue during the request
+     * @throws IGCParsingException if there is any issue parsing the response from IGC
+     */
+    private <R> R makeStreamingRequest(IGCSession session,
+                                       String url,
+                                       HttpMethod method,
+                                       MediaType contentType,
+                                       String payload,
+                                       String wrapperName,
+                                       ObjectReader reader,
+                                       boolean forceLogin) throws IGCConnectivityException, IGCParsingException {
+        HttpHeaders headers = getHttpHeaders(session, forceLogin);
+        HttpEntity<String> toSend;
+        if (payload != null) {
+            headers.setContentType(contentType);
+            toSend = new HttpEntity<>(payload, headers);
+        } else {
+            toSend = new HttpEntity<>(headers);
+        }
+        RequestCallback callback = restTemplate.httpEntityCallback(toSend, String.class);
+        JsonResponseExtractor<R> extractor = new JsonResponseExtractor<>(session, wrapperName, reader);
+        R result;
+        long start = System.nanoTime();
+        try {
+            log.debug("{}ing to {} with: {}", method, url, payload);
+            UriComponents uriComponents = UriComponentsBuilder.fromHttpUrl(url).build(true);
+            result = restTemplate.execute(uriComponents.toUri(), method, callback, extractor);
+        } catch (HttpClientErrorException.Forbidden | HttpClientErrorException.Unauthorized e) {
+            recordRequest(url, method, payload, start, getUtf8Length(payload), extractor.received, null, true);
+            if (forceLogin) {
+                String formattedMessage = "Opening a new session already attempted without success -- giving up: " + method + " to " + url + " with: " + payload;
+                throw new IGCConnectivityException(formattedMessage, e);
+            }
+            log.warn("Request failed -- session may have expired, retrying...", e);
+            // If the response was forbidden or unauthorized (fails with exception), the session may have expired so
+            // remove the cookies to force a login (of only this session) and try once more
+            session.invalidate();
+            return makeStreamingRequest(session, url, method, contentType, payload, wrapperName, reader, true);
+        } catch (RestClientException e) {
+            recordRequest(url, method, payload, start, getUtf8Length(payload), extractor.received, null, true);
+            throw new IGCConnectivityException("Request failed -- check IGC environment connectivity and authentication details.", e);
+        }
+        boolean failed = extractor.connectivityError != null || extractor.parsingError != null;
+        recordRequest(url, method, payload, start, getUtf8Length(payload), extractor.received, result, failed);
+        if (extractor.connectivityError != null) {
+            throw extractor.connectivityError;
+        } else if (extractor.parsingError != null) {
+            throw new IGCParsingException("Unable to parse response.", method + " to " + url + " with: " + payload, extractor.parsingError);
+        }
+        return result;
+    }
+
+    /**
+     * Internal utility for making a request through whichever session is next available, parsing the JSON response
+     * directly from the response stream.
+     * <br><br>
+     * Read-only requests (retrievals and searches) are coalesced: if an identical request is already in-flight from
+     * another thread, this request will wait for and share its parsed result rather than sending another request.
+     *
+     * @param endpoint the REST resource against which to make the request
+     * @param method HttpMethod (GET, POST, etc)
+     * @param contentType the type of content to expect in the payload (if any)
+     * @param payload if POSTing some content, the JSON structure providing what should be POSTed
+     * @param wrapperName the name of the field that wraps the value to parse in the response (or null if not wrapped)
+     * @param reader the Jackson reader through which to parse the response
+     * @param <R> the type of object into which to parse the response
+     * @return R - the parsed response, or null if the response had no content
+     * @throws IGCConnectivityException if there is any connectivity issue during the request
+     * @throws IGCParsingException if there is any issue parsing the response from IGC
+     */
+    private <R> R makeStreamingRequest(String endpoint,
+                                       HttpMethod method,
+                                       MediaType contentType,
+                                       String payload,
+                                       String wrapperName,
+                                       ObjectReader reader) throws IGCConnectivityException, IGCParsingException {
+        String url = baseURL + (endpoint.startsWith("/") ? endpoint : "/" + endpoint);
+        String key = getRequestKey(url, method, payload, wrapperName, reader);
+        if (key == null) {
+            return sendStreamingRequest(url, method, contentType, payload, wrapperName, reader);
+        } else {
+            return inFlightRequests.execute(key, () -> sendStreamingRequest(url, method, contentType, payload, wrapperName, reader));
+        }
+    }
+
+    /**
+     * Internal utility for sending a request through whichever session is next available (once the request is
+     * allowed under the concurrency limit), parsing the JSON response directly from the response stream.
+     *
+     * @param url the URL against which to make the request
+     * @param method HttpMethod (GET, POST, etc)
+     * @param contentType the type of content to expect in the payload (if any)
+     * @param payload if POSTing some content, the JSON structure providing what should be POSTed
+     * @param wrapperName the name of the field that wraps the value to parse in the response (or null if not wrapped)
+     * @param reader the Jackson reader through which to parse the response
+     * @param <R> the type of object into which to parse the response
+     * @return R - the parsed response, or null if the response had no content
+     * @throws IGCConnectivityException if there is any connectivity issue during the request
+     * @throws IGCParsingException if there is any issue parsing the response from IGC
+     */
+    private <R> R sendStreamingRequest(String url,
+                                       HttpMethod method,
+                                       MediaType contentType,
+                                       String payload,
+                                       String wrapperName,
+                                       ObjectReader reader) throws IGCConnectivityException, IGCParsingException {
+        return limiter.execute(() -> {
+            IGCSession session = sessions.lease();
+            try {
+                return makeStreamingRequest(session, url, method, contentType, payload, wrapperName, reader, false);
+            } finally {
+                sessions.release(session);
+            }
+        }, isReadOnly(url, method));
+    }
+
+    /**
+     * Indicates whether the provided request only reads from IGC (a retrieval or search), and can therefore safely be
+     * sent more than once.
+     *
+     * @param url the URL against which the request is made
+     * @param method HttpMethod (GET, POST, etc)
+     * @return boolean
+     */
+    private boolean isReadOnly(String url, HttpMethod method) {
+        return method == HttpMethod.GET || (method == HttpMethod.POST && url.endsWith(EP_SEARCH));
+    }
+
+    /**
+     * Calculate the key that identifies a read-only request, so that identical in-flight requests can be coalesced.
+     * The key covers the URL, the payload and how the response is parsed. The payload is used as-is: every payload
+     * is serialized by the client itself, and therefore deterministically, so there is no need to normalize it.
+     *
+     * @param url the URL against which the request is made
+     * @param method HttpMethod (GET, POST, etc)
+     * @param payload the JSON structure being POSTed (if any)
+     * @param wrapperName the name of the field that wraps the value to parse in the response (or null if not wrapped)
+     * @param reader the Jackson reader through which the response is parsed
+     * @return String - the key, or null if the request should not be coalesced
+     */
+    private String getRequestKey(String url, HttpMethod method, String payload, String wrapperName, ObjectReader reader) {
+        boolean readOnly = isReadOnly(url, method);
+        // Only responses parsed by the client's own mappers can be shared, as any other mapper (eg. the one used
+        // before types are registered) may produce different objects from the same response
+        String mapperName = null;
+        if (reader.getFactory() == mapper.getFactory()) {
+            mapperName = "mapper";
+        } else if (reader.getFactory() == typeMapper.getFactory()) {
+            mapperName = "typeMapper";
+        }
+        if (!readOnly || mapperName == null) {
+            return null;
+        }
+        return method + " " + url + "|" + wrapperName + "|" + mapperName + ":" + reader.getValueType() + "|" + (payload == null ? "" : payload);
+    }
+
+    /**
+     * Retrieve the number of read-only requests (retrievals and searches) this client has actually sent to IGC.
+     *
+     * @return long
+     * @see #getCoalescedRequestCount()
+     */
+    public long getExecutedRequestCount() { return inFlightRequests.getExecutedCount(); }
+
+    /**
+     * Retrieve the number of read-only requests (retrievals and searches) this client did not send to IGC, because
+     * they instead shared the result of an identical request that was already in-flight.
+     *
+     * @return long
+     * @see #getExecutedRequestCount()
+     */
+    public long getCoalescedRequestCount() { return inFlightRequests.getCoalescedCount(); }
+
     /**
      * General utility for making requests.
      *
@@ -596,12 +1144,11 @@ public class IGCRestClient {
      * @throws IGCConnectivityException if there is any connectivity issue during the request
      */
     public String makeRequest(String endpoint, HttpMethod method, MediaType contentType, String payload) throws IGCConnectivityException {
-        ResponseEntity<String> response = makeRequest(
+        ResponseEntity<String> response = sendRequest(
                 baseURL + (endpoint.startsWith("/") ? endpoint : "/" + endpoint),
                 method,
                 contentType,
-                payload,
-                false
+                payload
         );
         String body = null;
         if (response == null) {
@@ -624,12 +1171,11 @@ public class IGCRestClient {
      * @throws IGCConnectivityException if there is any connectivity issue during the request
      */
     public String makeCreateRequest(String endpoint, HttpMethod method, MediaType contentType, String payload) throws IGCConnectivityException {
-        ResponseEntity<String> response = makeRequest(
+        ResponseEntity<String> response = sendRequest(
                 baseURL + (endpoint.startsWith("/") ? endpoint : "/" + endpoint),
                 method,
                 contentType,
-                payload,
-                false
+                payload
         );
         String rid = null;
         if (response == null) {
@@ -658,14 +1204,7 @@ public class IGCRestClient {
      * @throws IGCParsingException if there is any issue parsing the types payload
      */
     public List<TypeHeader> getTypes(ObjectMapper objectMapper) throws IGCConnectivityException, IGCParsingException {
-        String response = makeRequest(EP_TYPES, HttpMethod.GET, null,null);
-        List<TypeHeader> alTypes;
-        try {
-            alTypes = objectMapper.readValue(response, new TypeReference<List<TypeHeader>>(){});
-        } catch (IOException e) {
-            throw new IGCParsingException("Unable to parse types response.", response, e);
-        }
-        return alTypes;
+        return makeStreamingRequest(EP_TYPES, HttpMethod.GET, null, null, null, objectMapper.readerFor(new TypeReference<List<TypeHeader>>(){}));
     }
 
     /**
@@ -692,14 +1231,8 @@ public class IGCRestClient {
      * @throws IGCParsingException if there is any issue parsing the types payload
      */
     public TypeDetails getTypeDetails(String typeName, boolean view, boolean create, boolean edit) throws IGCConnectivityException, IGCParsingException {
-        String response = makeRequest(EP_TYPES + "/" + typeName + "?showViewProperties=" + view + "&showCreateProperties=" + create + "&showEditProperties=" + edit, HttpMethod.GET, null, null);
-        TypeDetails typeDetails;
-        try {
-            typeDetails = typeMapper.readValue(response, TypeDetails.class);
-        } catch (IOException e) {
-            throw new IGCParsingException("Unable to parse type details response.", response, e);
-        }
-        return typeDetails;
+        String endpoint = EP_TYPES + "/" + typeName + "?showViewProperties=" + view + "&showCreateProperties=" + create + "&showEditProperties=" + edit;
+        return makeStreamingRequest(endpoint, HttpMethod.GET, null, null, null, typeMapper.readerFor(TypeDetails.class));
     }
 
     /**
@@ -724,7 +1257,7 @@ public class IGCRestClient {
      * @see #getAssetRefById(String)
      *
      * @param rid the Repository ID of the asset
-     * @param cache a cache of previously-retrieved assets
+     * @param cache a cache of previously-retrieved assets (only objects in it that were fully retrieved are used)
      * @return Reference - the IGC object representing the asset
      * @throws IGCConnectivityException if there is any connectivity issue during the request
      * @throws IGCParsingException if there is any issue parsing the response from IGC
@@ -734,14 +1267,254 @@ public class IGCRestClient {
         if (cache != null) {
             result = cache.get(rid);
         }
-        if (result == null) {
+        // The cache may hold only a subset of the properties of the asset (eg. its context and modification details),
+        // which must not be mistaken for all of the asset's information
+        if (result == null || !result.isFullyRetrieved()) {
             String url = EP_ASSET + "/" + getEncodedPathVariable(rid);
-            String response = makeRequest(url, HttpMethod.GET, null, null);
-            result = readJSONIntoPOJO(response);
+            result = makeStreamingRequest(url, HttpMethod.GET, null, null, null, mapper.readerFor(Reference.class));
         }
         return result;
     }
 
+    /**
+     * Retrieve a number of assets of the same type from IGC at once, by their Repository IDs (RIDs).
+     *
+     * @param rids the Repository IDs of the assets
+     * @param assetType the IGC asset type of the assets
+     * @param properties the properties to retrieve for each asset (or null to retrieve all properties)
+     * @return {@code Map<String, Reference>} - the IGC objects representing the assets, keyed by RID
+     * @throws IGCConnectivityException if there is any connectivity issue during the requests
+     * @throws IGCParsingException if there is any issue parsing the responses from IGC
+     * @throws IGCIOException if there is any issue accessing the POJO that defines the type and its properties
+     * @see #getAssetsByIds(Collection, String, List, ObjectCache)
+     */
+    public Map<String, Reference> getAssetsByIds(Collection<String> rids,
+                                                 String assetType,
+                                                 List<String> properties) throws IGCConnectivityException, IGCParsingException, IGCIOException {
+        return getAssetsByIds(rids, assetType, properties, null);
+    }
+
+    /**
+     * Retrieve a number of assets of the same type from IGC at once, by their Repository IDs (RIDs).
+     * <br><br>
+     * Rather than retrieving each asset individually, the assets are retrieved by as few searches as possible (each
+     * for a chunk of up to the default page size of RIDs). Only those assets that cannot be searched (virtual assets,
+     * or types that cannot be searched) are retrieved individually by their RID, and any asset that was not returned by
+     * the searches is searched for individually (to cater for any differences in search visibility).
+     *
+     * @param rids the Repository IDs of the assets
+     * @param assetType the IGC asset type of the assets
+     * @param properties the properties to retrieve for each asset (or null to retrieve all properties)
+     * @param cache a cache of previously-retrieved assets (only used for assets that cannot be searched)
+     * @return {@code Map<String, Reference>} - the IGC objects representing the assets, keyed by RID
+     * @throws IGCConnectivityException if there is any connectivity issue during the requests
+     * @throws IGCParsingException if there is any issue parsing the responses from IGC
+     * @throws IGCIOException if there is any issue accessing the POJO that defines the type and its properties
+     */
+    public Map<String, Reference> getAssetsByIds(Collection<String> rids,
+                                                 String assetType,
+                                                 List<String> properties,
+                                                 ObjectCache cache) throws IGCConnectivityException, IGCParsingException, IGCIOException {
+        return getAssetsByIds(rids, assetType, properties, cache, false);
+    }
+
+    /**
+     * Retrieve a number of assets of the same type from IGC at once, by their Repository IDs (RIDs), as compact
+     * projections of only the provided properties rather than as the full POJO of the assets' type.
+     *
+     * @param rids the Repository IDs of the assets
+     * @param assetType the IGC asset type of the assets
+     * @param properties the properties to retrieve for each asset
+     * @return {@code Map<String, ProjectedReference>} - the projections of the assets, keyed by RID
+     * @throws IGCConnectivityException if there is any connectivity issue during the requests
+     * @throws IGCParsingException if there is any issue parsing the responses from IGC
+     * @throws IGCIOException if there is any issue accessing the POJO that defines the type and its properties
+     * @see #getAssetsByIds(Collection, String, List, ObjectCache)
+     */
+    public Map<String, ProjectedReference> getProjectedAssetsByIds(Collection<String> rids,
+                                                                   String assetType,
+                                                                   List<String> properties) throws IGCConnectivityException, IGCParsingException, IGCIOException {
+        Map<String, ProjectedReference> projected = new LinkedHashMap<>();
+        for (Map.Entry<String, Reference> entry : getAssetsByIds(rids, assetType, properties, null, true).entrySet()) {
+            projected.put(entry.getKey(), (ProjectedReference) entry.getValue());
+        }
+        return projected;
+    }
+
+    /**
+     * Retrieve a number of assets, of any mix of types, from IGC at once: grouping them by type, and retrieving each
+     * type's assets as a batch (see {@link #getAssetsByIds(Collection, String, List, ObjectCache)}).
+     *
+     * @param references the IGC objects (with at least their RID and type) of the assets to retrieve
+     * @param propertiesForType the properties to retrieve for each asset, given its type (null to retrieve all properties)
+     * @param cache a cache of previously-retrieved assets (only used for assets that cannot be searched)
+     * @return {@code Map<String, Reference>} - the IGC objects representing the assets, keyed by RID
+     * @throws IGCConnectivityException if there is any connectivity issue during the requests
+     * @throws IGCParsingException if there is any issue parsing the responses from IGC
+     * @throws IGCIOException if there is any issue accessing the POJO that defines a type and its properties
+     */
+    public Map<String, Reference> getAssetsByIds(Collection<? extends Reference> references,
+                                                 Function<String, List<String>> propertiesForType,
+                                                 ObjectCache cache) throws IGCConnectivityException, IGCParsingException, IGCIOException {
+        return getAssetsByIds(references, propertiesForType, cache, false);
+    }
+
+    /**
+     * Retrieve a number of assets, of any mix of types, from IGC at once as compact projections of only the provided
+     * properties (see {@link #getProjectedAssetsByIds(Collection, String, List)}), grouping them by type.
+     *
+     * @param references the IGC objects (with at least their RID and type) of the assets to retrieve
+     * @param propertiesForType the properties to retrieve for each asset, given its type
+     * @return {@code Map<String, ProjectedReference>} - the projections of the assets, keyed by RID
+     * @throws IGCConnectivityException if there is any connectivity issue during the requests
+     * @throws IGCParsingException if there is any issue parsing the responses from IGC
+     * @throws IGCIOException if there is any issue accessing the POJO that defines a type and its properties
+     */
+    public Map<String, ProjectedReference> getProjectedAssetsByIds(Collection<? extends Reference> references,
+                                                                   Function<String, List<String>> propertiesForType) throws IGCConnectivityException, IGCParsingException, IGCIOException {
+        Map<String, ProjectedReference> projected = new LinkedHashMap<>();
+        for (Map.Entry<String, Reference> entry : getAssetsByIds(references, propertiesForType, null, true).entrySet()) {
+            projected.put(entry.getKey(), (ProjectedReference) entry.getValue());
+        }
+        return projected;
+    }
+
+    /**
+     * Retrieve a number of assets, of any mix of types, from IGC at once by grouping them by type, either as the POJO
+     * of their type or as projections of only the provided properties.
+     *
+     * @param references the IGC objects (with at least their RID and type) of the assets to retrieve
+     * @param propertiesForType the properties to retrieve for each asset, given its type (null to retrieve all properties)
+     * @param cache a cache of previously-retrieved assets (only used for assets that cannot be searched)
+     * @param project true to retrieve each asset as a projection of the properties, false to retrieve its POJO
+     * @return {@code Map<String, Reference>} - the IGC objects representing the assets, keyed by RID
+     * @throws IGCConnectivityException if there is any connectivity issue during the requests
+     * @throws IGCParsingException if there is any issue parsing the responses from IGC
+     * @throws IGCIOException if there is any issue accessing the POJO that defines a type and its properties
+     */
+    private Map<String, Reference> getAssetsByIds(Collection<? extends Reference> references,
+                                                  Function<String, List<String>> propertiesForType,
+                                                  ObjectCache cache,
+                                                  boolean project) throws IGCConnectivityException, IGCParsingException, IGCIOException {
+
+        Map<String, Reference> ordered = new LinkedHashMap<>();
+        if (references == null || references.isEmpty()) {
+            return ordered;
+        }
+
+        Map<String, List<String>> ridsByType = new LinkedHashMap<>();
+        for (Reference reference : references) {
+            if (reference != null && reference.getId() != null) {
+                ridsByType.computeIfAbsent(reference.getType(), k -> new ArrayList<>()).add(reference.getId());
+            }
+        }
+        Map<String, Reference> assets = new HashMap<>();
+        for (Map.Entry<String, List<String>> entry : ridsByType.entrySet()) {
+            String assetType = entry.getKey();
+            List<String> properties = propertiesForType == null ? null : propertiesForType.apply(assetType);
+            assets.putAll(getAssetsByIds(entry.getValue(), assetType, properties, cache, project));
+        }
+
+        // Return the assets in the same order as the references were provided
+        for (Reference reference : references) {
+            Reference asset = reference == null ? null : assets.get(reference.getId());
+            if (asset != null) {
+                ordered.put(reference.getId(), asset);
+            }
+        }
+        return ordered;
+
+    }
+
+    /**
+     * Retrieve a number of assets of the same type from IGC at once, by their Repository IDs (RIDs), either as the
+     * POJO of their type or as projections of only the provided properties.
+     *
+     * @param rids the Repository IDs of the assets
+     * @param assetType the IGC asset type of the assets
+     * @param properties the properties to retrieve for each asset (or null to retrieve all properties)
+     * @param cache a cache of previously-retrieved assets (only used for assets that cannot be searched)
+     * @param project true to retrieve each asset as a projection of the properties, false to retrieve its POJO
+     * @return {@code Map<String, Reference>} - the IGC objects representing the assets, keyed by RID
+     * @throws IGCConnectivityException if there is any connectivity issue during the requests
+     * @throws IGCParsingException if there is any issue parsing the responses from IGC
+     * @throws IGCIOException if there is any issue accessing the POJO that defines the type and its properties
+     */
+    private Map<String, Reference> getAssetsByIds(Collection<String> rids,
+                                                  String assetType,
+                                                  List<String> properties,
+                                                  ObjectCache cache,
+                                                  boolean project) throws IGCConnectivityException, IGCParsingException, IGCIOException {
+
+        Map<String, Reference> assets = new LinkedHashMap<>();
+        if (rids == null || rids.isEmpty()) {
+            return assets;
+        }
+
+        List<String> toSearch = new ArrayList<>();
+        List<String> toRetrieve = new ArrayList<>();
+        boolean searchable = assetType != null && !IGCRestConstants.getTypesThatCannotBeSearched().contains(assetType);
+        for (String rid : new LinkedHashSet<>(rids)) {
+            if (rid == null) {
+                continue;
+            }
+            if (searchable && !isVirtualAssetRid(rid) && !isEmbeddedAssetRid(rid)) {
+                toSearch.add(rid);
+            } else {
+                toRetrieve.add(rid);
+            }
+        }
+
+        if (!toSearch.isEmpty()) {
+            List<String> searchProperties = properties == null ? getAllPropertiesForType(assetType) : properties;
+            Projection projection = project ? getProjection(searchProperties) : null;
+            int chunkSize = Math.max(1, defaultPageSize);
+            for (int i = 0; i < toSearch.size(); i += chunkSize) {
+                List<String> chunk = toSearch.subList(i, Math.min(i + chunkSize, toSearch.size()));
+                IGCSearchConditionSet byIds = new IGCSearchConditionSet(new IGCSearchCondition("_id", chunk));
+                IGCSearch igcSearch = new IGCSearch(IGCRestConstants.getAssetTypeForSearch(assetType), searchProperties, byIds);
+                // (the page size also limits the relationships returned for each asset, so we cannot use the chunk size)
+                igcSearch.setPageSize(chunkSize);
+                ItemList<Reference> results = search(igcSearch.getQuery().toString(), projection);
+                for (Reference result : getAllPages(null, results)) {
+                    assets.put(result.getId(), result);
+                }
+            }
+            for (String rid : toSearch) {
+                if (!assets.containsKey(rid)) {
+                    log.debug("Asset {} was not found by the bulk search, retrieving it individually.", rid);
+                    Reference asset = project
+                            ? getProjectedAsset(rid, assetType, searchProperties, defaultPageSize)
+                            : getAssetWithSubsetOfProperties(rid, assetType, searchProperties);
+                    if (asset != null) {
+                        assets.put(rid, asset);
+                    }
+                }
+            }
+        }
+
+        if (!toRetrieve.isEmpty()) {
+            log.debug("Retrieving {} assets individually: {}", toRetrieve.size(), toRetrieve);
+        }
+        for (String rid : toRetrieve) {
+            Reference asset = getAssetById(rid, cache);
+            if (asset != null) {
+                assets.put(rid, project ? getProjection(properties == null ? getAllPropertiesForType(assetType) : properties).project(asset) : asset);
+            }
+        }
+
+        // Return the assets in the same order as the RIDs were provided
+        Map<String, Reference> ordered = new LinkedHashMap<>();
+        for (String rid : rids) {
+            Reference asset = assets.get(rid);
+            if (asset != null) {
+                ordered.put(rid, asset);
+            }
+        }
+        return ordered;
+
+    }
+
     /**
      * Calculate a path-encoded URL for the provided endpoint.
      *
@@ -763,12 +1536,31 @@ public class IGCRestClient {
      */
     public Reference getAssetRefById(String rid) throws IGCConnectivityException, IGCParsingException {
 
+        ItemList<Reference> results = search(ASSET_REF_BY_ID, rid);
+        Reference reference = null;
+        if (results.getPaging().getNumTotal() > 0) {
+            if (results.getPaging().getNumTotal() > 1) {
+                log.warn("Found multiple assets for RID {}, taking only the first.", rid);
+            }
+            reference = results.getItems().get(0);
+        }
+
+        return reference;
+
+    }
+
+    /**
+     * Prepare the search used to retrieve the minimal unique properties of any asset by its RID.
+     *
+     * @return IGCPreparedSearch
+     */
+    private static IGCPreparedSearch prepareAssetRefById() {
         // We can search for any object by ID by using "main_object" as the type
         // (no properties needed)
         IGCSearchCondition condition = new IGCSearchCondition(
                 "_id",
                 "=",
-                rid
+                IGCPreparedSearch.PARAMETER
         );
         IGCSearchConditionSet conditionSet = new IGCSearchConditionSet(condition);
         IGCSearch igcSearch = new IGCSearch("main_object", conditionSet);
@@ -777,17 +1569,7 @@ public class IGCRestClient {
         igcSearch.addType("label");
         igcSearch.addType("user");
         igcSearch.addType("group");
-        ItemList<Reference> results = search(igcSearch);
-        Reference reference = null;
-        if (results.getPaging().getNumTotal() > 0) {
-            if (results.getPaging().getNumTotal() > 1) {
-                log.warn("Found multiple assets for RID {}, taking only the first.", rid);
-            }
-            reference = results.getItems().get(0);
-        }
-
-        return reference;
-
+        return new IGCPreparedSearch(igcSearch);
     }
 
     /**
@@ -871,13 +1653,9 @@ public class IGCRestClient {
         } else {
             log.debug("Retrieving asset {} with subset of details: {}", rid, properties);
             T assetWithProperties = null;
-            IGCSearchCondition idOnly = new IGCSearchCondition("_id", "=", rid);
-            IGCSearchConditionSet idOnlySet = new IGCSearchConditionSet(idOnly);
-            IGCSearch igcSearch = new IGCSearch(IGCRestConstants.getAssetTypeForSearch(assetType), properties, idOnlySet);
-            if (pageSize > 0) {
-                igcSearch.setPageSize(pageSize);
-            }
-            ItemList<T> assetsWithProperties = search(igcSearch);
+            String searchType = IGCRestConstants.getAssetTypeForSearch(assetType);
+            IGCPreparedSearch prepared = getSubsetSearch(searchType, properties);
+            ItemList<T> assetsWithProperties = search(prepared, 0, pageSize > 0 ? pageSize : prepared.getPageSize(), rid);
             if (!assetsWithProperties.getItems().isEmpty()) {
                 assetWithProperties = assetsWithProperties.getItems().get(0);
             }
@@ -886,36 +1664,233 @@ public class IGCRestClient {
     }
 
     /**
-     * Retrieve all assets that match the provided search criteria from IGC.
+     * Retrieve only the provided subset of properties of an asset, as a compact projection of those properties rather
+     * than the full POJO of the asset's type.
+     *
+     * @param rid the repository ID (RID) of the asset to retrieve
+     * @param assetType the IGC asset type of the asset to retrieve
+     * @param properties a list of the properties to retrieve
+     * @param pageSize the maximum number of each of the asset's relationships to return on this request
+     * @return ProjectedReference - the asset including only the subset of properties specified
+     * @throws IGCConnectivityException if there is any connectivity issue during the request
+     * @throws IGCParsingException if there is any issue parsing the response from IGC
+     * @see #getAssetWithSubsetOfProperties(String, String, List, int)
+     */
+    public ProjectedReference getProjectedAsset(String rid,
+                                                String assetType,
+                                                List<String> properties,
+                                                int pageSize) throws IGCConnectivityException, IGCParsingException {
+        Projection projection = getProjection(properties);
+        if (IGCRestConstants.getTypesThatCannotBeSearched().contains(assetType)) {
+            log.debug("Retrieving full asset {} to project, as it cannot be searched to retrieve only a subset of properties.", rid);
+            Reference full = getAssetById(rid);
+            return full == null ? null : projection.project(full);
+        } else {
+            log.debug("Retrieving asset {} with projection of details: {}", rid, properties);
+            String searchType = IGCRestConstants.getAssetTypeForSearch(assetType);
+            IGCPreparedSearch prepared = getSubsetSearch(searchType, properties);
+            String query = prepared.render(0, pageSize > 0 ? pageSize : prepared.getPageSize(), rid);
+            ItemList<ProjectedReference> assetsWithProperties = search(query, projection);
+            return assetsWithProperties.getItems().isEmpty() ? null : assetsWithProperties.getItems().get(0);
+        }
+    }
+
+    /**
+     * Retrieve the prepared search for only the provided subset of properties of an asset, by its RID. The same subsets
+     * of properties are requested repeatedly, so each such search is only prepared once (keyed on an immutable copy of
+     * the type and properties, and only keeping the most recently used of them).
+     *
+     * @param searchType the IGC asset type to search
+     * @param properties a list of the properties to retrieve
+     * @return IGCPreparedSearch
+     */
+    private IGCPreparedSearch getSubsetSearch(String searchType, List<String> properties) {
+        List<String> key = new ArrayList<>();
+        key.add(searchType);
+        key.addAll(properties);
+        return subsetSearches.computeIfAbsent(Collections.unmodifiableList(key), k -> {
+            IGCSearchCondition idOnly = new IGCSearchCondition("_id", "=", IGCPreparedSearch.PARAMETER);
+            IGCSearchConditionSet idOnlySet = new IGCSearchConditionSet(idOnly);
+            return new IGCPreparedSearch(new IGCSearch(searchType, properties, idOnlySet));
+        });
+    }
+
+    /**
+     * Retrieve all assets that match the provided search criteria from IGC.
+     *
+     * @param igcSearch search conditions and criteria to use
+     * @param <T> the type of items that should be in the ItemList
+     * @return {@code ItemList<T>} - the first page of results from the search
+     * @throws IGCConnectivityException if there is any connectivity issue during the request
+     * @throws IGCParsingException if there is any issue parsing the response from IGC
+     */
+    public <T extends Reference> ItemList<T> search(IGCSearch igcSearch) throws IGCConnectivityException, IGCParsingException {
+        if (igcSearch.isKeysetPaging()) {
+            return searchAfter(igcSearch, null, null);
+        }
+        return search(igcSearch.getQuery().toString());
+    }
+
+    /**
+     * Retrieve all assets that match the provided search criteria from IGC, as compact projections of only the
+     * properties included in the search rather than as the full POJO of each asset's type. Any subsequent pages
+     * retrieved for the results (eg. through {@link #getNextPage(String, ItemList)} or
+     * {@link #getAllPages(String, ItemList)}) are projected in the same way.
+     *
+     * @param igcSearch search conditions and criteria to use
+     * @return {@code ItemList<ProjectedReference>} - the first page of results from the search
+     * @throws IGCConnectivityException if there is any connectivity issue during the request
+     * @throws IGCParsingException if there is any issue parsing the response from IGC
+     */
+    public ItemList<ProjectedReference> searchProjected(IGCSearch igcSearch) throws IGCConnectivityException, IGCParsingException {
+        Projection projection = getProjection(igcSearch.getProperties());
+        if (igcSearch.isKeysetPaging()) {
+            return searchAfter(igcSearch, null, projection);
+        }
+        return search(igcSearch.getQuery().toString(), projection);
+    }
+
+    /**
+     * Retrieve the first page of assets that match the provided prepared search, using the provided values for its
+     * parameters.
+     *
+     * @param preparedSearch the prepared search to run
+     * @param values the values for each of the prepared search's parameters, in the order they appear in the search
+     * @param <T> the type of items that should be in the ItemList
+     * @return {@code ItemList<T>} - the first page of results from the search
+     * @throws IGCConnectivityException if there is any connectivity issue during the request
+     * @throws IGCParsingException if there is any issue parsing the response from IGC
+     */
+    public <T extends Reference> ItemList<T> search(IGCPreparedSearch preparedSearch, String... values) throws IGCConnectivityException, IGCParsingException {
+        return search(preparedSearch.render(values));
+    }
+
+    /**
+     * Retrieve a page of assets that match the provided prepared search, using the provided values for its
+     * parameters.
+     *
+     * @param preparedSearch the prepared search to run
+     * @param beginAt the number of results to skip over before returning results
+     * @param pageSize the number of results to include in the page
+     * @param values the values for each of the prepared search's parameters, in the order they appear in the search
+     * @param <T> the type of items that should be in the ItemList
+     * @return {@code ItemList<T>} - the requested page of results from the search
+     * @throws IGCConnectivityException if there is any connectivity issue during the request
+     * @throws IGCParsingException if there is any issue parsing the response from IGC
+     */
+    public <T extends Reference> ItemList<T> search(IGCPreparedSearch preparedSearch, int beginAt, int pageSize, String... values) throws IGCConnectivityException, IGCParsingException {
+        return search(preparedSearch.render(beginAt, pageSize, values));
+    }
+
+    /**
+     * Retrieve all assets that match the provided search query from IGC.
+     *
+     * @param query the JSON query for the search
+     * @param <T> the type of items that should be in the ItemList
+     * @return {@code ItemList<T>} - the first page of results from the search
+     * @throws IGCConnectivityException if there is any connectivity issue during the request
+     * @throws IGCParsingException if there is any issue parsing the response from IGC
+     */
+    private <T extends Reference> ItemList<T> search(String query) throws IGCConnectivityException, IGCParsingException {
+        return search(query, (Projection) null);
+    }
+
+    /**
+     * Retrieve all assets that match the provided search query from IGC, reading each through the provided
+     * projection (if any).
      *
-     * @param igcSearch the IGCSearch object defining criteria by which to search
-     * @return JsonNode - the first JSON page of results from the search
+     * @param query the JSON query for the search
+     * @param projection the projection through which to read each asset, or null to read each as its POJO
+     * @param <T> the type of items that should be in the ItemList
+     * @return {@code ItemList<T>} - the first page of results from the search
      * @throws IGCConnectivityException if there is any connectivity issue during the request
+     * @throws IGCParsingException if there is any issue parsing the response from IGC
      */
-    private String searchJson(IGCSearch igcSearch) throws IGCConnectivityException {
-        return makeRequest(EP_SEARCH, HttpMethod.POST, MediaType.APPLICATION_JSON, igcSearch.getQuery().toString());
+    private <T extends Reference> ItemList<T> search(String query, Projection projection) throws IGCConnectivityException, IGCParsingException {
+        ItemList<T> itemList = makeStreamingRequest(EP_SEARCH, HttpMethod.POST, MediaType.APPLICATION_JSON, query, null, getPageReader(projection));
+        if (itemList == null) {
+            throw new IGCParsingException("No results were returned by the search.", query);
+        }
+        if (itemList.getPaging() != null) {
+            itemList.getPaging().setProjection(projection);
+        }
+        return itemList;
     }
 
     /**
-     * Retrieve all assets that match the provided search criteria from IGC.
+     * Retrieve the page of a keyset-paged search's results that follows the provided result, recording on the page's
+     * paging details what is needed to retrieve the page after it in turn.
      *
-     * @param igcSearch search conditions and criteria to use
+     * @param igcSearch the keyset-paged search
+     * @param last the last result of the previous page (or null to retrieve the first page)
+     * @param projection the projection through which to read each asset, or null to read each as its POJO
      * @param <T> the type of items that should be in the ItemList
-     * @return {@code ItemList<T>} - the first page of results from the search
+     * @return {@code ItemList<T>} - the page of results
      * @throws IGCConnectivityException if there is any connectivity issue during the request
-     * @throws IGCParsingException if there is any issue parsing the response from IGC
+     * @throws IGCParsingException if there is any issue parsing the response from IGC (or the key of the last result)
      */
-    public <T extends Reference> ItemList<T> search(IGCSearch igcSearch) throws IGCConnectivityException, IGCParsingException {
-        ItemList<T> itemList;
-        String results = searchJson(igcSearch);
+    private <T extends Reference> ItemList<T> searchAfter(IGCSearch igcSearch, Reference last, Projection projection) throws IGCConnectivityException, IGCParsingException {
+        String query;
         try {
-            itemList = this.mapper.readValue(results, new TypeReference<ItemList<T>>(){});
-        } catch (IOException e) {
-            throw new IGCParsingException("Unable to translate JSON results.", results, e);
+            query = igcSearch.getQueryAfter(last).toString();
+        } catch (IllegalArgumentException e) {
+            throw new IGCParsingException("Unable to determine the next page of keyset-paged results.", igcSearch.toString(), e);
+        }
+        ItemList<T> itemList = search(query, projection);
+        List<T> items = itemList.getItems();
+        if (itemList.getPaging() != null && items != null && !items.isEmpty()) {
+            itemList.getPaging().setKeyset(igcSearch, items.get(items.size() - 1));
         }
         return itemList;
     }
 
+    /**
+     * Retrieve the reader through which to parse a page of items, either as the POJO of each item's type or as a
+     * projection of only certain properties of each item.
+     *
+     * @param projection the projection through which to read each item, or null to read each as its POJO
+     * @return ObjectReader
+     */
+    private ObjectReader getPageReader(Projection projection) {
+        if (projection == null) {
+            return mapper.readerFor(new TypeReference<ItemList<Reference>>(){});
+        } else {
+            return mapper.readerFor(new TypeReference<ItemList<ProjectedReference>>(){}).withAttribute(Projection.class, projection);
+        }
+    }
+
+    /**
+     * Retrieve the projection of the provided properties, re-using any recently-used one that was already created for
+     * the same properties (so that what it learns about the types of each property is shared).
+     *
+     * @param properties the properties to project
+     * @return Projection
+     */
+    private Projection getProjection(List<String> properties) {
+        return projections.computeIfAbsent(Collections.unmodifiableList(new ArrayList<>(properties)), k -> new Projection(k, type -> {
+            Class<?> pojo = registeredTypes.get(type);
+            return pojo != null ? pojo : IGCTypeRegistry.getPOJO(type);
+        }));
+    }
+
+    /**
+     * Create a thread-safe map that evicts its least-recently used entry once it holds more than the provided maximum
+     * number of entries.
+     *
+     * @param maxSize the maximum number of entries to keep
+     * @param <K> the type of the keys of the map
+     * @param <V> the type of the values of the map
+     * @return {@code Map<K, V>}
+     */
+    private static <K, V> Map<K, V> getBoundedMap(int maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
     /**
      * Update the asset specified by the provided RID with the value(s) provided.
      *
@@ -997,12 +1972,11 @@ public class IGCRestClient {
      * @throws IGCConnectivityException if there is any connectivity issue during the request
      */
     public boolean detectLineage(String jobRid) throws IGCConnectivityException {
-        ResponseEntity<String> response = makeRequest(
-                baseURL + EP_BASE_API + "/flows/detectFlows/dsjob/" + jobRid,
+        ResponseEntity<String> response = sendRequest(
+                baseURL + EP_DETECT_LINEAGE + jobRid,
                 HttpMethod.GET,
                 MediaType.APPLICATION_JSON,
-                null,
-                false
+                null
         );
         if (response != null) {
             // A successful lineage detection should return 202 (ACCEPTED), anything else will be
@@ -1179,6 +2153,9 @@ public class IGCRestClient {
     /**
      * Retrieve all pages of results from a set of Paging details and items, or if there is no next page return the
      * items provided.
+     * <br><br>
+     * When the page prefetch parallelism is greater than 1, all of the remaining pages are requested concurrently
+     * (and then combined in their original order) rather than one after the other.
      *
      * @param propertyName the name of the property for which the list provides items (or null if the result of a search)
      * @param list the ItemList for which to retrieve all pages
@@ -1195,6 +2172,42 @@ public class IGCRestClient {
         }
     }
 
+    /**
+     * Iterate over all items across all pages of results, retrieving each subsequent page only as the iteration
+     * reaches it (rather than retrieving all pages up-front, as with {@link #getAllPages(String, ItemList)}).
+     * <br><br>
+     * Any problem retrieving a subsequent page is thrown by the iterator as an
+     * {@link org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCPagingException}.
+     *
+     * @param propertyName the name of the property for which the list provides items (or null if the result of a search)
+     * @param list the ItemList (first page) over which to iterate
+     * @param <T> the type of items to expect in the ItemList
+     * @return {@code Iterator<T>} - an iterator over all items from all pages of results
+     */
+    public <T extends Reference> Iterator<T> iterateAllPages(String propertyName, ItemList<T> list) {
+        return new IGCPageIterator<>(this, propertyName, list);
+    }
+
+    /**
+     * Retrieve all assets that match the provided search criteria from IGC, as a stream that retrieves each
+     * subsequent page of results only as the stream is consumed. Only the first page is retrieved by this method
+     * itself, and a stream that is not consumed in full (eg. due to a limit) will not retrieve the remaining pages.
+     * <br><br>
+     * Any problem retrieving a subsequent page is thrown by the stream as an
+     * {@link org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCPagingException}.
+     *
+     * @param igcSearch search conditions and criteria to use
+     * @param <T> the type of items that should be in the stream
+     * @return {@code Stream<T>} - all of the results of the search
+     * @throws IGCConnectivityException if there is any connectivity issue during the request
+     * @throws IGCParsingException if there is any issue parsing the response from IGC
+     */
+    public <T extends Reference> Stream<T> searchStream(IGCSearch igcSearch) throws IGCConnectivityException, IGCParsingException {
+        ItemList<T> first = search(igcSearch);
+        Iterator<T> iterator = iterateAllPages(null, first);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
     /**
      * Retrieve the next page of results from a set of paging details, or if there is no next page return an empty
      * ItemList.
@@ -1209,6 +2222,10 @@ public class IGCRestClient {
     private <T extends Reference> ItemList<T> getNextPage(String propertyName, Paging paging) throws IGCConnectivityException, IGCParsingException {
         ItemList<T> nextPage = null;
         try {
+            if (paging.getKeysetSearch() != null && paging.hasMore()) {
+                // Keyset-paged results are paged by searching for those after the last result, rather than by offset
+                return searchAfter(paging.getKeysetSearch(), paging.getKeysetPosition(), paging.getProjection());
+            }
             nextPage = mapper.readValue("{}", new TypeReference<ItemList<T>>() {});
             String sNextURL = paging.getNextPageURL();
             if (sNextURL != null && !sNextURL.equals("null")) {
@@ -1231,15 +2248,20 @@ public class IGCRestClient {
                     String embeddedHost = "https://" + components.getHost() + ":" + components.getPort();
                     requestUrl = sNextURL.substring(embeddedHost.length() + 1);
                 }
-                String nextPageBody = makeRequest(requestUrl, HttpMethod.GET, null, null);
-                // If the page is part of an ASSET retrieval, we need to strip off the attribute
-                // name of the relationship for proper multi-page composition
+                // If the page is part of an ASSET retrieval, the page is wrapped by the attribute name of the
+                // relationship, which we need to skip over for proper multi-page composition
+                String attributeName = null;
                 if (requestUrl.startsWith(EP_ASSET)) {
                     String remainder = requestUrl.substring(EP_ASSET.length() + 1);
-                    String attributeName = remainder.substring(remainder.indexOf('/') + 1, remainder.indexOf('?'));
-                    nextPageBody = nextPageBody.substring(attributeName.length() + 4, nextPageBody.length() - 1);
+                    attributeName = remainder.substring(remainder.indexOf('/') + 1, remainder.indexOf('?'));
+                }
+                ItemList<T> page = makeStreamingRequest(requestUrl, HttpMethod.GET, null, null, attributeName, getPageReader(paging.getProjection()));
+                if (page != null) {
+                    if (page.getPaging() != null) {
+                        page.getPaging().setProjection(paging.getProjection());
+                    }
+                    nextPage = page;
                 }
-                nextPage = mapper.readValue(nextPageBody, new TypeReference<ItemList<T>>() {});
             }
         } catch (IOException e) {
             throw new IGCParsingException("Unable to parse next page from JSON.", paging.toString(), e);
@@ -1260,23 +2282,177 @@ public class IGCRestClient {
      * @throws IGCParsingException if there is any issue parsing the response from IGC
      */
     private <T extends Reference> List<T> getAllPages(String propertyName, List<T> items, Paging paging) throws IGCConnectivityException, IGCParsingException {
-        List<T> allPages = items;
+        // NOTE: we copy the items to avoid side-effecting the original set of items
+        List<T> allPages = new ArrayList<>(items);
+        if (pagePrefetchParallelism > 1) {
+            List<Paging> remainingPages = getRemainingPages(paging);
+            if (remainingPages.size() > 1) {
+                allPages.addAll(getPagesConcurrently(propertyName, remainingPages));
+                return allPages;
+            }
+        }
         ItemList<T> results = getNextPage(propertyName, paging);
-        List<T> resultsItems = results.getItems();
-        if (!resultsItems.isEmpty()) {
-            // NOTE: this ordering of addAll is important, to avoid side-effecting the original set of items
-            resultsItems.addAll(allPages);
-            allPages = getAllPages(propertyName, resultsItems, results.getPaging());
+        while (!results.getItems().isEmpty()) {
+            allPages.addAll(results.getItems());
+            results = getNextPage(propertyName, results.getPaging());
         }
         return allPages;
     }
 
     /**
-     * Disconnect from IGC REST API and invalidate the session.
-     * @throws IGCConnectivityException if there is any connectivity issue during the request
+     * Calculate the paging details of every page of results that remains after the provided page, so that they can
+     * be retrieved independently of each other. If the remaining pages cannot be determined from the provided page
+     * an empty list is returned.
+     *
+     * @param paging the paging details of the first page of results
+     * @return {@code List<Paging>} - the paging details (from which to retrieve the next page) of each remaining page
+     */
+    private List<Paging> getRemainingPages(Paging paging) {
+        List<Paging> remaining = new ArrayList<>();
+        String sNextURL = paging.getNextPageURL();
+        Integer numTotal = paging.getNumTotal();
+        if (paging.getKeysetSearch() != null) {
+            // Each page of keyset-paged results depends on the last result of the page before it
+            return remaining;
+        }
+        Integer pageSize = paging.getPageSize();
+        Integer end = paging.getEndIndex();
+        if (sNextURL == null || sNextURL.equals("null") || numTotal == null || pageSize == null || pageSize <= 0 || end == null) {
+            return remaining;
+        }
+        boolean isVirtual = sNextURL.startsWith("extern:");
+        Matcher beginParameter = PAGING_BEGIN.matcher(sNextURL);
+        if (!isVirtual && !beginParameter.find()) {
+            return remaining;
+        }
+        for (int begin = end + 1; begin < numTotal; begin += pageSize) {
+            // Each of these gives the paging details as they would be for the page immediately BEFORE the page we
+            // want to retrieve, so that the standard next-page retrieval can be used for each one
+            Paging previous = new Paging();
+            previous.setNumTotal(numTotal);
+            previous.setPageSize(pageSize);
+            previous.setBeginIndex(Math.max(0, begin - pageSize));
+            previous.setEndIndex(begin - 1);
+            previous.setProjection(paging.getProjection());
+            if (isVirtual) {
+                previous.setNextPageURL(sNextURL);
+            } else {
+                previous.setNextPageURL(beginParameter.replaceFirst("$1" + begin));
+            }
+            remaining.add(previous);
+        }
+        return remaining;
+    }
+
+    /**
+     * Retrieve the provided pages of results concurrently (up to the configured parallelism), returning all of their
+     * items in the order of the pages provided.
+     *
+     * @param propertyName the name of the property for which the list provides items (or null if the result of a search)
+     * @param pages the paging details from which to retrieve each next page
+     * @param <T> the type of items to expect in the ItemList
+     * @return {@code List<T>} - a List containing all items from all of the pages
+     * @throws IGCConnectivityException if there is any connectivity issue during the requests
+     * @throws IGCParsingException if there is any issue parsing the responses from IGC
+     */
+    private <T extends Reference> List<T> getPagesConcurrently(String propertyName, List<Paging> pages) throws IGCConnectivityException, IGCParsingException {
+        log.debug("Retrieving {} pages concurrently for: {}", pages.size(), propertyName);
+        ExecutorService executor = getPageExecutor();
+        List<Future<ItemList<T>>> futures = new ArrayList<>(pages.size());
+        for (Paging page : pages) {
+            futures.add(executor.submit(() -> getNextPage(propertyName, page)));
+        }
+        List<T> items = new ArrayList<>();
+        try {
+            for (Future<ItemList<T>> future : futures) {
+                items.addAll(future.get().getItems());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IGCConnectivityException("Interrupted while retrieving pages of results.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IGCConnectivityException) {
+                throw (IGCConnectivityException) cause;
+            } else if (cause instanceof IGCParsingException) {
+                throw (IGCParsingException) cause;
+            }
+            throw new IGCConnectivityException("Unable to retrieve pages of results.", cause);
+        } finally {
+            // Do not leave any outstanding requests running if we have failed part-way through
+            for (Future<ItemList<T>> future : futures) {
+                future.cancel(true);
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Retrieve the executor through which to retrieve pages concurrently, creating it if it does not yet exist.
+     *
+     * @return ExecutorService
+     */
+    private synchronized ExecutorService getPageExecutor() {
+        if (pageExecutor == null) {
+            pageExecutor = new ThreadPoolExecutor(pagePrefetchParallelism, pagePrefetchParallelism,
+                    0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "igc-page-prefetch");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return pageExecutor;
+    }
+
+    /**
+     * Shutdown the executor through which pages are retrieved concurrently (if it exists).
+     */
+    private synchronized void shutdownPageExecutor() {
+        if (pageExecutor != null) {
+            pageExecutor.shutdown();
+            pageExecutor = null;
+        }
+    }
+
+    /**
+     * Disconnect from IGC REST API and invalidate every session, releasing any pooled connections. Every session is
+     * logged out (and invalidated) even if logging out of another one fails.
+     * @throws IGCConnectivityException if there is any connectivity issue logging out of any of the sessions (the first
+     * such issue, with any others suppressed by it)
      */
     public void disconnect() throws IGCConnectivityException {
-        makeRequest(EP_LOGOUT, HttpMethod.GET, null,null);
+        shutdownPageExecutor();
+        saveTypeDetails();
+        IGCConnectivityException failure = null;
+        try {
+            for (IGCSession session : sessions.getSessions()) {
+                if (session.isAuthenticated()) {
+                    try {
+                        makeRequest(session, baseURL + EP_LOGOUT, HttpMethod.GET, null, null, false);
+                    } catch (IGCConnectivityException e) {
+                        log.warn("Unable to logout of a session -- continuing with the remaining sessions.", e);
+                        if (failure == null) {
+                            failure = e;
+                        } else {
+                            failure.addSuppressed(e);
+                        }
+                    } finally {
+                        session.invalidate();
+                    }
+                }
+            }
+        } finally {
+            if (requestFactory instanceof HttpComponentsClientHttpRequestFactory) {
+                try {
+                    ((HttpComponentsClientHttpRequestFactory) requestFactory).destroy();
+                } catch (Exception e) {
+                    log.warn("Unable to release the connections of the HTTP transport.", e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
     }
 
     /**
@@ -1288,74 +2464,133 @@ public class IGCRestClient {
      * @throws IGCIOException if there is any issue accessing the POJO that defines the type and its properties
      */
     public void cacheTypeDetails(String typeName) throws IGCConnectivityException, IGCParsingException, IGCIOException {
+        getTypeMetadata(typeName);
+    }
 
-        if (typeName != null) {
-            // Only continue if the information is not already cached
-            if (!typeToDisplayName.containsKey(typeName)) {
-                TypeDetails typeDetails = getTypeDetails(typeName);
-
-                // Cache whether the type supports creation or not
-                if (typeDetails.getCreateInfo() != null) {
-                    List<TypeProperty> create = typeDetails.getCreateInfo().getProperties();
-                    if (create != null && !create.isEmpty()) {
-                        typesThatCanBeCreated.add(typeName);
-                    }
+    /**
+     * Retrieve the details of the IGC object type, retrieving them from IGC only the first time they are needed.
+     * Once cached, the details are retrieved without any locking; only the first threads to need the details of a
+     * given type wait, for a single request to IGC for them.
+     *
+     * @param typeName name of the IGC object type
+     * @return IGCTypeMetadata - or null if no type name is provided
+     * @throws IGCConnectivityException if there is any connectivity issue during the request
+     * @throws IGCParsingException if there is any issue parsing the response from IGC
+     * @throws IGCIOException if there is any issue accessing the POJO that defines the type and its properties
+     */
+    private IGCTypeMetadata getTypeMetadata(String typeName) throws IGCConnectivityException, IGCParsingException, IGCIOException {
+        if (typeName == null) {
+            return null;
+        }
+        IGCTypeMetadata metadata = typeMetadata.get(typeName);
+        if (metadata == null) {
+            synchronized (typeMetadataLocks.computeIfAbsent(typeName, k -> new Object())) {
+                // Check again, in case another thread retrieved the details while we waited
+                metadata = typeMetadata.get(typeName);
+                if (metadata == null) {
+                    metadata = buildTypeMetadata(typeName);
+                    typeMetadata.put(typeName, metadata);
+                    typeCacheChanged = true;
                 }
+            }
+        }
+        return metadata;
+    }
+
+    /**
+     * Retrieve the details of the IGC object type from IGC.
+     *
+     * @param typeName name of the IGC object type
+     * @return IGCTypeMetadata
+     * @throws IGCConnectivityException if there is any connectivity issue during the request
+     * @throws IGCParsingException if there is any issue parsing the response from IGC
+     * @throws IGCIOException if there is any issue accessing the POJO that defines the type and its properties
+     */
+    private IGCTypeMetadata buildTypeMetadata(String typeName) throws IGCConnectivityException, IGCParsingException, IGCIOException {
 
-                // Cache property details
-                List<TypeProperty> view = typeDetails.getViewInfo().getProperties();
-                if (view != null) {
-                    Set<String> allProperties = new TreeSet<>();
-                    Set<String> nonRelationship = new TreeSet<>();
-                    Set<String> stringProperties = new TreeSet<>();
-                    Set<String> pagedRelationship = new TreeSet<>();
-                    for (TypeProperty property : view) {
-
-                        String propertyName = property.getName();
-
-                        if (propertyName != null) {
-                            // Attempt to instantiate and cache generic property retrieval mechanism
-                            // Note that this will return null if the bean / POJO supporting that type does not actually
-                            // contain the property, in which case we should not cache the property as one that we can
-                            // handle
-                            DynamicPropertyReader reader = getAccessor(typeName, propertyName);
-                            if (reader != null) {
-
-                                if (!IGCRestConstants.getPropertiesToIgnore().contains(propertyName)) {
-                                    if (propertyName.equals("created_on")) {
-                                        typesThatIncludeModificationDetails.add(typeName);
-                                    }
-                                    org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.types.TypeReference type = property.getType();
-                                    String propertyType = type.getName();
-                                    if (propertyType.equals("string") || propertyType.equals("enum")) {
-                                        // TODO: confirm whether enums should be treated the same as all other string properties?
-                                        stringProperties.add(propertyName);
-                                        nonRelationship.add(propertyName);
-                                    } else if (type.getUrl() != null || propertyType.equals("note")) {
-                                        if (property.getMaxCardinality() < 0) {
-                                            pagedRelationship.add(propertyName);
-                                        }
-                                    } else {
-                                        nonRelationship.add(propertyName);
-                                    }
-                                    allProperties.add(propertyName);
+        TypeDetails typeDetails = getTypeDetails(typeName);
 
+        // Cache whether the type supports creation or not
+        boolean creatable = false;
+        if (typeDetails.getCreateInfo() != null) {
+            List<TypeProperty> create = typeDetails.getCreateInfo().getProperties();
+            creatable = create != null && !create.isEmpty();
+        }
+
+        // Cache property details
+        boolean modificationDetails = false;
+        Set<String> allProperties = new TreeSet<>();
+        Set<String> nonRelationship = new TreeSet<>();
+        Set<String> stringProperties = new TreeSet<>();
+        Set<String> pagedRelationship = new TreeSet<>();
+        List<TypeProperty> view = typeDetails.getViewInfo() == null ? null : typeDetails.getViewInfo().getProperties();
+        if (view != null) {
+            for (TypeProperty property : view) {
+
+                String propertyName = property.getName();
+
+                if (propertyName != null) {
+                    // Attempt to instantiate and cache generic property retrieval mechanism
+                    // Note that this will return null if the bean / POJO supporting that type does not actually
+                    // contain the property, in which case we should not cache the property as one that we can
+                    // handle
+                    DynamicPropertyReader reader = getAccessor(typeName, propertyName);
+                    if (reader != null) {
+
+                        if (!IGCRestConstants.getPropertiesToIgnore().contains(propertyName)) {
+                            if (propertyName.equals("created_on")) {
+                                modificationDetails = true;
+                            }
+                            org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.types.TypeReference type = property.getType();
+                            String propertyType = type.getName();
+                            if (propertyType.equals("string") || propertyType.equals("enum")) {
+                                // TODO: confirm whether enums should be treated the same as all other string properties?
+                                stringProperties.add(propertyName);
+                                nonRelationship.add(propertyName);
+                            } else if (type.getUrl() != null || propertyType.equals("note")) {
+                                if (property.getMaxCardinality() < 0) {
+                                    pagedRelationship.add(propertyName);
                                 }
+                            } else {
+                                nonRelationship.add(propertyName);
                             }
-                        }
+                            allProperties.add(propertyName);
 
+                        }
                     }
-                    typeToAllProperties.put(typeName, new ArrayList<>(allProperties));
-                    typeToNonRelationshipProperties.put(typeName, new ArrayList<>(nonRelationship));
-                    typeToStringProperties.put(typeName, new ArrayList<>(stringProperties));
-                    typeToPagedRelationshipProperties.put(typeName, new ArrayList<>(pagedRelationship));
-
                 }
-                typeToDisplayName.put(typeName, typeDetails.getName());
 
             }
         }
+        return new IGCTypeMetadata(typeDetails.getName(),
+                creatable,
+                modificationDetails,
+                new ArrayList<>(allProperties),
+                new ArrayList<>(nonRelationship),
+                new ArrayList<>(stringProperties),
+                new ArrayList<>(pagedRelationship));
+
+    }
 
+    /**
+     * Save the details of every IGC object type cached so far to the type cache directory, if one has been set and
+     * any details have been retrieved from IGC since the client was started (or last saved). Any failure to save
+     * the details is logged, but otherwise ignored: they will simply be retrieved from IGC again next time.
+     *
+     * @see #setTypeCacheDirectory(String)
+     */
+    public void saveTypeDetails() {
+        if (typeCache != null && typesChecksum != null && typeCacheChanged) {
+            typeCacheChanged = false;
+            Map<String, IGCTypeMetadata> types = new TreeMap<>(typeMetadata);
+            types.remove(IGCRestConstants.NOTE);
+            try {
+                typeCache.save(igcVersion, typesChecksum, types);
+                log.info("Saved cached details of {} types to: {}", types.size(), typeCache.getFile());
+            } catch (IOException e) {
+                log.warn("Unable to save cached type details to: {}", typeCache.getFile(), e);
+            }
+        }
     }
 
     /**
@@ -1368,12 +2603,8 @@ public class IGCRestClient {
      * @throws IGCIOException if there is any issue accessing the POJO defining the type and its properties
      */
     public String getDisplayNameForType(String typeName) throws IGCConnectivityException, IGCParsingException, IGCIOException {
-        cacheTypeDetails(typeName);
-        if (typeName != null) {
-            return typeToDisplayName.getOrDefault(typeName, null);
-        } else {
-            return null;
-        }
+        IGCTypeMetadata metadata = getTypeMetadata(typeName);
+        return metadata == null ? null : metadata.getDisplayName();
     }
 
     /**
@@ -1386,12 +2617,8 @@ public class IGCRestClient {
      * @throws IGCIOException if there is any issue accessing the POJO defining the type and its properties
      */
     public boolean isCreatable(String typeName) throws IGCConnectivityException, IGCParsingException, IGCIOException {
-        cacheTypeDetails(typeName);
-        if (typeName != null) {
-            return typesThatCanBeCreated.contains(typeName);
-        } else {
-            return false;
-        }
+        IGCTypeMetadata metadata = getTypeMetadata(typeName);
+        return metadata != null && metadata.isCreatable();
     }
 
     /**
@@ -1404,12 +2631,8 @@ public class IGCRestClient {
      * @throws IGCIOException if there is any issue accessing the POJO defining the type and its properties
      */
     public boolean hasModificationDetails(String typeName) throws IGCConnectivityException, IGCParsingException, IGCIOException {
-        cacheTypeDetails(typeName);
-        if (typeName != null) {
-            return typesThatIncludeModificationDetails.contains(typeName);
-        } else {
-            return false;
-        }
+        IGCTypeMetadata metadata = getTypeMetadata(typeName);
+        return metadata != null && metadata.hasModificationDetails();
     }
 
     /**
@@ -1422,12 +2645,8 @@ public class IGCRestClient {
      * @throws IGCIOException if there is any issue accessing the POJO defining the type and its properties
      */
     public List<String> getAllPropertiesForType(String typeName) throws IGCConnectivityException, IGCParsingException, IGCIOException {
-        cacheTypeDetails(typeName);
-        if (typeName != null) {
-            return typeToAllProperties.getOrDefault(typeName, Collections.emptyList());
-        } else {
-            return Collections.emptyList();
-        }
+        IGCTypeMetadata metadata = getTypeMetadata(typeName);
+        return metadata == null ? Collections.emptyList() : metadata.getAllProperties();
     }
 
     /**
@@ -1441,12 +2660,8 @@ public class IGCRestClient {
      * @throws IGCIOException if there is any issue accessing the POJO defining the type and its properties
      */
     public List<String> getNonRelationshipPropertiesForType(String typeName) throws IGCConnectivityException, IGCParsingException, IGCIOException {
-        cacheTypeDetails(typeName);
-        if (typeName != null) {
-            return typeToNonRelationshipProperties.getOrDefault(typeName, Collections.emptyList());
-        } else {
-            return Collections.emptyList();
-        }
+        IGCTypeMetadata metadata = getTypeMetadata(typeName);
+        return metadata == null ? Collections.emptyList() : metadata.getNonRelationshipProperties();
     }
 
     /**
@@ -1459,12 +2674,8 @@ public class IGCRestClient {
      * @throws IGCIOException if there is any issue accessing the POJO defining the type and its properties
      */
     public List<String> getAllStringPropertiesForType(String typeName) throws IGCConnectivityException, IGCParsingException, IGCIOException {
-        cacheTypeDetails(typeName);
-        if (typeName != null) {
-            return typeToStringProperties.getOrDefault(typeName, Collections.emptyList());
-        } else {
-            return Collections.emptyList();
-        }
+        IGCTypeMetadata metadata = getTypeMetadata(typeName);
+        return metadata == null ? Collections.emptyList() : metadata.getStringProperties();
     }
 
     /**
@@ -1478,12 +2689,8 @@ public class IGCRestClient {
      * @throws IGCIOException if there is any issue accessing the POJO defining the type and its properties
      */
     public List<String> getPagedRelationshipPropertiesForType(String typeName) throws IGCConnectivityException, IGCParsingException, IGCIOException {
-        cacheTypeDetails(typeName);
-        if (typeName != null) {
-            return typeToPagedRelationshipProperties.getOrDefault(typeName, Collections.emptyList());
-        } else {
-            return Collections.emptyList();
-        }
+        IGCTypeMetadata metadata = getTypeMetadata(typeName);
+        return metadata == null ? Collections.emptyList() : metadata.getPagedRelationshipProperties();
     }
 
     /**
@@ -1524,16 +2731,11 @@ public class IGCRestClient {
      * @throws IGCIOException if there is any issue introspecting the provided POJO class
      */
     public Class<?> getPOJOForType(String assetType) throws IGCIOException {
-        Class<?> igcPOJO = registeredTypes.getOrDefault(assetType, null);
+        Class<?> igcPOJO = assetType == null ? null : registeredTypes.get(assetType);
         if (igcPOJO == null) {
-            StringBuilder sbPojoName = new StringBuilder();
-            sbPojoName.append(IGCRestConstants.IGC_REST_BASE_MODEL_PKG);
-            sbPojoName.append(".");
-            sbPojoName.append(IGCRestConstants.getClassNameForAssetType(assetType));
-            try {
-                igcPOJO = Class.forName(sbPojoName.toString());
-            } catch (ClassNotFoundException e) {
-                throw new IGCIOException("Unable to find POJO class.", sbPojoName.toString(), e);
+            igcPOJO = IGCTypeRegistry.getPOJO(assetType);
+            if (igcPOJO == null) {
+                throw new IGCIOException("Unable to find POJO class.", assetType, null);
             }
         }
         return igcPOJO;
@@ -1570,16 +2772,22 @@ public class IGCRestClient {
      */
     private DynamicPropertyReader getAccessor(String type, String property) throws IGCIOException {
         String key = getDynamicPropertyKey(type, property);
-        if (!typeAndPropertyToAccessor.containsKey(key)) {
+        Optional<DynamicPropertyReader> accessor = typeAndPropertyToAccessor.get(key);
+        if (accessor == null) {
+            // Building an accessor is cheap, so we do not mind if concurrent threads each build one: only the first
+            // to finish is ever kept and used
             try {
-                DynamicPropertyReader reader = new DynamicPropertyReader(getPOJOForType(type), property);
-                typeAndPropertyToAccessor.put(key, reader);
+                accessor = Optional.of(new DynamicPropertyReader(getPOJOForType(type), property));
             } catch (IllegalArgumentException e) {
                 log.warn("Unable to setup an accessor for property '{}' on type '{}' - this property will be entirely ignored. If this is a custom property, see https://github.com/odpi/egeria-connector-ibm-information-server/tree/master/igc-clientlibrary#using-your-own-asset-types for how to add your own properties.", property, type, e);
-                typeAndPropertyToAccessor.put(key, null); // add a null accessor to avoid trying to build one again
+                accessor = Optional.empty(); // keep an empty accessor to avoid trying to build one again
+            }
+            Optional<DynamicPropertyReader> existing = typeAndPropertyToAccessor.putIfAbsent(key, accessor);
+            if (existing != null) {
+                accessor = existing;
             }
         }
-        return typeAndPropertyToAccessor.getOrDefault(key, null);
+        return accessor.orElse(null);
     }
 
     /**
@@ -1592,6 +2800,12 @@ public class IGCRestClient {
      */
     public Object getPropertyByName(Reference object, String property) throws IGCIOException {
         if (object != null) {
+            // The (generated) POJOs resolve their own properties directly, so we only need to fall back to a dynamic
+            // reader for properties they do not define themselves (eg. those of custom POJOs)
+            Object value = object.getPropertyValue(property);
+            if (value != Reference.UNKNOWN_PROPERTY) {
+                return value;
+            }
             DynamicPropertyReader accessor = getAccessor(object.getType(), property);
             if (accessor != null) {
                 return accessor.getProperty(object);
@@ -1676,4 +2890,277 @@ public class IGCRestClient {
 
     }
 
+
+    /**
+     * Position the provided parser at the value of the named field within the (object) value at which the parser
+     * is currently positioned, skipping over any other fields without parsing them.
+     *
+     * @param parser the parser to position, currently at the start of an object
+     * @param fieldName the name of the field whose value should be parsed
+     * @throws IOException if the field cannot be found, or there is any issue reading the response
+     */
+    private static void skipToField(JsonParser parser, String fieldName) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw JsonMappingException.from(parser, "Expected an object wrapping '" + fieldName + "'.");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String candidate = parser.getCurrentName();
+            parser.nextToken();
+            if (fieldName.equals(candidate)) {
+                return;
+            }
+            parser.skipChildren();
+        }
+        throw JsonMappingException.from(parser, "Unable to find '" + fieldName + "' in the response.");
+    }
+
+    /**
+     * Retrieve the metrics captured about the requests this client has made to IGC, broken down by logical operation
+     * and asset type.
+     *
+     * @return IGCRequestMetrics
+     */
+    public IGCRequestMetrics getRequestMetrics() { return metrics; }
+
+    /**
+     * Retrieve the cache of the identities of the assets this client has come across, so that the identity of each
+     * asset (and its parents) need only be resolved once.
+     *
+     * @return IdentityCache
+     */
+    public IdentityCache getIdentityCache() { return identities; }
+
+    /**
+     * Record the outcome of a single request in the metrics of this client.
+     *
+     * @param url the URL against which the request was made
+     * @param method HttpMethod (GET, POST, etc)
+     * @param payload the payload sent with the request (if any)
+     * @param start the time at which the request was sent, in nanoseconds
+     * @param sent the number of bytes sent with the request
+     * @param received the number of bytes received in the response
+     * @param result the parsed response (if any)
+     * @param failed true if the request failed, otherwise false
+     */
+    private void recordRequest(String url, HttpMethod method, String payload, long start, long sent, long received, Object result, boolean failed) {
+
+        long latency = System.nanoTime() - start;
+        String path = url.startsWith(baseURL) ? url.substring(baseURL.length()) : url;
+        String query = "";
+        int queryStart = path.indexOf('?');
+        if (queryStart >= 0) {
+            query = path.substring(queryStart);
+            path = path.substring(0, queryStart);
+        }
+
+        IGCOperation operation = IGCOperation.OTHER;
+        String assetType = null;
+        if (method == HttpMethod.GET && query.contains("begin=")) {
+            operation = IGCOperation.NEXT_PAGE;
+        } else if (path.equals(EP_SEARCH)) {
+            operation = IGCOperation.SEARCH;
+            Matcher types = payload == null ? null : SEARCH_TYPES.matcher(payload);
+            if (types != null && types.find()) {
+                assetType = types.group(1).replace("\"", "");
+            }
+        } else if (path.equals(EP_TYPES)) {
+            operation = IGCOperation.GET_TYPES;
+        } else if (path.startsWith(EP_TYPES + "/")) {
+            operation = IGCOperation.GET_TYPE_DETAILS;
+            assetType = path.substring(EP_TYPES.length() + 1);
+        } else if (path.startsWith(EP_BUNDLE_ASSETS)) {
+            operation = IGCOperation.BUNDLE_ASSETS;
+        } else if (path.startsWith(EP_BUNDLES)) {
+            operation = method == HttpMethod.GET ? IGCOperation.GET_BUNDLES : IGCOperation.UPSERT_BUNDLE;
+        } else if (path.equals(EP_ASSET) && method == HttpMethod.POST) {
+            operation = IGCOperation.CREATE_ASSET;
+            Matcher type = payload == null ? null : CREATE_TYPE.matcher(payload);
+            if (type != null && type.find()) {
+                assetType = type.group(1);
+            }
+        } else if (path.startsWith(EP_ASSET + "/")) {
+            if (method == HttpMethod.PUT) {
+                operation = IGCOperation.UPDATE_ASSET;
+            } else if (method == HttpMethod.DELETE) {
+                operation = IGCOperation.DELETE_ASSET;
+            } else {
+                operation = IGCOperation.GET_ASSET;
+            }
+        } else if (path.startsWith(EP_DETECT_LINEAGE)) {
+            operation = IGCOperation.DETECT_LINEAGE;
+            assetType = "dsjob";
+        } else if (path.equals(EP_LOGOUT)) {
+            operation = IGCOperation.LOGOUT;
+        }
+
+        // Where the request itself does not indicate the asset type, use the type of the asset(s) received
+        if (assetType == null && (operation == IGCOperation.GET_ASSET || operation == IGCOperation.NEXT_PAGE)) {
+            if (result instanceof Reference) {
+                assetType = ((Reference) result).getType();
+            } else if (result instanceof ItemList && !((ItemList<?>) result).getItems().isEmpty()) {
+                assetType = ((ItemList<?>) result).getItems().get(0).getType();
+            }
+        }
+
+        metrics.record(operation, assetType, latency, sent, received, failed);
+
+        IGCPageSizer sizer = pageSizer;
+        if (sizer != null && !failed && result instanceof ItemList) {
+            String shape = null;
+            if (operation == IGCOperation.SEARCH) {
+                shape = IGCPageSizer.getShapeOfSearch(payload);
+            } else if (operation == IGCOperation.NEXT_PAGE) {
+                shape = IGCPageSizer.getShapeOfNextPage(query);
+            }
+            Paging paging = ((ItemList<?>) result).getPaging();
+            int requested = paging == null || paging.getPageSize() == null ? 0 : paging.getPageSize();
+            sizer.record(shape, ((ItemList<?>) result).getItems().size(), requested, latency, received);
+        }
+
+    }
+
+    /**
+     * Calculate the number of bytes the provided String occupies when encoded as UTF-8, without encoding it.
+     *
+     * @param value the String to measure
+     * @return long - the number of bytes (0 if the String is null)
+     */
+    private static long getUtf8Length(String value) {
+        if (value == null) {
+            return 0;
+        }
+        long length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Retrieve the number of bytes in the provided file, if it can be determined.
+     *
+     * @param file the file to measure
+     * @return long - the number of bytes (0 if it cannot be determined)
+     */
+    private static long getContentLength(AbstractResource file) {
+        try {
+            return Math.max(0, file.contentLength());
+        } catch (IOException e) {
+            log.debug("Unable to determine size of file: {}", file, e);
+            return 0;
+        }
+    }
+
+    /**
+     * Counts the bytes read from an underlying stream.
+     */
+    private static class CountingInputStream extends FilterInputStream {
+
+        private long count = 0;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+    }
+
+    /**
+     * Parses a JSON response directly from the response stream, retaining the cookies of the response into the
+     * session through which it was received.
+     * <br><br>
+     * Any errors are retained (rather than thrown) so that they can be reported with the appropriate IGCException,
+     * since the RestTemplate would otherwise wrap them all as connectivity errors.
+     *
+     * @param <R> the type of object into which to parse the response
+     */
+    private class JsonResponseExtractor<R> implements ResponseExtractor<R> {
+
+        private final IGCSession session;
+        private final String wrapperName;
+        private final ObjectReader reader;
+
+        private IGCConnectivityException connectivityError = null;
+        private JsonProcessingException parsingError = null;
+        private long received = 0;
+
+        JsonResponseExtractor(IGCSession session, String wrapperName, ObjectReader reader) {
+            this.session = session;
+            this.wrapperName = wrapperName;
+            this.reader = reader;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public R extractData(ClientHttpResponse response) throws IOException {
+            try {
+                setCookiesFromResponse(session, response.getStatusCode(), response.getHeaders());
+            } catch (IGCConnectivityException e) {
+                connectivityError = e;
+                return null;
+            }
+            CountingInputStream body = new CountingInputStream(response.getBody());
+            try (JsonParser parser = reader.getFactory().createParser(body)) {
+                if (parser.nextToken() == null) {
+                    return null;
+                }
+                if (wrapperName != null) {
+                    skipToField(parser, wrapperName);
+                }
+                return reader.readValue(parser);
+            } catch (JsonProcessingException e) {
+                parsingError = e;
+                return null;
+            } finally {
+                received = body.count;
+            }
+        }
+
+    }
+
 }
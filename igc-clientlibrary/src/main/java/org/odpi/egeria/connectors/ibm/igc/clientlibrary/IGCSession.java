@@ -0,0 +1,64 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A single session against IGC: retains the (validated) cookies that identify the session, so that subsequent
+ * requests leased this session re-use it rather than logging in again.
+ * <br><br>
+ * A session is only ever used by one request at a time (see {@link IGCSessionPool}), so re-logging in on one
+ * session has no effect on any other session.
+ */
+class IGCSession {
+
+    private final int id;
+    private volatile List<String> cookies = null;
+
+    /**
+     * Create a new (not yet authenticated) session.
+     *
+     * @param id a number uniquely identifying the session within its pool
+     */
+    IGCSession(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Retrieve the number that uniquely identifies this session within its pool.
+     *
+     * @return int
+     */
+    int getId() { return id; }
+
+    /**
+     * Retrieve the cookies that identify this session, or null if the session has not yet been authenticated.
+     *
+     * @return {@code List<String>}
+     */
+    List<String> getCookies() { return cookies; }
+
+    /**
+     * Set the cookies that identify this session.
+     *
+     * @param cookies the (already-validated) cookies that identify the session
+     */
+    void setCookies(List<String> cookies) {
+        this.cookies = cookies == null ? null : Collections.unmodifiableList(cookies);
+    }
+
+    /**
+     * Indicates whether this session has been authenticated (true) or not (false).
+     *
+     * @return boolean
+     */
+    boolean isAuthenticated() { return cookies != null; }
+
+    /**
+     * Discard the cookies of this session, so that the next request made with it will login again.
+     */
+    void invalidate() { this.cookies = null; }
+
+}
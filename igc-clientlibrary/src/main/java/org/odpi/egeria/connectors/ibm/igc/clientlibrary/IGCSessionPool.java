@@ -0,0 +1,89 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary;
+
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCConnectivityException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A bounded pool of {@link IGCSession}s, each of which is leased to a single request at a time.
+ * <br><br>
+ * Sessions are only created when a request is made and every existing session is already leased, so a client that
+ * is used by only a single thread at a time will only ever open a single session. Once the maximum number of sessions
+ * has been created, further requests wait until a session is released.
+ */
+class IGCSessionPool {
+
+    private final int maxSessions;
+    private final Deque<IGCSession> idle;
+    private final List<IGCSession> all;
+
+    /**
+     * Create a new pool of sessions.
+     *
+     * @param maxSessions the maximum number of sessions to open concurrently (minimum of 1)
+     */
+    IGCSessionPool(int maxSessions) {
+        this.maxSessions = Math.max(1, maxSessions);
+        this.idle = new ArrayDeque<>();
+        this.all = new ArrayList<>();
+    }
+
+    /**
+     * Lease a session for the exclusive use of a single request, waiting for one to be released if the maximum
+     * number of sessions are all already leased.
+     *
+     * @return IGCSession
+     * @throws IGCConnectivityException if interrupted while waiting for a session
+     */
+    synchronized IGCSession lease() throws IGCConnectivityException {
+        while (idle.isEmpty() && all.size() >= maxSessions) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IGCConnectivityException("Interrupted while waiting for an IGC session.", e);
+            }
+        }
+        IGCSession session = idle.pollFirst();
+        if (session == null) {
+            session = new IGCSession(all.size());
+            all.add(session);
+        }
+        return session;
+    }
+
+    /**
+     * Return a previously-leased session to the pool. Sessions are re-used most-recently-released first, to favor
+     * sessions that are least likely to have timed out.
+     *
+     * @param session the session to release
+     */
+    synchronized void release(IGCSession session) {
+        if (session != null) {
+            idle.addFirst(session);
+            notifyAll();
+        }
+    }
+
+    /**
+     * Retrieve all of the sessions that have been created by this pool.
+     *
+     * @return {@code List<IGCSession>}
+     */
+    synchronized List<IGCSession> getSessions() {
+        return new ArrayList<>(all);
+    }
+
+    /**
+     * Retrieve the maximum number of sessions this pool will open concurrently.
+     *
+     * @return int
+     */
+    int getMaxSessions() { return maxSessions; }
+
+}
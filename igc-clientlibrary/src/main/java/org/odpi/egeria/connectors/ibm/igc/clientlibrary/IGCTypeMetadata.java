@@ -0,0 +1,115 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The details of a single IGC object type that the client needs: its display name, whether it can be created, whether
+ * it tracks modification details, and the various classifications of its properties.
+ * <br><br>
+ * Instances are immutable, so that once built (from IGC's type details or a cached snapshot of them) they can be
+ * shared freely between threads without any locking.
+ */
+final class IGCTypeMetadata {
+
+    private final String displayName;
+    private final boolean creatable;
+    private final boolean modificationDetails;
+    private final List<String> allProperties;
+    private final List<String> nonRelationshipProperties;
+    private final List<String> stringProperties;
+    private final List<String> pagedRelationshipProperties;
+
+    /**
+     * Create the details of an IGC object type.
+     *
+     * @param displayName the display name of the type
+     * @param creatable true if assets of the type can be created, otherwise false
+     * @param modificationDetails true if assets of the type track modification details, otherwise false
+     * @param allProperties the names of all of the type's properties
+     * @param nonRelationshipProperties the names of the type's non-relationship properties
+     * @param stringProperties the names of the type's string properties
+     * @param pagedRelationshipProperties the names of the type's paged relationship properties
+     */
+    IGCTypeMetadata(String displayName,
+                    boolean creatable,
+                    boolean modificationDetails,
+                    List<String> allProperties,
+                    List<String> nonRelationshipProperties,
+                    List<String> stringProperties,
+                    List<String> pagedRelationshipProperties) {
+        this.displayName = displayName;
+        this.creatable = creatable;
+        this.modificationDetails = modificationDetails;
+        this.allProperties = copyOf(allProperties);
+        this.nonRelationshipProperties = copyOf(nonRelationshipProperties);
+        this.stringProperties = copyOf(stringProperties);
+        this.pagedRelationshipProperties = copyOf(pagedRelationshipProperties);
+    }
+
+    /**
+     * Retrieve the display name of the type.
+     *
+     * @return String
+     */
+    String getDisplayName() { return displayName; }
+
+    /**
+     * Indicates whether assets of the type can be created (true) or not (false).
+     *
+     * @return boolean
+     */
+    boolean isCreatable() { return creatable; }
+
+    /**
+     * Indicates whether assets of the type track modification details (true) or not (false).
+     *
+     * @return boolean
+     */
+    boolean hasModificationDetails() { return modificationDetails; }
+
+    /**
+     * Retrieve the names of all of the type's properties.
+     *
+     * @return {@code List<String>}
+     */
+    List<String> getAllProperties() { return allProperties; }
+
+    /**
+     * Retrieve the names of the type's non-relationship properties.
+     *
+     * @return {@code List<String>}
+     */
+    List<String> getNonRelationshipProperties() { return nonRelationshipProperties; }
+
+    /**
+     * Retrieve the names of the type's string properties.
+     *
+     * @return {@code List<String>}
+     */
+    List<String> getStringProperties() { return stringProperties; }
+
+    /**
+     * Retrieve the names of the type's paged relationship properties.
+     *
+     * @return {@code List<String>}
+     */
+    List<String> getPagedRelationshipProperties() { return pagedRelationshipProperties; }
+
+    /**
+     * Take an unmodifiable copy of the provided list.
+     *
+     * @param values the list to copy (may be null)
+     * @return {@code List<String>} - the (possibly empty) unmodifiable copy
+     */
+    private static List<String> copyOf(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(new ArrayList<>(values));
+    }
+
+}
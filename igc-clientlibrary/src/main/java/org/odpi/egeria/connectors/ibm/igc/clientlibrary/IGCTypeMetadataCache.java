@@ -0,0 +1,246 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.types.TypeHeader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A snapshot of the details of IGC object types (display names and the various classifications of their properties),
+ * persisted to a local file so that they need not be retrieved again from IGC each time a client is started.
+ * <br><br>
+ * The snapshot is keyed by the environment (base URL), the version of IGC and a checksum of the list of types that IGC
+ * reports: if any of these differ from what is in the file, the file is ignored (and later replaced).
+ */
+class IGCTypeMetadataCache {
+
+    private static final Logger log = LoggerFactory.getLogger(IGCTypeMetadataCache.class);
+
+    /**
+     * The version of the format of the snapshot file, to be changed whenever the details recorded for each type change.
+     */
+    private static final int FORMAT = 1;
+
+    private static final String BASE_URL = "baseURL";
+    private static final String VERSION = "version";
+    private static final String CHECKSUM = "checksum";
+    private static final String TYPES = "types";
+
+    private final File file;
+    private final String baseURL;
+    private final ObjectMapper mapper;
+
+    /**
+     * Create a new cache of type details for the provided environment, within the provided directory.
+     *
+     * @param directory the directory in which to keep the snapshot file (created if it does not exist)
+     * @param baseURL the base URL of the environment whose type details are cached
+     * @param mapper the mapper through which to read and write the snapshot
+     */
+    IGCTypeMetadataCache(File directory, String baseURL, ObjectMapper mapper) {
+        this.file = new File(directory, getFileName(baseURL));
+        this.baseURL = baseURL;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Retrieve the file in which the snapshot is kept.
+     *
+     * @return File
+     */
+    File getFile() { return file; }
+
+    /**
+     * Load the type details from the snapshot, so long as it was taken of the same environment, version of IGC and
+     * list of types.
+     *
+     * @param version the version of IGC
+     * @param checksum the checksum of the list of types reported by IGC
+     * @return {@code Map<String, IGCTypeMetadata>} - the details of each type, keyed by type name (empty if there is no
+     *         valid snapshot)
+     * @see #getChecksum(List)
+     */
+    Map<String, IGCTypeMetadata> load(IGCVersionEnum version, String checksum) {
+        Map<String, IGCTypeMetadata> types = new TreeMap<>();
+        if (file.isFile()) {
+            try {
+                JsonNode snapshot = mapper.readTree(file);
+                if (snapshot != null
+                        && baseURL.equals(snapshot.path(BASE_URL).asText())
+                        && version.name().equals(snapshot.path(VERSION).asText())
+                        && checksum.equals(snapshot.path(CHECKSUM).asText())) {
+                    Iterator<Map.Entry<String, JsonNode>> fields = snapshot.path(TYPES).fields();
+                    while (fields.hasNext()) {
+                        Map.Entry<String, JsonNode> field = fields.next();
+                        JsonNode type = field.getValue();
+                        types.put(field.getKey(), new IGCTypeMetadata(
+                                type.path("displayName").asText(null),
+                                type.path("creatable").asBoolean(false),
+                                type.path("modificationDetails").asBoolean(false),
+                                getList(type.path("allProperties")),
+                                getList(type.path("nonRelationshipProperties")),
+                                getList(type.path("stringProperties")),
+                                getList(type.path("pagedRelationshipProperties"))
+                        ));
+                    }
+                } else {
+                    log.info("Cached type details in {} are out-of-date -- they will be retrieved again from IGC.", file);
+                }
+            } catch (IOException e) {
+                log.warn("Unable to read cached type details from {} -- they will be retrieved again from IGC.", file, e);
+                types.clear();
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Replace the snapshot with the provided type details.
+     *
+     * @param version the version of IGC
+     * @param checksum the checksum of the list of types reported by IGC
+     * @param types the details of each type, keyed by type name
+     * @throws IOException if the snapshot could not be written
+     */
+    void save(IGCVersionEnum version, String checksum, Map<String, IGCTypeMetadata> types) throws IOException {
+
+        ObjectNode snapshot = mapper.createObjectNode();
+        snapshot.put(BASE_URL, baseURL);
+        snapshot.put(VERSION, version.name());
+        snapshot.put(CHECKSUM, checksum);
+        ObjectNode typesNode = snapshot.putObject(TYPES);
+        for (Map.Entry<String, IGCTypeMetadata> entry : new TreeMap<>(types).entrySet()) {
+            IGCTypeMetadata metadata = entry.getValue();
+            ObjectNode type = typesNode.putObject(entry.getKey());
+            type.put("displayName", metadata.getDisplayName());
+            type.put("creatable", metadata.isCreatable());
+            type.put("modificationDetails", metadata.hasModificationDetails());
+            putList(type, "allProperties", metadata.getAllProperties());
+            putList(type, "nonRelationshipProperties", metadata.getNonRelationshipProperties());
+            putList(type, "stringProperties", metadata.getStringProperties());
+            putList(type, "pagedRelationshipProperties", metadata.getPagedRelationshipProperties());
+        }
+
+        // Write to a temporary file first and then move it into place, so that a partially-written snapshot is never
+        // read (and concurrent clients of the same environment do not see each other's partial writes)
+        File directory = file.getAbsoluteFile().getParentFile();
+        Files.createDirectories(directory.toPath());
+        File tmp = File.createTempFile(file.getName(), ".tmp", directory);
+        try {
+            mapper.writeValue(tmp, snapshot);
+            try {
+                Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp.toPath());
+        }
+
+    }
+
+    /**
+     * Calculate a checksum of the provided list of types, which changes whenever types are added, removed or renamed
+     * (for example, by patching IGC or deploying OpenIGC bundles) or the client library itself changes.
+     *
+     * @param types the list of types reported by IGC
+     * @return String
+     */
+    static String getChecksum(List<TypeHeader> types) {
+        List<String> entries = new ArrayList<>();
+        if (types != null) {
+            for (TypeHeader type : types) {
+                entries.add(type.getId() + "=" + type.getName());
+            }
+        }
+        Collections.sort(entries);
+        String library = IGCRestClient.class.getPackage().getImplementationVersion();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((FORMAT + ":" + library).getBytes(StandardCharsets.UTF_8));
+            for (String entry : entries) {
+                digest.update((byte) '\n');
+                digest.update(entry.getBytes(StandardCharsets.UTF_8));
+            }
+            StringBuilder sb = new StringBuilder();
+            for (byte b : digest.digest()) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256, so this should never happen
+            throw new IllegalStateException("Unable to calculate a checksum of the IGC types.", e);
+        }
+    }
+
+    /**
+     * Retrieve the name of the snapshot file for the provided environment.
+     *
+     * @param baseURL the base URL of the environment
+     * @return String
+     */
+    private static String getFileName(String baseURL) {
+        String host = baseURL;
+        try {
+            URI uri = URI.create(baseURL);
+            if (uri.getHost() != null) {
+                host = uri.getHost() + (uri.getPort() < 0 ? "" : "_" + uri.getPort());
+            }
+        } catch (IllegalArgumentException e) {
+            log.debug("Unable to parse base URL {} -- using it as-is for the type cache file name.", baseURL);
+        }
+        return "igc-types-" + host.replaceAll("[^A-Za-z0-9._-]", "_") + ".json";
+    }
+
+    /**
+     * Retrieve the values of the provided JSON array as a list of strings.
+     *
+     * @param array the JSON array
+     * @return {@code List<String>}
+     */
+    private static List<String> getList(JsonNode array) {
+        List<String> list = new ArrayList<>();
+        for (JsonNode value : array) {
+            list.add(value.asText());
+        }
+        return list;
+    }
+
+    /**
+     * Add the provided list of strings to the provided JSON object, as an array.
+     *
+     * @param node the JSON object to which to add the array
+     * @param name the name of the array
+     * @param values the values of the array
+     */
+    private static void putList(ObjectNode node, String name, List<String> values) {
+        ArrayNode array = node.putArray(name);
+        if (values != null) {
+            for (String value : values) {
+                array.add(value);
+            }
+        }
+    }
+
+}
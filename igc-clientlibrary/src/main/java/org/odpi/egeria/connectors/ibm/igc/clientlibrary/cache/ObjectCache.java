@@ -4,16 +4,41 @@ package org.odpi.egeria.connectors.ibm.igc.clientlibrary.cache;
 
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Provides a general mechanism to cache IGC objects temporarily, to avoid the need to repeatedly retrieve them and
  * incur the penalties of calling the REST API multiple times to retrieve the same information.
+ * <br><br>
+ * Each cache is intended to be used for only a single request (though that request's searches may run on several
+ * threads), but may be backed by a {@link SharedObjectCache} that outlives it: any object not already in this cache is
+ * then looked up in the shared cache, and any object added to this cache is also added to the shared cache.
+ * <br><br>
+ * Cached objects may hold only a subset of their properties (eg. only their context and modification details): any
+ * reader that needs more than this must check {@link Reference#isFullyRetrieved()} and treat a partial object as a miss.
  */
 public class ObjectCache {
 
-    private Map<String, Reference> cache = new HashMap<>();
+    private Map<String, Reference> cache = Collections.synchronizedMap(new HashMap<>());
+    private final SharedObjectCache shared;
+
+    /**
+     * Create a new cache that is not backed by any shared cache.
+     */
+    public ObjectCache() {
+        this(null);
+    }
+
+    /**
+     * Create a new cache backed by the provided shared cache.
+     *
+     * @param shared the shared cache (or null if there is none)
+     */
+    public ObjectCache(SharedObjectCache shared) {
+        this.shared = shared;
+    }
 
     /**
      * Add the provided entry into the cache.
@@ -21,6 +46,18 @@ public class ObjectCache {
      */
     public void add(Reference entry) {
         cache.put(entry.getId(), entry);
+        if (shared != null) {
+            shared.add(entry);
+        }
+    }
+
+    /**
+     * Add the provided entry into this cache only (not into any shared cache that backs it), so that it is only
+     * used for the rest of this request.
+     * @param entry to add
+     */
+    public void addLocal(Reference entry) {
+        cache.put(entry.getId(), entry);
     }
 
     /**
@@ -29,7 +66,26 @@ public class ObjectCache {
      * @return the IGC object, or null if not in the cache
      */
     public Reference get(String id) {
-        return cache.getOrDefault(id, null);
+        Reference entry = cache.getOrDefault(id, null);
+        if (entry == null && shared != null) {
+            entry = shared.get(id);
+            if (entry != null) {
+                // Keep the same object for the rest of the request, even if it is evicted from the shared cache
+                cache.put(id, entry);
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Remove an entry by its Repository ID (RID) from the cache, and from any shared cache that backs it.
+     * @param id RID of the entry to remove
+     */
+    public void invalidate(String id) {
+        cache.remove(id);
+        if (shared != null) {
+            shared.invalidate(id);
+        }
     }
 
 }
@@ -0,0 +1,267 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary.cache;
+
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A cache of IGC objects that is shared by many {@link ObjectCache}s (and therefore across many requests and threads),
+ * so that frequently-used objects (eg. the hosts, databases and categories that are the parents of many others) need
+ * not be retrieved again for every request.
+ * <br><br>
+ * The cache is bounded both in size (evicting the least-recently used objects first) and in time (each object expires
+ * a fixed time after it was cached), and objects can be invalidated individually as soon as they are known to have
+ * changed (eg. from the events IGC publishes).
+ */
+public class SharedObjectCache {
+
+    private final int maxSize;
+    private final long ttl;
+    private final Map<String, Entry> entries;
+
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+    private final LongAdder expirations;
+    private final LongAdder invalidations;
+
+    /**
+     * Create a new shared cache.
+     *
+     * @param maxSize the maximum number of objects to cache
+     * @param ttl the length of time for which each object is cached (or 0 to only evict objects when the cache is full)
+     * @param unit the unit of the length of time
+     */
+    public SharedObjectCache(int maxSize, long ttl, TimeUnit unit) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The maximum size of the cache must be greater than 0: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.ttl = ttl > 0 ? unit.toNanos(ttl) : 0;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+        this.expirations = new LongAdder();
+        this.invalidations = new LongAdder();
+    }
+
+    /**
+     * Retrieve an object by its Repository ID (RID) from the cache.
+     *
+     * @param id RID of the object to retrieve
+     * @return Reference - the IGC object, or null if not in the cache (or it has expired)
+     */
+    public Reference get(String id) {
+        if (id == null) {
+            return null;
+        }
+        Reference object = null;
+        synchronized (entries) {
+            Entry entry = entries.get(id);
+            if (entry != null) {
+                if (entry.isExpired(System.nanoTime())) {
+                    entries.remove(id);
+                    expirations.increment();
+                } else {
+                    object = entry.object;
+                }
+            }
+        }
+        if (object == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return object;
+    }
+
+    /**
+     * Add the provided object into the cache, replacing any that is already cached with the same RID (and evicting
+     * the least-recently used object if the cache is full).
+     *
+     * @param object the IGC object to add
+     */
+    public void add(Reference object) {
+        if (object == null || object.getId() == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        Entry entry = new Entry(object, ttl > 0 ? now + ttl : 0);
+        synchronized (entries) {
+            entries.put(object.getId(), entry);
+            if (entries.size() > maxSize) {
+                // Expired objects are only dropped as they are next looked up, so that a full cache need not be
+                // scanned for them on every addition: just evict the least-recently used object
+                Iterator<Entry> eldest = entries.values().iterator();
+                eldest.next();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Remove the object with the provided Repository ID (RID) from the cache, if it is cached.
+     *
+     * @param id RID of the object to remove
+     * @return boolean - true if the object was cached, otherwise false
+     */
+    public boolean invalidate(String id) {
+        if (id == null) {
+            return false;
+        }
+        boolean removed;
+        synchronized (entries) {
+            removed = entries.remove(id) != null;
+        }
+        if (removed) {
+            invalidations.increment();
+        }
+        return removed;
+    }
+
+    /**
+     * Remove the objects with the provided Repository IDs (RIDs) from the cache, for any that are cached.
+     *
+     * @param ids RIDs of the objects to remove
+     * @return int - the number of objects that were removed
+     */
+    public int invalidateAll(Collection<String> ids) {
+        int removed = 0;
+        if (ids != null) {
+            for (String id : ids) {
+                if (invalidate(id)) {
+                    removed++;
+                }
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Remove all objects from the cache.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Retrieve the number of objects currently in the cache (including any that have expired but not yet been
+     * removed).
+     *
+     * @return int
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Retrieve the maximum number of objects that the cache will hold.
+     *
+     * @return int
+     */
+    public int getMaxSize() { return maxSize; }
+
+    /**
+     * Retrieve the number of retrievals that found the object in the cache.
+     *
+     * @return long
+     */
+    public long getHitCount() { return hits.sum(); }
+
+    /**
+     * Retrieve the number of retrievals that did not find the object in the cache.
+     *
+     * @return long
+     */
+    public long getMissCount() { return misses.sum(); }
+
+    /**
+     * Retrieve the number of objects removed to keep the cache within its maximum size.
+     *
+     * @return long
+     */
+    public long getEvictionCount() { return evictions.sum(); }
+
+    /**
+     * Retrieve the number of objects removed because they expired.
+     *
+     * @return long
+     */
+    public long getExpirationCount() { return expirations.sum(); }
+
+    /**
+     * Retrieve the number of objects removed because they were invalidated.
+     *
+     * @return long
+     */
+    public long getInvalidationCount() { return invalidations.sum(); }
+
+    /**
+     * Retrieve the proportion of retrievals that found the object in the cache.
+     *
+     * @return double - between 0 and 1 (0 if there have not yet been any retrievals)
+     */
+    public double getHitRatio() {
+        long found = getHitCount();
+        long total = found + getMissCount();
+        return total == 0 ? 0 : found / (double) total;
+    }
+
+    /**
+     * Retrieve a one-line summary of the statistics of the cache.
+     *
+     * @return String
+     */
+    public String getSummary() {
+        return String.format("size=%d/%d, hits=%d, misses=%d (%.1f%% hit ratio), evictions=%d, expirations=%d, invalidations=%d",
+                size(), maxSize, getHitCount(), getMissCount(), getHitRatio() * 100,
+                getEvictionCount(), getExpirationCount(), getInvalidationCount());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "SharedObjectCache{" + getSummary() + "}";
+    }
+
+    /**
+     * A single cached object, and when it expires.
+     */
+    private static final class Entry {
+
+        private final Reference object;
+        private final long expiresAt;
+
+        Entry(Reference object, long expiresAt) {
+            this.object = object;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * Indicates whether the object has expired (true) or not (false).
+         *
+         * @param now the current time, in nanoseconds
+         * @return boolean
+         */
+        boolean isExpired(long now) {
+            return expiresAt != 0 && now - expiresAt >= 0;
+        }
+
+    }
+
+}
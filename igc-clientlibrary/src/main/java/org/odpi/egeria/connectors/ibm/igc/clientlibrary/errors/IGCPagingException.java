@@ -0,0 +1,29 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors;
+
+/**
+ * IGCPagingException is used for any problems retrieving a page of results lazily (eg. while iterating over or
+ * streaming results), where the checked IGCException cannot be thrown directly. The underlying IGCException is
+ * always available as the cause.
+ */
+public class IGCPagingException extends RuntimeException {
+
+    /**
+     * Constructor used for creating an IGCPagingException when an IGCException has been caught while retrieving a page.
+     * @param caughtError the IGCException that prevented the page from being retrieved
+     */
+    public IGCPagingException(IGCException caughtError) {
+        super(caughtError.getMessage(), caughtError);
+    }
+
+    /**
+     * Retrieve the IGCException that prevented the page from being retrieved.
+     * @return IGCException
+     */
+    @Override
+    public synchronized IGCException getCause() {
+        return (IGCException) super.getCause();
+    }
+
+}
@@ -0,0 +1,108 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary.http;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ssl.DefaultHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.HttpsURLConnection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates the HTTP transport (Spring request factory) used by the IGC REST client, based on a set of
+ * {@link HttpTransportSettings}.
+ * <br><br>
+ * A pooled transport keeps connections alive between requests, avoiding the connection and TLS setup costs of
+ * opening a new connection for every request. Note that the pooled transport honors the same SSL settings as the
+ * default (JDK) transport, so that the (non-)strict SSL behavior configured for the platform (eg. through
+ * {@code HttpHelper.noStrictSSL()}) applies regardless of the transport used.
+ */
+public class HttpTransportFactory {
+
+    private static final Logger log = LoggerFactory.getLogger(HttpTransportFactory.class);
+
+    private HttpTransportFactory() {
+        // Static methods only
+    }
+
+    /**
+     * Create a new HTTP transport based on the provided settings.
+     *
+     * @param settings the settings to use for the transport (or null to use the defaults)
+     * @return ClientHttpRequestFactory
+     */
+    public static ClientHttpRequestFactory getRequestFactory(HttpTransportSettings settings) {
+        HttpTransportSettings toUse = settings == null ? new HttpTransportSettings() : settings;
+        log.debug("Creating HTTP transport with: {}", toUse);
+        if (toUse.isPooled()) {
+            return getPooledRequestFactory(toUse);
+        } else {
+            SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+            factory.setConnectTimeout(toUse.getConnectTimeout());
+            factory.setReadTimeout(toUse.getReadTimeout());
+            return factory;
+        }
+    }
+
+    /**
+     * Create a new pooled, keep-alive HTTP transport based on the provided settings.
+     *
+     * @param settings the settings to use for the transport
+     * @return ClientHttpRequestFactory
+     */
+    private static ClientHttpRequestFactory getPooledRequestFactory(HttpTransportSettings settings) {
+
+        SSLConnectionSocketFactory sslSocketFactory = new SSLConnectionSocketFactory(
+                HttpsURLConnection.getDefaultSSLSocketFactory(),
+                getHostnameVerifier()
+        );
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(settings.getConnectTimeout())
+                .setSocketTimeout(settings.getReadTimeout())
+                .build();
+
+        // Cookies are explicitly managed (and validated) by the IGC REST client itself, so we must not allow the
+        // underlying transport to also manage them
+        HttpClientBuilder builder = HttpClientBuilder.create()
+                .setSSLSocketFactory(sslSocketFactory)
+                .setMaxConnPerRoute(settings.getMaxConnectionsPerRoute())
+                .setMaxConnTotal(settings.getMaxConnectionsTotal())
+                .setDefaultRequestConfig(requestConfig)
+                .disableCookieManagement()
+                .evictExpiredConnections();
+        if (settings.getIdleConnectionTimeout() > 0) {
+            builder.evictIdleConnections(settings.getIdleConnectionTimeout(), TimeUnit.SECONDS);
+        }
+        CloseableHttpClient httpClient = builder.build();
+
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+
+    }
+
+    /**
+     * Retrieve the hostname verifier to use for the pooled transport: the one configured as the default for the JDK
+     * transport, if it has been overridden, otherwise the standard (strict) verifier.
+     *
+     * @return HostnameVerifier
+     */
+    private static HostnameVerifier getHostnameVerifier() {
+        HostnameVerifier configured = HttpsURLConnection.getDefaultHostnameVerifier();
+        // The JDK's own default verifier rejects everything (it is only consulted by the JDK transport after its
+        // built-in checks have already failed), so we must not use it directly
+        if (configured == null || HttpsURLConnection.class.equals(configured.getClass().getEnclosingClass())) {
+            return new DefaultHostnameVerifier();
+        }
+        return configured;
+    }
+
+}
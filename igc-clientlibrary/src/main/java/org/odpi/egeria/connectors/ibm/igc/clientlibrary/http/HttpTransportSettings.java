@@ -0,0 +1,215 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary.http;
+
+import java.util.Map;
+
+import static org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCConfigurationValues.getBoolean;
+import static org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCConfigurationValues.getInteger;
+
+/**
+ * Settings for the HTTP transport used by the IGC REST client: whether connections are pooled (and kept alive
+ * between requests), how large that pool may grow, when idle connections are evicted from it, the timeouts
+ * applied to each connection, and how many sessions may be used concurrently over those connections. (How the client
+ * itself sends its requests over this transport is instead configured through
+ * {@link org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCClientSettings}.)
+ * <br><br>
+ * The defaults retain the behavior of earlier releases for timeouts (no timeouts) while pooling connections, so that
+ * repeated requests against the services tier re-use already-established (TLS) connections.
+ */
+public class HttpTransportSettings {
+
+    /**
+     * Configuration property to enable (true) or disable (false) pooling of connections.
+     */
+    public static final String CONNECTION_POOLING = "connectionPooling";
+
+    /**
+     * Configuration property giving the maximum number of pooled connections to keep open to the IGC services tier.
+     */
+    public static final String MAX_CONNECTIONS_PER_ROUTE = "maxConnectionsPerRoute";
+
+    /**
+     * Configuration property giving the maximum number of pooled connections to keep open in total.
+     */
+    public static final String MAX_CONNECTIONS_TOTAL = "maxConnectionsTotal";
+
+    /**
+     * Configuration property giving the number of seconds after which an idle pooled connection is evicted.
+     */
+    public static final String IDLE_CONNECTION_TIMEOUT = "idleConnectionTimeout";
+
+    /**
+     * Configuration property giving the number of milliseconds to wait for a connection to be established.
+     */
+    public static final String CONNECT_TIMEOUT = "connectTimeout";
+
+    /**
+     * Configuration property giving the number of milliseconds to wait for data to be read from a connection.
+     */
+    public static final String READ_TIMEOUT = "readTimeout";
+
+    /**
+     * Configuration property giving the maximum number of sessions to open concurrently against the IGC services tier.
+     */
+    public static final String MAX_SESSIONS = "maxSessions";
+
+    /**
+     * The maximum number of sessions opened concurrently, if not otherwise configured. (Sessions are only opened as
+     * concurrent requests require them, so a client used by a single thread will still only open a single session.)
+     */
+    public static final int DEFAULT_MAX_SESSIONS = 4;
+
+    private boolean pooled = true;
+    private int maxConnectionsPerRoute = 20;
+    private int maxConnectionsTotal = 20;
+    private int idleConnectionTimeout = 60;
+    private int connectTimeout = 0;
+    private int readTimeout = 0;
+    private int maxSessions = DEFAULT_MAX_SESSIONS;
+
+    /**
+     * Create a new set of transport settings, initialised with the default values.
+     */
+    public HttpTransportSettings() {
+        // Nothing to do: all values have defaults
+    }
+
+    /**
+     * Create a new set of transport settings from the configuration properties of a connector, falling back to the
+     * default for any setting that is not provided.
+     *
+     * @param configurationProperties the configuration properties of the connector (may be null)
+     * @return HttpTransportSettings
+     */
+    public static HttpTransportSettings fromConfigurationProperties(Map<String, Object> configurationProperties) {
+        HttpTransportSettings settings = new HttpTransportSettings();
+        if (configurationProperties != null) {
+            settings.setPooled(getBoolean(configurationProperties, CONNECTION_POOLING, settings.isPooled()));
+            settings.setMaxConnectionsPerRoute(getInteger(configurationProperties, MAX_CONNECTIONS_PER_ROUTE, settings.getMaxConnectionsPerRoute()));
+            settings.setMaxConnectionsTotal(getInteger(configurationProperties, MAX_CONNECTIONS_TOTAL, settings.getMaxConnectionsTotal()));
+            settings.setIdleConnectionTimeout(getInteger(configurationProperties, IDLE_CONNECTION_TIMEOUT, settings.getIdleConnectionTimeout()));
+            settings.setConnectTimeout(getInteger(configurationProperties, CONNECT_TIMEOUT, settings.getConnectTimeout()));
+            settings.setReadTimeout(getInteger(configurationProperties, READ_TIMEOUT, settings.getReadTimeout()));
+            settings.setMaxSessions(getInteger(configurationProperties, MAX_SESSIONS, settings.getMaxSessions()));
+        }
+        return settings;
+    }
+
+    /**
+     * Indicates whether connections should be pooled and kept alive between requests (true) or opened afresh for
+     * every request (false).
+     *
+     * @return boolean
+     */
+    public boolean isPooled() { return pooled; }
+
+    /**
+     * Set whether connections should be pooled and kept alive between requests (true) or opened afresh for every
+     * request (false).
+     *
+     * @param pooled true to pool connections, otherwise false
+     */
+    public void setPooled(boolean pooled) { this.pooled = pooled; }
+
+    /**
+     * Retrieve the maximum number of pooled connections to keep to any single route (host and port).
+     *
+     * @return int
+     */
+    public int getMaxConnectionsPerRoute() { return maxConnectionsPerRoute; }
+
+    /**
+     * Set the maximum number of pooled connections to keep to any single route (host and port).
+     *
+     * @param maxConnectionsPerRoute maximum number of connections per route
+     */
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) { this.maxConnectionsPerRoute = maxConnectionsPerRoute; }
+
+    /**
+     * Retrieve the maximum number of pooled connections to keep in total.
+     *
+     * @return int
+     */
+    public int getMaxConnectionsTotal() { return maxConnectionsTotal; }
+
+    /**
+     * Set the maximum number of pooled connections to keep in total.
+     *
+     * @param maxConnectionsTotal maximum number of connections in total
+     */
+    public void setMaxConnectionsTotal(int maxConnectionsTotal) { this.maxConnectionsTotal = maxConnectionsTotal; }
+
+    /**
+     * Retrieve the number of seconds a pooled connection may remain idle before it is evicted from the pool.
+     *
+     * @return int
+     */
+    public int getIdleConnectionTimeout() { return idleConnectionTimeout; }
+
+    /**
+     * Set the number of seconds a pooled connection may remain idle before it is evicted from the pool.
+     *
+     * @param idleConnectionTimeout seconds before an idle connection is evicted
+     */
+    public void setIdleConnectionTimeout(int idleConnectionTimeout) { this.idleConnectionTimeout = idleConnectionTimeout; }
+
+    /**
+     * Retrieve the number of milliseconds to wait for a connection to be established (0 for no timeout).
+     *
+     * @return int
+     */
+    public int getConnectTimeout() { return connectTimeout; }
+
+    /**
+     * Set the number of milliseconds to wait for a connection to be established (0 for no timeout).
+     *
+     * @param connectTimeout milliseconds to wait for a connection
+     */
+    public void setConnectTimeout(int connectTimeout) { this.connectTimeout = connectTimeout; }
+
+    /**
+     * Retrieve the number of milliseconds to wait for data to be read from a connection (0 for no timeout).
+     *
+     * @return int
+     */
+    public int getReadTimeout() { return readTimeout; }
+
+    /**
+     * Set the number of milliseconds to wait for data to be read from a connection (0 for no timeout).
+     *
+     * @param readTimeout milliseconds to wait for data
+     */
+    public void setReadTimeout(int readTimeout) { this.readTimeout = readTimeout; }
+
+    /**
+     * Retrieve the maximum number of sessions to open concurrently against the IGC services tier.
+     *
+     * @return int
+     */
+    public int getMaxSessions() { return maxSessions; }
+
+    /**
+     * Set the maximum number of sessions to open concurrently against the IGC services tier (minimum of 1).
+     *
+     * @param maxSessions maximum number of concurrent sessions
+     */
+    public void setMaxSessions(int maxSessions) { this.maxSessions = maxSessions; }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "HttpTransportSettings{" +
+                "pooled=" + pooled +
+                ", maxConnectionsPerRoute=" + maxConnectionsPerRoute +
+                ", maxConnectionsTotal=" + maxConnectionsTotal +
+                ", idleConnectionTimeout=" + idleConnectionTimeout +
+                ", connectTimeout=" + connectTimeout +
+                ", readTimeout=" + readTimeout +
+                ", maxSessions=" + maxSessions +
+                '}';
+    }
+
+}
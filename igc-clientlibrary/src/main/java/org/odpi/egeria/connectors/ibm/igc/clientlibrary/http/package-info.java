@@ -0,0 +1,7 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+/**
+ * Defines the HTTP transport used to communicate with the IGC REST API, including its connection pooling settings.
+ */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary.http;
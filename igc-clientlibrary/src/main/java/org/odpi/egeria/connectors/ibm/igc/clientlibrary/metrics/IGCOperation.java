@@ -0,0 +1,38 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary.metrics;
+
+/**
+ * The logical operations carried out through the IGC REST API, by which request metrics are broken down.
+ */
+public enum IGCOperation {
+
+    SEARCH("search"),
+    GET_ASSET("asset"),
+    NEXT_PAGE("nextPage"),
+    GET_TYPES("types"),
+    GET_TYPE_DETAILS("typeDetails"),
+    CREATE_ASSET("create"),
+    UPDATE_ASSET("update"),
+    DELETE_ASSET("delete"),
+    GET_BUNDLES("bundles"),
+    UPSERT_BUNDLE("bundleUpsert"),
+    BUNDLE_ASSETS("bundleAssets"),
+    DETECT_LINEAGE("detectLineage"),
+    LOGOUT("logout"),
+    OTHER("other");
+
+    private final String label;
+
+    IGCOperation(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Retrieve the short label used for this operation in summaries.
+     *
+     * @return String
+     */
+    public String getLabel() { return label; }
+
+}
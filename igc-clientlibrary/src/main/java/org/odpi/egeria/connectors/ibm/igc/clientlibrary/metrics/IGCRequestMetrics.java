@@ -0,0 +1,123 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Metrics about the requests made to the IGC REST API, broken down by the logical operation and asset type of each
+ * request.
+ */
+public class IGCRequestMetrics {
+
+    private final ConcurrentMap<String, IGCRequestStatistics> statistics;
+
+    /**
+     * Create a new (empty) set of metrics.
+     */
+    public IGCRequestMetrics() {
+        this.statistics = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Record the outcome of a single request.
+     *
+     * @param operation the logical operation of the request
+     * @param assetType the asset type the request was for (or null if not specific to any asset type)
+     * @param latency the number of nanoseconds the request took
+     * @param sent the number of bytes sent with the request
+     * @param received the number of bytes received in the response
+     * @param failed true if the request failed, otherwise false
+     */
+    public void record(IGCOperation operation, String assetType, long latency, long sent, long received, boolean failed) {
+        String key = operation.name() + (assetType == null ? "" : ":" + assetType);
+        statistics.computeIfAbsent(key, k -> new IGCRequestStatistics(operation, assetType))
+                .record(latency, sent, received, failed);
+    }
+
+    /**
+     * Retrieve the statistics for the provided logical operation and asset type.
+     *
+     * @param operation the logical operation
+     * @param assetType the asset type (or null for requests that are not specific to any asset type)
+     * @return IGCRequestStatistics - or null if no such request has been made
+     */
+    public IGCRequestStatistics getStatistics(IGCOperation operation, String assetType) {
+        return statistics.get(operation.name() + (assetType == null ? "" : ":" + assetType));
+    }
+
+    /**
+     * Retrieve the statistics for every logical operation and asset type for which a request has been made, ordered
+     * by operation and then asset type.
+     *
+     * @return {@code List<IGCRequestStatistics>}
+     */
+    public List<IGCRequestStatistics> getStatistics() {
+        List<IGCRequestStatistics> all = new ArrayList<>(statistics.values());
+        all.sort(Comparator.comparing(IGCRequestStatistics::getOperation)
+                .thenComparing(IGCRequestStatistics::getAssetType, Comparator.nullsFirst(Comparator.naturalOrder())));
+        return all;
+    }
+
+    /**
+     * Retrieve the total number of requests made.
+     *
+     * @return long
+     */
+    public long getCount() {
+        long total = 0;
+        for (IGCRequestStatistics stats : statistics.values()) {
+            total += stats.getCount();
+        }
+        return total;
+    }
+
+    /**
+     * Retrieve the total number of requests that failed.
+     *
+     * @return long
+     */
+    public long getErrorCount() {
+        long total = 0;
+        for (IGCRequestStatistics stats : statistics.values()) {
+            total += stats.getErrorCount();
+        }
+        return total;
+    }
+
+    /**
+     * Discard all metrics captured so far.
+     */
+    public void reset() {
+        statistics.clear();
+    }
+
+    /**
+     * Summarize the metrics, with the statistics of each logical operation and asset type separated by a semi-colon.
+     *
+     * @return String
+     */
+    public String getSummary() {
+        StringBuilder sb = new StringBuilder();
+        for (IGCRequestStatistics stats : getStatistics()) {
+            if (sb.length() > 0) {
+                sb.append("; ");
+            }
+            sb.append(stats.toString());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "IGCRequestMetrics{" + getSummary() + "}";
+    }
+
+}
@@ -0,0 +1,213 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The statistics of all requests made for a single logical operation against a single asset type: how many were
+ * made, how many failed, how long they took (as a histogram) and how many bytes were sent and received.
+ * <br><br>
+ * Statistics are updated concurrently by the requests as they complete, so values retrieved while requests are
+ * in-flight may not be precisely consistent with one another.
+ */
+public class IGCRequestStatistics {
+
+    /**
+     * The upper bound (inclusive, in milliseconds) of each bucket of the latency histogram. Any request taking longer
+     * than the last bound is counted in a final, unbounded bucket.
+     */
+    private static final long[] BUCKET_BOUNDS = { 1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000, 60000 };
+
+    private final IGCOperation operation;
+    private final String assetType;
+
+    private final LongAdder count;
+    private final LongAdder errors;
+    private final LongAdder totalLatency;
+    private final AtomicLong maxLatency;
+    private final LongAdder requestBytes;
+    private final LongAdder responseBytes;
+    private final AtomicLongArray histogram;
+
+    /**
+     * Create a new (empty) set of statistics.
+     *
+     * @param operation the logical operation the statistics are for
+     * @param assetType the asset type the statistics are for (or null if not specific to any asset type)
+     */
+    IGCRequestStatistics(IGCOperation operation, String assetType) {
+        this.operation = operation;
+        this.assetType = assetType;
+        this.count = new LongAdder();
+        this.errors = new LongAdder();
+        this.totalLatency = new LongAdder();
+        this.maxLatency = new AtomicLong(0);
+        this.requestBytes = new LongAdder();
+        this.responseBytes = new LongAdder();
+        this.histogram = new AtomicLongArray(BUCKET_BOUNDS.length + 1);
+    }
+
+    /**
+     * Record the outcome of a single request.
+     *
+     * @param latency the number of nanoseconds the request took
+     * @param sent the number of bytes sent with the request
+     * @param received the number of bytes received in the response
+     * @param failed true if the request failed, otherwise false
+     */
+    void record(long latency, long sent, long received, boolean failed) {
+        count.increment();
+        if (failed) {
+            errors.increment();
+        }
+        totalLatency.add(latency);
+        maxLatency.accumulateAndGet(latency, Math::max);
+        requestBytes.add(sent);
+        responseBytes.add(received);
+        histogram.incrementAndGet(getBucket(TimeUnit.NANOSECONDS.toMillis(latency)));
+    }
+
+    /**
+     * Retrieve the logical operation these statistics are for.
+     *
+     * @return IGCOperation
+     */
+    public IGCOperation getOperation() { return operation; }
+
+    /**
+     * Retrieve the asset type these statistics are for (or null if not specific to any asset type).
+     *
+     * @return String
+     */
+    public String getAssetType() { return assetType; }
+
+    /**
+     * Retrieve the number of requests made.
+     *
+     * @return long
+     */
+    public long getCount() { return count.sum(); }
+
+    /**
+     * Retrieve the number of requests that failed.
+     *
+     * @return long
+     */
+    public long getErrorCount() { return errors.sum(); }
+
+    /**
+     * Retrieve the mean latency of the requests, in milliseconds.
+     *
+     * @return double
+     */
+    public double getMeanLatency() {
+        long requests = getCount();
+        return requests == 0 ? 0 : (totalLatency.sum() / (double) requests) / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Retrieve the maximum latency of any request, in milliseconds.
+     *
+     * @return long
+     */
+    public long getMaxLatency() { return TimeUnit.NANOSECONDS.toMillis(maxLatency.get()); }
+
+    /**
+     * Retrieve an estimate of the provided percentile of latency of the requests, in milliseconds: the upper bound of
+     * the histogram bucket within which that percentile falls (or the maximum latency, if in the final bucket).
+     *
+     * @param percentile the percentile to estimate (between 0 and 100)
+     * @return long
+     */
+    public long getLatencyPercentile(double percentile) {
+        long[] buckets = getLatencyHistogram();
+        long total = 0;
+        for (long bucket : buckets) {
+            total += bucket;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long threshold = (long) Math.ceil(total * Math.min(100, Math.max(0, percentile)) / 100.0);
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+            cumulative += buckets[i];
+            if (cumulative >= threshold && cumulative > 0) {
+                return Math.min(BUCKET_BOUNDS[i], getMaxLatency());
+            }
+        }
+        return getMaxLatency();
+    }
+
+    /**
+     * Retrieve the number of requests within each bucket of the latency histogram.
+     *
+     * @return long[] - the count of requests in each bucket, in the same order as the bucket bounds
+     * @see #getLatencyBucketBounds()
+     */
+    public long[] getLatencyHistogram() {
+        long[] buckets = new long[histogram.length()];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = histogram.get(i);
+        }
+        return buckets;
+    }
+
+    /**
+     * Retrieve the upper bound (inclusive, in milliseconds) of each bucket of the latency histogram. The histogram has
+     * one more bucket than there are bounds: for all requests that took longer than the last bound.
+     *
+     * @return long[]
+     */
+    public static long[] getLatencyBucketBounds() { return BUCKET_BOUNDS.clone(); }
+
+    /**
+     * Retrieve the total number of bytes sent with the requests.
+     *
+     * @return long
+     */
+    public long getRequestBytes() { return requestBytes.sum(); }
+
+    /**
+     * Retrieve the total number of bytes received in response to the requests.
+     *
+     * @return long
+     */
+    public long getResponseBytes() { return responseBytes.sum(); }
+
+    /**
+     * Retrieve the histogram bucket into which a request of the provided latency falls.
+     *
+     * @param millis the latency of the request, in milliseconds
+     * @return int
+     */
+    private static int getBucket(long millis) {
+        for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+            if (millis <= BUCKET_BOUNDS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_BOUNDS.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return operation.getLabel() + (assetType == null ? "" : "[" + assetType + "]") +
+                ": count=" + getCount() +
+                ", errors=" + getErrorCount() +
+                ", mean=" + String.format("%.1f", getMeanLatency()) + "ms" +
+                ", p50=" + getLatencyPercentile(50) + "ms" +
+                ", p95=" + getLatencyPercentile(95) + "ms" +
+                ", max=" + getMaxLatency() + "ms" +
+                ", sent=" + getRequestBytes() + "B" +
+                ", received=" + getResponseBytes() + "B";
+    }
+
+}
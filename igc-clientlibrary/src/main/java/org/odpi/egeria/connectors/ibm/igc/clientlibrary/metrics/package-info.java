@@ -0,0 +1,8 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+/**
+ * Captures metrics about the requests made to the IGC REST API: their counts, errors, latencies and sizes, broken
+ * down by the logical operation and asset type of each request.
+ */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary.metrics;
@@ -88,6 +88,8 @@ public class IGCBeanGenerator {
 
     private Map<String, Set<String>> superTypeToProperties;
 
+    private TreeMap<String, String> typeToClassName;
+
     private IGCBeanGenerator() {
         try {
             igcRestClient = new IGCRestClient(HOSTNAME, PORT, USERNAME, PASSWORD);
@@ -96,6 +98,7 @@ public class IGCBeanGenerator {
         }
         superTypeToSubTypeToClassName = new TreeMap<>();
         superTypeToProperties = new HashMap<>();
+        typeToClassName = new TreeMap<>();
     }
 
     private void generateSuperTypes(boolean skipFixedAssetGeneration) {
@@ -123,8 +126,10 @@ public class IGCBeanGenerator {
                 }
             } else if (typeName.equals(IGCRestConstants.INFORMATION_ASSET)) {
                 superTypeToProperties.put(IGCRestConstants.INFORMATION_ASSET, IGCRestConstants.getFixedInformationAssetProperties());
+                typeToClassName.put(typeName, IGCRestConstants.getClassNameForAssetType(typeName));
             } else if (typeName.equals(IGCRestConstants.MAIN_OBJECT)) {
                 superTypeToProperties.put(IGCRestConstants.MAIN_OBJECT, IGCRestConstants.getFixedMainObjectProperties());
+                typeToClassName.put(typeName, IGCRestConstants.getClassNameForAssetType(typeName));
             }
         }
 
@@ -167,6 +172,10 @@ public class IGCBeanGenerator {
             log.info("Injecting subtype information into Reference...");
             injectSubTypes(refPath, superTypeToSubTypeToClassName.get("reference"));
 
+            // And finally generate the registry of every type's POJO (including the hand-maintained Note)
+            typeToClassName.putIfAbsent("note", "Note");
+            createTypeRegistry();
+
             igcRestClient.disconnect();
         } catch (IGCException e) {
             log.error("Fatal error interacting with IGC.", e);
@@ -272,6 +281,12 @@ public class IGCBeanGenerator {
                     fs.append(System.lineSeparator());
                     fs.append(System.lineSeparator());
                 }
+                // And finally the accessor that retrieves each of them by name, without any reflection
+                if (!propertyDetails.isEmpty()) {
+                    fs.append(getPropertyValueAccessor(propertyDetails));
+                    fs.append(System.lineSeparator());
+                    fs.append(System.lineSeparator());
+                }
             } catch (IOException e) {
                 log.error("Unable to append property details.", e);
             }
@@ -280,6 +295,7 @@ public class IGCBeanGenerator {
                 superTypeToSubTypeToClassName.put(superType, new TreeMap<>());
             }
             superTypeToSubTypeToClassName.get(superType).put(id, className);
+            typeToClassName.put(id, className);
 
             fs.append("}");
             fs.append(System.lineSeparator());
@@ -290,6 +306,96 @@ public class IGCBeanGenerator {
 
     }
 
+    private void createTypeRegistry() {
+
+        String filename = COMMON_DIRECTORY + File.separator + "IGCTypeRegistry.java";
+        log.info("Generating type registry: {}", filename);
+        try (BufferedWriter fs = new BufferedWriter(new FileWriter(filename))) {
+
+            fs.append("/* SPDX-License-Identifier: Apache-2.0 */");
+            fs.append(System.lineSeparator());
+            fs.append("/* Copyright Contributors to the ODPi Egeria project. */");
+            fs.append(System.lineSeparator());
+            fs.append("package ").append(IGCRestConstants.IGC_REST_COMMON_MODEL_PKG).append(";");
+            fs.append(System.lineSeparator());
+            fs.append(System.lineSeparator());
+            fs.append("import ").append(IGCRestConstants.IGC_REST_BASE_MODEL_PKG).append(".*;");
+            fs.append(System.lineSeparator());
+            fs.append(System.lineSeparator());
+            fs.append("import java.util.Collections;");
+            fs.append(System.lineSeparator());
+            fs.append("import java.util.HashMap;");
+            fs.append(System.lineSeparator());
+            fs.append("import java.util.Map;");
+            fs.append(System.lineSeparator());
+            fs.append("import java.util.Set;");
+            fs.append(System.lineSeparator());
+            fs.append(System.lineSeparator());
+            fs.append("/**");
+            fs.append(System.lineSeparator());
+            fs.append(" * Registry of the out-of-the-box POJO for each IGC asset type, so that they can be resolved without any reflection.");
+            fs.append(System.lineSeparator());
+            fs.append(" * <br><br>");
+            fs.append(System.lineSeparator());
+            fs.append(" * (this code has been created based on out-of-the-box IGC metadata types, alongside the POJOs themselves.");
+            fs.append(System.lineSeparator());
+            fs.append(" *  To handle your own types or custom attributes, register your own POJOs with the client instead.)");
+            fs.append(System.lineSeparator());
+            fs.append(" */");
+            fs.append(System.lineSeparator());
+            fs.append("public final class IGCTypeRegistry {");
+            fs.append(System.lineSeparator()).append(System.lineSeparator());
+            fs.append("    private static final Map<String, Class<? extends Reference>> POJOS = createPOJOs();");
+            fs.append(System.lineSeparator()).append(System.lineSeparator());
+            fs.append("    private IGCTypeRegistry() { }");
+            fs.append(System.lineSeparator()).append(System.lineSeparator());
+            fs.append("    /**");
+            fs.append(System.lineSeparator());
+            fs.append("     * Retrieve the out-of-the-box POJO for the provided IGC asset type.");
+            fs.append(System.lineSeparator());
+            fs.append("     *");
+            fs.append(System.lineSeparator());
+            fs.append("     * @param assetType the name of the IGC asset type");
+            fs.append(System.lineSeparator());
+            fs.append("     * @return {@code Class<? extends Reference>} - or null if there is no out-of-the-box POJO for the type");
+            fs.append(System.lineSeparator());
+            fs.append("     */");
+            fs.append(System.lineSeparator());
+            fs.append("    public static Class<? extends Reference> getPOJO(String assetType) { return assetType == null ? null : POJOS.get(assetType); }");
+            fs.append(System.lineSeparator()).append(System.lineSeparator());
+            fs.append("    /**");
+            fs.append(System.lineSeparator());
+            fs.append("     * Retrieve the names of all of the IGC asset types that have an out-of-the-box POJO.");
+            fs.append(System.lineSeparator());
+            fs.append("     *");
+            fs.append(System.lineSeparator());
+            fs.append("     * @return {@code Set<String>}");
+            fs.append(System.lineSeparator());
+            fs.append("     */");
+            fs.append(System.lineSeparator());
+            fs.append("    public static Set<String> getAssetTypes() { return POJOS.keySet(); }");
+            fs.append(System.lineSeparator()).append(System.lineSeparator());
+            fs.append("    private static Map<String, Class<? extends Reference>> createPOJOs() {");
+            fs.append(System.lineSeparator());
+            fs.append("        Map<String, Class<? extends Reference>> map = new HashMap<>();");
+            fs.append(System.lineSeparator());
+            for (Map.Entry<String, String> entry : typeToClassName.entrySet()) {
+                fs.append("        map.put(\"").append(entry.getKey()).append("\", ").append(entry.getValue()).append(".class);");
+                fs.append(System.lineSeparator());
+            }
+            fs.append("        return Collections.unmodifiableMap(map);");
+            fs.append(System.lineSeparator());
+            fs.append("    }");
+            fs.append(System.lineSeparator()).append(System.lineSeparator());
+            fs.append("}");
+            fs.append(System.lineSeparator());
+
+        } catch (IOException e) {
+            log.error("Unable to open file output: {}", filename, e);
+        }
+
+    }
+
     private String getClassHeading(String displayName, String typeName) {
         return "/**" +
                 System.lineSeparator() +
@@ -334,6 +440,7 @@ public class IGCBeanGenerator {
                 detail.setJavaType(javaType);
                 detail.setMember(getMemberDeclaration(property, propNameActual, propertyName, javaType));
                 detail.setGetSet(getGetterAndSetter(property, propNameActual, propertyName, javaType));
+                detail.setAccessorCase(getAccessorCase(propNameActual));
             }
         }
 
@@ -426,6 +533,36 @@ public class IGCBeanGenerator {
         return getSetter.toString();
     }
 
+    private String getAccessorCase(String propNameActual) {
+        return "            case \"" + propNameActual + "\": return " + IGCRestConstants.getGetterNameForProperty(propNameActual) + "();";
+    }
+
+    private String getPropertyValueAccessor(Collection<PropertyDetail> propertyDetails) {
+        StringBuilder accessor = new StringBuilder();
+        accessor.append("    /**")
+                .append(System.lineSeparator())
+                .append("     * {@inheritDoc}")
+                .append(System.lineSeparator())
+                .append("     */")
+                .append(System.lineSeparator())
+                .append("    @Override")
+                .append(System.lineSeparator())
+                .append("    public Object getPropertyValue(String property) {")
+                .append(System.lineSeparator())
+                .append("        switch (property) {")
+                .append(System.lineSeparator());
+        for (PropertyDetail detail : propertyDetails) {
+            accessor.append(detail.getAccessorCase())
+                    .append(System.lineSeparator());
+        }
+        accessor.append("            default: return super.getPropertyValue(property);")
+                .append(System.lineSeparator())
+                .append("        }")
+                .append(System.lineSeparator())
+                .append("    }");
+        return accessor.toString();
+    }
+
     private static final Set<String> RESERVED_WORDS = createReservedWords();
     private static final Set<String> CORE_TO_IGNORE = createCoreToIgnoreProperties();
 
@@ -553,6 +690,7 @@ public class IGCBeanGenerator {
 
         private String member;
         private String getSet;
+        private String accessorCase;
         private Set<String> javaTypes;
 
         PropertyDetail() {
@@ -561,6 +699,7 @@ public class IGCBeanGenerator {
 
         void setMember(String member) { this.member = member; }
         void setGetSet(String getSet) { this.getSet = getSet; }
+        void setAccessorCase(String accessorCase) { this.accessorCase = accessorCase; }
         void setJavaType(String javaType) {
             if (javaType.startsWith("ItemList<")) {
                 this.javaTypes.add("ItemList");
@@ -575,6 +714,7 @@ public class IGCBeanGenerator {
 
         String getMember() { return this.member; }
         String getGetSet() { return this.getSet; }
+        String getAccessorCase() { return this.accessorCase; }
         Set<String> getJavaTypes() { return this.javaTypes; }
 
     }
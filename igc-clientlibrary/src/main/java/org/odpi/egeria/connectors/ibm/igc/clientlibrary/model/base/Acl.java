@@ -61,4 +61,16 @@ public class Acl extends Reference {
     @JsonProperty("of_common_object")
     public void setOfCommonObject(InformationAsset ofCommonObject) { this.ofCommonObject = ofCommonObject; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "has_acl_entry": return getHasAclEntry();
+            case "of_common_object": return getOfCommonObject();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -106,4 +106,18 @@ public class Aclentry extends Reference {
     @JsonProperty("used_by_acl")
     public void setUsedByAcl(Acl usedByAcl) { this.usedByAcl = usedByAcl; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "has_principal": return getHasPrincipal();
+            case "has_system_role": return getHasSystemRole();
+            case "permissions": return getPermissions();
+            case "used_by_acl": return getUsedByAcl();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
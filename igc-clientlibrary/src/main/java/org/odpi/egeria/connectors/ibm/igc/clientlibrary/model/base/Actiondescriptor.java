@@ -180,4 +180,23 @@ public class Actiondescriptor extends Reference {
     @JsonProperty("parameters")
     public void setParameters(String parameters) { this.parameters = parameters; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "description": return getDescription();
+            case "display_name": return getDisplayName();
+            case "has_privilege_contact_role": return getHasPrivilegeContactRole();
+            case "has_privilege_system_role": return getHasPrivilegeSystemRole();
+            case "instance_constraint_expression": return getInstanceConstraintExpression();
+            case "name": return getTheName();
+            case "of_class_descriptor": return getOfClassDescriptor();
+            case "operation": return getOperation();
+            case "parameters": return getParameters();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -214,4 +214,25 @@ public class AmazonS3Bucket extends InformationAsset {
     @JsonProperty("uses_data_file_definitions")
     public void setUsesDataFileDefinitions(ItemList<DataFileDefinition> usesDataFileDefinitions) { this.usesDataFileDefinitions = usesDataFileDefinitions; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "contains_amazon_s3_data_file_folders": return getContainsAmazonS3DataFileFolders();
+            case "contains_amazon_s3_data_files": return getContainsAmazonS3DataFiles();
+            case "data_connection": return getDataConnection();
+            case "host": return getHost();
+            case "include_for_business_lineage": return getIncludeForBusinessLineage();
+            case "location": return getLocation();
+            case "same_as_data_sources": return getSameAsDataSources();
+            case "source_creation_date": return getSourceCreationDate();
+            case "source_modification_date": return getSourceModificationDate();
+            case "synchronized_from": return getSynchronizedFrom();
+            case "uses_data_file_definitions": return getUsesDataFileDefinitions();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -282,4 +282,29 @@ public class AmazonS3DataFile extends InformationAsset {
     @JsonProperty("version")
     public void setVersion(String version) { this.version = version; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "compression": return getCompression();
+            case "content_type": return getContentType();
+            case "data_file_records": return getDataFileRecords();
+            case "implements_data_file_definition": return getImplementsDataFileDefinition();
+            case "imported_from": return getImportedFrom();
+            case "include_for_business_lineage": return getIncludeForBusinessLineage();
+            case "parent_folder": return getParentFolder();
+            case "path": return getPath();
+            case "size": return getSize();
+            case "source_creation_date": return getSourceCreationDate();
+            case "source_modification_date": return getSourceModificationDate();
+            case "synchronized_from": return getSynchronizedFrom();
+            case "url": return getTheUrl();
+            case "version": return getVersion();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -308,4 +308,30 @@ public class AmazonS3DataFileRecord extends InformationAsset {
     @JsonProperty("synchronized_from")
     public void setSynchronizedFrom(String synchronizedFrom) { this.synchronizedFrom = synchronizedFrom; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "FKViolationCount": return getFkviolationcount();
+            case "PKDuplicateCount": return getPkduplicatecount();
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "amazon_s3_data_file": return getAmazonS3DataFile();
+            case "amazon_s_3_data_file_fields": return getAmazonS3DataFileFields();
+            case "analysis": return getAnalysis();
+            case "fieldCount": return getFieldcount();
+            case "implements_design_tables_or_views": return getImplementsDesignTablesOrViews();
+            case "implements_logical_entities": return getImplementsLogicalEntities();
+            case "imported_from": return getImportedFrom();
+            case "include_for_business_lineage": return getIncludeForBusinessLineage();
+            case "nbRecordTested": return getNbrecordtested();
+            case "qualityScore": return getQualityscore();
+            case "reviewDate": return getReviewdate();
+            case "rowCount": return getRowcount();
+            case "synchronized_from": return getSynchronizedFrom();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -112,4 +112,19 @@ public class AnalysisProject extends Reference {
     @JsonProperty("short_description")
     public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "assigned_to_terms": return getAssignedToTerms();
+            case "long_description": return getLongDescription();
+            case "native_id": return getNativeId();
+            case "short_&_long_description": return getShortLongDescription();
+            case "short_description": return getShortDescription();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
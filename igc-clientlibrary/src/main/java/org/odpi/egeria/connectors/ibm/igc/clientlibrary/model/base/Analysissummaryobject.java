@@ -129,4 +129,20 @@ public class Analysissummaryobject extends MainObject {
     @JsonProperty("reviewed_by_principal")
     public void setReviewedByPrincipal(Steward reviewedByPrincipal) { this.reviewedByPrincipal = reviewedByPrincipal; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "is_viewable": return getIsViewable();
+            case "native_id": return getNativeId();
+            case "project_name": return getProjectName();
+            case "promoted_by_principal": return getPromotedByPrincipal();
+            case "review_date": return getReviewDate();
+            case "reviewed_by_principal": return getReviewedByPrincipal();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -265,4 +265,28 @@ public class AnalyticsModel extends InformationAsset {
     @JsonProperty("version")
     public void setVersion(Number version) { this.version = version; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "analytics_project": return getAnalyticsProject();
+            case "eval_metric": return getEvalMetric();
+            case "first_published_date": return getFirstPublishedDate();
+            case "input_training_column": return getInputTrainingColumn();
+            case "input_training_notebook": return getInputTrainingNotebook();
+            case "input_training_script": return getInputTrainingScript();
+            case "label_training_column": return getLabelTrainingColumn();
+            case "logical_name": return getLogicalName();
+            case "model_quality": return getModelQuality();
+            case "model_type": return getModelType();
+            case "package_name": return getPackageName();
+            case "system_equiv_id": return getSystemEquivId();
+            case "url": return getTheUrl();
+            case "version": return getVersion();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -43,4 +43,15 @@ public class AnalyticsObject extends Reference {
     @JsonProperty("native_id")
     public void setNativeId(String nativeId) { this.nativeId = nativeId; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "native_id": return getNativeId();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -94,4 +94,18 @@ public class AnalyticsProject extends InformationAsset {
     @JsonProperty("r_shiny_apps")
     public void setRShinyApps(ItemList<RShinyApp> rShinyApps) { this.rShinyApps = rShinyApps; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "analytics_models": return getAnalyticsModels();
+            case "analytics_scripts": return getAnalyticsScripts();
+            case "notebooks": return getNotebooks();
+            case "r_shiny_apps": return getRShinyApps();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
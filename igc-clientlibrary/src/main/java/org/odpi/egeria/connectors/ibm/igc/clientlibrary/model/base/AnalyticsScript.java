@@ -180,4 +180,23 @@ public class AnalyticsScript extends MainObject {
     @JsonProperty("url")
     public void setTheUrl(String url) { this.url = url; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "analytics_project": return getAnalyticsProject();
+            case "data_file": return getDataFile();
+            case "first_published_date": return getFirstPublishedDate();
+            case "logical_name": return getLogicalName();
+            case "native_id": return getNativeId();
+            case "package_name": return getPackageName();
+            case "script_type": return getScriptType();
+            case "system_equiv_id": return getSystemEquivId();
+            case "url": return getTheUrl();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -213,4 +213,25 @@ public class Application extends InformationAsset {
     @JsonProperty("writes_to_(user_defined)")
     public void setWritesToUserDefined(ItemList<InformationAsset> writesToUserDefined) { this.writesToUserDefined = writesToUserDefined; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "include_for_business_lineage": return getIncludeForBusinessLineage();
+            case "object_types": return getObjectTypes();
+            case "reads_from_(design)": return getReadsFromDesign();
+            case "reads_from_(operational)": return getReadsFromOperational();
+            case "reads_from_(static)": return getReadsFromStatic();
+            case "reads_from_(user_defined)": return getReadsFromUserDefined();
+            case "writes_to_(design)": return getWritesToDesign();
+            case "writes_to_(operational)": return getWritesToOperational();
+            case "writes_to_(static)": return getWritesToStatic();
+            case "writes_to_(user_defined)": return getWritesToUserDefined();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -213,4 +213,25 @@ public class ApplicationInstall extends MainObject {
     @JsonProperty("vendor_name")
     public void setVendorName(String vendorName) { this.vendorName = vendorName; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "default_credential": return getDefaultCredential();
+            case "has_credential": return getHasCredential();
+            case "installation_date": return getInstallationDate();
+            case "installation_path": return getInstallationPath();
+            case "installed_on_host": return getInstalledOnHost();
+            case "instance_name": return getInstanceName();
+            case "location_name": return getLocationName();
+            case "native_id": return getNativeId();
+            case "platform_identifier": return getPlatformIdentifier();
+            case "release_number": return getReleaseNumber();
+            case "vendor_name": return getVendorName();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
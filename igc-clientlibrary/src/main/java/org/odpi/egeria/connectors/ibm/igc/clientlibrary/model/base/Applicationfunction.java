@@ -78,4 +78,17 @@ public class Applicationfunction extends Reference {
     @JsonProperty("uses_class_descriptor")
     public void setUsesClassDescriptor(ItemList<Classdescriptor> usesClassDescriptor) { this.usesClassDescriptor = usesClassDescriptor; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "description": return getDescription();
+            case "name": return getTheName();
+            case "uses_class_descriptor": return getUsesClassDescriptor();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
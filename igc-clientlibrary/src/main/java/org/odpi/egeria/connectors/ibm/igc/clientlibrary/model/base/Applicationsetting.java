@@ -77,4 +77,17 @@ public class Applicationsetting extends Reference {
     @JsonProperty("value")
     public void setValue(String value) { this.value = value; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "description": return getDescription();
+            case "name": return getTheName();
+            case "value": return getValue();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
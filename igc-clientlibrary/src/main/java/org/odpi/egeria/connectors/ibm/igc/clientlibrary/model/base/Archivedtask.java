@@ -112,4 +112,19 @@ public class Archivedtask extends Reference {
     @JsonProperty("status")
     public void setStatus(String status) { this.status = status; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "completion_date": return getCompletionDate();
+            case "message": return getMessage();
+            case "name": return getTheName();
+            case "requested_on": return getRequestedOn();
+            case "status": return getStatus();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -145,4 +145,21 @@ public class Array extends MainObject {
     @JsonProperty("previous_array")
     public void setPreviousArray(Array previousArray) { this.previousArray = previousArray; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "belonging_to_data_item": return getBelongingToDataItem();
+            case "lower_bound": return getLowerBound();
+            case "maximum_size": return getMaximumSize();
+            case "minimum_size": return getMinimumSize();
+            case "native_id": return getNativeId();
+            case "next_array": return getNextArray();
+            case "previous_array": return getPreviousArray();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
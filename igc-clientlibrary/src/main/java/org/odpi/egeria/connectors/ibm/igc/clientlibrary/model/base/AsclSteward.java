@@ -129,4 +129,20 @@ public class AsclSteward extends Reference {
     @JsonProperty("steward_user")
     public void setStewardUser(StewardUser stewardUser) { this.stewardUser = stewardUser; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "email_address": return getEmailAddress();
+            case "managed_assets": return getManagedAssets();
+            case "managed_assets_basic": return getManagedAssetsBasic();
+            case "organization": return getOrganization();
+            case "steward_group": return getStewardGroup();
+            case "steward_user": return getStewardUser();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
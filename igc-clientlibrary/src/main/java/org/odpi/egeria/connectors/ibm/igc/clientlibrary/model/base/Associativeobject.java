@@ -43,4 +43,15 @@ public class Associativeobject extends Reference {
     @JsonProperty("sequence")
     public void setSequence(Number sequence) { this.sequence = sequence; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "sequence": return getSequence();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
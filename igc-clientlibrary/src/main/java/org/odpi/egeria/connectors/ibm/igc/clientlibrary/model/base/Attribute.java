@@ -127,4 +127,20 @@ public class Attribute extends InformationAsset {
     @JsonProperty("references_attribute_types")
     public void setReferencesAttributeTypes(AttributeType referencesAttributeTypes) { this.referencesAttributeTypes = referencesAttributeTypes; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "attribute_label": return getAttributeLabel();
+            case "code": return getCode();
+            case "member_type": return getMemberType();
+            case "member_type_for_query": return getMemberTypeForQuery();
+            case "references_attribute_types": return getReferencesAttributeTypes();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -111,4 +111,19 @@ public class AttributeType extends InformationAsset {
     @JsonProperty("referenced_by_attributes")
     public void setReferencedByAttributes(ItemList<Attribute> referencedByAttributes) { this.referencedByAttributes = referencedByAttributes; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "contains_attribute_type_fields": return getContainsAttributeTypeFields();
+            case "mdm_model": return getMdmModel();
+            case "mdm_model_for_query": return getMdmModelForQuery();
+            case "referenced_by_attributes": return getReferencedByAttributes();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -138,4 +138,20 @@ public class AttributeTypeField extends InformationAsset {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "attribute_type": return getAttributeType();
+            case "attribute_type_for_query": return getAttributeTypeForQuery();
+            case "length": return getLength();
+            case "required": return getRequired();
+            case "type": return getTheType();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
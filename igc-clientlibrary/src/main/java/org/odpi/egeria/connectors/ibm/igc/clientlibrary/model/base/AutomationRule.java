@@ -99,4 +99,17 @@ public class AutomationRule extends InformationAsset {
     @JsonProperty("status")
     public void setStatus(String status) { this.status = status; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "associated_terms": return getAssociatedTerms();
+            case "rule_logic": return getRuleLogic();
+            case "status": return getStatus();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -384,4 +384,35 @@ public class BiCollection extends InformationAsset {
     @JsonProperty("uses_database_tables_or_views")
     public void setUsesDatabaseTablesOrViews(ItemList<Datagroup> usesDatabaseTablesOrViews) { this.usesDatabaseTablesOrViews = usesDatabaseTablesOrViews; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "bi_collection": return getBiCollection();
+            case "bi_collection_members": return getBiCollectionMembers();
+            case "bi_filters": return getBiFilters();
+            case "bi_hierarchies": return getBiHierarchies();
+            case "bi_levels": return getBiLevels();
+            case "bi_model": return getBiModel();
+            case "bi_model_or_bi_collection": return getBiModelOrBiCollection();
+            case "filter_expression": return getFilterExpression();
+            case "has_olap_collection": return getHasOlapCollection();
+            case "imported_from": return getImportedFrom();
+            case "join_condition": return getJoinCondition();
+            case "namespace": return getNamespace();
+            case "referenced_by_bi_collection": return getReferencedByBiCollection();
+            case "referenced_by_bi_hierarchies": return getReferencedByBiHierarchies();
+            case "references_bi_collections": return getReferencesBiCollections();
+            case "type": return getTheType();
+            case "type_definition": return getTypeDefinition();
+            case "used_by_bi_cubes": return getUsedByBiCubes();
+            case "used_by_bi_report_queries": return getUsedByBiReportQueries();
+            case "uses_database_tables_or_views": return getUsesDatabaseTablesOrViews();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -128,4 +128,20 @@ public class BiCollectionDimension extends MainObject {
     @JsonProperty("uses_olap_hierarchy")
     public void setUsesOlapHierarchy(BiHierarchy usesOlapHierarchy) { this.usesOlapHierarchy = usesOlapHierarchy; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "bi_cube": return getBiCube();
+            case "business_name": return getBusinessName();
+            case "native_id": return getNativeId();
+            case "references_bi_collection": return getReferencesBiCollection();
+            case "sequence": return getSequence();
+            case "uses_olap_hierarchy": return getUsesOlapHierarchy();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -111,4 +111,19 @@ public class BiCollectionFact extends MainObject {
     @JsonProperty("sequence")
     public void setSequence(Number sequence) { this.sequence = sequence; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "bi_cube": return getBiCube();
+            case "business_name": return getBusinessName();
+            case "native_id": return getNativeId();
+            case "references_bi_member": return getReferencesBiMember();
+            case "sequence": return getSequence();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -230,4 +230,26 @@ public class BiCollectionMember extends InformationAsset {
     @JsonProperty("uses_database_columns")
     public void setUsesDatabaseColumns(ItemList<DatabaseColumn> usesDatabaseColumns) { this.usesDatabaseColumns = usesDatabaseColumns; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "bi_collection": return getBiCollection();
+            case "data_type": return getDataType();
+            case "details": return getDetails();
+            case "expression": return getExpression();
+            case "namespace": return getNamespace();
+            case "referenced_by_bi_members": return getReferencedByBiMembers();
+            case "references_bi_members": return getReferencesBiMembers();
+            case "type": return getTheType();
+            case "type_definition": return getTypeDefinition();
+            case "used_by_bi_cubes": return getUsedByBiCubes();
+            case "used_by_bi_report_query_items": return getUsedByBiReportQueryItems();
+            case "uses_database_columns": return getUsesDatabaseColumns();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -197,4 +197,24 @@ public class BiCube extends InformationAsset {
     @JsonProperty("used_by_bi_reports")
     public void setUsedByBiReports(ItemList<BiReport> usedByBiReports) { this.usedByBiReports = usedByBiReports; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "author": return getAuthor();
+            case "bi_collection_dimensions": return getBiCollectionDimensions();
+            case "bi_collection_facts": return getBiCollectionFacts();
+            case "bi_cube_creation_date": return getBiCubeCreationDate();
+            case "bi_cube_modification_date": return getBiCubeModificationDate();
+            case "bi_model": return getBiModel();
+            case "imported_from": return getImportedFrom();
+            case "namespace": return getNamespace();
+            case "used_by_bi_reports": return getUsedByBiReports();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -163,4 +163,22 @@ public class BiFilter extends Reference {
     @JsonProperty("short_description")
     public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "bi_collection": return getBiCollection();
+            case "bi_model": return getBiModel();
+            case "context": return getTheContext();
+            case "filter_expression": return getFilterExpression();
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "short_description": return getShortDescription();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -178,4 +178,22 @@ public class BiHierarchy extends MainObject {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "bi_collection": return getBiCollection();
+            case "bi_levels": return getBiLevels();
+            case "bi_model": return getBiModel();
+            case "context": return getTheContext();
+            case "deployment": return getDeployment();
+            case "native_id": return getNativeId();
+            case "references_bi_collections": return getReferencesBiCollections();
+            case "type": return getTheType();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -120,4 +120,19 @@ public class BiHierarchyMember extends Reference {
     @JsonProperty("sorting_order")
     public void setSortingOrder(String sortingOrder) { this.sortingOrder = sortingOrder; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "bi_level": return getBiLevel();
+            case "child_level": return getChildLevel();
+            case "native_id": return getNativeId();
+            case "sequence": return getSequence();
+            case "sorting_order": return getSortingOrder();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
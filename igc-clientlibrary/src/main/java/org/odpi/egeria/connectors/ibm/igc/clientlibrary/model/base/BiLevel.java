@@ -128,4 +128,20 @@ public class BiLevel extends MainObject {
     @JsonProperty("parent_bi_level")
     public void setParentBiLevel(ItemList<BiLevel> parentBiLevel) { this.parentBiLevel = parentBiLevel; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "bi_collection": return getBiCollection();
+            case "bi_hierarchy": return getBiHierarchy();
+            case "children_levels": return getChildrenLevels();
+            case "depth": return getDepth();
+            case "native_id": return getNativeId();
+            case "parent_bi_level": return getParentBiLevel();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -350,4 +350,33 @@ public class BiModel extends InformationAsset {
     @JsonProperty("uses_databases")
     public void setUsesDatabases(ItemList<Database> usesDatabases) { this.usesDatabases = usesDatabases; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "bi_collections": return getBiCollections();
+            case "bi_cubes": return getBiCubes();
+            case "bi_filters": return getBiFilters();
+            case "bi_folder": return getBiFolder();
+            case "bi_folder_or_bi_model": return getBiFolderOrBiModel();
+            case "bi_hierarchies": return getBiHierarchies();
+            case "bi_joins": return getBiJoins();
+            case "bi_model": return getBiModel();
+            case "bi_model_creation_date": return getBiModelCreationDate();
+            case "bi_model_modification_date": return getBiModelModificationDate();
+            case "bi_report_queries": return getBiReportQueries();
+            case "bi_reports": return getBiReports();
+            case "child_bi_models": return getChildBiModels();
+            case "imported_from": return getImportedFrom();
+            case "include_for_business_lineage": return getIncludeForBusinessLineage();
+            case "namespace": return getNamespace();
+            case "used_by_bi_reports": return getUsedByBiReports();
+            case "uses_databases": return getUsesDatabases();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
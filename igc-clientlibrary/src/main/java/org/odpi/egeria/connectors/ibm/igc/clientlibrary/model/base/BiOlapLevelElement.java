@@ -145,4 +145,21 @@ public class BiOlapLevelElement extends Reference {
     @JsonProperty("short_description")
     public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "business_name": return getBusinessName();
+            case "defined_as_an_olap_member": return getDefinedAsAnOlapMember();
+            case "defined_in_level": return getDefinedInLevel();
+            case "key_level": return getKeyLevel();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "short_description": return getShortDescription();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -373,4 +373,34 @@ public class BiReport extends InformationAsset {
     @JsonProperty("references_bi_reports")
     public void setReferencesBiReports(ItemList<BiReport> referencesBiReports) { this.referencesBiReports = referencesBiReports; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "author": return getAuthor();
+            case "bi_cube": return getBiCube();
+            case "bi_folder": return getBiFolder();
+            case "bi_folder_or_bi_model_or_cube": return getBiFolderOrBiModelOrCube();
+            case "bi_model": return getBiModel();
+            case "bi_report_creation_date": return getBiReportCreationDate();
+            case "bi_report_modification_date": return getBiReportModificationDate();
+            case "bi_report_queries": return getBiReportQueries();
+            case "bi_report_run_date": return getBiReportRunDate();
+            case "expression": return getExpression();
+            case "format": return getFormat();
+            case "imported_from": return getImportedFrom();
+            case "include_for_business_lineage": return getIncludeForBusinessLineage();
+            case "language": return getLanguage();
+            case "namespace": return getNamespace();
+            case "number_of_runs": return getNumberOfRuns();
+            case "number_of_versions": return getNumberOfVersions();
+            case "referenced_by_bi_reports": return getReferencedByBiReports();
+            case "references_bi_reports": return getReferencesBiReports();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -112,4 +112,19 @@ public class BiReportDataItemSource extends Reference {
     @JsonProperty("native_id")
     public void setNativeId(String nativeId) { this.nativeId = nativeId; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "defined_by_data_field": return getDefinedByDataField();
+            case "defined_by_olap_member": return getDefinedByOlapMember();
+            case "defined_in_report_data_item": return getDefinedInReportDataItem();
+            case "defined_of_report_field": return getDefinedOfReportField();
+            case "native_id": return getNativeId();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -281,4 +281,29 @@ public class BiReportQuery extends InformationAsset {
     @JsonProperty("uses_database_tables_or_views")
     public void setUsesDatabaseTablesOrViews(ItemList<Datagroup> usesDatabaseTablesOrViews) { this.usesDatabaseTablesOrViews = usesDatabaseTablesOrViews; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "bi_collection": return getBiCollection();
+            case "bi_model": return getBiModel();
+            case "bi_report": return getBiReport();
+            case "bi_report_query_detail_filters": return getBiReportQueryDetailFilters();
+            case "bi_report_query_items": return getBiReportQueryItems();
+            case "bi_report_query_summary_filters": return getBiReportQuerySummaryFilters();
+            case "condition": return getCondition();
+            case "contained_by_bi_report_queries": return getContainedByBiReportQueries();
+            case "contains_bi_queries": return getContainsBiQueries();
+            case "context": return getTheContext();
+            case "imported_from": return getImportedFrom();
+            case "namespace": return getNamespace();
+            case "type": return getTheType();
+            case "uses_bi_collections": return getUsesBiCollections();
+            case "uses_database_tables_or_views": return getUsesDatabaseTablesOrViews();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
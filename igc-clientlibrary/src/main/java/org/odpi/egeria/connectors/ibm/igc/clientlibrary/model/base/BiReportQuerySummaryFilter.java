@@ -179,4 +179,23 @@ public class BiReportQuerySummaryFilter extends InformationAsset {
     @JsonProperty("uses_database_columns")
     public void setUsesDatabaseColumns(ItemList<DataItem> usesDatabaseColumns) { this.usesDatabaseColumns = usesDatabaseColumns; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "bi_report_query": return getBiReportQuery();
+            case "contains_bi_report_query_items": return getContainsBiReportQueryItems();
+            case "expression": return getExpression();
+            case "expression_in_title": return getExpressionInTitle();
+            case "namespace": return getNamespace();
+            case "src_contains_bi_report_query_items": return getSrcContainsBiReportQueryItems();
+            case "type": return getTheType();
+            case "uses_bi_collection_members": return getUsesBiCollectionMembers();
+            case "uses_database_columns": return getUsesDatabaseColumns();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -229,4 +229,25 @@ public class BiReportSection extends Reference {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "bi_report": return getBiReport();
+            case "bi_report_fields": return getBiReportFields();
+            case "contained_in_report_section": return getContainedInReportSection();
+            case "contains_sub_section": return getContainsSubSection();
+            case "label": return getLabel();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "sequence": return getSequence();
+            case "short_description": return getShortDescription();
+            case "type": return getTheType();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
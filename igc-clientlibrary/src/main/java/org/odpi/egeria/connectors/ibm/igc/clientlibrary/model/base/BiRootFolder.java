@@ -163,4 +163,22 @@ public class BiRootFolder extends Reference {
     @JsonProperty("short_description")
     public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "bi_models": return getBiModels();
+            case "bi_reports": return getBiReports();
+            case "bi_server": return getBiServer();
+            case "contains_bi_folders": return getContainsBiFolders();
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "short_description": return getShortDescription();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -77,4 +77,17 @@ public class BiServer extends InformationAsset {
     @JsonProperty("imported_from")
     public void setImportedFrom(String importedFrom) { this.importedFrom = importedFrom; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "contains_bi_folders": return getContainsBiFolders();
+            case "imported_from": return getImportedFrom();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -77,4 +77,17 @@ public class BinaryInfosetOperation extends Reference {
     @JsonProperty("secondary_input")
     public void setSecondaryInput(Infoset secondaryInput) { this.secondaryInput = secondaryInput; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "infoset": return getInfoset();
+            case "primary_input": return getPrimaryInput();
+            case "secondary_input": return getSecondaryInput();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
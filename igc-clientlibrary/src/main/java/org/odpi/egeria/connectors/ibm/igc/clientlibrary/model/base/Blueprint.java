@@ -42,4 +42,15 @@ public class Blueprint extends InformationAsset {
     @JsonProperty("version")
     public void setVersion(String version) { this.version = version; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "version": return getVersion();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -43,4 +43,15 @@ public class BlueprintElementLink extends Reference {
     @JsonProperty("element_name")
     public void setElementName(String elementName) { this.elementName = elementName; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "element_name": return getElementName();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
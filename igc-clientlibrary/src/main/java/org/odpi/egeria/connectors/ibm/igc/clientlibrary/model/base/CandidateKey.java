@@ -163,4 +163,22 @@ public class CandidateKey extends Reference {
     @JsonProperty("short_description")
     public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "database_table_view": return getDatabaseTableView();
+            case "defined_on_database_columns": return getDefinedOnDatabaseColumns();
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "primary_key": return getPrimaryKey();
+            case "referenced_by_foreign_keys": return getReferencedByForeignKeys();
+            case "short_description": return getShortDescription();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -203,4 +203,23 @@ public class Category extends InformationAsset {
     @JsonProperty("workflow_stored_state")
     public void setWorkflowStoredState(List<String> workflowStoredState) { this.workflowStoredState = workflowStoredState; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "category_path": return getCategoryPath();
+            case "glossary_type": return getGlossaryType();
+            case "language": return getLanguage();
+            case "parent_category": return getParentCategory();
+            case "subcategories": return getSubcategories();
+            case "terms": return getTerms();
+            case "translations": return getTranslations();
+            case "workflow_current_state": return getWorkflowCurrentState();
+            case "workflow_stored_state": return getWorkflowStoredState();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -129,4 +129,20 @@ public class CdcMapping extends Reference {
     @JsonProperty("targets")
     public void setTargets(ItemList<InformationAsset> targets) { this.targets = targets; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "cdc_mapping_document": return getCdcMappingDocument();
+            case "description": return getDescription();
+            case "name": return getTheName();
+            case "rule": return getRule();
+            case "sources": return getSources();
+            case "targets": return getTargets();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -79,4 +79,17 @@ public class ChangedProperties extends Reference {
     @JsonProperty("term_history")
     public void setTermHistory(ItemList<TermHistory> termHistory) { this.termHistory = termHistory; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "previous_value": return getPreviousValue();
+            case "property_name": return getPropertyName();
+            case "term_history": return getTermHistory();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
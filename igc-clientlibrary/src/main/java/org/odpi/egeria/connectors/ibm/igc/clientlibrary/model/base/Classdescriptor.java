@@ -214,4 +214,25 @@ public class Classdescriptor extends Reference {
     @JsonProperty("used_in_application_function")
     public void setUsedInApplicationFunction(ItemList<Applicationfunction> usedInApplicationFunction) { this.usedInApplicationFunction = usedInApplicationFunction; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "class_name": return getClassName();
+            case "has_action_descriptor": return getHasActionDescriptor();
+            case "has_custom_attribute_def": return getHasCustomAttributeDef();
+            case "has_navigation_descriptor": return getHasNavigationDescriptor();
+            case "has_prop_descriptor": return getHasPropDescriptor();
+            case "identifier_attribute": return getIdentifierAttribute();
+            case "long_description_attribute": return getLongDescriptionAttribute();
+            case "model_name": return getModelName();
+            case "model_uri": return getModelUri();
+            case "short_description_attribute": return getShortDescriptionAttribute();
+            case "used_in_application_function": return getUsedInApplicationFunction();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
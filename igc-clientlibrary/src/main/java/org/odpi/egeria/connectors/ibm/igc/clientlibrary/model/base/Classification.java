@@ -205,4 +205,24 @@ public class Classification extends Reference {
     @JsonProperty("value_frequency")
     public void setValueFrequency(Number valueFrequency) { this.valueFrequency = valueFrequency; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "classifies_asset": return getClassifiesAsset();
+            case "column_analysis": return getColumnAnalysis();
+            case "confidencePercent": return getConfidencepercent();
+            case "data_class": return getDataClass();
+            case "date": return getDate();
+            case "detected": return getDetected();
+            case "detectedState": return getDetectedstate();
+            case "selected": return getSelected();
+            case "threshold": return getThreshold();
+            case "value_frequency": return getValueFrequency();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -118,4 +118,19 @@ public class ClassificationContribution extends Reference {
     @JsonProperty("size")
     public void setSize(Number size) { this.size = size; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "data_class": return getDataClass();
+            case "infoset": return getInfoset();
+            case "match_type": return getMatchType();
+            case "object_count": return getObjectCount();
+            case "size": return getSize();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
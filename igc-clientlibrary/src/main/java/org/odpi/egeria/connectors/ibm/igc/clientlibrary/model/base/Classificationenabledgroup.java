@@ -78,4 +78,17 @@ public class Classificationenabledgroup extends DataField {
     @JsonProperty("selected_classification")
     public void setSelectedClassification(DataClass selectedClassification) { this.selectedClassification = selectedClassification; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "detected_classifications": return getDetectedClassifications();
+            case "hasDataClassification": return getHasdataclassification();
+            case "selected_classification": return getSelectedClassification();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -231,4 +231,26 @@ public class Collection extends Reference {
     @JsonProperty("visibility")
     public void setVisibility(Boolean visibility) { this.visibility = visibility; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "assets": return getAssets();
+            case "in_collections": return getInCollections();
+            case "labels": return getLabels();
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "owners": return getOwners();
+            case "references_assets": return getReferencesAssets();
+            case "short_description": return getShortDescription();
+            case "user_id": return getUserId();
+            case "viewers": return getViewers();
+            case "visibility": return getVisibility();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
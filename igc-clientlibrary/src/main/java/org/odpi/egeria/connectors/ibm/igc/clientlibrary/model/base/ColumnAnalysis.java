@@ -678,4 +678,50 @@ public class ColumnAnalysis extends Reference {
     @JsonProperty("validation_type")
     public void setValidationType(List<String> validationType) { this.validationType = validationType; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "average_value": return getAverageValue();
+            case "classification": return getClassification();
+            case "database_column": return getDatabaseColumn();
+            case "domain": return getDomain();
+            case "include_constant_values": return getIncludeConstantValues();
+            case "include_null_values": return getIncludeNullValues();
+            case "inferred_data_type": return getInferredDataType();
+            case "inferred_foreign_key": return getInferredForeignKey();
+            case "inferred_format": return getInferredFormat();
+            case "inferred_length": return getInferredLength();
+            case "inferred_precision": return getInferredPrecision();
+            case "inferred_primary_key": return getInferredPrimaryKey();
+            case "inferred_scale": return getInferredScale();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "nb_records_tested": return getNbRecordsTested();
+            case "number_of_complete_values": return getNumberOfCompleteValues();
+            case "number_of_distinct_formats": return getNumberOfDistinctFormats();
+            case "number_of_distinct_values": return getNumberOfDistinctValues();
+            case "number_of_empty_values": return getNumberOfEmptyValues();
+            case "number_of_null_values": return getNumberOfNullValues();
+            case "number_of_valid_values": return getNumberOfValidValues();
+            case "number_of_zero_values": return getNumberOfZeroValues();
+            case "project": return getProject();
+            case "quality_score": return getQualityScore();
+            case "quality_score_percent": return getQualityScorePercent();
+            case "quality_score_problems": return getQualityScoreProblems();
+            case "require_unique_values": return getRequireUniqueValues();
+            case "selected_foreign_key": return getSelectedForeignKey();
+            case "selected_foreign_key_referenced": return getSelectedForeignKeyReferenced();
+            case "selected_foreign_key_references": return getSelectedForeignKeyReferences();
+            case "selected_natural_key": return getSelectedNaturalKey();
+            case "selected_primary_key": return getSelectedPrimaryKey();
+            case "table_analysis": return getTableAnalysis();
+            case "validation_properties": return getValidationProperties();
+            case "validation_type": return getValidationType();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -599,4 +599,46 @@ public class ColumnAnalysisSummary extends Reference {
     @JsonProperty("steward")
     public void setSteward(ItemList<Steward> steward) { this.steward = steward; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "allow_null_values": return getAllowNullValues();
+            case "analyzed_column": return getAnalyzedColumn();
+            case "assigned_to_terms": return getAssignedToTerms();
+            case "average_length": return getAverageLength();
+            case "constant": return getConstant();
+            case "domain_type": return getDomainType();
+            case "inferred_data_type": return getInferredDataType();
+            case "inferred_format": return getInferredFormat();
+            case "inferred_length": return getInferredLength();
+            case "inferred_precision": return getInferredPrecision();
+            case "inferred_scale": return getInferredScale();
+            case "long_description": return getLongDescription();
+            case "longest_length": return getLongestLength();
+            case "mask": return getMask();
+            case "native_id": return getNativeId();
+            case "number_of_complete_values": return getNumberOfCompleteValues();
+            case "number_of_distinct_formats": return getNumberOfDistinctFormats();
+            case "number_of_distinct_patterns": return getNumberOfDistinctPatterns();
+            case "number_of_distinct_values": return getNumberOfDistinctValues();
+            case "number_of_empty_values": return getNumberOfEmptyValues();
+            case "number_of_null_values": return getNumberOfNullValues();
+            case "number_of_valid_values": return getNumberOfValidValues();
+            case "number_values": return getNumberValues();
+            case "project_name": return getProjectName();
+            case "promoted_by_principal": return getPromotedByPrincipal();
+            case "require_unique_values": return getRequireUniqueValues();
+            case "review_date": return getReviewDate();
+            case "reviewed_by_principal": return getReviewedByPrincipal();
+            case "short_&_long_description": return getShortLongDescription();
+            case "short_description": return getShortDescription();
+            case "shortest_length": return getShortestLength();
+            case "steward": return getSteward();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -94,4 +94,18 @@ public class ColumnDefinition extends DataField {
     @JsonProperty("used_by_stage_columns")
     public void setUsedByStageColumns(ItemList<DataItem> usedByStageColumns) { this.usedByStageColumns = usedByStageColumns; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "apt_field_properties": return getAptFieldProperties();
+            case "key": return getKey();
+            case "table_definition": return getTableDefinition();
+            case "used_by_stage_columns": return getUsedByStageColumns();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -100,4 +100,18 @@ public class CompositeView extends InformationAsset {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "composite_view": return getCompositeView();
+            case "member_type": return getMemberType();
+            case "type": return getTheType();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -214,4 +214,25 @@ public class Connector extends Reference {
     @JsonProperty("version")
     public void setVersion(String version) { this.version = version; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "data_connections": return getDataConnections();
+            case "host": return getHost();
+            case "implements_stage_type": return getImplementsStageType();
+            case "library": return getLibrary();
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "short_description": return getShortDescription();
+            case "type": return getTheType();
+            case "variant": return getVariant();
+            case "version": return getVersion();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -128,4 +128,20 @@ public class Credential extends Reference {
     @JsonProperty("username")
     public void setUsername(String username) { this.username = username; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "default_for_application_install": return getDefaultForApplicationInstall();
+            case "for_application_install": return getForApplicationInstall();
+            case "of_user_credentials": return getOfUserCredentials();
+            case "password": return getPassword();
+            case "used_by_user_credentials": return getUsedByUserCredentials();
+            case "username": return getUsername();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
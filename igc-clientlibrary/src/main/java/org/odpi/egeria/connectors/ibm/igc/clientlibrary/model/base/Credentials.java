@@ -78,4 +78,17 @@ public class Credentials extends Reference {
     @JsonProperty("of_user")
     public void setOfUser(User ofUser) { this.ofUser = ofUser; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "asb_credential": return getAsbCredential();
+            case "external_credential": return getExternalCredential();
+            case "of_user": return getOfUser();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -106,4 +106,18 @@ public class CustomAttribute extends Reference {
     @JsonProperty("name")
     public void setTheName(String name) { this.name = name; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "applies_to": return getAppliesTo();
+            case "custom_attribute_type": return getCustomAttributeType();
+            case "description": return getDescription();
+            case "name": return getTheName();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -130,4 +130,20 @@ public class Customattributedef extends InformationAsset {
     @JsonProperty("of_class_descriptor")
     public void setOfClassDescriptor(Classdescriptor ofClassDescriptor) { this.ofClassDescriptor = ofClassDescriptor; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "data_type": return getDataType();
+            case "description": return getDescription();
+            case "has_custom_attribute_val": return getHasCustomAttributeVal();
+            case "has_data_values": return getHasDataValues();
+            case "has_valid_values": return getHasValidValues();
+            case "of_class_descriptor": return getOfClassDescriptor();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
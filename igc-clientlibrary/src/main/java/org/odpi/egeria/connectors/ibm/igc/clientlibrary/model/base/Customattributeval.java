@@ -60,4 +60,16 @@ public class Customattributeval extends Reference {
     @JsonProperty("x_custom_attribute_name")
     public void setXCustomAttributeName(String xCustomAttributeName) { this.xCustomAttributeName = xCustomAttributeName; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "value": return getValue();
+            case "x_custom_attribute_name": return getXCustomAttributeName();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -650,4 +650,47 @@ public class DataClass extends InformationAsset {
     @JsonProperty("valid_values_case_sensitive")
     public void setValidValuesCaseSensitive(Boolean validValuesCaseSensitive) { this.validValuesCaseSensitive = validValuesCaseSensitive; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "active": return getActive();
+            case "additional_regular_expression": return getAdditionalRegularExpression();
+            case "additionial_applicable_for": return getAdditionialApplicableFor();
+            case "allowSubstringMatch": return getAllowsubstringmatch();
+            case "applicable_for_single": return getApplicableForSingle();
+            case "class_code": return getClassCode();
+            case "classifications_selected": return getClassificationsSelected();
+            case "classified_assets_detected": return getClassifiedAssetsDetected();
+            case "columnNameMatch": return getColumnnamematch();
+            case "contains_data_classes": return getContainsDataClasses();
+            case "data_class_type_single": return getDataClassTypeSingle();
+            case "data_type_filter_elements_enum": return getDataTypeFilterElementsEnum();
+            case "default_threshold": return getDefaultThreshold();
+            case "enabled": return getEnabled();
+            case "example": return getExample();
+            case "expression": return getExpression();
+            case "filters": return getFilters();
+            case "java_class_name_single": return getJavaClassNameSingle();
+            case "language": return getLanguage();
+            case "length_filter_max": return getLengthFilterMax();
+            case "length_filter_min": return getLengthFilterMin();
+            case "parent_data_class": return getParentDataClass();
+            case "priority": return getPriority();
+            case "properties": return getProperties();
+            case "provider": return getProvider();
+            case "reference_columns_metadata": return getReferenceColumnsMetadata();
+            case "regular_expression_single": return getRegularExpressionSingle();
+            case "scope": return getScope();
+            case "script": return getScript();
+            case "squeezeConsecutiveWhiteSpaces": return getSqueezeconsecutivewhitespaces();
+            case "validValueReferenceFile": return getValidvaluereferencefile();
+            case "valid_value_strings": return getValidValueStrings();
+            case "valid_values_case_sensitive": return getValidValuesCaseSensitive();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -145,4 +145,21 @@ public class DataClassOld extends MainObject {
     @JsonProperty("native_id")
     public void setNativeId(String nativeId) { this.nativeId = nativeId; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "class_code": return getClassCode();
+            case "classifies_data_field": return getClassifiesDataField();
+            case "has_sub_data_class": return getHasSubDataClass();
+            case "inferred_by_df_analysis_summary": return getInferredByDfAnalysisSummary();
+            case "is_sub_of_data_class": return getIsSubOfDataClass();
+            case "is_user_defined": return getIsUserDefined();
+            case "native_id": return getNativeId();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
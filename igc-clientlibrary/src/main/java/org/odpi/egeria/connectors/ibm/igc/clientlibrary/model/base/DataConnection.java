@@ -179,4 +179,23 @@ public class DataConnection extends Reference {
     @JsonProperty("short_description")
     public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "connection_string": return getConnectionString();
+            case "data_connectors": return getDataConnectors();
+            case "host": return getHost();
+            case "imported_from": return getImportedFrom();
+            case "imports_database": return getImportsDatabase();
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "short_description": return getShortDescription();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
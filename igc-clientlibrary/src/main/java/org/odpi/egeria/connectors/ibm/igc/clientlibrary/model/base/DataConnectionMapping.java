@@ -146,4 +146,21 @@ public class DataConnectionMapping extends Reference {
     @JsonProperty("used_by")
     public void setUsedBy(ItemList<MainObject> usedBy) { this.usedBy = usedBy; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "bound_to_database": return getBoundToDatabase();
+            case "host_(engine)_name": return getHostEngineName();
+            case "name": return getTheName();
+            case "preferred_data_connection": return getPreferredDataConnection();
+            case "same_as_data_connections": return getSameAsDataConnections();
+            case "type": return getTheType();
+            case "used_by": return getUsedBy();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
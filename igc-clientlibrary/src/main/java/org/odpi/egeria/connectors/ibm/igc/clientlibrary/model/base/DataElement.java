@@ -60,4 +60,16 @@ public class DataElement extends DataItemDefinition {
     @JsonProperty("transforms")
     public void setTransforms(ItemList<TransformsFunction> transforms) { this.transforms = transforms; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "transformation_project": return getTransformationProject();
+            case "transforms": return getTransforms();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -48,4 +48,15 @@ public class DataField extends DataItem {
     @JsonProperty("used_by_analytics_objects")
     public void setUsedByAnalyticsObjects(ItemList<AnalyticsObject> usedByAnalyticsObjects) { this.usedByAnalyticsObjects = usedByAnalyticsObjects; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "used_by_analytics_objects": return getUsedByAnalyticsObjects();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
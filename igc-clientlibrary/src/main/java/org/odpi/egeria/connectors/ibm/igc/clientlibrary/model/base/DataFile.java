@@ -272,4 +272,28 @@ public class DataFile extends InformationAsset {
     @JsonProperty("synchronized_from")
     public void setSynchronizedFrom(String synchronizedFrom) { this.synchronizedFrom = synchronizedFrom; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "amazon_s3_data_files": return getAmazonS3DataFiles();
+            case "data_file_records": return getDataFileRecords();
+            case "host": return getHost();
+            case "implements_data_file_definition": return getImplementsDataFileDefinition();
+            case "implements_physical_models": return getImplementsPhysicalModels();
+            case "imported_from": return getImportedFrom();
+            case "include_for_business_lineage": return getIncludeForBusinessLineage();
+            case "parent_folder": return getParentFolder();
+            case "parent_folder_or_host": return getParentFolderOrHost();
+            case "path": return getPath();
+            case "store_type": return getStoreType();
+            case "suggested_term_assignments": return getSuggestedTermAssignments();
+            case "synchronized_from": return getSynchronizedFrom();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -111,4 +111,19 @@ public class DataFileDefinition extends InformationAsset {
     @JsonProperty("references_data_file_folders")
     public void setReferencesDataFileFolders(ItemList<MainObject> referencesDataFileFolders) { this.referencesDataFileFolders = referencesDataFileFolders; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "data_file_definition_records": return getDataFileDefinitionRecords();
+            case "implemented_by_data_files": return getImplementedByDataFiles();
+            case "imported_from": return getImportedFrom();
+            case "references_data_file_folders": return getReferencesDataFileFolders();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -268,4 +268,25 @@ public class DataFileDefinitionField extends InformationAsset {
     @JsonProperty("unique")
     public void setUnique(Boolean unique) { this.unique = unique; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "allows_null_values": return getAllowsNullValues();
+            case "data_file_definition_record": return getDataFileDefinitionRecord();
+            case "data_type": return getDataType();
+            case "fraction": return getFraction();
+            case "length": return getLength();
+            case "level": return getLevel();
+            case "minimum_length": return getMinimumLength();
+            case "odbc_type": return getOdbcType();
+            case "position": return getPosition();
+            case "type": return getTheType();
+            case "unique": return getUnique();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
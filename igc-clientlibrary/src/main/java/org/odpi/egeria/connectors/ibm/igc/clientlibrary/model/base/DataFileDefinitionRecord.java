@@ -94,4 +94,18 @@ public class DataFileDefinitionRecord extends InformationAsset {
     @JsonProperty("imported_from")
     public void setImportedFrom(String importedFrom) { this.importedFrom = importedFrom; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "data_file_definition": return getDataFileDefinition();
+            case "data_file_definition_fields": return getDataFileDefinitionFields();
+            case "imported_from": return getImportedFrom();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
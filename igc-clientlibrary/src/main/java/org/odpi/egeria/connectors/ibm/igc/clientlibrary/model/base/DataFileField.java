@@ -631,4 +631,47 @@ public class DataFileField extends Classificationenabledgroup {
     @JsonProperty("uniqueFlag")
     public void setUniqueflag(Boolean uniqueflag) { this.uniqueflag = uniqueflag; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "analysis": return getAnalysis();
+            case "averageValue": return getAveragevalue();
+            case "constantFlag": return getConstantflag();
+            case "data_file_record": return getDataFileRecord();
+            case "database_data_rule_sets": return getDatabaseDataRuleSets();
+            case "datafile_data_rules": return getDatafileDataRules();
+            case "domainType": return getDomaintype();
+            case "implements_design_columns": return getImplementsDesignColumns();
+            case "implements_entity_attributes": return getImplementsEntityAttributes();
+            case "inferredDataType": return getInferreddatatype();
+            case "inferredFormat": return getInferredformat();
+            case "inferredLength": return getInferredlength();
+            case "inferredPrecision": return getInferredprecision();
+            case "inferredScale": return getInferredscale();
+            case "isInferredForeignKey": return getIsinferredforeignkey();
+            case "isInferredPrimaryKey": return getIsinferredprimarykey();
+            case "nbRecordsTested": return getNbrecordstested();
+            case "nullabilityFlag": return getNullabilityflag();
+            case "numberCompleteValues": return getNumbercompletevalues();
+            case "numberDistinctValues": return getNumberdistinctvalues();
+            case "numberEmptyValues": return getNumberemptyvalues();
+            case "numberFormats": return getNumberformats();
+            case "numberNullValues": return getNumbernullvalues();
+            case "numberValidValues": return getNumbervalidvalues();
+            case "numberZeroValues": return getNumberzerovalues();
+            case "qualityScore": return getQualityscore();
+            case "qualityScore_bubble": return getQualityscoreBubble();
+            case "quality_benchmark": return getQualityBenchmark();
+            case "quality_dimension": return getQualityDimension();
+            case "same_as_data_sources": return getSameAsDataSources();
+            case "suggested_term_assignments": return getSuggestedTermAssignments();
+            case "synchronized_from": return getSynchronizedFrom();
+            case "uniqueFlag": return getUniqueflag();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -265,4 +265,28 @@ public class DataFileFolderNobucket extends InformationAsset {
     @JsonProperty("uses_data_file_definitions")
     public void setUsesDataFileDefinitions(ItemList<DataFileDefinition> usesDataFileDefinitions) { this.usesDataFileDefinitions = usesDataFileDefinitions; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "amazon_s3_data_file_folder": return getAmazonS3DataFileFolder();
+            case "data_file_folders": return getDataFileFolders();
+            case "data_files": return getDataFiles();
+            case "host": return getHost();
+            case "include_for_business_lineage": return getIncludeForBusinessLineage();
+            case "location": return getLocation();
+            case "parent_folder": return getParentFolder();
+            case "same_as_data_sources": return getSameAsDataSources();
+            case "source_creation_date": return getSourceCreationDate();
+            case "source_modification_date": return getSourceModificationDate();
+            case "store_type": return getStoreType();
+            case "synchronized_from": return getSynchronizedFrom();
+            case "type": return getTheType();
+            case "uses_data_file_definitions": return getUsesDataFileDefinitions();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
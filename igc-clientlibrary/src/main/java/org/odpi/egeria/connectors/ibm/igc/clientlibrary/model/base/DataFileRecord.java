@@ -401,4 +401,35 @@ public class DataFileRecord extends Datagroup {
     @JsonProperty("synchronized_from")
     public void setSynchronizedFrom(String synchronizedFrom) { this.synchronizedFrom = synchronizedFrom; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "FKViolationCount": return getFkviolationcount();
+            case "PKDuplicateCount": return getPkduplicatecount();
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "analysis": return getAnalysis();
+            case "data_file": return getDataFile();
+            case "data_file_fields": return getDataFileFields();
+            case "fieldCount": return getFieldcount();
+            case "implements_design_tables_or_views": return getImplementsDesignTablesOrViews();
+            case "implements_logical_entities": return getImplementsLogicalEntities();
+            case "imported_from": return getImportedFrom();
+            case "include_for_business_lineage": return getIncludeForBusinessLineage();
+            case "nbRecordTested": return getNbrecordtested();
+            case "qualityScore": return getQualityscore();
+            case "qualityScore_bubble": return getQualityscoreBubble();
+            case "quality_benchmark": return getQualityBenchmark();
+            case "quality_dimension": return getQualityDimension();
+            case "reviewDate": return getReviewdate();
+            case "rowCount": return getRowcount();
+            case "same_as_data_sources": return getSameAsDataSources();
+            case "suggested_term_assignments": return getSuggestedTermAssignments();
+            case "synchronized_from": return getSynchronizedFrom();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -469,4 +469,36 @@ public class DataItem extends InformationAsset {
     @JsonProperty("validated_by_data_values")
     public void setValidatedByDataValues(ItemList<DataItemValue> validatedByDataValues) { this.validatedByDataValues = validatedByDataValues; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "allow_null_values": return getAllowNullValues();
+            case "allows_empty_value": return getAllowsEmptyValue();
+            case "allows_null_values": return getAllowsNullValues();
+            case "based_on": return getBasedOn();
+            case "calendar": return getCalendar();
+            case "data_item_definition": return getDataItemDefinition();
+            case "data_type": return getDataType();
+            case "default_value": return getDefaultValue();
+            case "display_size": return getDisplaySize();
+            case "fraction": return getFraction();
+            case "has_dimension": return getHasDimension();
+            case "is_computed": return getIsComputed();
+            case "is_signed": return getIsSigned();
+            case "item_kind": return getItemKind();
+            case "length": return getLength();
+            case "level": return getLevel();
+            case "minimum_length": return getMinimumLength();
+            case "odbc_type": return getOdbcType();
+            case "position": return getPosition();
+            case "type": return getTheType();
+            case "unique": return getUnique();
+            case "validated_by_data_values": return getValidatedByDataValues();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -66,4 +66,16 @@ public class DataItemDefinition extends DataItem {
     @JsonProperty("database_schema")
     public void setDatabaseSchema(DatabaseSchema databaseSchema) { this.databaseSchema = databaseSchema; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "contains_data_fields": return getContainsDataFields();
+            case "database_schema": return getDatabaseSchema();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
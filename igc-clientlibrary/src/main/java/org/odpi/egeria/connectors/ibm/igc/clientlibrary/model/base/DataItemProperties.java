@@ -349,4 +349,33 @@ public class DataItemProperties extends Reference {
     @JsonProperty("usage")
     public void setUsage(String usage) { this.usage = usage; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "apt_field_prop": return getAptFieldProp();
+            case "association": return getAssociation();
+            case "belonging_to_parameter_definition": return getBelongingToParameterDefinition();
+            case "column_definition": return getColumnDefinition();
+            case "date_mask": return getDateMask();
+            case "depend_field": return getDependField();
+            case "field_type": return getFieldType();
+            case "filler_parents": return getFillerParents();
+            case "flow_variable": return getFlowVariable();
+            case "has_sign_indicator": return getHasSignIndicator();
+            case "is_u_string": return getIsUString();
+            case "nls_map": return getNlsMap();
+            case "pad_char": return getPadChar();
+            case "redefined_field": return getRedefinedField();
+            case "scale": return getScale();
+            case "scd_purpose": return getScdPurpose();
+            case "sign_option": return getSignOption();
+            case "sync_indicator": return getSyncIndicator();
+            case "usage": return getUsage();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -112,4 +112,19 @@ public class DataItemValue extends Reference {
     @JsonProperty("valid_value_list")
     public void setValidValueList(ValidValueList validValueList) { this.validValueList = validValueList; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "design_column": return getDesignColumn();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "short_description": return getShortDescription();
+            case "valid_value_list": return getValidValueList();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
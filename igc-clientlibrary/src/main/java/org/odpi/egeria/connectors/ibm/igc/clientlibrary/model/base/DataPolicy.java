@@ -112,4 +112,19 @@ public class DataPolicy extends MainObject {
     @JsonProperty("termination_date")
     public void setTerminationDate(Date terminationDate) { this.terminationDate = terminationDate; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "applied_to_assets": return getAppliedToAssets();
+            case "contacts": return getContacts();
+            case "effective_date": return getEffectiveDate();
+            case "policy_number": return getPolicyNumber();
+            case "termination_date": return getTerminationDate();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
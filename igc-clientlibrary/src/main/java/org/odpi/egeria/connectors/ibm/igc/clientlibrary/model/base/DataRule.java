@@ -228,4 +228,25 @@ public class DataRule extends InformationAsset {
     @JsonProperty("status")
     public void setStatus(String status) { this.status = status; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "benchmark": return getBenchmark();
+            case "contact": return getContact();
+            case "data_policies": return getDataPolicies();
+            case "data_rule_definitions": return getDataRuleDefinitions();
+            case "execution_history": return getExecutionHistory();
+            case "expression": return getExpression();
+            case "implemented_bindings": return getImplementedBindings();
+            case "metrics": return getMetrics();
+            case "output_content_column": return getOutputContentColumn();
+            case "project": return getProject();
+            case "status": return getStatus();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
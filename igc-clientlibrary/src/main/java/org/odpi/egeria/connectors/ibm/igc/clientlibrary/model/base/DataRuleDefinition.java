@@ -217,4 +217,24 @@ public class DataRuleDefinition extends InformationAsset {
     @JsonProperty("status")
     public void setStatus(String status) { this.status = status; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "contact": return getContact();
+            case "data_policies": return getDataPolicies();
+            case "data_rule_set_definitions": return getDataRuleSetDefinitions();
+            case "non_published_data_rule_definitions": return getNonPublishedDataRuleDefinitions();
+            case "project": return getProject();
+            case "publication_date": return getPublicationDate();
+            case "published": return getPublished();
+            case "published_data_rule_definitions": return getPublishedDataRuleDefinitions();
+            case "rule_logic": return getRuleLogic();
+            case "status": return getStatus();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -181,4 +181,23 @@ public class DataRuleResults extends Reference {
     @JsonProperty("start_time")
     public void setStartTime(Date startTime) { this.startTime = startTime; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "benchmark": return getBenchmark();
+            case "end_time": return getEndTime();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "number_of_records_met": return getNumberOfRecordsMet();
+            case "number_of_records_not_met": return getNumberOfRecordsNotMet();
+            case "number_of_records_tested": return getNumberOfRecordsTested();
+            case "rule_results": return getRuleResults();
+            case "start_time": return getStartTime();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
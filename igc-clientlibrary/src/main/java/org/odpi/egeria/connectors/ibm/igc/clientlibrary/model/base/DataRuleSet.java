@@ -194,4 +194,23 @@ public class DataRuleSet extends InformationAsset {
     @JsonProperty("status")
     public void setStatus(String status) { this.status = status; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "benchmark": return getBenchmark();
+            case "contact": return getContact();
+            case "data_policies": return getDataPolicies();
+            case "data_rule_set_definitions": return getDataRuleSetDefinitions();
+            case "execution_history": return getExecutionHistory();
+            case "implemented_bindings": return getImplementedBindings();
+            case "metrics": return getMetrics();
+            case "project": return getProject();
+            case "status": return getStatus();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
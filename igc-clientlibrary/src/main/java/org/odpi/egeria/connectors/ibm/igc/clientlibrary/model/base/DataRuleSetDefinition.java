@@ -182,4 +182,22 @@ public class DataRuleSetDefinition extends InformationAsset {
     @JsonProperty("status")
     public void setStatus(String status) { this.status = status; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "contact": return getContact();
+            case "data_policies": return getDataPolicies();
+            case "non_published_data_rule_set_definitions": return getNonPublishedDataRuleSetDefinitions();
+            case "project": return getProject();
+            case "publication_date": return getPublicationDate();
+            case "published": return getPublished();
+            case "published_data_rule_set_definitions": return getPublishedDataRuleSetDefinitions();
+            case "status": return getStatus();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
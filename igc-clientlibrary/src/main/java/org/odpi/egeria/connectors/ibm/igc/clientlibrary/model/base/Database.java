@@ -348,4 +348,32 @@ public class Database extends InformationAsset {
     @JsonProperty("synchronized_from")
     public void setSynchronizedFrom(String synchronizedFrom) { this.synchronizedFrom = synchronizedFrom; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "bi_models": return getBiModels();
+            case "bi_reports": return getBiReports();
+            case "data_connection_mappings": return getDataConnectionMappings();
+            case "data_connections": return getDataConnections();
+            case "data_policies": return getDataPolicies();
+            case "database_schemas": return getDatabaseSchemas();
+            case "database_type": return getDatabaseType();
+            case "dbms": return getDbms();
+            case "dbms_server_instance": return getDbmsServerInstance();
+            case "dbms_vendor": return getDbmsVendor();
+            case "dbms_version": return getDbmsVersion();
+            case "host": return getHost();
+            case "imported_from": return getImportedFrom();
+            case "location": return getLocation();
+            case "mapped_to_mdm_models": return getMappedToMdmModels();
+            case "suggested_term_assignments": return getSuggestedTermAssignments();
+            case "synchronized_from": return getSynchronizedFrom();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -243,4 +243,26 @@ public class DatabaseAlias extends Datagroup {
     @JsonProperty("reads_from_(user_defined)")
     public void setReadsFromUserDefined(ItemList<InformationAsset> readsFromUserDefined) { this.readsFromUserDefined = readsFromUserDefined; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_of_database_tables_or_views": return getAliasOfDatabaseTablesOrViews();
+            case "database_columns": return getDatabaseColumns();
+            case "defined_foreign_key": return getDefinedForeignKey();
+            case "defined_primary_key": return getDefinedPrimaryKey();
+            case "implemented_key": return getImplementedKey();
+            case "imported_from": return getImportedFrom();
+            case "indexes": return getIndexes();
+            case "lineage_service_information": return getLineageServiceInformation();
+            case "lineage_service_last_run_date": return getLineageServiceLastRunDate();
+            case "lineage_service_status": return getLineageServiceStatus();
+            case "reads_from_(operational)": return getReadsFromOperational();
+            case "reads_from_(user_defined)": return getReadsFromUserDefined();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
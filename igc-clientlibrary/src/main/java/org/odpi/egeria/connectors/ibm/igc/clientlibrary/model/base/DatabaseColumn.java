@@ -1169,4 +1169,78 @@ public class DatabaseColumn extends Classificationenabledgroup {
     @JsonProperty("view")
     public void setView(ItemList<View> view) { this.view = view; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "analysis": return getAnalysis();
+            case "averageValue": return getAveragevalue();
+            case "bi_collection_members": return getBiCollectionMembers();
+            case "bi_report_query_items": return getBiReportQueryItems();
+            case "column_definitions": return getColumnDefinitions();
+            case "constantFlag": return getConstantflag();
+            case "data_policies": return getDataPolicies();
+            case "data_rule_definitions": return getDataRuleDefinitions();
+            case "data_rule_set_definitions": return getDataRuleSetDefinitions();
+            case "data_rule_sets": return getDataRuleSets();
+            case "data_rules": return getDataRules();
+            case "database_alias": return getDatabaseAlias();
+            case "database_domains": return getDatabaseDomains();
+            case "database_indexes": return getDatabaseIndexes();
+            case "database_table": return getDatabaseTable();
+            case "database_table_or_view": return getDatabaseTableOrView();
+            case "defined_foreign_key": return getDefinedForeignKey();
+            case "defined_foreign_key_referenced": return getDefinedForeignKeyReferenced();
+            case "defined_foreign_key_references": return getDefinedForeignKeyReferences();
+            case "defined_non_primary_key": return getDefinedNonPrimaryKey();
+            case "defined_primary_key": return getDefinedPrimaryKey();
+            case "domainType": return getDomaintype();
+            case "has_DataClassifications": return getHasDataclassifications();
+            case "implemented_key": return getImplementedKey();
+            case "implements_design_columns": return getImplementsDesignColumns();
+            case "implements_entity_attributes": return getImplementsEntityAttributes();
+            case "index": return getIndex();
+            case "inferredDataType": return getInferreddatatype();
+            case "inferredFormat": return getInferredformat();
+            case "inferredLength": return getInferredlength();
+            case "inferredPrecision": return getInferredprecision();
+            case "inferredScale": return getInferredscale();
+            case "isInferredForeignKey": return getIsinferredforeignkey();
+            case "isInferredPrimaryKey": return getIsinferredprimarykey();
+            case "mapped_to_physical_object_attributes": return getMappedToPhysicalObjectAttributes();
+            case "nbRecordsTested": return getNbrecordstested();
+            case "nullabilityFlag": return getNullabilityflag();
+            case "numberCompleteValues": return getNumbercompletevalues();
+            case "numberDistinctValues": return getNumberdistinctvalues();
+            case "numberEmptyValues": return getNumberemptyvalues();
+            case "numberFormats": return getNumberformats();
+            case "numberNullValues": return getNumbernullvalues();
+            case "numberValidValues": return getNumbervalidvalues();
+            case "numberZeroValues": return getNumberzerovalues();
+            case "occurs": return getOccurs();
+            case "qualityScore": return getQualityscore();
+            case "qualityScore_bubble": return getQualityscoreBubble();
+            case "quality_benchmark": return getQualityBenchmark();
+            case "quality_dimension": return getQualityDimension();
+            case "referenced_by_database_columns": return getReferencedByDatabaseColumns();
+            case "references_database_columns": return getReferencesDatabaseColumns();
+            case "same_as_data_sources": return getSameAsDataSources();
+            case "same_as_database_columns": return getSameAsDatabaseColumns();
+            case "selected_foreign_key": return getSelectedForeignKey();
+            case "selected_foreign_key_referenced": return getSelectedForeignKeyReferenced();
+            case "selected_foreign_key_references": return getSelectedForeignKeyReferences();
+            case "selected_natural_key": return getSelectedNaturalKey();
+            case "selected_primary_key": return getSelectedPrimaryKey();
+            case "start_end_columns": return getStartEndColumns();
+            case "suggested_term_assignments": return getSuggestedTermAssignments();
+            case "synchronized_from": return getSynchronizedFrom();
+            case "uniqueFlag": return getUniqueflag();
+            case "validity_tables": return getValidityTables();
+            case "view": return getView();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -253,4 +253,24 @@ public class DatabaseDomain extends Reference {
     @JsonProperty("used_by_data_items")
     public void setUsedByDataItems(ItemList<DataItem> usedByDataItems) { this.usedByDataItems = usedByDataItems; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "data_type": return getDataType();
+            case "database_schema": return getDatabaseSchema();
+            case "fraction": return getFraction();
+            case "length": return getLength();
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "odbc_type": return getOdbcType();
+            case "short_description": return getShortDescription();
+            case "used_by_data_items": return getUsedByDataItems();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
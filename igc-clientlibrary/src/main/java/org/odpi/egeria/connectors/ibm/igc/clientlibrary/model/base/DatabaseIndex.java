@@ -232,4 +232,26 @@ public class DatabaseIndex extends Reference {
     @JsonProperty("unique")
     public void setUnique(Boolean unique) { this.unique = unique; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "expression": return getExpression();
+            case "function": return getFunction();
+            case "indexed_database_columns": return getIndexedDatabaseColumns();
+            case "join": return getJoin();
+            case "joined_database_columns": return getJoinedDatabaseColumns();
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "partition": return getPartition();
+            case "short_description": return getShortDescription();
+            case "type": return getTheType();
+            case "unique": return getUnique();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -689,4 +689,51 @@ public class DatabaseTable extends Datagroup {
     @JsonProperty("target_mapping_specifications")
     public void setTargetMappingSpecifications(ItemList<MappingSpecification> targetMappingSpecifications) { this.targetMappingSpecifications = targetMappingSpecifications; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "FKViolationCount": return getFkviolationcount();
+            case "PKDuplicateCount": return getPkduplicatecount();
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "analysis": return getAnalysis();
+            case "bi_model_collections": return getBiModelCollections();
+            case "bi_report_queries": return getBiReportQueries();
+            case "data_policies": return getDataPolicies();
+            case "database_aliases": return getDatabaseAliases();
+            case "database_columns": return getDatabaseColumns();
+            case "database_indexes": return getDatabaseIndexes();
+            case "defined_foreign_key": return getDefinedForeignKey();
+            case "defined_non_primary_key": return getDefinedNonPrimaryKey();
+            case "defined_primary_key": return getDefinedPrimaryKey();
+            case "fieldCount": return getFieldcount();
+            case "implements_design_tables_or_views": return getImplementsDesignTablesOrViews();
+            case "implements_logical_entities": return getImplementsLogicalEntities();
+            case "imported_from": return getImportedFrom();
+            case "indexes": return getIndexes();
+            case "mapped_to_physical_objects": return getMappedToPhysicalObjects();
+            case "multi_column_analysis": return getMultiColumnAnalysis();
+            case "nbRecordTested": return getNbrecordtested();
+            case "qualityScore": return getQualityscore();
+            case "qualityScore_bubble": return getQualityscoreBubble();
+            case "quality_benchmark": return getQualityBenchmark();
+            case "quality_dimension": return getQualityDimension();
+            case "referenced_by_views": return getReferencedByViews();
+            case "reviewDate": return getReviewdate();
+            case "rowCount": return getRowcount();
+            case "same_as_data_sources": return getSameAsDataSources();
+            case "selected_foreign_key": return getSelectedForeignKey();
+            case "selected_natural_key": return getSelectedNaturalKey();
+            case "selected_primary_key": return getSelectedPrimaryKey();
+            case "source_mapping_specifications": return getSourceMappingSpecifications();
+            case "suggested_term_assignments": return getSuggestedTermAssignments();
+            case "synchronized_from": return getSynchronizedFrom();
+            case "table_definitions": return getTableDefinitions();
+            case "target_mapping_specifications": return getTargetMappingSpecifications();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
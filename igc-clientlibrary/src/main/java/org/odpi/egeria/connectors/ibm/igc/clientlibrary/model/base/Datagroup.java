@@ -104,4 +104,18 @@ public class Datagroup extends InformationAsset {
     @JsonProperty("name_quoting_char")
     public void setNameQuotingChar(String nameQuotingChar) { this.nameQuotingChar = nameQuotingChar; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "database_schema": return getDatabaseSchema();
+            case "imported_via_data_connection": return getImportedViaDataConnection();
+            case "name_qualifier": return getNameQualifier();
+            case "name_quoting_char": return getNameQuotingChar();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -78,4 +78,17 @@ public class Datasourcealiasgroup extends Reference {
     @JsonProperty("same_as_data_connections")
     public void setSameAsDataConnections(ItemList<DataConnectionMapping> sameAsDataConnections) { this.sameAsDataConnections = sameAsDataConnections; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "bound_to_database": return getBoundToDatabase();
+            case "preferred_data_connection": return getPreferredDataConnection();
+            case "same_as_data_connections": return getSameAsDataConnections();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -94,4 +94,18 @@ public class DatastageItem extends Reference {
     @JsonProperty("repository_id")
     public void setRepositoryId(String repositoryId) { this.repositoryId = repositoryId; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "class_name": return getClassName();
+            case "name": return getTheName();
+            case "reference_item": return getReferenceItem();
+            case "repository_id": return getRepositoryId();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -60,4 +60,16 @@ public class Derivation extends Reference {
     @JsonProperty("native_id")
     public void setNativeId(String nativeId) { this.nativeId = nativeId; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "expression": return getExpression();
+            case "native_id": return getNativeId();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
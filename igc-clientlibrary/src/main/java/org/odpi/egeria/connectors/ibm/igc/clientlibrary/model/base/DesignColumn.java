@@ -406,4 +406,33 @@ public class DesignColumn extends InformationAsset {
     @JsonProperty("unique")
     public void setUnique(Boolean unique) { this.unique = unique; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "allows_null_values": return getAllowsNullValues();
+            case "data_type": return getDataType();
+            case "design_table_or_view": return getDesignTableOrView();
+            case "fraction": return getFraction();
+            case "implemented_by_data_fields": return getImplementedByDataFields();
+            case "implemented_by_database_columns": return getImplementedByDatabaseColumns();
+            case "implements_entity_attributes": return getImplementsEntityAttributes();
+            case "included_in_design_foreign_key": return getIncludedInDesignForeignKey();
+            case "included_in_design_key": return getIncludedInDesignKey();
+            case "length": return getLength();
+            case "level": return getLevel();
+            case "minimum_length": return getMinimumLength();
+            case "odbc_type": return getOdbcType();
+            case "parent_design_foreignKey": return getParentDesignForeignkey();
+            case "physical_domains": return getPhysicalDomains();
+            case "position": return getPosition();
+            case "primary_key": return getPrimaryKey();
+            case "type": return getTheType();
+            case "unique": return getUnique();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -146,4 +146,21 @@ public class DesignForeignKey extends Reference {
     @JsonProperty("short_description")
     public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "included_database_columns": return getIncludedDatabaseColumns();
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "of_data_collection": return getOfDataCollection();
+            case "referenced_by_design_column": return getReferencedByDesignColumn();
+            case "short_description": return getShortDescription();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
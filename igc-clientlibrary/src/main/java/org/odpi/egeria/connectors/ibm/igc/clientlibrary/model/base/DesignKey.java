@@ -163,4 +163,22 @@ public class DesignKey extends Reference {
     @JsonProperty("short_description")
     public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "defined_on_design_columns": return getDefinedOnDesignColumns();
+            case "design_table_or_view": return getDesignTableOrView();
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "primary_key": return getPrimaryKey();
+            case "referenced_by_design_foreign_keys": return getReferencedByDesignForeignKeys();
+            case "short_description": return getShortDescription();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -145,4 +145,21 @@ public class DesignStoredProcedure extends Datagroup {
     @JsonProperty("source_code")
     public void setSourceCode(String sourceCode) { this.sourceCode = sourceCode; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "design_stored_procedure_parameters": return getDesignStoredProcedureParameters();
+            case "error_code": return getErrorCode();
+            case "implemented_by_stored_procedures": return getImplementedByStoredProcedures();
+            case "imported_from": return getImportedFrom();
+            case "physical_data_model": return getPhysicalDataModel();
+            case "source_code": return getSourceCode();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -137,4 +137,19 @@ public class DesignStoredProcedureParameter extends InformationAsset {
     @JsonProperty("minimum_length")
     public void setMinimumLength(Number minimumLength) { this.minimumLength = minimumLength; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "data_type": return getDataType();
+            case "design_stored_procedure": return getDesignStoredProcedure();
+            case "fraction": return getFraction();
+            case "length": return getLength();
+            case "minimum_length": return getMinimumLength();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -196,4 +196,24 @@ public class DesignTable extends Datagroup {
     @JsonProperty("referenced_by_design_foreign_keys")
     public void setReferencedByDesignForeignKeys(ItemList<DesignForeignKey> referencedByDesignForeignKeys) { this.referencedByDesignForeignKeys = referencedByDesignForeignKeys; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "design_columns": return getDesignColumns();
+            case "design_foreign_keys": return getDesignForeignKeys();
+            case "design_keys": return getDesignKeys();
+            case "implemented_by_data_file_elements": return getImplementedByDataFileElements();
+            case "implemented_by_database_tables_views": return getImplementedByDatabaseTablesViews();
+            case "implements_logical_entities": return getImplementsLogicalEntities();
+            case "imported_from": return getImportedFrom();
+            case "physical_data_model": return getPhysicalDataModel();
+            case "referenced_by_design_foreign_keys": return getReferencedByDesignForeignKeys();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -213,4 +213,25 @@ public class DesignView extends Datagroup {
     @JsonProperty("referenced_by_foreign_key_design")
     public void setReferencedByForeignKeyDesign(ItemList<DesignForeignKey> referencedByForeignKeyDesign) { this.referencedByForeignKeyDesign = referencedByForeignKeyDesign; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "design_columns": return getDesignColumns();
+            case "design_foreign_keys": return getDesignForeignKeys();
+            case "design_keys": return getDesignKeys();
+            case "expression": return getExpression();
+            case "implemented_by_data_file_elements": return getImplementedByDataFileElements();
+            case "implemented_by_database_tables_views": return getImplementedByDatabaseTablesViews();
+            case "implements_logical_entities": return getImplementsLogicalEntities();
+            case "imported_from": return getImportedFrom();
+            case "physical_data_model": return getPhysicalDataModel();
+            case "referenced_by_foreign_key_design": return getReferencedByForeignKeyDesign();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
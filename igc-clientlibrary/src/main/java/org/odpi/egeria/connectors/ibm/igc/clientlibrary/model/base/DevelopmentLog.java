@@ -232,4 +232,26 @@ public class DevelopmentLog extends Reference {
     @JsonProperty("workflow_task")
     public void setWorkflowTask(String workflowTask) { this.workflowTask = workflowTask; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "activity": return getActivity();
+            case "comment": return getComment();
+            case "date": return getDate();
+            case "development_log": return getDevelopmentLog();
+            case "new_state": return getNewState();
+            case "person": return getPerson();
+            case "user_task_key": return getUserTaskKey();
+            case "user_task_name": return getUserTaskName();
+            case "workflow_event": return getWorkflowEvent();
+            case "workflow_instance_id": return getWorkflowInstanceId();
+            case "workflow_new_state": return getWorkflowNewState();
+            case "workflow_task": return getWorkflowTask();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -77,4 +77,17 @@ public class Directory extends MainObject {
     @JsonProperty("native_id")
     public void setNativeId(String nativeId) { this.nativeId = nativeId; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "has_directory_provider_configuration": return getHasDirectoryProviderConfiguration();
+            case "has_principal": return getHasPrincipal();
+            case "native_id": return getNativeId();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -95,4 +95,18 @@ public class Directoryproviderconfiguration extends Reference {
     @JsonProperty("provider_name")
     public void setProviderName(String providerName) { this.providerName = providerName; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "description": return getDescription();
+            case "has_directory_provider_property": return getHasDirectoryProviderProperty();
+            case "of_directory": return getOfDirectory();
+            case "provider_name": return getProviderName();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -94,4 +94,18 @@ public class Directoryproviderproperty extends Reference {
     @JsonProperty("value")
     public void setValue(String value) { this.value = value; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "of_directory_provider_configuration": return getOfDirectoryProviderConfiguration();
+            case "of_provider_property_info": return getOfProviderPropertyInfo();
+            case "of_provider_property_type": return getOfProviderPropertyType();
+            case "value": return getValue();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
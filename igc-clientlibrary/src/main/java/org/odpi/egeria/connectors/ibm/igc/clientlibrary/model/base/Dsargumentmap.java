@@ -60,4 +60,16 @@ public class Dsargumentmap extends Reference {
     @JsonProperty("argument_map")
     public void setArgumentMap(String argumentMap) { this.argumentMap = argumentMap; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "a_xmeta_locking_root": return getAXmetaLockingRoot();
+            case "argument_map": return getArgumentMap();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
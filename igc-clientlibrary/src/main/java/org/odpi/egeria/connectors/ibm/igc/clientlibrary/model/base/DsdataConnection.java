@@ -214,4 +214,25 @@ public class DsdataConnection extends Reference {
     @JsonProperty("short_description")
     public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "connection_string": return getConnectionString();
+            case "data_connectors": return getDataConnectors();
+            case "folder_path": return getFolderPath();
+            case "host": return getHost();
+            case "imports_database": return getImportsDatabase();
+            case "imports_table_definitions": return getImportsTableDefinitions();
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "namespace": return getNamespace();
+            case "native_id": return getNativeId();
+            case "short_description": return getShortDescription();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
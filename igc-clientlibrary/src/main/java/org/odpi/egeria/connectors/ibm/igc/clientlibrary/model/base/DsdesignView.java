@@ -349,4 +349,33 @@ public class DsdesignView extends MainObject {
     @JsonProperty("zoom_value")
     public void setZoomValue(Number zoomValue) { this.zoomValue = zoomValue; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "container_view_sizing": return getContainerViewSizing();
+            case "grid_lines": return getGridLines();
+            case "has_canvas_annotation": return getHasCanvasAnnotation();
+            case "input_pins": return getInputPins();
+            case "internal_id": return getInternalId();
+            case "is_top_level": return getIsTopLevel();
+            case "native_id": return getNativeId();
+            case "next_id": return getNextId();
+            case "next_stage_id": return getNextStageId();
+            case "of_job": return getOfJob();
+            case "output_pins": return getOutputPins();
+            case "snap_to_grid": return getSnapToGrid();
+            case "stage_list": return getStageList();
+            case "stage_types": return getStageTypes();
+            case "stage_x_pos": return getStageXPos();
+            case "stage_x_size": return getStageXSize();
+            case "stage_y_pos": return getStageYPos();
+            case "stage_y_size": return getStageYSize();
+            case "zoom_value": return getZoomValue();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -174,4 +174,22 @@ public class Dsexternaldependency extends Reference {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "a_xmeta_locking_root": return getAXmetaLockingRoot();
+            case "calls_ds_routine": return getCallsDsRoutine();
+            case "location": return getLocation();
+            case "name": return getTheName();
+            case "of_ds_job_def": return getOfDsJobDef();
+            case "of_ds_routine": return getOfDsRoutine();
+            case "runs_ds_job": return getRunsDsJob();
+            case "type": return getTheType();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -112,4 +112,19 @@ public class Dsfolder extends Reference {
     @JsonProperty("transformation_project")
     public void setTransformationProject(TransformationProject transformationProject) { this.transformationProject = transformationProject; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "contains_assets": return getContainsAssets();
+            case "contains_folders": return getContainsFolders();
+            case "name": return getTheName();
+            case "parent_folder": return getParentFolder();
+            case "transformation_project": return getTransformationProject();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
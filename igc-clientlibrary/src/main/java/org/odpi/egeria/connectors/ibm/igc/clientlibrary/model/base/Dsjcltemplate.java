@@ -128,4 +128,20 @@ public class Dsjcltemplate extends MainObject {
     @JsonProperty("template_type")
     public void setTemplateType(String templateType) { this.templateType = templateType; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "category": return getCategory();
+            case "code_template": return getCodeTemplate();
+            case "ds_name_space": return getDsNameSpace();
+            case "native_id": return getNativeId();
+            case "platform_type": return getPlatformType();
+            case "template_type": return getTemplateType();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
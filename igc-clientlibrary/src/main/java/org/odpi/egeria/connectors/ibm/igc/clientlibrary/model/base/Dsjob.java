@@ -584,4 +584,46 @@ public class Dsjob extends InformationAsset {
     @JsonProperty("writes_to_(user_defined)")
     public void setWritesToUserDefined(ItemList<InformationAsset> writesToUserDefined) { this.writesToUserDefined = writesToUserDefined; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "annotations": return getAnnotations();
+            case "design_parameters": return getDesignParameters();
+            case "folder": return getFolder();
+            case "include_for_lineage": return getIncludeForLineage();
+            case "include_for_lineage__edit": return getIncludeForLineageEdit();
+            case "include_for_lineage_description": return getIncludeForLineageDescription();
+            case "information_services_operations": return getInformationServicesOperations();
+            case "inherits_lineage_setting_from_transformation_project": return getInheritsLineageSettingFromTransformationProject();
+            case "job_runs": return getJobRuns();
+            case "lineage_service_information": return getLineageServiceInformation();
+            case "lineage_service_last_run_date": return getLineageServiceLastRunDate();
+            case "lineage_service_status": return getLineageServiceStatus();
+            case "mapping_specifications": return getMappingSpecifications();
+            case "optimized_by_jobs": return getOptimizedByJobs();
+            case "optimizes_job": return getOptimizesJob();
+            case "parameter_sets": return getParameterSets();
+            case "reads_from_(design)": return getReadsFromDesign();
+            case "reads_from_(operational)": return getReadsFromOperational();
+            case "reads_from_(static)": return getReadsFromStatic();
+            case "reads_from_(user_defined)": return getReadsFromUserDefined();
+            case "references_local_or_shared_containers": return getReferencesLocalOrSharedContainers();
+            case "references_table_definitions": return getReferencesTableDefinitions();
+            case "runtime_column_propagation": return getRuntimeColumnPropagation();
+            case "sequenced_by_jobs": return getSequencedByJobs();
+            case "stages": return getStages();
+            case "transformation_project": return getTransformationProject();
+            case "type": return getTheType();
+            case "web_service_enabled": return getWebServiceEnabled();
+            case "writes_to_(design)": return getWritesToDesign();
+            case "writes_to_(operational)": return getWritesToOperational();
+            case "writes_to_(static)": return getWritesToStatic();
+            case "writes_to_(user_defined)": return getWritesToUserDefined();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -315,4 +315,31 @@ public class Dsmetabag extends Reference {
     @JsonProperty("values")
     public void setValues(String values) { this.values = values; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "a_xmeta_locking_root": return getAXmetaLockingRoot();
+            case "conditions": return getConditions();
+            case "names": return getNames();
+            case "of_ds_data_connection": return getOfDsDataConnection();
+            case "of_ds_data_element": return getOfDsDataElement();
+            case "of_ds_data_quality_spec": return getOfDsDataQualitySpec();
+            case "of_ds_design_view": return getOfDsDesignView();
+            case "of_ds_input_pin": return getOfDsInputPin();
+            case "of_ds_job_def": return getOfDsJobDef();
+            case "of_ds_output_pin": return getOfDsOutputPin();
+            case "of_ds_routine": return getOfDsRoutine();
+            case "of_ds_stage": return getOfDsStage();
+            case "of_ds_stage_type": return getOfDsStageType();
+            case "of_ds_table_definition": return getOfDsTableDefinition();
+            case "of_ds_transform": return getOfDsTransform();
+            case "owners": return getOwners();
+            case "values": return getValues();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
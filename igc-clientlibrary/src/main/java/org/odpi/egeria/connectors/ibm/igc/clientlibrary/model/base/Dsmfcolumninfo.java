@@ -162,4 +162,22 @@ public class Dsmfcolumninfo extends Reference {
     @JsonProperty("usage_class")
     public void setUsageClass(String usageClass) { this.usageClass = usageClass; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "a_xmeta_locking_root": return getAXmetaLockingRoot();
+            case "aggregation": return getAggregation();
+            case "column_value": return getColumnValue();
+            case "name": return getTheName();
+            case "of_ds_stage": return getOfDsStage();
+            case "sort_link": return getSortLink();
+            case "sort_order": return getSortOrder();
+            case "usage_class": return getUsageClass();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -192,4 +192,23 @@ public class DsparameterSet extends Reference {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "default_value": return getDefaultValue();
+            case "display_caption": return getDisplayCaption();
+            case "help_text": return getHelpText();
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "of_parameter_set": return getOfParameterSet();
+            case "short_description": return getShortDescription();
+            case "type": return getTheType();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
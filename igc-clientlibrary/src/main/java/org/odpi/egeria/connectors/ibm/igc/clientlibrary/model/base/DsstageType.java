@@ -111,4 +111,19 @@ public class DsstageType extends StageType {
     @JsonProperty("transformation_project")
     public void setTransformationProject(TransformationProject transformationProject) { this.transformationProject = transformationProject; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "dll_name": return getDllName();
+            case "ole_type": return getOleType();
+            case "properties": return getProperties();
+            case "stages": return getStages();
+            case "transformation_project": return getTransformationProject();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -135,4 +135,20 @@ public class Endpoint extends InformationAsset {
     @JsonProperty("port")
     public void setPort(String port) { this.port = port; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "application": return getApplication();
+            case "direction": return getDirection();
+            case "host": return getHost();
+            case "namespace": return getNamespace();
+            case "port": return getPort();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
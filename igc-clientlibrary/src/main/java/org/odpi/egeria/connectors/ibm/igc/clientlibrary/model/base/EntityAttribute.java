@@ -315,4 +315,31 @@ public class EntityAttribute extends InformationAsset {
     @JsonProperty("validation_rule")
     public void setValidationRule(LogicalValidationRule validationRule) { this.validationRule = validationRule; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "child_logical_foreign_keys": return getChildLogicalForeignKeys();
+            case "data_type": return getDataType();
+            case "implemented_by_database_columns": return getImplementedByDatabaseColumns();
+            case "implemented_by_design_columns": return getImplementedByDesignColumns();
+            case "length": return getLength();
+            case "logical_entity": return getLogicalEntity();
+            case "logical_keys": return getLogicalKeys();
+            case "native_type": return getNativeType();
+            case "parent_logical_foreignKey": return getParentLogicalForeignkey();
+            case "physical_name": return getPhysicalName();
+            case "primary_key": return getPrimaryKey();
+            case "required": return getRequired();
+            case "scale": return getScale();
+            case "sequence": return getSequence();
+            case "validation_list": return getValidationList();
+            case "validation_range": return getValidationRange();
+            case "validation_rule": return getValidationRule();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -93,4 +93,18 @@ public class EntityType extends InformationAsset {
     @JsonProperty("member_type_for_query")
     public void setMemberTypeForQuery(MemberType memberTypeForQuery) { this.memberTypeForQuery = memberTypeForQuery; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "entity_type_label": return getEntityTypeLabel();
+            case "member_type": return getMemberType();
+            case "member_type_for_query": return getMemberTypeForQuery();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
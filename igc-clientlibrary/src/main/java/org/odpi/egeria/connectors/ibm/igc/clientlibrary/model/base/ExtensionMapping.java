@@ -163,4 +163,22 @@ public class ExtensionMapping extends Reference {
     @JsonProperty("targets")
     public void setTargets(ItemList<InformationAsset> targets) { this.targets = targets; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "description": return getDescription();
+            case "extension_mapping_document": return getExtensionMappingDocument();
+            case "function": return getFunction();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "rule": return getRule();
+            case "sources": return getSources();
+            case "targets": return getTargets();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -147,4 +147,21 @@ public class ExtensionMappingDocument extends InformationAsset {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "extension_mappings": return getExtensionMappings();
+            case "file_name": return getFileName();
+            case "lineage_service_information": return getLineageServiceInformation();
+            case "lineage_service_last_run_date": return getLineageServiceLastRunDate();
+            case "lineage_service_status": return getLineageServiceStatus();
+            case "parent_folder": return getParentFolder();
+            case "type": return getTheType();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -59,4 +59,16 @@ public class File extends InformationAsset {
     @JsonProperty("include_for_business_lineage")
     public void setIncludeForBusinessLineage(Boolean includeForBusinessLineage) { this.includeForBusinessLineage = includeForBusinessLineage; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "include_for_business_lineage": return getIncludeForBusinessLineage();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -311,4 +311,30 @@ public class FileRecordAnalysis extends Reference {
     @JsonProperty("selected_primary_key")
     public void setSelectedPrimaryKey(ItemList<DatabaseColumn> selectedPrimaryKey) { this.selectedPrimaryKey = selectedPrimaryKey; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "data_file_record": return getDataFileRecord();
+            case "foreign_key_violations": return getForeignKeyViolations();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "nb_record_tested": return getNbRecordTested();
+            case "number_of_fields": return getNumberOfFields();
+            case "number_of_rows": return getNumberOfRows();
+            case "primary_key_duplicates": return getPrimaryKeyDuplicates();
+            case "project": return getProject();
+            case "quality_score": return getQualityScore();
+            case "quality_score_percent": return getQualityScorePercent();
+            case "quality_score_problems": return getQualityScoreProblems();
+            case "review_date": return getReviewDate();
+            case "selected_foreign_key": return getSelectedForeignKey();
+            case "selected_natural_key": return getSelectedNaturalKey();
+            case "selected_primary_key": return getSelectedPrimaryKey();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
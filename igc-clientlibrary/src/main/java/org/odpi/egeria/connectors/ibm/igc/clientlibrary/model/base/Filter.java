@@ -162,4 +162,22 @@ public class Filter extends InformationAsset {
     @JsonProperty("url")
     public void setTheUrl(String url) { this.url = url; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "creator": return getCreator();
+            case "detects_data_class": return getDetectsDataClass();
+            case "filter_expression": return getFilterExpression();
+            case "infosets": return getInfosets();
+            case "instance": return getInstance();
+            case "sync_state": return getSyncState();
+            case "tool_id": return getToolId();
+            case "url": return getTheUrl();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
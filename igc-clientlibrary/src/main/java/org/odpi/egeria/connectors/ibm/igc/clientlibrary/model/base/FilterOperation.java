@@ -77,4 +77,17 @@ public class FilterOperation extends Reference {
     @JsonProperty("primary_input")
     public void setPrimaryInput(Infoset primaryInput) { this.primaryInput = primaryInput; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "filter": return getFilter();
+            case "infoset": return getInfoset();
+            case "primary_input": return getPrimaryInput();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
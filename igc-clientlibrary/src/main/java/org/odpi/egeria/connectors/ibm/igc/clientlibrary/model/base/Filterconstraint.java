@@ -137,4 +137,20 @@ public class Filterconstraint extends MainObject {
     @JsonProperty("uses_flow_variable")
     public void setUsesFlowVariable(ItemList<DataItem> usesFlowVariable) { this.usesFlowVariable = usesFlowVariable; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "filter_expression": return getFilterExpression();
+            case "has_function_call": return getHasFunctionCall();
+            case "native_id": return getNativeId();
+            case "of_link": return getOfLink();
+            case "usage": return getUsage();
+            case "uses_flow_variable": return getUsesFlowVariable();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -112,4 +112,19 @@ public class Folder extends Reference {
     @JsonProperty("parent_folder")
     public void setParentFolder(Folder parentFolder) { this.parentFolder = parentFolder; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "contains_folders": return getContainsFolders();
+            case "contains_mapping_documents": return getContainsMappingDocuments();
+            case "description": return getDescription();
+            case "name": return getTheName();
+            case "parent_folder": return getParentFolder();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
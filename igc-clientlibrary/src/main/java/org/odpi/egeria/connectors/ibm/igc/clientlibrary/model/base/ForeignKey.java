@@ -104,4 +104,18 @@ public class ForeignKey extends Reference {
     @JsonProperty("sorting")
     public void setSorting(List<String> sorting) { this.sorting = sorting; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "database_table": return getDatabaseTable();
+            case "included_database_columns": return getIncludedDatabaseColumns();
+            case "native_id": return getNativeId();
+            case "sorting": return getSorting();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
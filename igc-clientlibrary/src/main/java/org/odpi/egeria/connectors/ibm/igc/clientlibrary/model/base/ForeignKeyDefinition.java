@@ -94,4 +94,18 @@ public class ForeignKeyDefinition extends Reference {
     @JsonProperty("table_definition")
     public void setTableDefinition(TableDefinition tableDefinition) { this.tableDefinition = tableDefinition; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "column": return getColumn();
+            case "references_columns": return getReferencesColumns();
+            case "references_tables": return getReferencesTables();
+            case "table_definition": return getTableDefinition();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -281,4 +281,29 @@ public class Function extends MainObject {
     @JsonProperty("version")
     public void setVersion(String version) { this.version = version; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "author": return getAuthor();
+            case "executed_by_function_call": return getExecutedByFunctionCall();
+            case "external_name": return getExternalName();
+            case "has_function_call": return getHasFunctionCall();
+            case "has_parameter_def": return getHasParameterDef();
+            case "is_inline": return getIsInline();
+            case "language": return getLanguage();
+            case "module_name": return getModuleName();
+            case "module_path": return getModulePath();
+            case "native_id": return getNativeId();
+            case "platform_type": return getPlatformType();
+            case "returns_parameter_def": return getReturnsParameterDef();
+            case "source_code": return getSourceCode();
+            case "vendor": return getVendor();
+            case "version": return getVersion();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
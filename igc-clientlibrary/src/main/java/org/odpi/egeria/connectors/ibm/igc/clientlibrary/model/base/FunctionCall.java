@@ -153,4 +153,21 @@ public class FunctionCall extends Reference {
     @JsonProperty("used_in_function")
     public void setUsedInFunction(Function usedInFunction) { this.usedInFunction = usedInFunction; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "call_context": return getCallContext();
+            case "executes_function": return getExecutesFunction();
+            case "for_transforms": return getForTransforms();
+            case "function_name": return getFunctionName();
+            case "stage_trigger": return getStageTrigger();
+            case "used_in_filter_constraint": return getUsedInFilterConstraint();
+            case "used_in_function": return getUsedInFunction();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -102,4 +102,18 @@ public class FunctionCall2 extends Reference {
     @JsonProperty("used_in_function")
     public void setUsedInFunction(Function usedInFunction) { this.usedInFunction = usedInFunction; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "call_context": return getCallContext();
+            case "executes_function": return getExecutesFunction();
+            case "used_in_filter_constraint": return getUsedInFilterConstraint();
+            case "used_in_function": return getUsedInFunction();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
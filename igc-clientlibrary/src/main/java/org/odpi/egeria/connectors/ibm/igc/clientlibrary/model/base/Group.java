@@ -150,4 +150,21 @@ public class Group extends Reference {
     @JsonProperty("web_address")
     public void setWebAddress(String webAddress) { this.webAddress = webAddress; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "email_address": return getEmailAddress();
+            case "group_name": return getGroupName();
+            case "location": return getLocation();
+            case "organization": return getOrganization();
+            case "principal_id": return getPrincipalId();
+            case "type": return getTheType();
+            case "web_address": return getWebAddress();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
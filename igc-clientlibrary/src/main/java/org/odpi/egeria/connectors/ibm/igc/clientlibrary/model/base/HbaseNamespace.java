@@ -306,4 +306,30 @@ public class HbaseNamespace extends InformationAsset {
     @JsonProperty("views")
     public void setViews(ItemList<View> views) { this.views = views; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "data_policies": return getDataPolicies();
+            case "database": return getDatabase();
+            case "database_aliases": return getDatabaseAliases();
+            case "database_domains": return getDatabaseDomains();
+            case "database_tables": return getDatabaseTables();
+            case "help_text": return getHelpText();
+            case "implements_logical_data_models": return getImplementsLogicalDataModels();
+            case "implements_physical_data_models": return getImplementsPhysicalDataModels();
+            case "imported_from": return getImportedFrom();
+            case "include_for_business_lineage": return getIncludeForBusinessLineage();
+            case "mapped_to_mdm_models": return getMappedToMdmModels();
+            case "owner": return getOwner();
+            case "same_as_data_sources": return getSameAsDataSources();
+            case "suggested_term_assignments": return getSuggestedTermAssignments();
+            case "views": return getViews();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -200,4 +200,24 @@ public class Host extends InformationAsset {
     @JsonProperty("transformation_projects")
     public void setTransformationProjects(ItemList<TransformationProject> transformationProjects) { this.transformationProjects = transformationProjects; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "amazon_s3_buckets": return getAmazonS3Buckets();
+            case "data_connections": return getDataConnections();
+            case "data_file_folders": return getDataFileFolders();
+            case "data_files": return getDataFiles();
+            case "databases": return getDatabases();
+            case "idoc_types": return getIdocTypes();
+            case "imported_from": return getImportedFrom();
+            case "location": return getLocation();
+            case "network_node": return getNetworkNode();
+            case "transformation_projects": return getTransformationProjects();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
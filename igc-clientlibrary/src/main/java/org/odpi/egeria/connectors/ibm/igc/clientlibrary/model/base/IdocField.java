@@ -184,4 +184,20 @@ public class IdocField extends InformationAsset {
     @JsonProperty("used_by_analytics_objects")
     public void setUsedByAnalyticsObjects(ItemList<AnalyticsObject> usedByAnalyticsObjects) { this.usedByAnalyticsObjects = usedByAnalyticsObjects; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "data_type": return getDataType();
+            case "idoc_segment_type": return getIdocSegmentType();
+            case "idoc_type": return getIdocType();
+            case "odbc_type": return getOdbcType();
+            case "type": return getTheType();
+            case "used_by_analytics_objects": return getUsedByAnalyticsObjects();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
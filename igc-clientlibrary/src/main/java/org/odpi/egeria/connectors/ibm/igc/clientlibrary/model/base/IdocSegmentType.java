@@ -207,4 +207,23 @@ public class IdocSegmentType extends InformationAsset {
     @JsonProperty("used_by_analytics_objects")
     public void setUsedByAnalyticsObjects(ItemList<AnalyticsObject> usedByAnalyticsObjects) { this.usedByAnalyticsObjects = usedByAnalyticsObjects; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "data_type": return getDataType();
+            case "idoc_segment_type": return getIdocSegmentType();
+            case "idoc_type": return getIdocType();
+            case "level": return getLevel();
+            case "min_/_max": return getMinMax();
+            case "of_idoc_segment_type": return getOfIdocSegmentType();
+            case "of_idoc_type": return getOfIdocType();
+            case "segment_definition": return getSegmentDefinition();
+            case "used_by_analytics_objects": return getUsedByAnalyticsObjects();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
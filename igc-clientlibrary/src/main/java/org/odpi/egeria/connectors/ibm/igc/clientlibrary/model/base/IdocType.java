@@ -93,4 +93,18 @@ public class IdocType extends InformationAsset {
     @JsonProperty("name_qualifier")
     public void setNameQualifier(String nameQualifier) { this.nameQualifier = nameQualifier; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "host": return getHost();
+            case "include_for_business_lineage": return getIncludeForBusinessLineage();
+            case "name_qualifier": return getNameQualifier();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
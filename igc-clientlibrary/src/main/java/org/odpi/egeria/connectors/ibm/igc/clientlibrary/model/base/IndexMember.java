@@ -77,4 +77,17 @@ public class IndexMember extends Reference {
     @JsonProperty("uses_data_field")
     public void setUsesDataField(DataItem usesDataField) { this.usesDataField = usesDataField; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "of_index": return getOfIndex();
+            case "sequence": return getSequence();
+            case "uses_data_field": return getUsesDataField();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -163,4 +163,22 @@ public class InferredForeignKey extends Reference {
     @JsonProperty("uses_database_fields")
     public void setUsesDatabaseFields(ItemList<DatabaseColumn> usesDatabaseFields) { this.usesDatabaseFields = usesDatabaseFields; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "references_inferred_keys": return getReferencesInferredKeys();
+            case "short_description": return getShortDescription();
+            case "table_analysis": return getTableAnalysis();
+            case "total_records": return getTotalRecords();
+            case "uses_database_fields": return getUsesDatabaseFields();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -180,4 +180,23 @@ public class InferredKey extends Reference {
     @JsonProperty("total_records")
     public void setTotalRecords(Number totalRecords) { this.totalRecords = totalRecords; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "inferred_database_fields": return getInferredDatabaseFields();
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "primary_key": return getPrimaryKey();
+            case "referenced_by_inferred_foreign_keys": return getReferencedByInferredForeignKeys();
+            case "short_description": return getShortDescription();
+            case "table_analysis": return getTableAnalysis();
+            case "total_records": return getTotalRecords();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -368,4 +368,27 @@ public class InformationAsset extends MainObject {
     @JsonProperty("written_by_(user_defined)")
     public void setWrittenByUserDefined(ItemList<InformationAsset> writtenByUserDefined) { this.writtenByUserDefined = writtenByUserDefined; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "blueprint_elements": return getBlueprintElements();
+            case "impacted_by": return getImpactedBy();
+            case "impacts_on": return getImpactsOn();
+            case "in_collections": return getInCollections();
+            case "native_id": return getNativeId();
+            case "read_by_(design)": return getReadByDesign();
+            case "read_by_(operational)": return getReadByOperational();
+            case "read_by_(static)": return getReadByStatic();
+            case "read_by_(user_defined)": return getReadByUserDefined();
+            case "written_by_(design)": return getWrittenByDesign();
+            case "written_by_(operational)": return getWrittenByOperational();
+            case "written_by_(static)": return getWrittenByStatic();
+            case "written_by_(user_defined)": return getWrittenByUserDefined();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -186,4 +186,22 @@ public class InformationGovernancePolicy extends InformationAsset {
     @JsonProperty("workflow_stored_state")
     public void setWorkflowStoredState(List<String> workflowStoredState) { this.workflowStoredState = workflowStoredState; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "glossary_type": return getGlossaryType();
+            case "information_governance_rules": return getInformationGovernanceRules();
+            case "language": return getLanguage();
+            case "parent_policy": return getParentPolicy();
+            case "subpolicies": return getSubpolicies();
+            case "translations": return getTranslations();
+            case "workflow_current_state": return getWorkflowCurrentState();
+            case "workflow_stored_state": return getWorkflowStoredState();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -203,4 +203,23 @@ public class InformationGovernanceRule extends InformationAsset {
     @JsonProperty("workflow_stored_state")
     public void setWorkflowStoredState(List<String> workflowStoredState) { this.workflowStoredState = workflowStoredState; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "glossary_type": return getGlossaryType();
+            case "governs_assets": return getGovernsAssets();
+            case "implemented_by_assets": return getImplementedByAssets();
+            case "language": return getLanguage();
+            case "referencing_policies": return getReferencingPolicies();
+            case "related_rules": return getRelatedRules();
+            case "translations": return getTranslations();
+            case "workflow_current_state": return getWorkflowCurrentState();
+            case "workflow_stored_state": return getWorkflowStoredState();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -129,4 +129,20 @@ public class InformationServerReport extends Reference {
     @JsonProperty("product")
     public void setProduct(String product) { this.product = product; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "creator": return getCreator();
+            case "description": return getDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "parameters": return getParameters();
+            case "product": return getProduct();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -197,4 +197,24 @@ public class InformationServerReportAnalysisProject extends Reference {
     @JsonProperty("table")
     public void setTable(List<String> table) { this.table = table; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "analysis_project": return getAnalysisProject();
+            case "creator": return getCreator();
+            case "database": return getDatabase();
+            case "description": return getDescription();
+            case "host": return getHost();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "product": return getProduct();
+            case "schema": return getSchema();
+            case "table": return getTable();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -163,4 +163,22 @@ public class InformationServerReportJob extends Reference {
     @JsonProperty("transformation_project")
     public void setTransformationProject(String transformationProject) { this.transformationProject = transformationProject; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "creator": return getCreator();
+            case "description": return getDescription();
+            case "host_(engine)": return getHostEngine();
+            case "job": return getJob();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "product": return getProduct();
+            case "transformation_project": return getTransformationProject();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
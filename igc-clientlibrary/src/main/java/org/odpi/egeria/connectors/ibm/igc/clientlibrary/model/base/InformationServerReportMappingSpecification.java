@@ -129,4 +129,20 @@ public class InformationServerReportMappingSpecification extends Reference {
     @JsonProperty("report_on_object")
     public void setReportOnObject(ItemList<MainObject> reportOnObject) { this.reportOnObject = reportOnObject; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "creator": return getCreator();
+            case "description": return getDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "product": return getProduct();
+            case "report_on_object": return getReportOnObject();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
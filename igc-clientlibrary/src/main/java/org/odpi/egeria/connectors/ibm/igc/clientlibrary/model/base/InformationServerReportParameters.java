@@ -61,4 +61,16 @@ public class InformationServerReportParameters extends Reference {
     @JsonProperty("value")
     public void setValue(List<String> value) { this.value = value; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "name": return getTheName();
+            case "value": return getValue();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -59,4 +59,16 @@ public class InformationServicesApplication extends InformationAsset {
     @JsonProperty("information_services_project")
     public void setInformationServicesProject(InformationServicesProject informationServicesProject) { this.informationServicesProject = informationServicesProject; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "description": return getDescription();
+            case "information_services_project": return getInformationServicesProject();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -166,4 +166,21 @@ public class InformationServicesArgument extends Reference {
     @JsonProperty("reference_type")
     public void setReferenceType(String referenceType) { this.referenceType = referenceType; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "argument_name": return getArgumentName();
+            case "argument_type": return getArgumentType();
+            case "default_value": return getDefaultValue();
+            case "description": return getDescription();
+            case "information_services_operation": return getInformationServicesOperation();
+            case "name": return getTheName();
+            case "reference_type": return getReferenceType();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
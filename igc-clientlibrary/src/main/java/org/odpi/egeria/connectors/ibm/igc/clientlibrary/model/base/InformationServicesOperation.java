@@ -60,4 +60,16 @@ public class InformationServicesOperation extends MainObject {
     @JsonProperty("information_services_service")
     public void setInformationServicesService(InformationServicesService informationServicesService) { this.informationServicesService = informationServicesService; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "description": return getDescription();
+            case "information_services_service": return getInformationServicesService();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -59,4 +59,16 @@ public class InformationServicesProject extends InformationAsset {
     @JsonProperty("description")
     public void setDescription(String description) { this.description = description; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "deployment_status": return getDeploymentStatus();
+            case "description": return getDescription();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
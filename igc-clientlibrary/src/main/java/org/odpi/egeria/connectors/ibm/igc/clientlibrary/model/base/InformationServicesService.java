@@ -60,4 +60,16 @@ public class InformationServicesService extends MainObject {
     @JsonProperty("information_services_application")
     public void setInformationServicesApplication(InformationServicesApplication informationServicesApplication) { this.informationServicesApplication = informationServicesApplication; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "description": return getDescription();
+            case "information_services_application": return getInformationServicesApplication();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -321,4 +321,30 @@ public class Infoset extends InformationAsset {
     @JsonProperty("url")
     public void setTheUrl(String url) { this.url = url; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "applied_data_classes": return getAppliedDataClasses();
+            case "composition": return getComposition();
+            case "contributing_operations": return getContributingOperations();
+            case "contributing_volumes": return getContributingVolumes();
+            case "created": return getCreated();
+            case "created_with": return getCreatedWith();
+            case "creator": return getCreator();
+            case "instance": return getInstance();
+            case "object_count": return getObjectCount();
+            case "size": return getSize();
+            case "sync_state": return getSyncState();
+            case "sync_type": return getSyncType();
+            case "tool_id": return getToolId();
+            case "type": return getTheType();
+            case "url": return getTheUrl();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -60,4 +60,16 @@ public class InfosetOperation extends Reference {
     @JsonProperty("primary_input")
     public void setPrimaryInput(Infoset primaryInput) { this.primaryInput = primaryInput; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "infoset": return getInfoset();
+            case "primary_input": return getPrimaryInput();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
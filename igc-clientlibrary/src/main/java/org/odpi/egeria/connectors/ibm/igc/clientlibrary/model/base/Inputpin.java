@@ -77,4 +77,17 @@ public class Inputpin extends Reference {
     @JsonProperty("sequence")
     public void setSequence(Number sequence) { this.sequence = sequence; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "is_target_of_link": return getIsTargetOfLink();
+            case "of_job_component": return getOfJobComponent();
+            case "sequence": return getSequence();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -179,4 +179,23 @@ public class Instance extends InformationAsset {
     @JsonProperty("volumes")
     public void setVolumes(ItemList<Volume> volumes) { this.volumes = volumes; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "filters": return getFilters();
+            case "infosets": return getInfosets();
+            case "primary_contact": return getPrimaryContact();
+            case "secondary_contact": return getSecondaryContact();
+            case "sync_state": return getSyncState();
+            case "tool_id": return getToolId();
+            case "url": return getTheUrl();
+            case "volumes": return getVolumes();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -263,4 +263,27 @@ public class InvDataRuleDefinition extends Reference {
     @JsonProperty("status")
     public void setStatus(String status) { this.status = status; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "assigned_to_terms": return getAssignedToTerms();
+            case "contact": return getContact();
+            case "data_rule_set_defintions": return getDataRuleSetDefintions();
+            case "data_rules": return getDataRules();
+            case "expression": return getExpression();
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "project": return getProject();
+            case "published": return getPublished();
+            case "short_&_long_description": return getShortLongDescription();
+            case "short_description": return getShortDescription();
+            case "status": return getStatus();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -210,4 +210,24 @@ public class InvDataRuleSet extends Reference {
     @JsonProperty("steward")
     public void setSteward(ItemList<AsclSteward> steward) { this.steward = steward; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "assigned_to_terms": return getAssignedToTerms();
+            case "data_rule_set_definitions": return getDataRuleSetDefinitions();
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "project": return getProject();
+            case "short_&_long_description": return getShortLongDescription();
+            case "short_description": return getShortDescription();
+            case "status": return getStatus();
+            case "steward": return getSteward();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -94,4 +94,18 @@ public class Job extends MainObject {
     @JsonProperty("release_status")
     public void setReleaseStatus(String releaseStatus) { this.releaseStatus = releaseStatus; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "has_job_def": return getHasJobDef();
+            case "host_system": return getHostSystem();
+            case "native_id": return getNativeId();
+            case "release_status": return getReleaseStatus();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
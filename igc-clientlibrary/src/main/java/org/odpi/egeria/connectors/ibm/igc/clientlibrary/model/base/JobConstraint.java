@@ -112,4 +112,19 @@ public class JobConstraint extends Reference {
     @JsonProperty("uses_flow_variable")
     public void setUsesFlowVariable(ItemList<DataItem> usesFlowVariable) { this.usesFlowVariable = usesFlowVariable; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "expression": return getExpression();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "of_link": return getOfLink();
+            case "uses_flow_variable": return getUsesFlowVariable();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
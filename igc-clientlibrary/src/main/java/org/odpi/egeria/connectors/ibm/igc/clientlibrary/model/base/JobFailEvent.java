@@ -95,4 +95,18 @@ public class JobFailEvent extends Reference {
     @JsonProperty("time")
     public void setTime(Date time) { this.time = time; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "job_run_activity": return getJobRunActivity();
+            case "message": return getMessage();
+            case "row_count": return getRowCount();
+            case "time": return getTime();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -282,4 +282,29 @@ public class JobInputPin extends Reference {
     @JsonProperty("txn_behaviour")
     public void setTxnBehaviour(Number txnBehaviour) { this.txnBehaviour = txnBehaviour; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "a_xmeta_locking_root": return getAXmetaLockingRoot();
+            case "condition_not_met": return getConditionNotMet();
+            case "enable_tx_group": return getEnableTxGroup();
+            case "has_ds_meta_bag": return getHasDsMetaBag();
+            case "has_dsmf_column_info": return getHasDsmfColumnInfo();
+            case "internal_id": return getInternalId();
+            case "is_target_of_link": return getIsTargetOfLink();
+            case "link_type": return getLinkType();
+            case "lookup_fail": return getLookupFail();
+            case "of_job_component": return getOfJobComponent();
+            case "partner": return getPartner();
+            case "pin_type": return getPinType();
+            case "sequence": return getSequence();
+            case "transaction_size": return getTransactionSize();
+            case "txn_behaviour": return getTxnBehaviour();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
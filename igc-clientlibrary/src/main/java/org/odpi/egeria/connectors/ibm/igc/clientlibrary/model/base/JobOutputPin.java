@@ -214,4 +214,25 @@ public class JobOutputPin extends Reference {
     @JsonProperty("top_text_pos")
     public void setTopTextPos(Number topTextPos) { this.topTextPos = topTextPos; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "a_xmeta_locking_root": return getAXmetaLockingRoot();
+            case "has_ds_argument_map": return getHasDsArgumentMap();
+            case "has_ds_meta_bag": return getHasDsMetaBag();
+            case "internal_id": return getInternalId();
+            case "is_source_of_link": return getIsSourceOfLink();
+            case "left_text_pos": return getLeftTextPos();
+            case "of_job_component": return getOfJobComponent();
+            case "partner": return getPartner();
+            case "pin_type": return getPinType();
+            case "sequence": return getSequence();
+            case "top_text_pos": return getTopTextPos();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
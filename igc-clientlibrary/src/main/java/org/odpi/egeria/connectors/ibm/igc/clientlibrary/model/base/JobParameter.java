@@ -77,4 +77,17 @@ public class JobParameter extends Reference {
     @JsonProperty("value")
     public void setValue(String value) { this.value = value; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "job_run": return getJobRun();
+            case "name": return getTheName();
+            case "value": return getValue();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -96,4 +96,18 @@ public class JobReadEvent extends Reference {
     @JsonProperty("time")
     public void setTime(Date time) { this.time = time; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "job_run_activity": return getJobRunActivity();
+            case "reads_from": return getReadsFrom();
+            case "row_count": return getRowCount();
+            case "time": return getTime();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -181,4 +181,23 @@ public class JobRun extends Reference {
     @JsonProperty("wave_number")
     public void setWaveNumber(String waveNumber) { this.waveNumber = waveNumber; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "ending_date": return getEndingDate();
+            case "invocation_id": return getInvocationId();
+            case "job": return getJob();
+            case "omd_file_name": return getOmdFileName();
+            case "parameters": return getParameters();
+            case "starting_date": return getStartingDate();
+            case "translated_status_code": return getTranslatedStatusCode();
+            case "translated_summary": return getTranslatedSummary();
+            case "wave_number": return getWaveNumber();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
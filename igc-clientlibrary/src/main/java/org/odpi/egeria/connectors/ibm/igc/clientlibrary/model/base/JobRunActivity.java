@@ -112,4 +112,19 @@ public class JobRunActivity extends Reference {
     @JsonProperty("x_emits_write_event_display_name")
     public void setXEmitsWriteEventDisplayName(List<String> xEmitsWriteEventDisplayName) { this.xEmitsWriteEventDisplayName = xEmitsWriteEventDisplayName; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "job_run": return getJobRun();
+            case "name": return getTheName();
+            case "x_emits_fail_events_display_name": return getXEmitsFailEventsDisplayName();
+            case "x_emits_read_event_display_name": return getXEmitsReadEventDisplayName();
+            case "x_emits_write_event_display_name": return getXEmitsWriteEventDisplayName();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
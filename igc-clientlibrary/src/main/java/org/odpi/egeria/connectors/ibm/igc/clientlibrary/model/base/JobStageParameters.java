@@ -230,4 +230,26 @@ public class JobStageParameters extends Reference {
     @JsonProperty("view_data")
     public void setViewData(Number viewData) { this.viewData = viewData; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "a_xmeta_locking_root": return getAXmetaLockingRoot();
+            case "conv_type": return getConvType();
+            case "display_style": return getDisplayStyle();
+            case "for_input": return getForInput();
+            case "for_output": return getForOutput();
+            case "for_stage": return getForStage();
+            case "hidden": return getHidden();
+            case "locked": return getLocked();
+            case "of_ds_parameter_def": return getOfDsParameterDef();
+            case "quote_string": return getQuoteString();
+            case "transaction_groupable": return getTransactionGroupable();
+            case "view_data": return getViewData();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
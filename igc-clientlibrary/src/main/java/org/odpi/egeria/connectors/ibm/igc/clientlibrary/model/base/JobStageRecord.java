@@ -196,4 +196,24 @@ public class JobStageRecord extends MainObject {
     @JsonProperty("record_name")
     public void setRecordName(String recordName) { this.recordName = recordName; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "a_xmeta_locking_root": return getAXmetaLockingRoot();
+            case "has_ds_flow_variable": return getHasDsFlowVariable();
+            case "internal_id": return getInternalId();
+            case "native_id": return getNativeId();
+            case "of_ds_stage": return getOfDsStage();
+            case "other_records_initialization_flag": return getOtherRecordsInitializationFlag();
+            case "record_id_name": return getRecordIdName();
+            case "record_id_name_value_relation": return getRecordIdNameValueRelation();
+            case "record_id_value": return getRecordIdValue();
+            case "record_name": return getRecordName();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
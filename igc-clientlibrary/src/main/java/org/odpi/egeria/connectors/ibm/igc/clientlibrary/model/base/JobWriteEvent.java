@@ -95,4 +95,18 @@ public class JobWriteEvent extends Reference {
     @JsonProperty("writes_to")
     public void setWritesTo(String writesTo) { this.writesTo = writesTo; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "job_run_activity": return getJobRunActivity();
+            case "row_count": return getRowCount();
+            case "time": return getTime();
+            case "writes_to": return getWritesTo();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -119,4 +119,19 @@ public class Keycomponent extends Reference {
     @JsonProperty("uses_data_field")
     public void setUsesDataField(DataItem usesDataField) { this.usesDataField = usesDataField; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "of_key": return getOfKey();
+            case "references_data_field": return getReferencesDataField();
+            case "sequence": return getSequence();
+            case "sorting_order": return getSortingOrder();
+            case "uses_data_field": return getUsesDataField();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -77,4 +77,17 @@ public class LineageContainer extends InformationAsset {
     @JsonProperty("sub_business_container")
     public void setSubBusinessContainer(ItemList<Category> subBusinessContainer) { this.subBusinessContainer = subBusinessContainer; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "information_assets": return getInformationAssets();
+            case "parent_container": return getParentContainer();
+            case "sub_business_container": return getSubBusinessContainer();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
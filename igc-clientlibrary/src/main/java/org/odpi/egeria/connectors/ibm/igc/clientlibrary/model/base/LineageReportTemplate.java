@@ -112,4 +112,19 @@ public class LineageReportTemplate extends Reference {
     @JsonProperty("uses_lineage_filter")
     public void setUsesLineageFilter(ItemList<Lineagefilter> usesLineageFilter) { this.usesLineageFilter = usesLineageFilter; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "asset_display_properties": return getAssetDisplayProperties();
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "uses_lineage_filter": return getUsesLineageFilter();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
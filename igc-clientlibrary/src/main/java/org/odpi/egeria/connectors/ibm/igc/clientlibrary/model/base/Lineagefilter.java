@@ -43,4 +43,15 @@ public class Lineagefilter extends Reference {
     @JsonProperty("name")
     public void setTheName(String name) { this.name = name; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "name": return getTheName();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -163,4 +163,22 @@ public class Link extends Reference {
     @JsonProperty("stage_columns")
     public void setStageColumns(ItemList<DataItem> stageColumns) { this.stageColumns = stageColumns; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "input_stages": return getInputStages();
+            case "job_or_container": return getJobOrContainer();
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "output_stages": return getOutputStages();
+            case "short_description": return getShortDescription();
+            case "stage_columns": return getStageColumns();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -60,4 +60,16 @@ public class Linktype extends Reference {
     @JsonProperty("name")
     public void setTheName(String name) { this.name = name; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "description": return getDescription();
+            case "name": return getTheName();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
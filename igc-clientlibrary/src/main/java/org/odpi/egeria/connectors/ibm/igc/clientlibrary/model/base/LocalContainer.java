@@ -43,4 +43,15 @@ public class LocalContainer extends SharedContainer {
     @JsonProperty("job_or_container")
     public void setJobOrContainer(ItemList<MainObject> jobOrContainer) { this.jobOrContainer = jobOrContainer; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "job_or_container": return getJobOrContainer();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -281,4 +281,29 @@ public class LogicalDataModel extends InformationAsset {
     @JsonProperty("version")
     public void setVersion(String version) { this.version = version; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "author": return getAuthor();
+            case "contains_logical_data_models": return getContainsLogicalDataModels();
+            case "design_tool": return getDesignTool();
+            case "implemented_by_database_schemas": return getImplementedByDatabaseSchemas();
+            case "implemented_by_physical_data_models": return getImplementedByPhysicalDataModels();
+            case "imported_from": return getImportedFrom();
+            case "logical_data_model": return getLogicalDataModel();
+            case "logical_domains": return getLogicalDomains();
+            case "logical_entities": return getLogicalEntities();
+            case "methodology": return getMethodology();
+            case "namespace": return getNamespace();
+            case "package": return getPackage();
+            case "subject_areas": return getSubjectAreas();
+            case "version": return getVersion();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
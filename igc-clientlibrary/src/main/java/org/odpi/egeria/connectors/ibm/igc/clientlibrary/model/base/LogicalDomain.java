@@ -265,4 +265,28 @@ public class LogicalDomain extends Reference {
     @JsonProperty("short_description")
     public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "child_domains": return getChildDomains();
+            case "data_type": return getDataType();
+            case "default_value": return getDefaultValue();
+            case "entity_attributes": return getEntityAttributes();
+            case "length": return getLength();
+            case "logical_data_model": return getLogicalDataModel();
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "native_type": return getNativeType();
+            case "null_value": return getNullValue();
+            case "parent_domain": return getParentDomain();
+            case "scale": return getScale();
+            case "short_description": return getShortDescription();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
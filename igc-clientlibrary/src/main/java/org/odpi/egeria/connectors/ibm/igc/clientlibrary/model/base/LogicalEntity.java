@@ -264,4 +264,28 @@ public class LogicalEntity extends InformationAsset {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "entity_attributes": return getEntityAttributes();
+            case "implemented_by_database_tables_or_views": return getImplementedByDatabaseTablesOrViews();
+            case "implemented_by_design_tables_or_views": return getImplementedByDesignTablesOrViews();
+            case "imported_from": return getImportedFrom();
+            case "logical_data_model": return getLogicalDataModel();
+            case "logical_foreign_keys": return getLogicalForeignKeys();
+            case "logical_inversion_keys": return getLogicalInversionKeys();
+            case "logical_keys": return getLogicalKeys();
+            case "physical_name": return getPhysicalName();
+            case "subject_areas": return getSubjectAreas();
+            case "subtypes": return getSubtypes();
+            case "supertypes": return getSupertypes();
+            case "type": return getTheType();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
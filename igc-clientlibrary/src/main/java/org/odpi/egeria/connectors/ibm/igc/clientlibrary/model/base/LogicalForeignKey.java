@@ -163,4 +163,22 @@ public class LogicalForeignKey extends Reference {
     @JsonProperty("short_description")
     public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "child_entity_attributes": return getChildEntityAttributes();
+            case "logical_entity": return getLogicalEntity();
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "physical_name": return getPhysicalName();
+            case "referenced_by_entity_attributes": return getReferencedByEntityAttributes();
+            case "short_description": return getShortDescription();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -164,4 +164,22 @@ public class LogicalInversionKey extends Reference {
     @JsonProperty("short_description")
     public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "defined_on_entity_attributes": return getDefinedOnEntityAttributes();
+            case "expression": return getExpression();
+            case "logical_entity": return getLogicalEntity();
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "physical_name": return getPhysicalName();
+            case "short_description": return getShortDescription();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
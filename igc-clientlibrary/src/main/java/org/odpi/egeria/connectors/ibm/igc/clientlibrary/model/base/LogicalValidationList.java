@@ -147,4 +147,21 @@ public class LogicalValidationList extends Reference {
     @JsonProperty("values")
     public void setValues(List<String> values) { this.values = values; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "logical_data_model": return getLogicalDataModel();
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "short_description": return getShortDescription();
+            case "used_by_entity_attributes": return getUsedByEntityAttributes();
+            case "values": return getValues();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -163,4 +163,22 @@ public class LogicalValidationRange extends Reference {
     @JsonProperty("used_by_entity_attributes")
     public void setUsedByEntityAttributes(ItemList<EntityAttribute> usedByEntityAttributes) { this.usedByEntityAttributes = usedByEntityAttributes; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "logical_data_model": return getLogicalDataModel();
+            case "long_description": return getLongDescription();
+            case "maximum_value": return getMaximumValue();
+            case "minimum_value": return getMinimumValue();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "short_description": return getShortDescription();
+            case "used_by_entity_attributes": return getUsedByEntityAttributes();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
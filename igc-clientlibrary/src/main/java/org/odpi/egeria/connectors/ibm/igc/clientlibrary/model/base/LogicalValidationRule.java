@@ -180,4 +180,23 @@ public class LogicalValidationRule extends Reference {
     @JsonProperty("used_by_entity_attributes")
     public void setUsedByEntityAttributes(ItemList<EntityAttribute> usedByEntityAttributes) { this.usedByEntityAttributes = usedByEntityAttributes; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "logical_data_model": return getLogicalDataModel();
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "rule_expression": return getRuleExpression();
+            case "rule_type": return getRuleType();
+            case "short_description": return getShortDescription();
+            case "top_element": return getTopElement();
+            case "used_by_entity_attributes": return getUsedByEntityAttributes();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -110,4 +110,19 @@ public class MachineProfile extends InformationAsset {
     @JsonProperty("transformation_project")
     public void setTransformationProject(TransformationProject transformationProject) { this.transformationProject = transformationProject; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "host": return getHost();
+            case "platform_type": return getPlatformType();
+            case "port_number": return getPortNumber();
+            case "transfer_type": return getTransferType();
+            case "transformation_project": return getTransformationProject();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -193,4 +193,22 @@ public class MainObject extends Reference {
     @JsonProperty("stewards")
     public void setStewards(ItemList<AsclSteward> stewards) { this.stewards = stewards; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "assigned_to_terms": return getAssignedToTerms();
+            case "governed_by_rules": return getGovernedByRules();
+            case "implements_rules": return getImplementsRules();
+            case "labels": return getLabels();
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "short_description": return getShortDescription();
+            case "stewards": return getStewards();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
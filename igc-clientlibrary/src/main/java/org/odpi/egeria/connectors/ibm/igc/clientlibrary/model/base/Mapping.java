@@ -266,4 +266,28 @@ public class Mapping extends Reference {
     @JsonProperty("target_terms")
     public void setTargetTerms(ItemList<Term> targetTerms) { this.targetTerms = targetTerms; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "description": return getDescription();
+            case "last_update_description": return getLastUpdateDescription();
+            case "mapping_specification": return getMappingSpecification();
+            case "name": return getTheName();
+            case "rule_description": return getRuleDescription();
+            case "rule_expression": return getRuleExpression();
+            case "source_column_names": return getSourceColumnNames();
+            case "source_columns": return getSourceColumns();
+            case "source_terms": return getSourceTerms();
+            case "status": return getStatus();
+            case "tags": return getTags();
+            case "target_column_names": return getTargetColumnNames();
+            case "target_columns": return getTargetColumns();
+            case "target_terms": return getTargetTerms();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
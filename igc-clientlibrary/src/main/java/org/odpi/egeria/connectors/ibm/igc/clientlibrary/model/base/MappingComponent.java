@@ -129,4 +129,20 @@ public class MappingComponent extends Reference {
     @JsonProperty("short_description")
     public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "long_description": return getLongDescription();
+            case "mapping_project": return getMappingProject();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "shared_containers": return getSharedContainers();
+            case "short_description": return getShortDescription();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
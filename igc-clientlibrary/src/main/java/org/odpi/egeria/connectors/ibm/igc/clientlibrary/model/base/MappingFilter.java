@@ -78,4 +78,17 @@ public class MappingFilter extends Reference {
     @JsonProperty("rule_expression")
     public void setRuleExpression(String ruleExpression) { this.ruleExpression = ruleExpression; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "description": return getDescription();
+            case "name": return getTheName();
+            case "rule_expression": return getRuleExpression();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -96,4 +96,18 @@ public class MappingJoin extends Reference {
     @JsonProperty("primary_key_columns")
     public void setPrimaryKeyColumns(ItemList<DatabaseColumn> primaryKeyColumns) { this.primaryKeyColumns = primaryKeyColumns; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "description": return getDescription();
+            case "foreign_key_columns": return getForeignKeyColumns();
+            case "name": return getTheName();
+            case "primary_key_columns": return getPrimaryKeyColumns();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -77,4 +77,17 @@ public class MappingProject extends InformationAsset {
     @JsonProperty("mapping_specifications")
     public void setMappingSpecifications(ItemList<MappingSpecification> mappingSpecifications) { this.mappingSpecifications = mappingSpecifications; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "generated_jobs": return getGeneratedJobs();
+            case "mapping_components": return getMappingComponents();
+            case "mapping_specifications": return getMappingSpecifications();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
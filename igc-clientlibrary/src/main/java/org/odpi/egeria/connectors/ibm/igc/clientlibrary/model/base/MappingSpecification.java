@@ -254,4 +254,26 @@ public class MappingSpecification extends InformationAsset {
     @JsonProperty("target_database_tables_or_views")
     public void setTargetDatabaseTablesOrViews(ItemList<Datagroup> targetDatabaseTablesOrViews) { this.targetDatabaseTablesOrViews = targetDatabaseTablesOrViews; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "description": return getDescription();
+            case "filters": return getFilters();
+            case "generated_jobs": return getGeneratedJobs();
+            case "include_for_lineage": return getIncludeForLineage();
+            case "information_server_reports": return getInformationServerReports();
+            case "joins": return getJoins();
+            case "mapping_project": return getMappingProject();
+            case "mappings": return getMappings();
+            case "owner": return getOwner();
+            case "source_database_tables_or_views": return getSourceDatabaseTablesOrViews();
+            case "status": return getStatus();
+            case "target_database_tables_or_views": return getTargetDatabaseTablesOrViews();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -42,4 +42,15 @@ public class MaskingRule extends InformationAsset {
     @JsonProperty("rule_logic")
     public void setRuleLogic(String ruleLogic) { this.ruleLogic = ruleLogic; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "rule_logic": return getRuleLogic();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
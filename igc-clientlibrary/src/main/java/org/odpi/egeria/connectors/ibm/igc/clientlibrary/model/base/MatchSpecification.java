@@ -129,4 +129,20 @@ public class MatchSpecification extends InformationAsset {
     @JsonProperty("used_by_stages")
     public void setUsedByStages(ItemList<Stage> usedByStages) { this.usedByStages = usedByStages; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "dataFields": return getDatafields();
+            case "data_quality_specifications": return getDataQualitySpecifications();
+            case "folder": return getFolder();
+            case "transformation_project": return getTransformationProject();
+            case "type": return getTheType();
+            case "used_by_stages": return getUsedByStages();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
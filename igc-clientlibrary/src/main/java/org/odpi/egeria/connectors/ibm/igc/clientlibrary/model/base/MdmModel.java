@@ -128,4 +128,20 @@ public class MdmModel extends InformationAsset {
     @JsonProperty("version")
     public void setVersion(String version) { this.version = version; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "contains_attributes_types": return getContainsAttributesTypes();
+            case "contains_member_types": return getContainsMemberTypes();
+            case "contains_physical_objects": return getContainsPhysicalObjects();
+            case "namespace": return getNamespace();
+            case "version": return getVersion();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
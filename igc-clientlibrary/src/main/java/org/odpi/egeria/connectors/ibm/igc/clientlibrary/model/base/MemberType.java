@@ -145,4 +145,21 @@ public class MemberType extends InformationAsset {
     @JsonProperty("member_type_label")
     public void setMemberTypeLabel(String memberTypeLabel) { this.memberTypeLabel = memberTypeLabel; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "contains_attributes": return getContainsAttributes();
+            case "contains_composite_views": return getContainsCompositeViews();
+            case "contains_entity_types": return getContainsEntityTypes();
+            case "mdm_model": return getMdmModel();
+            case "mdm_model_for_query": return getMdmModelForQuery();
+            case "member_type_label": return getMemberTypeLabel();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
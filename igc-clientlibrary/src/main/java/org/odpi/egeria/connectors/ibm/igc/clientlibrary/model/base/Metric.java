@@ -159,4 +159,21 @@ public class Metric extends InformationAsset {
     @JsonProperty("status")
     public void setStatus(String status) { this.status = status; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "benchmark": return getBenchmark();
+            case "data_policies": return getDataPolicies();
+            case "execution_history": return getExecutionHistory();
+            case "measure": return getMeasure();
+            case "project": return getProject();
+            case "references_data_rules_or_data_rule_sets": return getReferencesDataRulesOrDataRuleSets();
+            case "status": return getStatus();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -95,4 +95,18 @@ public class ModelEvalMetric extends Reference {
     @JsonProperty("value")
     public void setValue(String value) { this.value = value; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "eval_date": return getEvalDate();
+            case "metric_type": return getMetricType();
+            case "of_model": return getOfModel();
+            case "value": return getValue();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
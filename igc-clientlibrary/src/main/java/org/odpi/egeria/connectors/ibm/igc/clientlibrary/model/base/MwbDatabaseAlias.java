@@ -95,4 +95,18 @@ public class MwbDatabaseAlias extends Reference {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "database": return getDatabase();
+            case "name": return getTheName();
+            case "referenced_by_jobs": return getReferencedByJobs();
+            case "type": return getTheType();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -111,4 +111,19 @@ public class Navigationdescriptor extends Reference {
     @JsonProperty("of_class_descriptor")
     public void setOfClassDescriptor(Classdescriptor ofClassDescriptor) { this.ofClassDescriptor = ofClassDescriptor; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "description": return getDescription();
+            case "display_name": return getDisplayName();
+            case "expression": return getExpression();
+            case "name": return getTheName();
+            case "of_class_descriptor": return getOfClassDescriptor();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -61,4 +61,16 @@ public class NonPublishedDataRuleDefinition extends DataRuleDefinition {
     @JsonProperty("design_bindings")
     public void setDesignBindings(ItemList<DatabaseColumn> designBindings) { this.designBindings = designBindings; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "data_rules": return getDataRules();
+            case "design_bindings": return getDesignBindings();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
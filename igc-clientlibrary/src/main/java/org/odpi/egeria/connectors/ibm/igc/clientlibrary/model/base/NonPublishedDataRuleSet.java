@@ -77,4 +77,17 @@ public class NonPublishedDataRuleSet extends DataRuleSetDefinition {
     @JsonProperty("design_bindings")
     public void setDesignBindings(ItemList<DatabaseColumn> designBindings) { this.designBindings = designBindings; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "data_rule_definitions": return getDataRuleDefinitions();
+            case "data_rule_sets": return getDataRuleSets();
+            case "design_bindings": return getDesignBindings();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
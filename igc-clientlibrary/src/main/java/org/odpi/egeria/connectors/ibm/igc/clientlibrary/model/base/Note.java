@@ -152,4 +152,19 @@ public class Note extends Reference {
      */
     public String getName() { return getId(); }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "belonging_to": return getBelongingTo();
+            case "note": return getNote();
+            case "status": return getStatus();
+            case "subject": return getSubject();
+            case "type": return getTheType();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
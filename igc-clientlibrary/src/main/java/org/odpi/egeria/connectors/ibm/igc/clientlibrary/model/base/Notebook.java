@@ -197,4 +197,24 @@ public class Notebook extends InformationAsset {
     @JsonProperty("url")
     public void setTheUrl(String url) { this.url = url; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "analytics_project": return getAnalyticsProject();
+            case "environment": return getEnvironment();
+            case "first_published_date": return getFirstPublishedDate();
+            case "input_training_notebook_inv": return getInputTrainingNotebookInv();
+            case "logical_name": return getLogicalName();
+            case "model_input_training_column": return getModelInputTrainingColumn();
+            case "package_name": return getPackageName();
+            case "system_equiv_id": return getSystemEquivId();
+            case "tool": return getTool();
+            case "url": return getTheUrl();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
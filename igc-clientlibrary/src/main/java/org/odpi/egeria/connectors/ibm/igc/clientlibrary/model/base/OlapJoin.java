@@ -189,4 +189,23 @@ public class OlapJoin extends Reference {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "bi_model": return getBiModel();
+            case "business_name": return getBusinessName();
+            case "condition": return getCondition();
+            case "contains_references": return getContainsReferences();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "referenced_by_an_olap_cube": return getReferencedByAnOlapCube();
+            case "short_description": return getShortDescription();
+            case "type": return getTheType();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -77,4 +77,17 @@ public class OlapMemberSource extends Reference {
     @JsonProperty("olap_member")
     public void setOlapMember(BiCollectionMember olapMember) { this.olapMember = olapMember; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "data_field": return getDataField();
+            case "native_id": return getNativeId();
+            case "olap_member": return getOlapMember();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -77,4 +77,17 @@ public class Olapassociation extends MainObject {
     @JsonProperty("sequence")
     public void setSequence(Number sequence) { this.sequence = sequence; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "business_name": return getBusinessName();
+            case "native_id": return getNativeId();
+            case "sequence": return getSequence();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -145,4 +145,21 @@ public class Olaphierarchyassociation extends MainObject {
     @JsonProperty("x_of_olap_level")
     public void setXOfOlapLevel(ItemList<BiLevel> xOfOlapLevel) { this.xOfOlapLevel = xOfOlapLevel; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "business_name": return getBusinessName();
+            case "has_child_olap_level": return getHasChildOlapLevel();
+            case "has_parent_olap_level": return getHasParentOlapLevel();
+            case "native_id": return getNativeId();
+            case "of_olap_hierarchy_member": return getOfOlapHierarchyMember();
+            case "sequence": return getSequence();
+            case "x_of_olap_level": return getXOfOlapLevel();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
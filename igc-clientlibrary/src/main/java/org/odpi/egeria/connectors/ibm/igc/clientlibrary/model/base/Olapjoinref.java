@@ -138,4 +138,20 @@ public class Olapjoinref extends Reference {
     @JsonProperty("sequence")
     public void setSequence(Number sequence) { this.sequence = sequence; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias": return getAlias();
+            case "cardinality": return getCardinality();
+            case "joins_database_table": return getJoinsDatabaseTable();
+            case "joins_olap_collection": return getJoinsOlapCollection();
+            case "native_id": return getNativeId();
+            case "sequence": return getSequence();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -111,4 +111,19 @@ public class OslcLink extends Reference {
     @JsonProperty("url")
     public void setTheUrl(String url) { this.url = url; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "description": return getDescription();
+            case "link_type": return getLinkType();
+            case "of_main_object": return getOfMainObject();
+            case "of_provider_connection": return getOfProviderConnection();
+            case "url": return getTheUrl();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -249,4 +249,26 @@ public class Parameter extends DataItem {
     @JsonProperty("usage")
     public void setUsage(String usage) { this.usage = usage; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "connection_property": return getConnectionProperty();
+            case "defines_parameter_val": return getDefinesParameterVal();
+            case "is_connection_property": return getIsConnectionProperty();
+            case "is_parameter_set": return getIsParameterSet();
+            case "is_return_of_function": return getIsReturnOfFunction();
+            case "of_container_def": return getOfContainerDef();
+            case "of_function": return getOfFunction();
+            case "of_job_def": return getOfJobDef();
+            case "of_parameter_set": return getOfParameterSet();
+            case "of_stage_type": return getOfStageType();
+            case "of_stored_procedure": return getOfStoredProcedure();
+            case "usage": return getUsage();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
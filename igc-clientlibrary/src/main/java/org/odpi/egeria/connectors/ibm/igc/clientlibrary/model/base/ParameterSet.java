@@ -77,4 +77,17 @@ public class ParameterSet extends InformationAsset {
     @JsonProperty("transformation_project")
     public void setTransformationProject(TransformationProject transformationProject) { this.transformationProject = transformationProject; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "jobs": return getJobs();
+            case "parameters": return getParameters();
+            case "transformation_project": return getTransformationProject();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -77,4 +77,17 @@ public class ParameterSet2 extends MainObject {
     @JsonProperty("used_as_parameter_def")
     public void setUsedAsParameterDef(ItemList<Parameter> usedAsParameterDef) { this.usedAsParameterDef = usedAsParameterDef; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "has_parameter_def": return getHasParameterDef();
+            case "native_id": return getNativeId();
+            case "used_as_parameter_def": return getUsedAsParameterDef();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -210,4 +210,24 @@ public class ParameterSetDefinition extends Reference {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "context": return getTheContext();
+            case "default_value": return getDefaultValue();
+            case "display_caption": return getDisplayCaption();
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "parameters": return getParameters();
+            case "referenced_by_jobs": return getReferencedByJobs();
+            case "short_description": return getShortDescription();
+            case "type": return getTheType();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -190,4 +190,23 @@ public class Parameterval extends Reference {
     @JsonProperty("value_expression")
     public void setValueExpression(String valueExpression) { this.valueExpression = valueExpression; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "binds_parameter_def": return getBindsParameterDef();
+            case "for_data_connection": return getForDataConnection();
+            case "for_function_call": return getForFunctionCall();
+            case "for_job_object": return getForJobObject();
+            case "has_function_call": return getHasFunctionCall();
+            case "parameter_name": return getParameterName();
+            case "sequence": return getSequence();
+            case "usage": return getUsage();
+            case "value_expression": return getValueExpression();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
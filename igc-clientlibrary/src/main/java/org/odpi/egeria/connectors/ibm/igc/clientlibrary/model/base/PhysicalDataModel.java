@@ -298,4 +298,30 @@ public class PhysicalDataModel extends InformationAsset {
     @JsonProperty("target_dbms")
     public void setTargetDbms(String targetDbms) { this.targetDbms = targetDbms; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "author": return getAuthor();
+            case "contains_design_stored_procedures": return getContainsDesignStoredProcedures();
+            case "contains_design_tables": return getContainsDesignTables();
+            case "contains_design_views": return getContainsDesignViews();
+            case "contains_physical_models": return getContainsPhysicalModels();
+            case "implemented_by_data_files": return getImplementedByDataFiles();
+            case "implemented_by_database_schemas": return getImplementedByDatabaseSchemas();
+            case "implements_logical_data_models": return getImplementsLogicalDataModels();
+            case "imported_from": return getImportedFrom();
+            case "namespace": return getNamespace();
+            case "package": return getPackage();
+            case "physical_domains": return getPhysicalDomains();
+            case "physical_model": return getPhysicalModel();
+            case "target_database": return getTargetDatabase();
+            case "target_dbms": return getTargetDbms();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
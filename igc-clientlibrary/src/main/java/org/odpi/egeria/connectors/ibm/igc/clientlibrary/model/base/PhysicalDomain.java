@@ -270,4 +270,25 @@ public class PhysicalDomain extends Reference {
     @JsonProperty("used_by_data_items")
     public void setUsedByDataItems(ItemList<DesignColumn> usedByDataItems) { this.usedByDataItems = usedByDataItems; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "data_type": return getDataType();
+            case "fraction": return getFraction();
+            case "length": return getLength();
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "odbc_type": return getOdbcType();
+            case "physical_data_model": return getPhysicalDataModel();
+            case "short_&_long_description": return getShortLongDescription();
+            case "short_description": return getShortDescription();
+            case "used_by_data_items": return getUsedByDataItems();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -145,4 +145,21 @@ public class PhysicalObject extends InformationAsset {
     @JsonProperty("physical_object")
     public void setPhysicalObject(ItemList<PhysicalObject> physicalObject) { this.physicalObject = physicalObject; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "contains_physical_object_attributes": return getContainsPhysicalObjectAttributes();
+            case "contains_physical_objects": return getContainsPhysicalObjects();
+            case "context": return getTheContext();
+            case "maps_database_tables_or_views": return getMapsDatabaseTablesOrViews();
+            case "mdm_model": return getMdmModel();
+            case "physical_object": return getPhysicalObject();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -93,4 +93,18 @@ public class PhysicalObjectAttribute extends InformationAsset {
     @JsonProperty("physical_object_for_query")
     public void setPhysicalObjectForQuery(PhysicalObject physicalObjectForQuery) { this.physicalObjectForQuery = physicalObjectForQuery; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            case "maps_database_fields": return getMapsDatabaseFields();
+            case "physical_object": return getPhysicalObject();
+            case "physical_object_for_query": return getPhysicalObjectForQuery();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -94,4 +94,18 @@ public class Primarycategory extends Reference {
     @JsonProperty("uses_business_category")
     public void setUsesBusinessCategory(MainObject usesBusinessCategory) { this.usesBusinessCategory = usesBusinessCategory; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "color": return getColor();
+            case "icon": return getIcon();
+            case "name": return getTheName();
+            case "uses_business_category": return getUsesBusinessCategory();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -162,4 +162,22 @@ public class Propdescriptor extends Reference {
     @JsonProperty("value_type")
     public void setValueType(String valueType) { this.valueType = valueType; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "attribute_name": return getAttributeName();
+            case "description": return getDescription();
+            case "display_name": return getDisplayName();
+            case "is_attribute": return getIsAttribute();
+            case "name": return getTheName();
+            case "of_class_descriptor": return getOfClassDescriptor();
+            case "value_expression": return getValueExpression();
+            case "value_type": return getValueType();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -231,4 +231,26 @@ public class Providerpropertyinfo extends Reference {
     @JsonProperty("property_data_type")
     public void setPropertyDataType(String propertyDataType) { this.propertyDataType = propertyDataType; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "complex_attribute_source": return getComplexAttributeSource();
+            case "default_value": return getDefaultValue();
+            case "description": return getDescription();
+            case "display_name": return getDisplayName();
+            case "has_directory_provider_property": return getHasDirectoryProviderProperty();
+            case "has_provider_property_info_extended": return getHasProviderPropertyInfoExtended();
+            case "is_complex_attribute": return getIsComplexAttribute();
+            case "is_editable": return getIsEditable();
+            case "is_required": return getIsRequired();
+            case "is_searchable": return getIsSearchable();
+            case "name": return getTheName();
+            case "property_data_type": return getPropertyDataType();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
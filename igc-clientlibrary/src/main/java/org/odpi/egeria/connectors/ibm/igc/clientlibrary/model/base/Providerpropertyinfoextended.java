@@ -77,4 +77,17 @@ public class Providerpropertyinfoextended extends Reference {
     @JsonProperty("str_value")
     public void setStrValue(String strValue) { this.strValue = strValue; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "name": return getTheName();
+            case "of_provider_property_info": return getOfProviderPropertyInfo();
+            case "str_value": return getStrValue();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
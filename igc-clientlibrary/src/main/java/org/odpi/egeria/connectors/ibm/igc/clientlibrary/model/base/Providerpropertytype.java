@@ -104,4 +104,18 @@ public class Providerpropertytype extends Reference {
     @JsonProperty("property_type")
     public void setPropertyType(String propertyType) { this.propertyType = propertyType; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "description": return getDescription();
+            case "has_directory_provider_property": return getHasDirectoryProviderProperty();
+            case "name": return getTheName();
+            case "property_type": return getPropertyType();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
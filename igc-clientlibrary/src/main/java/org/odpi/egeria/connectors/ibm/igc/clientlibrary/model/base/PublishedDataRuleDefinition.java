@@ -77,4 +77,17 @@ public class PublishedDataRuleDefinition extends DataRuleDefinition {
     @JsonProperty("root_folder")
     public void setRootFolder(String rootFolder) { this.rootFolder = rootFolder; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "copied_into_data_rule_stages": return getCopiedIntoDataRuleStages();
+            case "is_valid": return getIsValid();
+            case "root_folder": return getRootFolder();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
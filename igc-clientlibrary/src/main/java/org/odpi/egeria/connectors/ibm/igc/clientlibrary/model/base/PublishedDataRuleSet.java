@@ -43,4 +43,15 @@ public class PublishedDataRuleSet extends DataRuleSetDefinition {
     @JsonProperty("data_rule_definitions")
     public void setDataRuleDefinitions(ItemList<PublishedDataRuleDefinition> dataRuleDefinitions) { this.dataRuleDefinitions = dataRuleDefinitions; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "data_rule_definitions": return getDataRuleDefinitions();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
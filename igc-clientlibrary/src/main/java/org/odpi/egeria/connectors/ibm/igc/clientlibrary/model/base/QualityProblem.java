@@ -212,4 +212,24 @@ public class QualityProblem extends Reference {
     @JsonProperty("qualityScore")
     public void setQualityscore(Number qualityscore) { this.qualityscore = qualityscore; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "Column": return getColumn();
+            case "QualityProblemTypeDescription": return getQualityproblemtypedescription();
+            case "QualityProblemTypeName": return getQualityproblemtypename();
+            case "confidence": return getConfidence();
+            case "data_quality_score": return getDataQualityScore();
+            case "details": return getDetails();
+            case "occurrences": return getOccurrences();
+            case "percent_occurrences": return getPercentOccurrences();
+            case "problem_type": return getProblemType();
+            case "qualityScore": return getQualityscore();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
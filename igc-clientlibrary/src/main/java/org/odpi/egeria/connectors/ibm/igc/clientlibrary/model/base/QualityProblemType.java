@@ -77,4 +77,17 @@ public class QualityProblemType extends Reference {
     @JsonProperty("name")
     public void setTheName(String name) { this.name = name; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "code": return getCode();
+            case "description": return getDescription();
+            case "name": return getTheName();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
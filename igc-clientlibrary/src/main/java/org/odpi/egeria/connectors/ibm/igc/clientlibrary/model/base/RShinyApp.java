@@ -146,4 +146,21 @@ public class RShinyApp extends InformationAsset {
     @JsonProperty("url")
     public void setTheUrl(String url) { this.url = url; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "analytics_project": return getAnalyticsProject();
+            case "contains_r_shiny_app_object": return getContainsRShinyAppObject();
+            case "first_published_date": return getFirstPublishedDate();
+            case "logical_name": return getLogicalName();
+            case "package_name": return getPackageName();
+            case "system_equiv_id": return getSystemEquivId();
+            case "url": return getTheUrl();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -93,4 +93,18 @@ public class RShinyAppObject extends InformationAsset {
     @JsonProperty("system_equiv_id")
     public void setSystemEquivId(String systemEquivId) { this.systemEquivId = systemEquivId; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "from_r_shiny_app": return getFromRShinyApp();
+            case "path": return getPath();
+            case "studio_asset_type": return getStudioAssetType();
+            case "system_equiv_id": return getSystemEquivId();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -47,4 +47,15 @@ public class Reportobject extends InformationAsset {
     @JsonProperty("alias_(business_name)")
     public void setAliasBusinessName(String aliasBusinessName) { this.aliasBusinessName = aliasBusinessName; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "alias_(business_name)": return getAliasBusinessName();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -95,4 +95,18 @@ public class RoleAssignment extends Reference {
     @JsonProperty("sequence")
     public void setSequence(Number sequence) { this.sequence = sequence; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "assigns_principal": return getAssignsPrincipal();
+            case "defined_by_system_role": return getDefinedBySystemRole();
+            case "has_role_context": return getHasRoleContext();
+            case "sequence": return getSequence();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -61,4 +61,16 @@ public class RoleContext extends Reference {
     @JsonProperty("defines_role_assignment")
     public void setDefinesRoleAssignment(ItemList<RoleAssignment> definesRoleAssignment) { this.definesRoleAssignment = definesRoleAssignment; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "context_id": return getContextId();
+            case "defines_role_assignment": return getDefinesRoleAssignment();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
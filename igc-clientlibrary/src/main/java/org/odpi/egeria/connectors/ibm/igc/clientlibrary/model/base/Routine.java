@@ -145,4 +145,21 @@ public class Routine extends InformationAsset {
     @JsonProperty("version")
     public void setVersion(String version) { this.version = version; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "arguments": return getArguments();
+            case "author": return getAuthor();
+            case "copyright": return getCopyright();
+            case "source_code": return getSourceCode();
+            case "transformation_project": return getTransformationProject();
+            case "vendor": return getVendor();
+            case "version": return getVersion();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -42,4 +42,15 @@ public class RoutineArgument extends DataItem {
     @JsonProperty("function")
     public void setFunction(Routine function) { this.function = function; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "function": return getFunction();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -94,4 +94,18 @@ public class RuleExecutionResult extends InformationAsset {
     @JsonProperty("nbRecordsTested")
     public void setNbrecordstested(Number nbrecordstested) { this.nbrecordstested = nbrecordstested; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "benchmark": return getBenchmark();
+            case "nbFailed": return getNbfailed();
+            case "nbPassed": return getNbpassed();
+            case "nbRecordsTested": return getNbrecordstested();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -44,4 +44,15 @@ public class SequenceJob extends Dsjob {
     @JsonProperty("sequences_jobs")
     public void setSequencesJobs(ItemList<Dsjob> sequencesJobs) { this.sequencesJobs = sequencesJobs; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "sequences_jobs": return getSequencesJobs();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -94,4 +94,18 @@ public class SessionConfiguration extends Reference {
     @JsonProperty("wake_up_interval")
     public void setWakeUpInterval(Number wakeUpInterval) { this.wakeUpInterval = wakeUpInterval; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "max_sessions": return getMaxSessions();
+            case "name": return getTheName();
+            case "time_to_live": return getTimeToLive();
+            case "wake_up_interval": return getWakeUpInterval();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -121,4 +121,19 @@ public class SetOperation extends Reference {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "additional_inputs": return getAdditionalInputs();
+            case "infoset": return getInfoset();
+            case "primary_input": return getPrimaryInput();
+            case "secondary_input": return getSecondaryInput();
+            case "type": return getTheType();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -295,4 +295,29 @@ public class SharedContainer extends InformationAsset {
     @JsonProperty("version")
     public void setVersion(String version) { this.version = version; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "annotations": return getAnnotations();
+            case "local_containers": return getLocalContainers();
+            case "mapping_components": return getMappingComponents();
+            case "parameter_sets": return getParameterSets();
+            case "parameters": return getParameters();
+            case "referenced_by_containers": return getReferencedByContainers();
+            case "referenced_by_stages": return getReferencedByStages();
+            case "references_containers": return getReferencesContainers();
+            case "shared_containers": return getSharedContainers();
+            case "source_mappings": return getSourceMappings();
+            case "stages": return getStages();
+            case "target_mappings": return getTargetMappings();
+            case "transformation_project": return getTransformationProject();
+            case "type": return getTheType();
+            case "version": return getVersion();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -689,4 +689,53 @@ public class Stage extends InformationAsset {
     @JsonProperty("writes_to_(user_defined)")
     public void setWritesToUserDefined(ItemList<InformationAsset> writesToUserDefined) { this.writesToUserDefined = writesToUserDefined; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "after_sql": return getAfterSql();
+            case "all_sql_statements": return getAllSqlStatements();
+            case "before_sql": return getBeforeSql();
+            case "constraints": return getConstraints();
+            case "data_rule_definition": return getDataRuleDefinition();
+            case "data_source_or_server": return getDataSourceOrServer();
+            case "delete_sql": return getDeleteSql();
+            case "file": return getFile();
+            case "host": return getHost();
+            case "input_links": return getInputLinks();
+            case "insert_sql": return getInsertSql();
+            case "job": return getJob();
+            case "job_or_container": return getJobOrContainer();
+            case "manually_bound_to": return getManuallyBoundTo();
+            case "match_specifications": return getMatchSpecifications();
+            case "next_stages": return getNextStages();
+            case "output_links": return getOutputLinks();
+            case "previous_stages": return getPreviousStages();
+            case "reads_from_(design)": return getReadsFromDesign();
+            case "reads_from_(operational)": return getReadsFromOperational();
+            case "reads_from_(static)": return getReadsFromStatic();
+            case "reads_from_(user_defined)": return getReadsFromUserDefined();
+            case "references_container": return getReferencesContainer();
+            case "references_data_connection_mapping": return getReferencesDataConnectionMapping();
+            case "references_table_definitions": return getReferencesTableDefinitions();
+            case "runs_sequences_jobs": return getRunsSequencesJobs();
+            case "schema": return getSchema();
+            case "shared_or_local_container": return getSharedOrLocalContainer();
+            case "sql_statement": return getSqlStatement();
+            case "stage_variable": return getStageVariable();
+            case "standardization_rule_sets": return getStandardizationRuleSets();
+            case "table": return getTable();
+            case "type": return getTheType();
+            case "type_definition": return getTypeDefinition();
+            case "update_sql": return getUpdateSql();
+            case "writes_to_(design)": return getWritesToDesign();
+            case "writes_to_(operational)": return getWritesToOperational();
+            case "writes_to_(static)": return getWritesToStatic();
+            case "writes_to_(user_defined)": return getWritesToUserDefined();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
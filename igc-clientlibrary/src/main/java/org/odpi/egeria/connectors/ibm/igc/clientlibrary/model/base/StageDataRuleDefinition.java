@@ -94,4 +94,18 @@ public class StageDataRuleDefinition extends Reference {
     @JsonProperty("stage_logic")
     public void setStageLogic(String stageLogic) { this.stageLogic = stageLogic; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "based_on_rule": return getBasedOnRule();
+            case "name": return getTheName();
+            case "stage": return getStage();
+            case "stage_logic": return getStageLogic();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -115,4 +115,19 @@ public class StageType extends InformationAsset {
     @JsonProperty("version")
     public void setVersion(String version) { this.version = version; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "author": return getAuthor();
+            case "copyright": return getCopyright();
+            case "steward": return getSteward();
+            case "vendor": return getVendor();
+            case "version": return getVersion();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -59,4 +59,16 @@ public class StageTypeDetail extends DataItem {
     @JsonProperty("of_stage_type")
     public void setOfStageType(StageType ofStageType) { this.ofStageType = ofStageType; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "display_caption": return getDisplayCaption();
+            case "of_stage_type": return getOfStageType();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
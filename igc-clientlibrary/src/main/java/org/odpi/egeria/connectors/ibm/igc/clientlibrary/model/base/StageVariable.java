@@ -101,4 +101,18 @@ public class StageVariable extends DataItem implements ColumnLevelLineage {
     @JsonProperty("stage")
     public void setStage(Stage stage) { this.stage = stage; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "expression": return getExpression();
+            case "next_stage_columns": return getNextStageColumns();
+            case "previous_stage_columns": return getPreviousStageColumns();
+            case "stage": return getStage();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
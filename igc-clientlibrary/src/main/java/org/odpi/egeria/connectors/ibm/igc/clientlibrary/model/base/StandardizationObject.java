@@ -181,4 +181,23 @@ public class StandardizationObject extends Reference {
     @JsonProperty("used_by_stages")
     public void setUsedByStages(ItemList<Stage> usedByStages) { this.usedByStages = usedByStages; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "data_quality_specifications": return getDataQualitySpecifications();
+            case "fields": return getFields();
+            case "folder": return getFolder();
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "short_description": return getShortDescription();
+            case "type": return getTheType();
+            case "used_by_stages": return getUsedByStages();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -128,4 +128,20 @@ public class StandardizationRuleSet extends InformationAsset {
     @JsonProperty("used_by_stages")
     public void setUsedByStages(ItemList<Stage> usedByStages) { this.usedByStages = usedByStages; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "data_quality_specifications": return getDataQualitySpecifications();
+            case "folder": return getFolder();
+            case "help_text": return getHelpText();
+            case "transformation_project": return getTransformationProject();
+            case "type": return getTheType();
+            case "used_by_stages": return getUsedByStages();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
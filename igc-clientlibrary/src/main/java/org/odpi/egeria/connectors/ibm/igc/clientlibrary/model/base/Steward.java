@@ -44,4 +44,15 @@ public class Steward extends Reference {
     @JsonProperty("assigned_by_contact_assignment")
     public void setAssignedByContactAssignment(ItemList<Associativeobject> assignedByContactAssignment) { this.assignedByContactAssignment = assignedByContactAssignment; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "assigned_by_contact_assignment": return getAssignedByContactAssignment();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -60,4 +60,16 @@ public class StewardUser extends User {
     @JsonProperty("managed_assets_basic")
     public void setManagedAssetsBasic(ItemList<MainObject> managedAssetsBasic) { this.managedAssetsBasic = managedAssetsBasic; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "managed_assets": return getManagedAssets();
+            case "managed_assets_basic": return getManagedAssetsBasic();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
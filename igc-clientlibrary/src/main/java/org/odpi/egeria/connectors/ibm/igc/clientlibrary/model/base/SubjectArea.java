@@ -112,4 +112,19 @@ public class SubjectArea extends InformationAsset {
     @JsonProperty("logical_entities")
     public void setLogicalEntities(ItemList<LogicalEntity> logicalEntities) { this.logicalEntities = logicalEntities; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "author": return getAuthor();
+            case "comments": return getComments();
+            case "imported_from": return getImportedFrom();
+            case "logical_data_model": return getLogicalDataModel();
+            case "logical_entities": return getLogicalEntities();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
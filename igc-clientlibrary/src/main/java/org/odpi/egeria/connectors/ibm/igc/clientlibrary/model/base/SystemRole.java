@@ -169,4 +169,21 @@ public class SystemRole extends MainObject {
     @JsonProperty("role_type")
     public void setRoleType(String roleType) { this.roleType = roleType; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "defines_role_assignment": return getDefinesRoleAssignment();
+            case "native_id": return getNativeId();
+            case "of_acl_entry": return getOfAclEntry();
+            case "of_principal": return getOfPrincipal();
+            case "product": return getProduct();
+            case "role_id": return getRoleId();
+            case "role_type": return getRoleType();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -317,4 +317,31 @@ public class TableAnalysisSummary extends Reference {
     @JsonProperty("steward")
     public void setSteward(ItemList<Steward> steward) { this.steward = steward; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "analyzed_table": return getAnalyzedTable();
+            case "assigned_to_terms": return getAssignedToTerms();
+            case "foreign_key_violations": return getForeignKeyViolations();
+            case "inferred_foreign_keys": return getInferredForeignKeys();
+            case "inferred_primary_keys": return getInferredPrimaryKeys();
+            case "long_description": return getLongDescription();
+            case "native_id": return getNativeId();
+            case "number_of_fields": return getNumberOfFields();
+            case "number_of_rows": return getNumberOfRows();
+            case "primary_key_duplicates": return getPrimaryKeyDuplicates();
+            case "project_name": return getProjectName();
+            case "promoted_by_principal": return getPromotedByPrincipal();
+            case "review_date": return getReviewDate();
+            case "reviewed_by_principal": return getReviewedByPrincipal();
+            case "short_&_long_description": return getShortLongDescription();
+            case "short_description": return getShortDescription();
+            case "steward": return getSteward();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -332,4 +332,32 @@ public class TableDefinition extends DataItemDefinition {
     @JsonProperty("transformation_project")
     public void setTransformationProject(TransformationProject transformationProject) { this.transformationProject = transformationProject; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "column_definitions": return getColumnDefinitions();
+            case "computer": return getComputer();
+            case "data_collection": return getDataCollection();
+            case "data_connection": return getDataConnection();
+            case "data_schema": return getDataSchema();
+            case "data_source_name": return getDataSourceName();
+            case "data_source_type": return getDataSourceType();
+            case "data_store": return getDataStore();
+            case "foreign_keys": return getForeignKeys();
+            case "included_by_stages": return getIncludedByStages();
+            case "machine_or_platform_type": return getMachineOrPlatformType();
+            case "mainframe_access_type": return getMainframeAccessType();
+            case "owner": return getOwner();
+            case "referenced_by_data_sources": return getReferencedByDataSources();
+            case "referenced_by_foreign_keys": return getReferencedByForeignKeys();
+            case "software_product": return getSoftwareProduct();
+            case "table_type": return getTableType();
+            case "transformation_project": return getTransformationProject();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
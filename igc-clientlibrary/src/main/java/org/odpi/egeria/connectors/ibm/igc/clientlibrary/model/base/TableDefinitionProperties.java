@@ -383,4 +383,35 @@ public class TableDefinitionProperties extends Reference {
     @JsonProperty("version")
     public void setVersion(String version) { this.version = version; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "a_xmeta_locking_root": return getAXmetaLockingRoot();
+            case "access_type": return getAccessType();
+            case "allow_column_mapping": return getAllowColumnMapping();
+            case "apt_record_prop": return getAptRecordProp();
+            case "import_location": return getImportLocation();
+            case "locator": return getLocator();
+            case "multivalued": return getMultivalued();
+            case "nls_map_name": return getNlsMapName();
+            case "of_ds_table_definition": return getOfDsTableDefinition();
+            case "pad_char": return getPadChar();
+            case "platform_type": return getPlatformType();
+            case "registration_timestamp": return getRegistrationTimestamp();
+            case "seq_col_headers": return getSeqColHeaders();
+            case "seq_col_space": return getSeqColSpace();
+            case "seq_delimiter": return getSeqDelimiter();
+            case "seq_fixed_width": return getSeqFixedWidth();
+            case "seq_null_string": return getSeqNullString();
+            case "seq_omit_new_line": return getSeqOmitNewLine();
+            case "seq_quote_char": return getSeqQuoteChar();
+            case "sp_error_codes": return getSpErrorCodes();
+            case "version": return getVersion();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
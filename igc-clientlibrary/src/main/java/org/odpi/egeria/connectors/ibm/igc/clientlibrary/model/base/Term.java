@@ -543,4 +543,42 @@ public class Term extends InformationAsset {
     @JsonProperty("workflow_stored_state")
     public void setWorkflowStoredState(List<String> workflowStoredState) { this.workflowStoredState = workflowStoredState; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "Automation_Rules": return getAutomationRules();
+            case "abbreviation": return getAbbreviation();
+            case "additional_abbreviation": return getAdditionalAbbreviation();
+            case "assigned_assets": return getAssignedAssets();
+            case "assigned_terms": return getAssignedTerms();
+            case "category_path": return getCategoryPath();
+            case "example": return getExample();
+            case "glossary_type": return getGlossaryType();
+            case "has_a": return getHasA();
+            case "has_a_term": return getHasATerm();
+            case "has_types": return getHasTypes();
+            case "is_a_type_of": return getIsATypeOf();
+            case "is_modifier": return getIsModifier();
+            case "is_of": return getIsOf();
+            case "language": return getLanguage();
+            case "parent_category": return getParentCategory();
+            case "preferred_synonym": return getPreferredSynonym();
+            case "referencing_categories": return getReferencingCategories();
+            case "related_terms": return getRelatedTerms();
+            case "replaced_by": return getReplacedBy();
+            case "replaces": return getReplaces();
+            case "status": return getStatus();
+            case "synonyms": return getSynonyms();
+            case "translations": return getTranslations();
+            case "type": return getTheType();
+            case "usage": return getUsage();
+            case "workflow_current_state": return getWorkflowCurrentState();
+            case "workflow_stored_state": return getWorkflowStoredState();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
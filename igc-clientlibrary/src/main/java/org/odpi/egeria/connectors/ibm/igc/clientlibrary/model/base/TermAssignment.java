@@ -77,4 +77,17 @@ public class TermAssignment extends Reference {
     @JsonProperty("confidence_percent")
     public void setConfidencePercent(Number confidencePercent) { this.confidencePercent = confidencePercent; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "assign_to_object": return getAssignToObject();
+            case "assign_to_term": return getAssignToTerm();
+            case "confidence_percent": return getConfidencePercent();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -199,4 +199,24 @@ public class TermHistory extends Reference {
     @JsonProperty("workflow_new_state")
     public void setWorkflowNewState(String workflowNewState) { this.workflowNewState = workflowNewState; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "changed_properties": return getChangedProperties();
+            case "comment": return getComment();
+            case "date": return getDate();
+            case "edited_by": return getEditedBy();
+            case "term": return getTerm();
+            case "user_task_key": return getUserTaskKey();
+            case "user_task_name": return getUserTaskName();
+            case "workflow_event": return getWorkflowEvent();
+            case "workflow_instance_id": return getWorkflowInstanceId();
+            case "workflow_new_state": return getWorkflowNewState();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
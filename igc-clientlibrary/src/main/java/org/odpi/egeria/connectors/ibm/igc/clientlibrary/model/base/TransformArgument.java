@@ -59,4 +59,16 @@ public class TransformArgument extends DataItem {
     @JsonProperty("transform")
     public void setTransform(TransformsFunction transform) { this.transform = transform; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "data_elements": return getDataElements();
+            case "transform": return getTransform();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
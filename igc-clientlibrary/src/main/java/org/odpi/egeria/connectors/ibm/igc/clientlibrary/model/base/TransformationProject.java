@@ -279,4 +279,28 @@ public class TransformationProject extends InformationAsset {
     @JsonProperty("transforms")
     public void setTransforms(ItemList<TransformsFunction> transforms) { this.transforms = transforms; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "containers": return getContainers();
+            case "folders": return getFolders();
+            case "host_(engine)": return getHostEngine();
+            case "include_for_lineage": return getIncludeForLineage();
+            case "include_for_lineage_desc": return getIncludeForLineageDesc();
+            case "jobs": return getJobs();
+            case "machine_profiles": return getMachineProfiles();
+            case "match_specifications": return getMatchSpecifications();
+            case "parameter_sets": return getParameterSets();
+            case "routines": return getRoutines();
+            case "stage_types": return getStageTypes();
+            case "standardization_rule_sets": return getStandardizationRuleSets();
+            case "table_definitions": return getTableDefinitions();
+            case "transforms": return getTransforms();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
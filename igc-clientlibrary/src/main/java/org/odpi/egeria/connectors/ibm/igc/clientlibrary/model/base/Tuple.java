@@ -112,4 +112,19 @@ public class Tuple extends Reference {
     @JsonProperty("tuple_attributes")
     public void setTupleAttributes(ItemList<TupleAttribute> tupleAttributes) { this.tupleAttributes = tupleAttributes; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "short_description": return getShortDescription();
+            case "tuple_attributes": return getTupleAttributes();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
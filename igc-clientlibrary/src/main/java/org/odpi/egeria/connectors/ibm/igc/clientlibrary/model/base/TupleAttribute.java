@@ -190,4 +190,20 @@ public class TupleAttribute extends InformationAsset {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "collection_type": return getCollectionType();
+            case "length": return getLength();
+            case "tuple": return getTuple();
+            case "tuple_attribute": return getTupleAttribute();
+            case "tuple_or_tuple_attribute": return getTupleOrTupleAttribute();
+            case "type": return getTheType();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
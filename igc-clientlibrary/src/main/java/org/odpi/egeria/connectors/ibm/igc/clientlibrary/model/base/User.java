@@ -303,4 +303,30 @@ public class User extends Reference {
     @JsonProperty("surname")
     public void setSurname(String surname) { this.surname = surname; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "business_address": return getBusinessAddress();
+            case "courtesy_title": return getCourtesyTitle();
+            case "email_address": return getEmailAddress();
+            case "fax_number": return getFaxNumber();
+            case "full_name": return getFullName();
+            case "given_name": return getGivenName();
+            case "home_phone_number": return getHomePhoneNumber();
+            case "instant_message_id": return getInstantMessageId();
+            case "job_title": return getJobTitle();
+            case "location": return getLocation();
+            case "mobile_phone_number": return getMobilePhoneNumber();
+            case "office_phone_number": return getOfficePhoneNumber();
+            case "organization": return getOrganization();
+            case "pager_number": return getPagerNumber();
+            case "principal_id": return getPrincipalId();
+            case "surname": return getSurname();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
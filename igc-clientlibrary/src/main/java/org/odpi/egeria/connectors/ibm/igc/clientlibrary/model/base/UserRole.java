@@ -95,4 +95,18 @@ public class UserRole extends Reference {
     @JsonProperty("users")
     public void setUsers(ItemList<Steward> users) { this.users = users; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "system_role": return getSystemRole();
+            case "users": return getUsers();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -146,4 +146,21 @@ public class ValidValue extends Reference {
     @JsonProperty("valid_value_list")
     public void setValidValueList(ValidValueList validValueList) { this.validValueList = validValueList; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "design_column": return getDesignColumn();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "rule_component": return getRuleComponent();
+            case "rule_type": return getRuleType();
+            case "short_description": return getShortDescription();
+            case "valid_value_list": return getValidValueList();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
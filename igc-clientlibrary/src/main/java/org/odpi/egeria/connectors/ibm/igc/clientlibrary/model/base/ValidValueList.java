@@ -129,4 +129,20 @@ public class ValidValueList extends Reference {
     @JsonProperty("valid_values")
     public void setValidValues(ItemList<DataItemValue> validValues) { this.validValues = validValues; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "design_column": return getDesignColumn();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "short_description": return getShortDescription();
+            case "valid_value_list": return getValidValueList();
+            case "valid_values": return getValidValues();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
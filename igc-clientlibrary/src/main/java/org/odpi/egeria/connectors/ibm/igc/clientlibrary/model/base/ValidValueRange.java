@@ -180,4 +180,23 @@ public class ValidValueRange extends Reference {
     @JsonProperty("valid_value_list")
     public void setValidValueList(ValidValueList validValueList) { this.validValueList = validValueList; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "design_column": return getDesignColumn();
+            case "is_max_inclusive": return getIsMaxInclusive();
+            case "is_min_inclusive": return getIsMinInclusive();
+            case "maximum_value": return getMaximumValue();
+            case "minimum_value": return getMinimumValue();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "short_description": return getShortDescription();
+            case "valid_value_list": return getValidValueList();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
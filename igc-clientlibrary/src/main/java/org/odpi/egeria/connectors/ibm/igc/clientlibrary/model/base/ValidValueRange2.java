@@ -180,4 +180,23 @@ public class ValidValueRange2 extends Reference {
     @JsonProperty("valid_value_list_of_contains_valid_values_inverse")
     public void setValidValueListOfContainsValidValuesInverse(ItemList<ValidValueList2> validValueListOfContainsValidValuesInverse) { this.validValueListOfContainsValidValuesInverse = validValueListOfContainsValidValuesInverse; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "custom_attribute_def_of_has_valid_values_inverse": return getCustomAttributeDefOfHasValidValuesInverse();
+            case "is_case_sensitive": return getIsCaseSensitive();
+            case "is_max_inclusive": return getIsMaxInclusive();
+            case "is_min_inclusive": return getIsMinInclusive();
+            case "is_not": return getIsNot();
+            case "maximum_value": return getMaximumValue();
+            case "minimum_value": return getMinimumValue();
+            case "sequence": return getSequence();
+            case "valid_value_list_of_contains_valid_values_inverse": return getValidValueListOfContainsValidValuesInverse();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -128,4 +128,20 @@ public class ValidityTable extends Reference {
     @JsonProperty("validity_type")
     public void setValidityType(String validityType) { this.validityType = validityType; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "database_columns": return getDatabaseColumns();
+            case "long_description": return getLongDescription();
+            case "name": return getTheName();
+            case "native_id": return getNativeId();
+            case "short_description": return getShortDescription();
+            case "validity_type": return getValidityType();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -242,4 +242,26 @@ public class Volume extends InformationAsset {
     @JsonProperty("url")
     public void setTheUrl(String url) { this.url = url; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "data_server": return getDataServer();
+            case "infosets": return getInfosets();
+            case "instance": return getInstance();
+            case "last_harvested": return getLastHarvested();
+            case "object_count": return getObjectCount();
+            case "server_name": return getServerName();
+            case "size": return getSize();
+            case "source_type": return getSourceType();
+            case "sync_state": return getSyncState();
+            case "tool_id": return getToolId();
+            case "type": return getTheType();
+            case "url": return getTheUrl();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -94,4 +94,18 @@ public class VolumeContribution extends Reference {
     @JsonProperty("volume")
     public void setVolume(Volume volume) { this.volume = volume; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "infoset": return getInfoset();
+            case "object_count": return getObjectCount();
+            case "size": return getSize();
+            case "volume": return getVolume();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -130,4 +130,20 @@ public class WarehouseMapping extends Reference {
     @JsonProperty("warehouse_mapping_document")
     public void setWarehouseMappingDocument(ItemList<WarehouseMappingDocument> warehouseMappingDocument) { this.warehouseMappingDocument = warehouseMappingDocument; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "description": return getDescription();
+            case "name": return getTheName();
+            case "rule": return getRule();
+            case "sources": return getSources();
+            case "targets": return getTargets();
+            case "warehouse_mapping_document": return getWarehouseMappingDocument();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
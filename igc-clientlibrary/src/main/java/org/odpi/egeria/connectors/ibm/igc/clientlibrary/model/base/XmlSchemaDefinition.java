@@ -315,4 +315,31 @@ public class XmlSchemaDefinition extends InformationAsset {
     @JsonProperty("xpath")
     public void setXpath(String xpath) { this.xpath = xpath; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "contains_xsd_attribute_groups": return getContainsXsdAttributeGroups();
+            case "contains_xsd_attributes": return getContainsXsdAttributes();
+            case "contains_xsd_complex_types": return getContainsXsdComplexTypes();
+            case "contains_xsd_element_groups": return getContainsXsdElementGroups();
+            case "contains_xsd_elements": return getContainsXsdElements();
+            case "contains_xsd_simple_types": return getContainsXsdSimpleTypes();
+            case "default_namespace": return getDefaultNamespace();
+            case "id": return getTheId();
+            case "imports_xsd_schemas": return getImportsXsdSchemas();
+            case "includes_xsd_schemas": return getIncludesXsdSchemas();
+            case "language": return getLanguage();
+            case "overrides_xsd_schemas": return getOverridesXsdSchemas();
+            case "redefines_xsd_schemas": return getRedefinesXsdSchemas();
+            case "target_namespace": return getTargetNamespace();
+            case "version": return getVersion();
+            case "xml_schema_library": return getXmlSchemaLibrary();
+            case "xpath": return getXpath();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
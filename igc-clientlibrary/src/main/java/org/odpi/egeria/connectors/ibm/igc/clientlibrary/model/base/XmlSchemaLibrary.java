@@ -77,4 +77,17 @@ public class XmlSchemaLibrary extends InformationAsset {
     @JsonProperty("xml_schema_definitions")
     public void setXmlSchemaDefinitions(ItemList<XmlSchemaDefinition> xmlSchemaDefinitions) { this.xmlSchemaDefinitions = xmlSchemaDefinitions; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "description": return getDescription();
+            case "id": return getTheId();
+            case "xml_schema_definitions": return getXmlSchemaDefinitions();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
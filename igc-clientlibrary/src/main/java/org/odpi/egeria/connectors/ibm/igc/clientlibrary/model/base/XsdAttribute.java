@@ -508,4 +508,41 @@ public class XsdAttribute extends InformationAsset {
     @JsonProperty("xsd_simple_type_definition")
     public void setXsdSimpleTypeDefinition(XsdSimpleType xsdSimpleTypeDefinition) { this.xsdSimpleTypeDefinition = xsdSimpleTypeDefinition; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "context": return getTheContext();
+            case "data_type": return getDataType();
+            case "default_value": return getDefaultValue();
+            case "enumeration_value": return getEnumerationValue();
+            case "fixed_value": return getFixedValue();
+            case "fraction_digits": return getFractionDigits();
+            case "inheritable": return getInheritable();
+            case "is_maximum_range_inclusive": return getIsMaximumRangeInclusive();
+            case "is_maximum_range_inclusive_string": return getIsMaximumRangeInclusiveString();
+            case "is_minimum_range_inclusive": return getIsMinimumRangeInclusive();
+            case "is_minimum_range_inclusive_string": return getIsMinimumRangeInclusiveString();
+            case "length": return getLength();
+            case "max_length": return getMaxLength();
+            case "maximum_range": return getMaximumRange();
+            case "min_length": return getMinLength();
+            case "minimum_range": return getMinimumRange();
+            case "name_form": return getNameForm();
+            case "namespace": return getNamespace();
+            case "pattern_expression": return getPatternExpression();
+            case "referenced_by_xsd_attribute_groups": return getReferencedByXsdAttributeGroups();
+            case "referenced_by_xsd_complex_type": return getReferencedByXsdComplexType();
+            case "referenced_by_xsd_elements": return getReferencedByXsdElements();
+            case "timezone": return getTimezone();
+            case "total_digits": return getTotalDigits();
+            case "usage": return getUsage();
+            case "white_space": return getWhiteSpace();
+            case "xsd_simple_type_definition": return getXsdSimpleTypeDefinition();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
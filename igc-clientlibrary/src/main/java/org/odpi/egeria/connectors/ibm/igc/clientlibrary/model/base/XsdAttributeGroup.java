@@ -145,4 +145,21 @@ public class XsdAttributeGroup extends InformationAsset {
     @JsonProperty("xsd_schema")
     public void setXsdSchema(XmlSchemaDefinition xsdSchema) { this.xsdSchema = xsdSchema; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "contains_xsd_attributes": return getContainsXsdAttributes();
+            case "referenced_by_xsd_attribute_groups": return getReferencedByXsdAttributeGroups();
+            case "referenced_by_xsd_complex_types": return getReferencedByXsdComplexTypes();
+            case "referenced_by_xsd_elements": return getReferencedByXsdElements();
+            case "references_xsd_attribute_groups": return getReferencesXsdAttributeGroups();
+            case "references_xsd_attributes": return getReferencesXsdAttributes();
+            case "xsd_schema": return getXsdSchema();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -129,4 +129,20 @@ public class XsdAttributeReference extends Reference {
     @JsonProperty("xsd_element")
     public void setXsdElement(ItemList<MainObject> xsdElement) { this.xsdElement = xsdElement; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "native_id": return getNativeId();
+            case "references_xsd_attribute": return getReferencesXsdAttribute();
+            case "usage": return getUsage();
+            case "xsd_attribute_group": return getXsdAttributeGroup();
+            case "xsd_complex_type": return getXsdComplexType();
+            case "xsd_element": return getXsdElement();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -391,4 +391,35 @@ public class XsdComplexType extends InformationAsset {
     @JsonProperty("xsd_schema")
     public void setXsdSchema(XmlSchemaDefinition xsdSchema) { this.xsdSchema = xsdSchema; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "abstract": return getAbstract();
+            case "base_type": return getBaseType();
+            case "block": return getBlock();
+            case "contains_xsd_attributes": return getContainsXsdAttributes();
+            case "contains_xsd_elements": return getContainsXsdElements();
+            case "default": return getDefault();
+            case "defines_xsd_elements": return getDefinesXsdElements();
+            case "extended_by_xsd_complex_type": return getExtendedByXsdComplexType();
+            case "extends_xsd_complex_type": return getExtendsXsdComplexType();
+            case "extends_xsd_element": return getExtendsXsdElement();
+            case "extends_xsd_simple_type": return getExtendsXsdSimpleType();
+            case "mixed": return getMixed();
+            case "references_xsd_attribute_groups": return getReferencesXsdAttributeGroups();
+            case "references_xsd_attributes": return getReferencesXsdAttributes();
+            case "references_xsd_element_group": return getReferencesXsdElementGroup();
+            case "references_xsd_elements": return getReferencesXsdElements();
+            case "restricted_by_xsd_complex_type": return getRestrictedByXsdComplexType();
+            case "restricts_xsd_complex_type": return getRestrictsXsdComplexType();
+            case "restricts_xsd_element": return getRestrictsXsdElement();
+            case "type": return getTheType();
+            case "xsd_schema": return getXsdSchema();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
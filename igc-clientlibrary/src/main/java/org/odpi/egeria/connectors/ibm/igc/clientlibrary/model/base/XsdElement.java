@@ -793,4 +793,57 @@ public class XsdElement extends InformationAsset {
     @JsonProperty("xsd_simple_type_definition")
     public void setXsdSimpleTypeDefinition(XsdSimpleType xsdSimpleTypeDefinition) { this.xsdSimpleTypeDefinition = xsdSimpleTypeDefinition; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "contains_attributes": return getContainsAttributes();
+            case "contains_elements": return getContainsElements();
+            case "context": return getTheContext();
+            case "data_type": return getDataType();
+            case "default_value": return getDefaultValue();
+            case "enumeration_value": return getEnumerationValue();
+            case "extends_xsd_complex_type": return getExtendsXsdComplexType();
+            case "fixed_value": return getFixedValue();
+            case "foreign_keys": return getForeignKeys();
+            case "fraction_digits": return getFractionDigits();
+            case "is_abstract": return getIsAbstract();
+            case "is_maximum_range_inclusive": return getIsMaximumRangeInclusive();
+            case "is_maximum_range_inclusive_string": return getIsMaximumRangeInclusiveString();
+            case "is_minimum_range_inclusive": return getIsMinimumRangeInclusive();
+            case "is_minimum_range_inclusive_string": return getIsMinimumRangeInclusiveString();
+            case "is_nullable": return getIsNullable();
+            case "length": return getLength();
+            case "max_length": return getMaxLength();
+            case "max_occurs": return getMaxOccurs();
+            case "maximum_range": return getMaximumRange();
+            case "min_length": return getMinLength();
+            case "min_occurs": return getMinOccurs();
+            case "minimum_range": return getMinimumRange();
+            case "name_form": return getNameForm();
+            case "namespace": return getNamespace();
+            case "pattern_expression": return getPatternExpression();
+            case "primary_keys": return getPrimaryKeys();
+            case "referenced_by_xsd_complex_types": return getReferencedByXsdComplexTypes();
+            case "referenced_by_xsd_element_groups": return getReferencedByXsdElementGroups();
+            case "referenced_by_xsd_elements": return getReferencedByXsdElements();
+            case "references_xsd_attribute_groups": return getReferencesXsdAttributeGroups();
+            case "references_xsd_attributes": return getReferencesXsdAttributes();
+            case "references_xsd_element_groups": return getReferencesXsdElementGroups();
+            case "references_xsd_elements": return getReferencesXsdElements();
+            case "restricts_xsd_complex_type": return getRestrictsXsdComplexType();
+            case "restricts_xsd_simple_type": return getRestrictsXsdSimpleType();
+            case "timezone": return getTimezone();
+            case "total_digits": return getTotalDigits();
+            case "type": return getTheType();
+            case "unique_keys": return getUniqueKeys();
+            case "white_space": return getWhiteSpace();
+            case "xsd_complex_type_definition": return getXsdComplexTypeDefinition();
+            case "xsd_simple_type_definition": return getXsdSimpleTypeDefinition();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
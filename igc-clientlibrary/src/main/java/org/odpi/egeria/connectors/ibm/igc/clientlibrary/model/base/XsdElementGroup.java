@@ -153,4 +153,21 @@ public class XsdElementGroup extends InformationAsset {
     @JsonProperty("xsd_schema")
     public void setXsdSchema(XmlSchemaDefinition xsdSchema) { this.xsdSchema = xsdSchema; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "contains_xsd_elements": return getContainsXsdElements();
+            case "referenced_by_xsd_element_groups": return getReferencedByXsdElementGroups();
+            case "references_by_xsd_elements": return getReferencesByXsdElements();
+            case "references_xsd_element_groups": return getReferencesXsdElementGroups();
+            case "references_xsd_elements": return getReferencesXsdElements();
+            case "type": return getTheType();
+            case "xsd_schema": return getXsdSchema();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
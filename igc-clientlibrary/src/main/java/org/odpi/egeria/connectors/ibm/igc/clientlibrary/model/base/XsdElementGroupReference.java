@@ -146,4 +146,21 @@ public class XsdElementGroupReference extends Reference {
     @JsonProperty("xsd_element_group")
     public void setXsdElementGroup(ItemList<XsdElementGroup> xsdElementGroup) { this.xsdElementGroup = xsdElementGroup; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "max_occurs": return getMaxOccurs();
+            case "min_occurs": return getMinOccurs();
+            case "native_id": return getNativeId();
+            case "references_xsd_element_group": return getReferencesXsdElementGroup();
+            case "xsd_complex_type": return getXsdComplexType();
+            case "xsd_element": return getXsdElement();
+            case "xsd_element_group": return getXsdElementGroup();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -145,4 +145,21 @@ public class XsdElementReference extends Reference {
     @JsonProperty("xsd_element_group")
     public void setXsdElementGroup(XsdElementGroup xsdElementGroup) { this.xsdElementGroup = xsdElementGroup; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "max_occurs": return getMaxOccurs();
+            case "min_occurs": return getMinOccurs();
+            case "native_id": return getNativeId();
+            case "referenced_xsd_element": return getReferencedXsdElement();
+            case "xsd_complex_type": return getXsdComplexType();
+            case "xsd_element": return getXsdElement();
+            case "xsd_element_group": return getXsdElementGroup();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
@@ -509,4 +509,41 @@ public class XsdSimpleType extends InformationAsset {
     @JsonProperty("xsd_schema")
     public void setXsdSchema(XmlSchemaDefinition xsdSchema) { this.xsdSchema = xsdSchema; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "base_type": return getBaseType();
+            case "defines_xsd_attributes": return getDefinesXsdAttributes();
+            case "defines_xsd_elements": return getDefinesXsdElements();
+            case "extended_by_xsd_complex_type": return getExtendedByXsdComplexType();
+            case "extended_by_xsd_simple_type": return getExtendedByXsdSimpleType();
+            case "extends_xsd_element": return getExtendsXsdElement();
+            case "extends_xsd_simple_type": return getExtendsXsdSimpleType();
+            case "final": return getFinal();
+            case "fraction": return getFraction();
+            case "length": return getLength();
+            case "max_length": return getMaxLength();
+            case "min_length": return getMinLength();
+            case "restricted_by_xsd_simple_type": return getRestrictedByXsdSimpleType();
+            case "restriction_enumeration_values": return getRestrictionEnumerationValues();
+            case "restriction_maximum_inclusive": return getRestrictionMaximumInclusive();
+            case "restriction_maximum_inclusive_string": return getRestrictionMaximumInclusiveString();
+            case "restriction_maximum_value": return getRestrictionMaximumValue();
+            case "restriction_minimum_inclusive": return getRestrictionMinimumInclusive();
+            case "restriction_minimum_inclusive_string": return getRestrictionMinimumInclusiveString();
+            case "restriction_minimum_value": return getRestrictionMinimumValue();
+            case "restriction_pattern": return getRestrictionPattern();
+            case "restricts_xsd_element": return getRestrictsXsdElement();
+            case "restricts_xsd_simple_type": return getRestrictsXsdSimpleType();
+            case "timezone": return getTimezone();
+            case "total_digits": return getTotalDigits();
+            case "whitespace": return getWhitespace();
+            case "xsd_schema": return getXsdSchema();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
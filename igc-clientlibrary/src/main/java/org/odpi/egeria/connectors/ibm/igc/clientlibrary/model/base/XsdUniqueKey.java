@@ -150,4 +150,21 @@ public class XsdUniqueKey extends Reference {
     @JsonProperty("xsd_elements_or_attributes")
     public void setXsdElementsOrAttributes(ItemList<MainObject> xsdElementsOrAttributes) { this.xsdElementsOrAttributes = xsdElementsOrAttributes; }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "name": return getTheName();
+            case "namespace": return getNamespace();
+            case "native_id": return getNativeId();
+            case "referenced_by_xsd_keys": return getReferencedByXsdKeys();
+            case "selector": return getSelector();
+            case "xsd_element": return getXsdElement();
+            case "xsd_elements_or_attributes": return getXsdElementsOrAttributes();
+            default: return super.getPropertyValue(property);
+        }
+    }
+
 }
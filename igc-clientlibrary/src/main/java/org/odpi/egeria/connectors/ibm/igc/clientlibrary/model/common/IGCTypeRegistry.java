@@ -0,0 +1,400 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common;
+
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.base.*;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Registry of the out-of-the-box POJO for each IGC asset type, so that they can be resolved without any reflection.
+ * <br><br>
+ * (this code has been created based on out-of-the-box IGC metadata types, alongside the POJOs themselves.
+ *  To handle your own types or custom attributes, register your own POJOs with the client instead.)
+ */
+public final class IGCTypeRegistry {
+
+    private static final Map<String, Class<? extends Reference>> POJOS = createPOJOs();
+
+    private IGCTypeRegistry() { }
+
+    /**
+     * Retrieve the out-of-the-box POJO for the provided IGC asset type.
+     *
+     * @param assetType the name of the IGC asset type
+     * @return {@code Class<? extends Reference>} - or null if there is no out-of-the-box POJO for the type
+     */
+    public static Class<? extends Reference> getPOJO(String assetType) { return assetType == null ? null : POJOS.get(assetType); }
+
+    /**
+     * Retrieve the names of all of the IGC asset types that have an out-of-the-box POJO.
+     *
+     * @return {@code Set<String>}
+     */
+    public static Set<String> getAssetTypes() { return POJOS.keySet(); }
+
+    private static Map<String, Class<? extends Reference>> createPOJOs() {
+        Map<String, Class<? extends Reference>> map = new HashMap<>();
+        map.put("Rule_Execution_Result", RuleExecutionResult.class);
+        map.put("acl", Acl.class);
+        map.put("aclentry", Aclentry.class);
+        map.put("actiondescriptor", Actiondescriptor.class);
+        map.put("amazon_s3_bucket", AmazonS3Bucket.class);
+        map.put("amazon_s3_data_file", AmazonS3DataFile.class);
+        map.put("amazon_s3_data_file_field", AmazonS3DataFileField.class);
+        map.put("amazon_s3_data_file_folder", AmazonS3DataFileFolder.class);
+        map.put("amazon_s3_data_file_record", AmazonS3DataFileRecord.class);
+        map.put("analysis_project", AnalysisProject.class);
+        map.put("analysissummaryobject", Analysissummaryobject.class);
+        map.put("analytics_model", AnalyticsModel.class);
+        map.put("analytics_object", AnalyticsObject.class);
+        map.put("analytics_project", AnalyticsProject.class);
+        map.put("analytics_script", AnalyticsScript.class);
+        map.put("application", Application.class);
+        map.put("application_install", ApplicationInstall.class);
+        map.put("applicationfunction", Applicationfunction.class);
+        map.put("applicationsetting", Applicationsetting.class);
+        map.put("archivedtask", Archivedtask.class);
+        map.put("array", Array.class);
+        map.put("ascl_steward", AsclSteward.class);
+        map.put("associativeobject", Associativeobject.class);
+        map.put("attribute", Attribute.class);
+        map.put("attribute_type", AttributeType.class);
+        map.put("attribute_type_field", AttributeTypeField.class);
+        map.put("automation_rule", AutomationRule.class);
+        map.put("bi_collection", BiCollection.class);
+        map.put("bi_collection_dimension", BiCollectionDimension.class);
+        map.put("bi_collection_fact", BiCollectionFact.class);
+        map.put("bi_collection_member", BiCollectionMember.class);
+        map.put("bi_cube", BiCube.class);
+        map.put("bi_filter", BiFilter.class);
+        map.put("bi_folder", BiFolder.class);
+        map.put("bi_hierarchy", BiHierarchy.class);
+        map.put("bi_hierarchy_member", BiHierarchyMember.class);
+        map.put("bi_level", BiLevel.class);
+        map.put("bi_model", BiModel.class);
+        map.put("bi_olap_level_element", BiOlapLevelElement.class);
+        map.put("bi_report", BiReport.class);
+        map.put("bi_report_data_item_source", BiReportDataItemSource.class);
+        map.put("bi_report_nocontext", BiReportNocontext.class);
+        map.put("bi_report_nofolder", BiReportNofolder.class);
+        map.put("bi_report_query", BiReportQuery.class);
+        map.put("bi_report_query_detail_filter", BiReportQueryDetailFilter.class);
+        map.put("bi_report_query_item", BiReportQueryItem.class);
+        map.put("bi_report_query_summary_filter", BiReportQuerySummaryFilter.class);
+        map.put("bi_report_query_usage", BiReportQueryUsage.class);
+        map.put("bi_report_section", BiReportSection.class);
+        map.put("bi_root_folder", BiRootFolder.class);
+        map.put("bi_server", BiServer.class);
+        map.put("binary_infoset_operation", BinaryInfosetOperation.class);
+        map.put("blueprint", Blueprint.class);
+        map.put("blueprint_element_link", BlueprintElementLink.class);
+        map.put("candidate_key", CandidateKey.class);
+        map.put("category", Category.class);
+        map.put("cdc_mapping", CdcMapping.class);
+        map.put("cdc_mapping_document", CdcMappingDocument.class);
+        map.put("changed_properties", ChangedProperties.class);
+        map.put("classdescriptor", Classdescriptor.class);
+        map.put("classification", Classification.class);
+        map.put("classification_contribution", ClassificationContribution.class);
+        map.put("classificationenabledgroup", Classificationenabledgroup.class);
+        map.put("classificationtask", Classificationtask.class);
+        map.put("collection", Collection.class);
+        map.put("column_analysis", ColumnAnalysis.class);
+        map.put("column_analysis_summary", ColumnAnalysisSummary.class);
+        map.put("column_definition", ColumnDefinition.class);
+        map.put("composite_view", CompositeView.class);
+        map.put("connector", Connector.class);
+        map.put("credential", Credential.class);
+        map.put("credentials", Credentials.class);
+        map.put("custom_attribute", CustomAttribute.class);
+        map.put("customattributedef", Customattributedef.class);
+        map.put("customattributeval", Customattributeval.class);
+        map.put("data_class", DataClass.class);
+        map.put("data_class_old", DataClassOld.class);
+        map.put("data_connection", DataConnection.class);
+        map.put("data_connection_mapping", DataConnectionMapping.class);
+        map.put("data_element", DataElement.class);
+        map.put("data_field", DataField.class);
+        map.put("data_file", DataFile.class);
+        map.put("data_file_definition", DataFileDefinition.class);
+        map.put("data_file_definition_field", DataFileDefinitionField.class);
+        map.put("data_file_definition_record", DataFileDefinitionRecord.class);
+        map.put("data_file_field", DataFileField.class);
+        map.put("data_file_folder", DataFileFolder.class);
+        map.put("data_file_folder_nobucket", DataFileFolderNobucket.class);
+        map.put("data_file_record", DataFileRecord.class);
+        map.put("data_item", DataItem.class);
+        map.put("data_item_definition", DataItemDefinition.class);
+        map.put("data_item_properties", DataItemProperties.class);
+        map.put("data_item_value", DataItemValue.class);
+        map.put("data_map_filter_operation", DataMapFilterOperation.class);
+        map.put("data_policy", DataPolicy.class);
+        map.put("data_rule", DataRule.class);
+        map.put("data_rule_definition", DataRuleDefinition.class);
+        map.put("data_rule_results", DataRuleResults.class);
+        map.put("data_rule_set", DataRuleSet.class);
+        map.put("data_rule_set_definition", DataRuleSetDefinition.class);
+        map.put("database", Database.class);
+        map.put("database_alias", DatabaseAlias.class);
+        map.put("database_column", DatabaseColumn.class);
+        map.put("database_domain", DatabaseDomain.class);
+        map.put("database_index", DatabaseIndex.class);
+        map.put("database_schema", DatabaseSchema.class);
+        map.put("database_table", DatabaseTable.class);
+        map.put("datagroup", Datagroup.class);
+        map.put("datasourcealiasgroup", Datasourcealiasgroup.class);
+        map.put("datastage_item", DatastageItem.class);
+        map.put("derivation", Derivation.class);
+        map.put("design_column", DesignColumn.class);
+        map.put("design_foreign_key", DesignForeignKey.class);
+        map.put("design_key", DesignKey.class);
+        map.put("design_stored_procedure", DesignStoredProcedure.class);
+        map.put("design_stored_procedure_parameter", DesignStoredProcedureParameter.class);
+        map.put("design_table", DesignTable.class);
+        map.put("design_view", DesignView.class);
+        map.put("development_log", DevelopmentLog.class);
+        map.put("directory", Directory.class);
+        map.put("directoryproviderconfiguration", Directoryproviderconfiguration.class);
+        map.put("directoryproviderproperty", Directoryproviderproperty.class);
+        map.put("ds_stage_column", DsStageColumn.class);
+        map.put("dsargumentmap", Dsargumentmap.class);
+        map.put("dsdata_connection", DsdataConnection.class);
+        map.put("dsdesign_view", DsdesignView.class);
+        map.put("dsexternaldependency", Dsexternaldependency.class);
+        map.put("dsfolder", Dsfolder.class);
+        map.put("dsjcltemplate", Dsjcltemplate.class);
+        map.put("dsjob", Dsjob.class);
+        map.put("dsmetabag", Dsmetabag.class);
+        map.put("dsmfcolumninfo", Dsmfcolumninfo.class);
+        map.put("dsparameter", Dsparameter.class);
+        map.put("dsparameter_job", DsparameterJob.class);
+        map.put("dsparameter_set", DsparameterSet.class);
+        map.put("dsstage_type", DsstageType.class);
+        map.put("duplicates_operation", DuplicatesOperation.class);
+        map.put("endpoint", Endpoint.class);
+        map.put("entity_attribute", EntityAttribute.class);
+        map.put("entity_type", EntityType.class);
+        map.put("exception_filter_operation", ExceptionFilterOperation.class);
+        map.put("extension_mapping", ExtensionMapping.class);
+        map.put("extension_mapping_document", ExtensionMappingDocument.class);
+        map.put("field_analysis", FieldAnalysis.class);
+        map.put("file", File.class);
+        map.put("file_record_analysis", FileRecordAnalysis.class);
+        map.put("filter", Filter.class);
+        map.put("filter_operation", FilterOperation.class);
+        map.put("filterconstraint", Filterconstraint.class);
+        map.put("folder", Folder.class);
+        map.put("foreign_key", ForeignKey.class);
+        map.put("foreign_key_definition", ForeignKeyDefinition.class);
+        map.put("function", Function.class);
+        map.put("function_call", FunctionCall.class);
+        map.put("functioncall", FunctionCall2.class);
+        map.put("group", Group.class);
+        map.put("hbase_namespace", HbaseNamespace.class);
+        map.put("host", Host.class);
+        map.put("host_(engine)", HostEngine.class);
+        map.put("idoc_field", IdocField.class);
+        map.put("idoc_segment_type", IdocSegmentType.class);
+        map.put("idoc_type", IdocType.class);
+        map.put("in_parameter", InParameter.class);
+        map.put("index_member", IndexMember.class);
+        map.put("inferred_foreign_key", InferredForeignKey.class);
+        map.put("inferred_key", InferredKey.class);
+        map.put("information_asset", InformationAsset.class);
+        map.put("information_governance_policy", InformationGovernancePolicy.class);
+        map.put("information_governance_rule", InformationGovernanceRule.class);
+        map.put("information_server_report", InformationServerReport.class);
+        map.put("information_server_report_(analysis_project)", InformationServerReportAnalysisProject.class);
+        map.put("information_server_report_(database)", InformationServerReportDatabase.class);
+        map.put("information_server_report_(job)", InformationServerReportJob.class);
+        map.put("information_server_report_(mapping_project)", InformationServerReportMappingProject.class);
+        map.put("information_server_report_(mapping_specification)", InformationServerReportMappingSpecification.class);
+        map.put("information_server_report_(steward)", InformationServerReportSteward.class);
+        map.put("information_server_report_param_(job)", InformationServerReportParamJob.class);
+        map.put("information_server_report_parameters", InformationServerReportParameters.class);
+        map.put("information_services_application", InformationServicesApplication.class);
+        map.put("information_services_argument", InformationServicesArgument.class);
+        map.put("information_services_operation", InformationServicesOperation.class);
+        map.put("information_services_project", InformationServicesProject.class);
+        map.put("information_services_service", InformationServicesService.class);
+        map.put("infoset", Infoset.class);
+        map.put("infoset_operation", InfosetOperation.class);
+        map.put("inout_parameter", InoutParameter.class);
+        map.put("input_parameter", InputParameter.class);
+        map.put("inputpin", Inputpin.class);
+        map.put("instance", Instance.class);
+        map.put("inv_data_rule", InvDataRule.class);
+        map.put("inv_data_rule_definition", InvDataRuleDefinition.class);
+        map.put("inv_data_rule_set", InvDataRuleSet.class);
+        map.put("inv_data_rule_set_definition", InvDataRuleSetDefinition.class);
+        map.put("job", Job.class);
+        map.put("job_constraint", JobConstraint.class);
+        map.put("job_fail_event", JobFailEvent.class);
+        map.put("job_input_pin", JobInputPin.class);
+        map.put("job_output_pin", JobOutputPin.class);
+        map.put("job_parameter", JobParameter.class);
+        map.put("job_read_event", JobReadEvent.class);
+        map.put("job_run", JobRun.class);
+        map.put("job_run_activity", JobRunActivity.class);
+        map.put("job_stage_parameters", JobStageParameters.class);
+        map.put("job_stage_record", JobStageRecord.class);
+        map.put("job_write_event", JobWriteEvent.class);
+        map.put("jobdef", Jobdef.class);
+        map.put("keycomponent", Keycomponent.class);
+        map.put("label", Label.class);
+        map.put("lineage_container", LineageContainer.class);
+        map.put("lineage_report_template", LineageReportTemplate.class);
+        map.put("lineagefilter", Lineagefilter.class);
+        map.put("link", Link.class);
+        map.put("linktype", Linktype.class);
+        map.put("local_container", LocalContainer.class);
+        map.put("logical_data_model", LogicalDataModel.class);
+        map.put("logical_domain", LogicalDomain.class);
+        map.put("logical_entity", LogicalEntity.class);
+        map.put("logical_foreign_key", LogicalForeignKey.class);
+        map.put("logical_inversion_key", LogicalInversionKey.class);
+        map.put("logical_key", LogicalKey.class);
+        map.put("logical_validation_list", LogicalValidationList.class);
+        map.put("logical_validation_range", LogicalValidationRange.class);
+        map.put("logical_validation_rule", LogicalValidationRule.class);
+        map.put("logical_variable", LogicalVariable.class);
+        map.put("machine_profile", MachineProfile.class);
+        map.put("main_object", MainObject.class);
+        map.put("mapping", Mapping.class);
+        map.put("mapping_component", MappingComponent.class);
+        map.put("mapping_filter", MappingFilter.class);
+        map.put("mapping_join", MappingJoin.class);
+        map.put("mapping_project", MappingProject.class);
+        map.put("mapping_specification", MappingSpecification.class);
+        map.put("masking_rule", MaskingRule.class);
+        map.put("match_specification", MatchSpecification.class);
+        map.put("mdm_model", MdmModel.class);
+        map.put("member_type", MemberType.class);
+        map.put("method", Method.class);
+        map.put("metric", Metric.class);
+        map.put("model_eval_metric", ModelEvalMetric.class);
+        map.put("model_input", ModelInput.class);
+        map.put("model_label", ModelLabel.class);
+        map.put("mwb_database_alias", MwbDatabaseAlias.class);
+        map.put("navigationdescriptor", Navigationdescriptor.class);
+        map.put("node_operation", NodeOperation.class);
+        map.put("non_published_data_rule_definition", NonPublishedDataRuleDefinition.class);
+        map.put("non_published_data_rule_set", NonPublishedDataRuleSet.class);
+        map.put("non_steward_user", NonStewardUser.class);
+        map.put("note", Note.class);
+        map.put("notebook", Notebook.class);
+        map.put("object_type", ObjectType.class);
+        map.put("olap_join", OlapJoin.class);
+        map.put("olap_member_source", OlapMemberSource.class);
+        map.put("olapassociation", Olapassociation.class);
+        map.put("olaphierarchyassociation", Olaphierarchyassociation.class);
+        map.put("olapjoinref", Olapjoinref.class);
+        map.put("olapmodelgroup", Olapmodelgroup.class);
+        map.put("olapobject", Olapobject.class);
+        map.put("oslc_link", OslcLink.class);
+        map.put("out_parameter", OutParameter.class);
+        map.put("output_value", OutputValue.class);
+        map.put("outputpin", Outputpin.class);
+        map.put("parameter", Parameter.class);
+        map.put("parameter_set", ParameterSet.class);
+        map.put("parameter_set_definition", ParameterSetDefinition.class);
+        map.put("parameterset", ParameterSet2.class);
+        map.put("parameterval", Parameterval.class);
+        map.put("physical_data_model", PhysicalDataModel.class);
+        map.put("physical_domain", PhysicalDomain.class);
+        map.put("physical_object", PhysicalObject.class);
+        map.put("physical_object_attribute", PhysicalObjectAttribute.class);
+        map.put("primarycategory", Primarycategory.class);
+        map.put("propdescriptor", Propdescriptor.class);
+        map.put("providerpropertyinfo", Providerpropertyinfo.class);
+        map.put("providerpropertyinfoextended", Providerpropertyinfoextended.class);
+        map.put("providerpropertytype", Providerpropertytype.class);
+        map.put("published_data_rule_definition", PublishedDataRuleDefinition.class);
+        map.put("published_data_rule_set", PublishedDataRuleSet.class);
+        map.put("quality_Problem_Type", QualityProblemType.class);
+        map.put("quality_problem", QualityProblem.class);
+        map.put("quality_problem_type_DQR", QualityProblemTypeDqr.class);
+        map.put("r_shiny_app", RShinyApp.class);
+        map.put("r_shiny_app_object", RShinyAppObject.class);
+        map.put("reference_key", ReferenceKey.class);
+        map.put("reportobject", Reportobject.class);
+        map.put("result_column", ResultColumn.class);
+        map.put("role_assignment", RoleAssignment.class);
+        map.put("role_context", RoleContext.class);
+        map.put("root_tuple", RootTuple.class);
+        map.put("routine", Routine.class);
+        map.put("routine_argument", RoutineArgument.class);
+        map.put("sap_connection", SapConnection.class);
+        map.put("sequence_job", SequenceJob.class);
+        map.put("session_configuration", SessionConfiguration.class);
+        map.put("set_operation", SetOperation.class);
+        map.put("shared_container", SharedContainer.class);
+        map.put("stage", Stage.class);
+        map.put("stage_column", StageColumn.class);
+        map.put("stage_data_rule_definition", StageDataRuleDefinition.class);
+        map.put("stage_type", StageType.class);
+        map.put("stage_type_detail", StageTypeDetail.class);
+        map.put("stage_variable", StageVariable.class);
+        map.put("standardization_object", StandardizationObject.class);
+        map.put("standardization_rule", StandardizationRule.class);
+        map.put("standardization_rule_set", StandardizationRuleSet.class);
+        map.put("steward", Steward.class);
+        map.put("steward_group", StewardGroup.class);
+        map.put("steward_user", StewardUser.class);
+        map.put("stored_procedure", StoredProcedure.class);
+        map.put("stored_procedure_definition", StoredProcedureDefinition.class);
+        map.put("stored_procedure_parameter", StoredProcedureParameter.class);
+        map.put("subject_area", SubjectArea.class);
+        map.put("system_role", SystemRole.class);
+        map.put("table_analysis", TableAnalysis.class);
+        map.put("table_analysis_summary", TableAnalysisSummary.class);
+        map.put("table_definition", TableDefinition.class);
+        map.put("table_definition_properties", TableDefinitionProperties.class);
+        map.put("term", Term.class);
+        map.put("term_assignment", TermAssignment.class);
+        map.put("term_history", TermHistory.class);
+        map.put("transform_argument", TransformArgument.class);
+        map.put("transformation_project", TransformationProject.class);
+        map.put("transforms_function", TransformsFunction.class);
+        map.put("tuple", Tuple.class);
+        map.put("tuple_attribute", TupleAttribute.class);
+        map.put("user", User.class);
+        map.put("user_group", UserGroup.class);
+        map.put("user_role", UserRole.class);
+        map.put("valid_value", ValidValue.class);
+        map.put("valid_value_list", ValidValueList.class);
+        map.put("valid_value_range", ValidValueRange.class);
+        map.put("validity_table", ValidityTable.class);
+        map.put("validvaluelist", ValidValueList2.class);
+        map.put("validvaluerange", ValidValueRange2.class);
+        map.put("validvaluerule", Validvaluerule.class);
+        map.put("validvalues", Validvalues.class);
+        map.put("view", View.class);
+        map.put("volume", Volume.class);
+        map.put("volume_contribution", VolumeContribution.class);
+        map.put("warehouse_mapping", WarehouseMapping.class);
+        map.put("warehouse_mapping_document", WarehouseMappingDocument.class);
+        map.put("xml_schema_definition", XmlSchemaDefinition.class);
+        map.put("xml_schema_library", XmlSchemaLibrary.class);
+        map.put("xsd_attribute", XsdAttribute.class);
+        map.put("xsd_attribute_group", XsdAttributeGroup.class);
+        map.put("xsd_attribute_reference", XsdAttributeReference.class);
+        map.put("xsd_choice", XsdChoice.class);
+        map.put("xsd_complex_type", XsdComplexType.class);
+        map.put("xsd_element", XsdElement.class);
+        map.put("xsd_element_group", XsdElementGroup.class);
+        map.put("xsd_element_group_reference", XsdElementGroupReference.class);
+        map.put("xsd_element_reference", XsdElementReference.class);
+        map.put("xsd_foreign_key", XsdForeignKey.class);
+        map.put("xsd_primary_key", XsdPrimaryKey.class);
+        map.put("xsd_sequence", XsdSequence.class);
+        map.put("xsd_simple_type", XsdSimpleType.class);
+        map.put("xsd_unique_key", XsdUniqueKey.class);
+        return Collections.unmodifiableMap(map);
+    }
+
+}
@@ -44,6 +44,9 @@ public class Identity {
     private String rid;
     private boolean partial;
 
+    private volatile Identity parent;
+    private volatile String string;
+
     /**
      * Creates a new empty identity.
      *
@@ -98,6 +101,21 @@ public class Identity {
         this.rid = rid;
     }
 
+    /**
+     * Creates a new identity based on the identity characteristics provided, whose parent is already known (so that
+     * it can be shared by all of the identities it contains).
+     *
+     * @param parent the identity of the parent that contains the asset (or null if it has none)
+     * @param context the populated '_context' array from an asset
+     * @param assetType the type of the asset
+     * @param assetName the name of the asset
+     * @param rid the Repository ID (RID) of the asset
+     */
+    Identity(Identity parent, List<Reference> context, String assetType, String assetName, String rid) {
+        this(context, assetType, assetName, rid);
+        this.parent = parent;
+    }
+
     /**
      * Returns the Identity of the parent that contains the entity identified by this Identity.
      * <br><br>
@@ -107,8 +125,7 @@ public class Identity {
      * @return Identity
      */
     public Identity getParentIdentity() {
-        Identity parent = null;
-        if (!context.isEmpty()) {
+        if (parent == null && !context.isEmpty()) {
             int lastIndex = context.size() - 1;
             Reference endOfCtx = context.get(lastIndex);
             List<Reference> parentCtx = context.subList(0, lastIndex);
@@ -128,9 +145,10 @@ public class Identity {
      */
     public Identity getUltimateParentIdentity() {
         Identity ultimate = this;
-        if (!context.isEmpty()) {
-            Reference top = context.get(0);
-            ultimate = new Identity(new ArrayList<>(), top.getType(), top.getName(), top.getId());
+        Identity next = getParentIdentity();
+        while (next != null) {
+            ultimate = next;
+            next = ultimate.getParentIdentity();
         }
         return ultimate;
     }
@@ -390,6 +408,12 @@ public class Identity {
                                          StringType stringType,
                                          boolean warnOnNotFound) throws IGCParsingException {
 
+        IdentityCache cache = igcRestClient.getIdentityCache();
+        Identity cached = warnOnNotFound ? cache.getIdentity(identity, stringType) : null;
+        if (cached != null) {
+            return cached;
+        }
+
         List<Reference> context = new ArrayList<>();
 
         String assetType = null;
@@ -436,6 +460,7 @@ public class Identity {
                 ident = new Identity(context, assetType, assetName, assetId, true);
             }
         }
+        cache.addIdentity(identity, stringType, ident);
         return ident;
 
     }
@@ -618,7 +643,7 @@ public class Identity {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(context, assetName, getAssetType(), getRid());
+        return toString().hashCode();
     }
 
     /**
@@ -628,13 +653,21 @@ public class Identity {
      */
     @Override
     public String toString() {
-        StringBuilder sb = new StringBuilder();
-        for (Reference ref : context) {
-            composeString(sb, ref.getType(), ref.getName(), ref.getId());
-            sb.append(SEPARATOR_FOR_COMPONENTS);
+        // Only compose the string once: the characteristics of an identity never change, and its parent's string
+        // is itself only composed once (no matter how many identities share that parent)
+        String composed = string;
+        if (composed == null) {
+            StringBuilder sb = new StringBuilder();
+            Identity parentIdentity = getParentIdentity();
+            if (parentIdentity != null) {
+                sb.append(parentIdentity.toString());
+                sb.append(SEPARATOR_FOR_COMPONENTS);
+            }
+            composeString(sb, assetType, assetName, rid);
+            composed = sb.toString();
+            string = composed;
         }
-        composeString(sb, assetType, assetName, rid);
-        return sb.toString();
+        return composed;
     }
 
 }
@@ -0,0 +1,198 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A bounded cache of the identities of IGC assets, both by the Repository ID (RID) of each asset and by the identity
+ * string (qualified name) from which each was parsed. Identities built through the cache share their parents (so that,
+ * for example, all of the columns of a table share a single identity for the table, database, schema and host above
+ * them), and each identity only composes its string once.
+ * <br><br>
+ * An identity cached by RID is only re-used while the asset's name, type and context still match it, so a renamed or
+ * moved asset (or any of its parents) simply results in a new identity. The cache is safe to share across threads,
+ * and evicts its least-recently used identities once full.
+ */
+public class IdentityCache {
+
+    /**
+     * The default maximum number of identities to cache by RID (and, separately, by identity string).
+     */
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    private final Map<String, Identity> byRid;
+    private final Map<String, Identity> byString;
+
+    /**
+     * Create a new cache of the default size.
+     */
+    public IdentityCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Create a new cache of the provided size.
+     *
+     * @param maxSize the maximum number of identities to cache by RID (and, separately, by identity string)
+     */
+    public IdentityCache(int maxSize) {
+        this.byRid = new BoundedMap(maxSize);
+        this.byString = new BoundedMap(maxSize);
+    }
+
+    /**
+     * Retrieve the identity of the asset with the provided characteristics, re-using any identity already cached for
+     * the asset (and for each of its parents) as long as it still matches them.
+     *
+     * @param context the populated '_context' array from the asset
+     * @param assetType the type of the asset
+     * @param assetName the name of the asset
+     * @param rid the Repository ID (RID) of the asset
+     * @return Identity
+     */
+    public Identity getIdentity(List<Reference> context, String assetType, String assetName, String rid) {
+        return getIdentity(context, context == null ? 0 : context.size(), assetType, assetName, rid);
+    }
+
+    /**
+     * Retrieve the identity cached for the provided identity string, if any.
+     *
+     * @param identityString the identity string (qualified name)
+     * @param stringType the type of string from which the identity was constructed
+     * @return Identity - the identity, or null if none has been cached for the string
+     */
+    public Identity getIdentity(String identityString, Identity.StringType stringType) {
+        synchronized (byString) {
+            return byString.get(getKey(identityString, stringType));
+        }
+    }
+
+    /**
+     * Cache the identity constructed from the provided identity string.
+     *
+     * @param identityString the identity string (qualified name)
+     * @param stringType the type of string from which the identity was constructed
+     * @param identity the identity constructed from the string
+     */
+    public void addIdentity(String identityString, Identity.StringType stringType, Identity identity) {
+        if (identityString != null && identity != null) {
+            synchronized (byString) {
+                byString.put(getKey(identityString, stringType), identity);
+            }
+        }
+    }
+
+    /**
+     * Remove all identities from the cache.
+     */
+    public void clear() {
+        synchronized (byRid) {
+            byRid.clear();
+        }
+        synchronized (byString) {
+            byString.clear();
+        }
+    }
+
+    /**
+     * Retrieve the identity of the asset whose context is the first 'depth' items of the provided context.
+     *
+     * @param context the context of the asset (or of one of its children)
+     * @param depth the number of items of the context that are the asset's own context
+     * @param assetType the type of the asset
+     * @param assetName the name of the asset
+     * @param rid the Repository ID (RID) of the asset
+     * @return Identity
+     */
+    private Identity getIdentity(List<Reference> context, int depth, String assetType, String assetName, String rid) {
+        Identity cached = null;
+        if (rid != null) {
+            synchronized (byRid) {
+                cached = byRid.get(rid);
+            }
+        }
+        if (cached != null && matches(cached, context, depth, assetType, assetName)) {
+            return cached;
+        }
+        Identity parent = null;
+        if (depth > 0) {
+            Reference container = context.get(depth - 1);
+            parent = getIdentity(context, depth - 1, container.getType(), container.getName(), container.getId());
+        }
+        Identity identity = new Identity(parent, new ArrayList<>(context.subList(0, depth)), assetType, assetName, rid);
+        if (rid != null) {
+            synchronized (byRid) {
+                byRid.put(rid, identity);
+            }
+        }
+        return identity;
+    }
+
+    /**
+     * Indicates whether the provided identity (and each of its parents) matches the provided characteristics.
+     *
+     * @param identity the identity to check
+     * @param context the context of the asset (or of one of its children)
+     * @param depth the number of items of the context that are the asset's own context
+     * @param assetType the type of the asset
+     * @param assetName the name of the asset
+     * @return boolean
+     */
+    private static boolean matches(Identity identity, List<Reference> context, int depth, String assetType, String assetName) {
+        if (!Objects.equals(identity.getAssetType(), assetType) || !Objects.equals(identity.getName(), assetName)) {
+            return false;
+        }
+        Identity current = identity;
+        for (int i = depth - 1; i >= 0; i--) {
+            current = current.getParentIdentity();
+            Reference container = context.get(i);
+            if (current == null
+                    || !Objects.equals(current.getRid(), container.getId())
+                    || !Objects.equals(current.getAssetType(), container.getType())
+                    || !Objects.equals(current.getName(), container.getName())) {
+                return false;
+            }
+        }
+        return current.getParentIdentity() == null;
+    }
+
+    /**
+     * Retrieve the key under which to cache the identity for the provided identity string.
+     *
+     * @param identityString the identity string (qualified name)
+     * @param stringType the type of string from which the identity was constructed
+     * @return String
+     */
+    private static String getKey(String identityString, Identity.StringType stringType) {
+        return stringType + ":" + identityString;
+    }
+
+    /**
+     * A map that evicts its least-recently used entry once it holds more than its maximum number of entries. (Must be
+     * locked by its users.)
+     */
+    private static final class BoundedMap extends LinkedHashMap<String, Identity> {
+
+        private final int maxSize;
+
+        BoundedMap(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Identity> eldest) {
+            return size() > maxSize;
+        }
+
+    }
+
+}
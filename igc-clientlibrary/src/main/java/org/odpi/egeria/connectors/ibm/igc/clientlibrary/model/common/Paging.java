@@ -3,6 +3,7 @@
 package org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common;
 
 import com.fasterxml.jackson.annotation.*;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearch;
 
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
@@ -52,6 +53,23 @@ public class Paging extends ObjectPrinter {
      */
     protected Integer begin;
 
+    /**
+     * Specifies the projection (if any) through which the items of each page are read, so that subsequent pages are
+     * read the same way as the first.
+     */
+    protected Projection projection;
+
+    /**
+     * Specifies the keyset-paged search (if any) from which the page was retrieved, so that the next page can be
+     * retrieved by searching for the results after the last result of this page.
+     */
+    protected IGCSearch keysetSearch;
+
+    /**
+     * Specifies the last result of this page (if retrieved by a keyset-paged search), after which the next page begins.
+     */
+    protected Reference keysetPosition;
+
     /**
      * Default constructor sets up defaults for an empty paging object.
      */
@@ -160,6 +178,45 @@ public class Paging extends ObjectPrinter {
     @JsonProperty("begin")
     public void setBeginIndex(Integer begin) { this.begin = begin; }
 
+    /**
+     * Retrieve the projection through which the items of each page are read, or null if they are read as POJOs.
+     * @return Projection
+     */
+    @JsonIgnore
+    public Projection getProjection() { return this.projection; }
+
+    /**
+     * Set the projection through which the items of each page are read.
+     * @param projection through which the items of each page are read (or null to read them as POJOs)
+     */
+    @JsonIgnore
+    public void setProjection(Projection projection) { this.projection = projection; }
+
+    /**
+     * Retrieve the keyset-paged search from which the page was retrieved, or null if it was retrieved by offset.
+     * @return IGCSearch
+     */
+    @JsonIgnore
+    public IGCSearch getKeysetSearch() { return this.keysetSearch; }
+
+    /**
+     * Retrieve the last result of this page, after which the next page (of a keyset-paged search) begins.
+     * @return Reference
+     */
+    @JsonIgnore
+    public Reference getKeysetPosition() { return this.keysetPosition; }
+
+    /**
+     * Set the keyset-paged search from which the page was retrieved, and the last result of the page.
+     * @param keysetSearch the keyset-paged search from which the page was retrieved
+     * @param keysetPosition the last result of the page, after which the next page begins
+     */
+    @JsonIgnore
+    public void setKeyset(IGCSearch keysetSearch, Reference keysetPosition) {
+        this.keysetSearch = keysetSearch;
+        this.keysetPosition = keysetPosition;
+    }
+
     /**
      * Returns true iff there are more (unretrieved) pages for the paging that this object represents.
      *
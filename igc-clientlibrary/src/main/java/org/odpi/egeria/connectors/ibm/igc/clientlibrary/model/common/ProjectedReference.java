@@ -0,0 +1,208 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCRestClient;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.base.Note;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compact, flat representation of an IGC asset that holds only the values of the properties of a
+ * {@link Projection} (alongside the basic details common to every asset, like its _id, _name and _type), rather than
+ * every field of the POJO for the asset's type.
+ * <br><br>
+ * The values are retrieved through {@link #getPropertyValue(String)} (or {@link IGCRestClient#getPropertyByName(Reference, String)}),
+ * and are of the same type as the POJO's getter for that property would return (for example, an {@link ItemList} for
+ * a relationship property). Any property that is not part of the projection is simply null, just as it would be for
+ * a POJO retrieved with only a subset of its properties.
+ * @see IGCRestClient#searchProjected(org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearch)
+ */
+@JsonTypeInfo(use=JsonTypeInfo.Id.NONE)
+@JsonDeserialize(using=ProjectedReference.Deserializer.class)
+public class ProjectedReference extends Reference {
+
+    private final Projection projection;
+    private final Object[] values;
+
+    /**
+     * Create a new (empty) projected asset.
+     *
+     * @param projection the projection defining the properties whose values are held
+     */
+    public ProjectedReference(Projection projection) {
+        this.projection = projection;
+        this.values = new Object[projection.size()];
+    }
+
+    /**
+     * Retrieve the projection defining the properties whose values are held.
+     *
+     * @return Projection
+     */
+    @JsonIgnore
+    public Projection getProjection() { return projection; }
+
+    /**
+     * Set the value of a projected property.
+     *
+     * @param property the name of the projected property
+     * @param value the value of the property
+     * @throws IllegalArgumentException if the property is not part of the projection
+     */
+    @JsonIgnore
+    public void setPropertyValue(String property, Object value) {
+        int index = projection.indexOf(property);
+        if (index < 0) {
+            throw new IllegalArgumentException("The property '" + property + "' is not part of the projection " + projection.getProperties() + ".");
+        }
+        values[index] = value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getPropertyValue(String property) {
+        Object value = super.getPropertyValue(property);
+        if (value == UNKNOWN_PROPERTY) {
+            int index = projection.indexOf(property);
+            value = index < 0 ? null : values[index];
+        }
+        return value;
+    }
+
+    /**
+     * Retrieve the (non-null) values of the projected properties, for serialization.
+     *
+     * @return {@code Map<String, Object>}
+     */
+    @JsonAnyGetter
+    public Map<String, Object> getProjectedValues() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        List<String> properties = projection.getProperties();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                map.put(properties.get(i), values[i]);
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Reads a projected asset directly from the JSON of an asset, keeping only the values of the projected
+     * properties (and skipping over anything else without reading it). The projection must be provided through the
+     * {@link Projection} attribute of the reader.
+     */
+    public static class Deserializer extends StdDeserializer<ProjectedReference> {
+
+        /**
+         * Default constructor.
+         */
+        public Deserializer() {
+            super(ProjectedReference.class);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ProjectedReference deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+
+            Projection projection = (Projection) ctxt.getAttribute(Projection.class);
+            if (projection == null) {
+                return ctxt.reportInputMismatch(this, "No projection was provided through which to read the asset.");
+            }
+            ProjectedReference asset = new ProjectedReference(projection);
+            JavaType[] types = null;
+            TokenBuffer[] pending = null;
+
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = p.nextToken();
+            }
+            for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                String name = p.getCurrentName();
+                p.nextToken();
+                switch (name) {
+                    case "_id": asset.setId(p.getValueAsString()); break;
+                    case "_name": asset.setName(p.getValueAsString()); break;
+                    case "_type": asset.setType(p.getValueAsString()); break;
+                    case "_url": asset.setUrl(p.getValueAsString()); break;
+                    case "_context": asset.setContext(ctxt.readValue(p, ctxt.getTypeFactory().constructCollectionType(List.class, Reference.class))); break;
+                    case "created_by": asset.setCreatedBy(p.getValueAsString()); break;
+                    case "created_on": asset.setCreatedOn(ctxt.readValue(p, Date.class)); break;
+                    case "modified_by": asset.setModifiedBy(p.getValueAsString()); break;
+                    case "modified_on": asset.setModifiedOn(ctxt.readValue(p, Date.class)); break;
+                    case "notes": asset.setNotes(ctxt.readValue(p, ctxt.getTypeFactory().constructParametricType(ItemList.class, Note.class))); break;
+                    default:
+                        int index = projection.indexOf(name);
+                        if (index < 0) {
+                            p.skipChildren();
+                        } else if (asset.getType() != null) {
+                            if (types == null) {
+                                types = projection.getValueTypes(asset.getType(), ctxt);
+                            }
+                            asset.values[index] = readValue(p, ctxt, types[index]);
+                        } else {
+                            // We cannot know the type into which to read the value until we know the type of the
+                            // asset, so hold onto the value until then
+                            if (pending == null) {
+                                pending = new TokenBuffer[projection.size()];
+                            }
+                            TokenBuffer buffer = new TokenBuffer(p, ctxt);
+                            buffer.copyCurrentStructure(p);
+                            pending[index] = buffer;
+                        }
+                        break;
+                }
+            }
+
+            if (pending != null) {
+                types = projection.getValueTypes(asset.getType(), ctxt);
+                for (int i = 0; i < pending.length; i++) {
+                    if (pending[i] != null) {
+                        try (JsonParser buffered = pending[i].asParser(p.getCodec())) {
+                            buffered.nextToken();
+                            asset.values[i] = readValue(buffered, ctxt, types[i]);
+                        }
+                    }
+                }
+            }
+            return asset;
+
+        }
+
+        /**
+         * Read the value at the current token of the provided parser as the provided type.
+         *
+         * @param p the parser from which to read the value
+         * @param ctxt the deserialization context
+         * @param type the type into which to read the value
+         * @return Object
+         * @throws IOException if the value cannot be read as the provided type
+         */
+        private Object readValue(JsonParser p, DeserializationContext ctxt, JavaType type) throws IOException {
+            if (p.currentToken() == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            return ctxt.readValue(p, type);
+        }
+
+    }
+
+}
@@ -0,0 +1,159 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Defines the (fixed) set of properties requested by a search, so that its results can be read into compact
+ * {@link ProjectedReference}s holding only those properties' values, rather than into the full POJOs of each type.
+ * <br><br>
+ * A projection is immutable apart from its cache of the (Jackson) type of each property for each POJO, so it can be
+ * shared by any number of searches for the same properties, and across threads.
+ */
+public class Projection {
+
+    private final List<String> properties;
+    private final Map<String, Integer> indices;
+    private final Function<String, Class<?>> pojoResolver;
+    private final ConcurrentMap<Class<?>, JavaType[]> valueTypes;
+
+    /**
+     * Create a new projection of the provided properties.
+     *
+     * @param properties the names of the properties that are projected
+     * @param pojoResolver resolves the POJO that defines each IGC asset type (or null if there is none), used to
+     *                     determine the type into which to read each property's value
+     */
+    public Projection(List<String> properties, Function<String, Class<?>> pojoResolver) {
+        List<String> names = new ArrayList<>();
+        Map<String, Integer> map = new HashMap<>();
+        if (properties != null) {
+            for (String property : properties) {
+                if (property != null && !map.containsKey(property)) {
+                    map.put(property, names.size());
+                    names.add(property);
+                }
+            }
+        }
+        this.properties = Collections.unmodifiableList(names);
+        this.indices = map;
+        this.pojoResolver = pojoResolver;
+        this.valueTypes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Retrieve the names of the properties that are projected, in the order in which their values are held.
+     *
+     * @return {@code List<String>}
+     */
+    public List<String> getProperties() { return properties; }
+
+    /**
+     * Retrieve the number of properties that are projected.
+     *
+     * @return int
+     */
+    public int size() { return properties.size(); }
+
+    /**
+     * Retrieve the position at which the value of the provided property is held.
+     *
+     * @param property the name of the property
+     * @return int - the position of the property's value, or -1 if the property is not projected
+     */
+    public int indexOf(String property) {
+        Integer index = property == null ? null : indices.get(property);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Project the provided (already-retrieved) asset, keeping only the values of the projected properties.
+     *
+     * @param asset the asset to project
+     * @return ProjectedReference
+     */
+    public ProjectedReference project(Reference asset) {
+        ProjectedReference projected = new ProjectedReference(this);
+        projected.setId(asset.getId());
+        projected.setName(asset.getName());
+        projected.setType(asset.getType());
+        projected.setUrl(asset.getUrl());
+        projected.setContext(asset.getContext());
+        projected.setCreatedBy(asset.getCreatedBy());
+        projected.setCreatedOn(asset.getCreatedOn());
+        projected.setModifiedBy(asset.getModifiedBy());
+        projected.setModifiedOn(asset.getModifiedOn());
+        projected.setNotes(asset.getNotes());
+        for (String property : properties) {
+            Object value = asset.getPropertyValue(property);
+            if (value != Reference.UNKNOWN_PROPERTY) {
+                projected.setPropertyValue(property, value);
+            }
+        }
+        return projected;
+    }
+
+    /**
+     * Retrieve the (Jackson) types into which to read the value of each projected property for the provided IGC
+     * asset type, in the same order as the properties. Any property the asset type's POJO does not define is read
+     * as a generic value (String, Number, Map, etc).
+     *
+     * @param assetType the IGC asset type whose properties are being read
+     * @param ctxt the deserialization context through which the POJO is introspected
+     * @return JavaType[]
+     */
+    JavaType[] getValueTypes(String assetType, DeserializationContext ctxt) {
+        Class<?> pojo = assetType == null || pojoResolver == null ? null : pojoResolver.apply(assetType);
+        if (pojo == null) {
+            pojo = Reference.class;
+        }
+        JavaType[] types = valueTypes.get(pojo);
+        if (types == null) {
+            // Introspection is deterministic, so we do not mind if concurrent threads each introspect the same POJO
+            types = introspect(pojo, ctxt);
+            JavaType[] existing = valueTypes.putIfAbsent(pojo, types);
+            if (existing != null) {
+                types = existing;
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Determine the (Jackson) type of each projected property from the provided POJO.
+     *
+     * @param pojo the POJO that defines the properties
+     * @param ctxt the deserialization context through which to introspect the POJO
+     * @return JavaType[]
+     */
+    private JavaType[] introspect(Class<?> pojo, DeserializationContext ctxt) {
+        BeanDescription description = ctxt.getConfig().introspect(ctxt.constructType(pojo));
+        Map<String, JavaType> byName = new HashMap<>();
+        for (BeanPropertyDefinition definition : description.findProperties()) {
+            JavaType type = definition.getPrimaryType();
+            if (type != null) {
+                byName.put(definition.getName(), type);
+            }
+        }
+        JavaType generic = ctxt.constructType(Object.class);
+        JavaType[] types = new JavaType[properties.size()];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = byName.getOrDefault(properties.get(i), generic);
+        }
+        return types;
+    }
+
+}
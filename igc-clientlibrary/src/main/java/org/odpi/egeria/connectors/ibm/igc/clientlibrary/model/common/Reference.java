@@ -224,6 +224,11 @@ import java.util.List;
 @JsonIgnoreProperties(ignoreUnknown=true)
 public class Reference extends ObjectPrinter {
 
+    /**
+     * Returned by {@link #getPropertyValue(String)} for any property the object's class does not itself define.
+     */
+    public static final Object UNKNOWN_PROPERTY = new Object();
+
     /**
      * Used to uniquely identify the object without relying on its ID (RID) remaining static.
      */
@@ -488,6 +493,31 @@ public class Reference extends ObjectPrinter {
     @JsonProperty("notes")
     public void setNotes(ItemList<Note> notes) { this.notes = notes; }
 
+    /**
+     * Retrieve the value of a property of the object based on the property's name, without any reflection. Each
+     * (generated) subclass overrides this to handle its own properties and defers to its superclass for any others.
+     *
+     * @param property the name of the IGC property for which to retrieve the value
+     * @return Object - the value of the property, or {@link #UNKNOWN_PROPERTY} if the property is not defined by the
+     *         object's class (for example, a custom property only available through a custom POJO's getter)
+     */
+    @JsonIgnore
+    public Object getPropertyValue(String property) {
+        switch (property) {
+            case "_context": return getContext();
+            case "_id": return getId();
+            case "_name": return getName();
+            case "_type": return getType();
+            case "_url": return getUrl();
+            case "created_by": return getCreatedBy();
+            case "created_on": return getCreatedOn();
+            case "modified_by": return getModifiedBy();
+            case "modified_on": return getModifiedOn();
+            case "notes": return getNotes();
+            default: return UNKNOWN_PROPERTY;
+        }
+    }
+
     /**
      * Determine whether this object instance is fully retrieved (true) or only partially (false).
      *
@@ -576,7 +606,11 @@ public class Reference extends ObjectPrinter {
                 setModifiedOn(assetWithCtx.getModifiedOn());
                 setModifiedBy(assetWithCtx.getModifiedBy());
             }
-            identity = new Identity(getContext(), getType(), getName(), getId());
+            if (igcrest == null) {
+                identity = new Identity(getContext(), getType(), getName(), getId());
+            } else {
+                identity = igcrest.getIdentityCache().getIdentity(getContext(), getType(), getName(), getId());
+            }
         }
         return identity;
     }
@@ -0,0 +1,180 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary.search;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A search whose query has been prepared (compiled) once, so that it can be run repeatedly with different values
+ * without re-building its JSON structure each time.
+ * <br><br>
+ * To prepare a search, define an {@link IGCSearch} as usual but give any condition value that should vary between
+ * runs as {@link #PARAMETER}. For example, the following prepares a search for terms by their exact name:
+ * <pre>
+ *     IGCSearchCondition byName = new IGCSearchCondition("name", "=", IGCPreparedSearch.PARAMETER);
+ *     IGCPreparedSearch prepared = new IGCPreparedSearch(new IGCSearch("term", new IGCSearchConditionSet(byName)));
+ * </pre>
+ * Each run then only needs to provide the values for those parameters (in the order they appear in the search), and
+ * optionally where to begin and the size of the page, to render the query.
+ */
+public class IGCPreparedSearch {
+
+    /**
+     * Placeholder for a condition value that is provided each time the prepared search is run.
+     */
+    public static final String PARAMETER = "?{parameter}";
+
+    private static final String PAGE_SIZE_MARKER = "?{pageSize}";
+    private static final String BEGIN_MARKER = "?{begin}";
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(512));
+
+    private enum SlotType { PARAMETER, PAGE_SIZE, BEGIN }
+
+    private final String[] fragments;
+    private final SlotType[] slots;
+    private final int parameterCount;
+    private final int pageSize;
+
+    /**
+     * Prepare the provided search, which should use {@link #PARAMETER} for any condition values that will vary
+     * between runs. (Any changes made to the search after it has been prepared will not be reflected in the prepared
+     * search.)
+     *
+     * @param search the search to prepare
+     */
+    public IGCPreparedSearch(IGCSearch search) {
+
+        ObjectNode query = (ObjectNode) search.getQuery().deepCopy();
+        this.pageSize = query.has("pageSize") ? query.get("pageSize").asInt() : 0;
+        query.put("pageSize", PAGE_SIZE_MARKER);
+        query.put("begin", BEGIN_MARKER);
+        String json = query.toString();
+
+        // Split the query into the fixed fragments between each value that varies: the begin and pageSize slots
+        // include their own key (and leading comma), so that they can be omitted entirely when not needed
+        String pageSizeToken = ",\"pageSize\":\"" + PAGE_SIZE_MARKER + "\"";
+        String beginToken = ",\"begin\":\"" + BEGIN_MARKER + "\"";
+        String parameterToken = "\"" + PARAMETER + "\"";
+        List<String> fragmentList = new ArrayList<>();
+        List<SlotType> slotList = new ArrayList<>();
+        int parameters = 0;
+        int from = 0;
+        while (true) {
+            int nextPageSize = json.indexOf(pageSizeToken, from);
+            int nextBegin = json.indexOf(beginToken, from);
+            int nextParameter = json.indexOf(parameterToken, from);
+            int next = min(nextPageSize, nextBegin, nextParameter);
+            if (next < 0) {
+                break;
+            }
+            fragmentList.add(json.substring(from, next));
+            if (next == nextPageSize) {
+                slotList.add(SlotType.PAGE_SIZE);
+                from = next + pageSizeToken.length();
+            } else if (next == nextBegin) {
+                slotList.add(SlotType.BEGIN);
+                from = next + beginToken.length();
+            } else {
+                slotList.add(SlotType.PARAMETER);
+                parameters++;
+                from = next + parameterToken.length();
+            }
+        }
+        fragmentList.add(json.substring(from));
+
+        this.fragments = fragmentList.toArray(new String[0]);
+        this.slots = slotList.toArray(new SlotType[0]);
+        this.parameterCount = parameters;
+
+    }
+
+    /**
+     * Retrieve the number of parameters that must be provided to run this search.
+     *
+     * @return int
+     */
+    public int getParameterCount() { return parameterCount; }
+
+    /**
+     * Retrieve the size of each page of results, as defined by the search that was prepared.
+     *
+     * @return int
+     */
+    public int getPageSize() { return pageSize; }
+
+    /**
+     * Render the query for the first page of results of this search, using the provided parameter values.
+     *
+     * @param values the values for each parameter, in the order they appear in the search
+     * @return String - the JSON query
+     */
+    public String render(String... values) {
+        return render(0, pageSize, values);
+    }
+
+    /**
+     * Render the query for this search, using the provided parameter values, beginning and page size.
+     *
+     * @param beginAt the number of results to skip over before returning results (0 to start from the first result)
+     * @param pageSize the number of results to include in each page (0 to leave the page size to IGC's default)
+     * @param values the (non-null) values for each parameter, in the order they appear in the search
+     * @return String - the JSON query
+     */
+    public String render(int beginAt, int pageSize, String... values) {
+        int provided = values == null ? 0 : values.length;
+        if (provided != parameterCount) {
+            throw new IllegalArgumentException("Expected " + parameterCount + " parameter values, but received " + provided + ".");
+        }
+        StringBuilder sb = BUFFER.get();
+        sb.setLength(0);
+        JsonStringEncoder encoder = JsonStringEncoder.getInstance();
+        int parameter = 0;
+        for (int i = 0; i < slots.length; i++) {
+            sb.append(fragments[i]);
+            switch (slots[i]) {
+                case PARAMETER:
+                    if (values[parameter] == null) {
+                        throw new IllegalArgumentException("No value provided for parameter " + parameter + ".");
+                    }
+                    sb.append('"');
+                    encoder.quoteAsString(values[parameter++], sb);
+                    sb.append('"');
+                    break;
+                case PAGE_SIZE:
+                    if (pageSize > 0) {
+                        sb.append(",\"pageSize\":").append(pageSize);
+                    }
+                    break;
+                case BEGIN:
+                    if (beginAt > 0) {
+                        sb.append(",\"begin\":").append(beginAt);
+                    }
+                    break;
+            }
+        }
+        sb.append(fragments[fragments.length - 1]);
+        return sb.toString();
+    }
+
+    /**
+     * Retrieve the smallest of the provided indexes that is not negative.
+     *
+     * @param indexes the indexes to compare
+     * @return int - the smallest non-negative index, or -1 if all are negative
+     */
+    private static int min(int... indexes) {
+        int min = -1;
+        for (int index : indexes) {
+            if (index >= 0 && (min < 0 || index < min)) {
+                min = index;
+            }
+        }
+        return min;
+    }
+
+}
@@ -6,13 +6,21 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
 
 /**
  * Manages the criteria to use for running a search against IGC.
+ * <br><br>
+ * By default, each page of results is retrieved by its offset ('begin') into the results. A search can instead use
+ * keyset paging (see {@link #useKeysetPaging()}), where each page is retrieved by searching for the results that
+ * sort after the last result of the previous page. This keeps every page as fast to retrieve as the first (rather
+ * than each deeper page being slower than the one before it), and stops results from being skipped or repeated when
+ * assets are created or deleted part-way through retrieving them.
  */
 public class IGCSearch {
 
@@ -28,6 +36,9 @@ public class IGCSearch {
 
     private boolean devGlossary = false;
 
+    private boolean keysetPaging = false;
+    private String keyProperty = null;
+
     public IGCSearch() {
         this.types = nf.arrayNode();
         this.properties = nf.arrayNode();
@@ -134,6 +145,19 @@ public class IGCSearch {
         }
     }
 
+    /**
+     * Retrieve the names of the properties included in the search.
+     *
+     * @return {@code List<String>}
+     */
+    public List<String> getProperties() {
+        List<String> names = new ArrayList<>();
+        for (JsonNode property : properties) {
+            names.add(property.asText());
+        }
+        return names;
+    }
+
     /**
      * Adds a set of conditions to use for the search.
      *
@@ -168,6 +192,43 @@ public class IGCSearch {
         this.beginAt = beginAt;
     }
 
+    /**
+     * Use keyset paging for the search, keyed only by the Repository ID (RID) of each result. The results are then
+     * sorted only by RID (replacing any other sorting criteria), and any offset set through {@link #setBeginAt(int)}
+     * is ignored.
+     */
+    public void useKeysetPaging() {
+        useKeysetPaging(null);
+    }
+
+    /**
+     * Use keyset paging for the search, keyed by the provided property (eg. 'modified_on') and then by the Repository
+     * ID (RID) of each result. The results are then sorted only by this key (replacing any other sorting criteria),
+     * and any offset set through {@link #setBeginAt(int)} is ignored. The property must have a (non-null) date,
+     * number or string value for every result.
+     *
+     * @param property the property by which to key the results (or null to key them only by RID)
+     */
+    public void useKeysetPaging(String property) {
+        this.keysetPaging = true;
+        this.keyProperty = (property == null || property.equals("_id")) ? null : property;
+    }
+
+    /**
+     * Indicates whether the search uses keyset paging (true) or offset paging (false).
+     *
+     * @return boolean
+     */
+    public boolean isKeysetPaging() { return this.keysetPaging; }
+
+    /**
+     * Retrieve the property (other than the Repository ID (RID)) by which the results are keyed for keyset paging, or
+     * null if they are keyed only by RID (or the search does not use keyset paging).
+     *
+     * @return String
+     */
+    public String getKeyProperty() { return this.keyProperty; }
+
     /**
      * Set whether to search the development glossary (true) or published glossary (false).
      *
@@ -183,6 +244,9 @@ public class IGCSearch {
      * @return JsonNode - the JSON structure representing the query string
      */
     public JsonNode getQuery() {
+        if (keysetPaging) {
+            return getQueryAfter(null);
+        }
         ObjectNode query = nf.objectNode();
         query.set("types", types);
         if (properties != null && properties.size() > 0) {
@@ -210,6 +274,100 @@ public class IGCSearch {
         return query;
     }
 
+    /**
+     * Retrieves the query string for the page of this (keyset-paged) search's results that follows the provided
+     * result.
+     *
+     * @param last the last result of the previous page (or null to retrieve the first page)
+     * @return JsonNode - the JSON structure representing the query string
+     * @throws IllegalStateException if the search does not use keyset paging
+     * @throws IllegalArgumentException if the key of the provided result cannot be determined
+     */
+    public JsonNode getQueryAfter(Reference last) {
+        if (!keysetPaging) {
+            throw new IllegalStateException("The search does not use keyset paging: " + this);
+        }
+        ObjectNode query = nf.objectNode();
+        query.set("types", types);
+        ArrayNode keyedProperties = properties;
+        if (keyProperty != null && !getProperties().contains(keyProperty)) {
+            // The value of the key must be retrieved for each result, in order to search for the next page
+            keyedProperties = properties.deepCopy();
+            keyedProperties.add(keyProperty);
+        }
+        if (keyedProperties.size() > 0) {
+            query.set("properties", keyedProperties);
+        }
+        if (pageSize > 0) {
+            query.set("pageSize", nf.numberNode(pageSize));
+        }
+        IGCSearchConditionSet where = conditions;
+        if (last != null) {
+            where = new IGCSearchConditionSet();
+            if (conditions != null && conditions.size() > 0) {
+                where.addNestedConditionSet(conditions);
+            }
+            addConditionsAfter(where, last);
+        }
+        if (where != null && where.size() > 0) {
+            query.set("where", where.getConditionSetObject());
+        }
+        ArrayNode anSorts = nf.arrayNode();
+        if (keyProperty != null) {
+            anSorts.add(new IGCSearchSorting(keyProperty).getSortObject());
+        }
+        anSorts.add(new IGCSearchSorting("_id").getSortObject());
+        query.set("sorts", anSorts);
+        if (devGlossary) {
+            query.set("workflowMode", nf.textNode("draft"));
+        }
+        return query;
+    }
+
+    /**
+     * Add the conditions that restrict results to those whose key sorts after the key of the provided result.
+     *
+     * @param where the set of conditions to which to add
+     * @param last the last result of the previous page
+     * @throws IllegalArgumentException if the key of the provided result cannot be determined
+     */
+    private void addConditionsAfter(IGCSearchConditionSet where, Reference last) {
+        String rid = last.getId();
+        if (rid == null) {
+            throw new IllegalArgumentException("Unable to page after a result without an ID: " + last);
+        }
+        IGCSearchCondition afterRid = new IGCSearchCondition("_id", ">", rid);
+        if (keyProperty == null) {
+            where.addCondition(afterRid);
+        } else {
+            // ie. (key > last key) OR (key = last key AND _id > last _id)
+            String key = getKeyValue(last);
+            IGCSearchConditionSet sameKey = new IGCSearchConditionSet(new IGCSearchCondition(keyProperty, "=", key));
+            sameKey.addCondition(afterRid);
+            IGCSearchConditionSet after = new IGCSearchConditionSet(new IGCSearchCondition(keyProperty, ">", key));
+            after.addNestedConditionSet(sameKey);
+            after.setMatchAnyCondition(true);
+            where.addNestedConditionSet(after);
+        }
+    }
+
+    /**
+     * Retrieve the value of the key property of the provided result, as it should be compared in a search condition.
+     *
+     * @param last the result for which to retrieve the value
+     * @return String
+     * @throws IllegalArgumentException if the result has no (comparable) value for the key property
+     */
+    private String getKeyValue(Reference last) {
+        Object value = last.getPropertyValue(keyProperty);
+        if (value instanceof Date) {
+            return String.valueOf(((Date) value).getTime());
+        } else if (value instanceof Number || value instanceof String) {
+            return value.toString();
+        }
+        throw new IllegalArgumentException("Unable to page by '" + keyProperty + "', as it has no comparable value for: " + last.getId());
+    }
+
     public String toString() {
         return getQuery().toString();
     }
@@ -2,12 +2,21 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.egeria.connectors.ibm.igc.clientlibrary;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.cache.ObjectCache;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.cache.SharedObjectCache;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCConnectivityException;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCIOException;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCParsingException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.http.HttpTransportSettings;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.metrics.IGCOperation;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.metrics.IGCRequestMetrics;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.metrics.IGCRequestStatistics;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.base.*;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.*;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCPreparedSearch;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearch;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearchCondition;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearchConditionSet;
@@ -18,13 +27,31 @@ import org.odpi.egeria.connectors.ibm.information.server.mocks.MockConstants;
 import org.odpi.openmetadata.http.HttpHelper;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.util.UriUtils;
 import org.testng.annotations.*;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.testng.Assert.*;
 
@@ -245,6 +272,62 @@ public class ClientTest {
 
     }
 
+    @Test
+    public void testSharedObjectCache() {
+
+        SharedObjectCache shared = new SharedObjectCache(2, 0, TimeUnit.SECONDS);
+        try {
+            Category category = (Category) igcRestClient.getAssetById(MockConstants.GLOSSARY_RID);
+            Category first = igcRestClient.getModificationDetails(category, new ObjectCache(shared));
+            assertEquals(shared.getMissCount(), 1);
+            assertEquals(shared.size(), 1);
+            // A later request (with its own cache) re-uses what the first one cached, rather than retrieving it again
+            Category second = igcRestClient.getModificationDetails(category, new ObjectCache(shared));
+            assertSame(second, first);
+            assertEquals(shared.getHitCount(), 1);
+            ObjectCache cache = new ObjectCache(shared);
+            cache.invalidate(MockConstants.GLOSSARY_RID);
+            assertEquals(shared.getInvalidationCount(), 1);
+            assertNull(cache.get(MockConstants.GLOSSARY_RID));
+            assertNotSame(igcRestClient.getModificationDetails(category, cache), first);
+            // ... but an object cached only for its modification details is never mistaken for the full asset
+            assertFalse(cache.get(MockConstants.GLOSSARY_RID).isFullyRetrieved());
+            Reference full = igcRestClient.getAssetById(MockConstants.GLOSSARY_RID, cache);
+            assertNotSame(full, cache.get(MockConstants.GLOSSARY_RID));
+            assertEquals(full.getId(), MockConstants.GLOSSARY_RID);
+        } catch (IGCException e) {
+            assertNull(e, "Fatal error interacting with IGC.");
+        }
+
+        // The least-recently used object is evicted once the cache is full
+        shared.clear();
+        shared.add(new Reference("One", "term", "1"));
+        shared.add(new Reference("Two", "term", "2"));
+        assertNotNull(shared.get("1"));
+        shared.add(new Reference("Three", "term", "3"));
+        assertEquals(shared.size(), 2);
+        assertEquals(shared.getEvictionCount(), 1);
+        assertNull(shared.get("2"));
+        assertNotNull(shared.get("1"));
+        assertNotNull(shared.get("3"));
+        assertTrue(shared.getSummary().contains("evictions=1"));
+
+        // ... and every object expires once it has been cached for longer than the TTL
+        SharedObjectCache expiring = new SharedObjectCache(10, 50, TimeUnit.MILLISECONDS);
+        expiring.add(new Reference("One", "term", "1"));
+        assertNotNull(expiring.get("1"));
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        assertNull(expiring.get("1"));
+        assertEquals(expiring.getExpirationCount(), 1);
+        assertEquals(expiring.getHitRatio(), 0.5);
+        assertThrows(IllegalArgumentException.class, () -> new SharedObjectCache(0, 0, TimeUnit.SECONDS));
+
+    }
+
     @Test
     public void testPartialAssetRetrievalAndSerDe() {
         try {
@@ -268,6 +351,187 @@ public class ClientTest {
         }
     }
 
+    @Test
+    public void testPropertyAccessors() {
+        try {
+            Reference testFull = igcRestClient.getAssetById(MockConstants.GLOSSARY_RID);
+            assertTrue(testFull instanceof Category);
+            Category category = (Category) testFull;
+            assertEquals(category.getPropertyValue("short_description"), MockConstants.GLOSSARY_DESC);
+            assertSame(category.getPropertyValue("terms"), category.getTerms());
+            assertEquals(category.getPropertyValue("created_by"), category.getCreatedBy());
+            assertEquals(category.getPropertyValue("_id"), MockConstants.GLOSSARY_RID);
+            assertSame(category.getPropertyValue("not_a_property"), Reference.UNKNOWN_PROPERTY);
+            assertSame(igcRestClient.getPropertyByName(category, "terms"), category.getTerms());
+            assertEquals(igcRestClient.getPropertyByName(category, "modified_on"), category.getModifiedOn());
+            assertThrows(IGCIOException.class, () -> igcRestClient.getPropertyByName(category, "not_a_property"));
+        } catch (IGCException e) {
+            assertNull(e, "Fatal error interacting with IGC.");
+        }
+    }
+
+    @Test
+    public void testProjections() {
+
+        IGCSearchCondition igcSearchCondition = new IGCSearchCondition("name", "like %{0}%", "address");
+        IGCSearch igcSearch = new IGCSearch("term", new IGCSearchConditionSet(igcSearchCondition));
+        igcSearch.addProperties(IGCRestConstants.getModificationProperties());
+        igcSearch.setPageSize(2);
+        igcSearch.addSortingCriteria(new IGCSearchSorting("_id", true));
+
+        try {
+            List<String> properties = new ArrayList<>();
+            properties.add("short_description");
+            ProjectedReference projected = igcRestClient.getProjectedAsset(MockConstants.GLOSSARY_RID, "category", properties, 100);
+            assertNotNull(projected);
+            assertEquals(projected.getId(), MockConstants.GLOSSARY_RID);
+            assertEquals(projected.getType(), "category");
+            assertEquals(projected.getPropertyValue("short_description"), MockConstants.GLOSSARY_DESC);
+            assertEquals(igcRestClient.getPropertyByName(projected, "short_description"), MockConstants.GLOSSARY_DESC);
+            assertNull(igcRestClient.getPropertyByName(projected, "terms"));
+            assertTrue(projected.toString().contains(MockConstants.GLOSSARY_DESC));
+            Category category = igcRestClient.getAssetWithSubsetOfProperties(MockConstants.GLOSSARY_RID, "category", properties, 100);
+            assertEquals(projected.getProjection().project(category).getProjectedValues(), projected.getProjectedValues());
+
+            ItemList<ProjectedReference> results = igcRestClient.searchProjected(igcSearch);
+            assertEquals(results.getPaging().getNumTotal().intValue(), 6);
+            assertNotNull(results.getPaging().getProjection());
+            List<ProjectedReference> all = igcRestClient.getAllPages(null, results);
+            List<Term> terms = igcRestClient.getAllPages(null, igcRestClient.search(igcSearch));
+            assertEquals(all.size(), terms.size());
+            for (int i = 0; i < terms.size(); i++) {
+                assertEquals(all.get(i).getId(), terms.get(i).getId());
+                assertEquals(all.get(i).getType(), "term");
+                assertEquals(igcRestClient.getPropertyByName(all.get(i), "modified_on"), terms.get(i).getModifiedOn());
+            }
+        } catch (IGCException e) {
+            assertNull(e, "Fatal error interacting with IGC.");
+        }
+
+    }
+
+    @Test
+    public void testKeysetPaging() {
+
+        IGCSearchCondition igcSearchCondition = new IGCSearchCondition("name", "like %{0}%", "address");
+        IGCSearch igcSearch = new IGCSearch("term", new IGCSearchConditionSet(igcSearchCondition));
+        igcSearch.addProperties(IGCRestConstants.getModificationProperties());
+        igcSearch.setPageSize(2);
+        igcSearch.useKeysetPaging();
+        assertTrue(igcSearch.isKeysetPaging());
+        assertNull(igcSearch.getKeyProperty());
+
+        try {
+            ItemList<Term> results = igcRestClient.search(igcSearch);
+            assertNotNull(results.getPaging().getKeysetSearch());
+            assertEquals(results.getPaging().getKeysetPosition().getName(), "Address Line 2");
+            List<Term> all = igcRestClient.getAllPages(null, results);
+            assertEquals(all.size(), 6);
+            assertEquals(all.get(5).getName(), "Email Address");
+            Iterator<Term> iterator = igcRestClient.iterateAllPages(null, igcRestClient.search(igcSearch));
+            for (Term term : all) {
+                assertEquals(iterator.next().getId(), term.getId());
+            }
+            assertFalse(iterator.hasNext());
+        } catch (IGCException e) {
+            assertNull(e, "Fatal error interacting with IGC.");
+        }
+
+        // Keyed by modification date (and then RID), the key must also be retrieved and used for sorting
+        IGCSearch byModification = new IGCSearch("term");
+        byModification.useKeysetPaging("modified_on");
+        byModification.addSortingCriteria(new IGCSearchSorting("name"));
+        Term last = new Term();
+        last.setId("last_rid");
+        last.setModifiedOn(new Date(1575994814000L));
+        String query = byModification.getQueryAfter(last).toString();
+        assertTrue(query.contains("\"properties\":[\"modified_on\"]"));
+        assertTrue(query.contains("\"sorts\":[{\"property\":\"modified_on\",\"ascending\":true},{\"property\":\"_id\",\"ascending\":true}]"));
+        assertTrue(query.contains("{\"property\":\"modified_on\",\"operator\":\">\",\"value\":\"1575994814000\"}"));
+        assertTrue(query.contains("{\"property\":\"_id\",\"operator\":\">\",\"value\":\"last_rid\"}"));
+        assertFalse(byModification.getQuery().toString().contains("where"));
+        assertThrows(IllegalArgumentException.class, () -> byModification.getQueryAfter(new Term()));
+
+    }
+
+    @Test
+    public void testAdaptivePageSizing() {
+
+        IGCSearch igcSearch = new IGCSearch("term");
+        igcSearch.addProperties(Arrays.asList("modified_by", "modified_on"));
+        igcSearch.setPageSize(100);
+        String query = igcSearch.getQuery().toString();
+        String shape = IGCPageSizer.getShapeOfSearch(query);
+        assertEquals(shape, "term|modified_by,modified_on");
+        assertEquals(IGCPageSizer.getShapeOfNextPage("/ibm/iis/igc-rest/v1/search?types=term&properties=modified_by&properties=modified_on&begin=100&pageSize=100"), shape);
+        assertNull(IGCPageSizer.getShapeOfNextPage("/ibm/iis/igc-rest/v1/assets/123"));
+
+        // Disabled by default, so always the requested page size
+        assertEquals(igcRestClient.getPageLatencyBudget(), 0);
+        assertEquals(igcRestClient.getPageSize(igcSearch, 100), 100);
+
+        IGCPageSizer sizer = new IGCPageSizer(100, TimeUnit.MILLISECONDS);
+        assertEquals(sizer.getLatencyBudget(), 100);
+        assertEquals(sizer.getPageSize(query, 1000), 1000);
+
+        // A fast page should only allow the size to double, never beyond the limit
+        sizer.record(shape, 50, 50, TimeUnit.MILLISECONDS.toNanos(15), 5000);
+        assertEquals(sizer.getPageSize(query, 1000), 100);
+        assertEquals(sizer.getPageSize(query, 80), 80);
+
+        // 10ms overhead + 0.1ms per item should settle on 900 items within 100ms
+        sizer.record(shape, 100, 100, TimeUnit.MILLISECONDS.toNanos(20), 10000);
+        sizer.record(shape, 200, 200, TimeUnit.MILLISECONDS.toNanos(30), 20000);
+        assertEquals(sizer.getPageSize(query, 1000), 400);
+        sizer.record(shape, 400, 400, TimeUnit.MILLISECONDS.toNanos(50), 40000);
+        sizer.record(shape, 800, 800, TimeUnit.MILLISECONDS.toNanos(90), 80000);
+        int settled = sizer.getPageSize(query, 1000);
+        assertTrue(settled >= 899 && settled <= 900);
+
+        // Other shapes are unaffected, and a slow page shrinks the size (though never below the minimum)
+        assertEquals(sizer.getPageSize(new IGCSearch("category").getQuery().toString(), 1000), 1000);
+        sizer.record(shape, 10, 10, TimeUnit.SECONDS.toNanos(10), 1000);
+        int shrunk = sizer.getPageSize(query, 1000);
+        assertTrue(shrunk >= 10 && shrunk < 100);
+        assertEquals(sizer.getPageSize(query, 5), 5);
+
+    }
+
+    @Test
+    public void testAdaptivePageSizingAfterNarrowSearch() {
+
+        IGCSearch igcSearch = new IGCSearch("term");
+        igcSearch.addProperties(Arrays.asList("modified_by", "modified_on"));
+        String query = igcSearch.getQuery().toString();
+        String shape = IGCPageSizer.getShapeOfSearch(query);
+        IGCPageSizer sizer = new IGCPageSizer(100, TimeUnit.MILLISECONDS);
+
+        // A narrow search returning a single result should not limit a later scan of the same shape
+        sizer.record(shape, 1, 100, TimeUnit.MILLISECONDS.toNanos(5), 100);
+        assertEquals(sizer.getPageSize(query, 100), 100);
+
+        // Only the full pages of the scan allow the size to grow, and its short last page does not shrink it again
+        sizer.record(shape, 100, 100, TimeUnit.MILLISECONDS.toNanos(15), 10000);
+        assertEquals(sizer.getPageSize(query, 1000), 200);
+        sizer.record(shape, 30, 200, TimeUnit.MILLISECONDS.toNanos(8), 3000);
+        assertEquals(sizer.getPageSize(query, 1000), 200);
+
+    }
+
+    @Test
+    public void testPOJORegistry() {
+        try {
+            assertEquals(igcRestClient.getPOJOForType("term"), Term.class);
+            assertEquals(igcRestClient.getPOJOForType("Rule_Execution_Result"), RuleExecutionResult.class);
+            assertEquals(igcRestClient.getPOJOForType("note"), Note.class);
+        } catch (IGCException e) {
+            assertNull(e, "Fatal error interacting with IGC.");
+        }
+        assertTrue(IGCTypeRegistry.getAssetTypes().contains("main_object"));
+        assertNull(IGCTypeRegistry.getPOJO(null));
+        assertThrows(IGCIOException.class, () -> igcRestClient.getPOJOForType("not_a_type"));
+    }
+
     @Test
     public void testAssetRefRetrievalAndSerDe() {
         try {
@@ -305,6 +569,35 @@ public class ClientTest {
 
     }
 
+    @Test
+    public void testAssetsByIds() {
+
+        try {
+            assertTrue(igcRestClient.getAssetsByIds(Collections.emptyList(), "term", null).isEmpty());
+            Map<String, Reference> terms = igcRestClient.getAssetsByIds(Arrays.asList(MockConstants.TERM_WITH_NOTES_RID, MockConstants.TERM_WITH_NOTES_RID), "term", Collections.singletonList("name"));
+            assertEquals(terms.size(), 1);
+            assertTrue(terms.get(MockConstants.TERM_WITH_NOTES_RID) instanceof Term);
+            Map<String, Reference> virtual = igcRestClient.getAssetsByIds(Collections.singletonList(MockConstants.VIRTUAL_ASSET_TABLE_RID), "database_table", null);
+            assertEquals(virtual.size(), 1);
+            assertTrue(virtual.get(MockConstants.VIRTUAL_ASSET_TABLE_RID) instanceof DatabaseTable);
+            Map<String, ProjectedReference> projected = igcRestClient.getProjectedAssetsByIds(Collections.singletonList(MockConstants.TERM_WITH_NOTES_RID), "term", Collections.singletonList("name"));
+            assertEquals(projected.size(), 1);
+            assertEquals(igcRestClient.getPropertyByName(projected.get(MockConstants.TERM_WITH_NOTES_RID), "name"), terms.get(MockConstants.TERM_WITH_NOTES_RID).getName());
+            projected = igcRestClient.getProjectedAssetsByIds(Collections.singletonList(MockConstants.VIRTUAL_ASSET_TABLE_RID), "database_table", Collections.singletonList("name"));
+            assertEquals(projected.get(MockConstants.VIRTUAL_ASSET_TABLE_RID).getName(), virtual.get(MockConstants.VIRTUAL_ASSET_TABLE_RID).getName());
+            Map<String, Reference> mixed = igcRestClient.getAssetsByIds(
+                    Arrays.asList(virtual.get(MockConstants.VIRTUAL_ASSET_TABLE_RID), terms.get(MockConstants.TERM_WITH_NOTES_RID)),
+                    type -> type.equals("term") ? Collections.singletonList("name") : null,
+                    null);
+            assertEquals(new ArrayList<>(mixed.keySet()), Arrays.asList(MockConstants.VIRTUAL_ASSET_TABLE_RID, MockConstants.TERM_WITH_NOTES_RID));
+            assertTrue(mixed.get(MockConstants.VIRTUAL_ASSET_TABLE_RID) instanceof DatabaseTable);
+            assertTrue(mixed.get(MockConstants.TERM_WITH_NOTES_RID) instanceof Term);
+        } catch (IGCException e) {
+            assertNull(e, "Fatal error interacting with IGC.");
+        }
+
+    }
+
     @Test
     public void testSearchAndPaging() {
 
@@ -355,6 +648,113 @@ public class ClientTest {
 
     }
 
+    @Test
+    public void testSearchStreamAndIterator() {
+
+        IGCSearchCondition igcSearchCondition = new IGCSearchCondition("name", "like %{0}%", "address");
+        IGCSearchConditionSet igcSearchConditionSet = new IGCSearchConditionSet(igcSearchCondition);
+        IGCSearch igcSearch = new IGCSearch("term", igcSearchConditionSet);
+        igcSearch.addProperties(IGCRestConstants.getModificationProperties());
+        igcSearch.setPageSize(2);
+        igcSearch.addSortingCriteria(new IGCSearchSorting("_id", true));
+
+        try {
+            // Stream all results, retrieving pages as the stream is consumed
+            Stream<Term> stream = igcRestClient.searchStream(igcSearch);
+            List<Term> all = stream.collect(Collectors.toList());
+            assertEquals(all.size(), 6);
+
+            // Stop part-way through the first page, without retrieving any further pages
+            List<Term> firstOnly = igcRestClient.<Term>searchStream(igcSearch).limit(1).collect(Collectors.toList());
+            assertEquals(firstOnly.size(), 1);
+
+            // Iterate over all results
+            ItemList<Term> results = igcRestClient.search(igcSearch);
+            Iterator<Term> iterator = igcRestClient.iterateAllPages(null, results);
+            int count = 0;
+            while (iterator.hasNext()) {
+                assertNotNull(iterator.next());
+                count++;
+            }
+            assertEquals(count, 6);
+            assertThrows(NoSuchElementException.class, iterator::next);
+        } catch (IGCException e) {
+            assertNull(e, "Fatal error interacting with IGC.");
+        }
+
+    }
+
+    @Test
+    public void testConcurrentPaging() {
+
+        IGCSearchCondition igcSearchCondition = new IGCSearchCondition("name", "like %{0}%", "address");
+        IGCSearchConditionSet igcSearchConditionSet = new IGCSearchConditionSet(igcSearchCondition);
+        IGCSearch igcSearch = new IGCSearch("term", igcSearchConditionSet);
+        igcSearch.addProperties(IGCRestConstants.getModificationProperties());
+        igcSearch.setPageSize(2);
+        igcSearch.addSortingCriteria(new IGCSearchSorting("_id", true));
+
+        IGCClientSettings settings = new IGCClientSettings();
+        settings.setPagePrefetchParallelism(3);
+        try {
+            IGCRestClient prefetchClient = new IGCRestClient(MockConstants.IGC_HOST, MockConstants.IGC_PORT, MockConstants.IGC_USER, MockConstants.IGC_PASS, new HttpTransportSettings(), settings);
+            assertEquals(prefetchClient.getPagePrefetchParallelism(), 3);
+            List<Term> sequential = igcRestClient.getAllPages(null, igcRestClient.search(igcSearch));
+            List<Term> concurrent = prefetchClient.getAllPages(null, prefetchClient.search(igcSearch));
+            assertEquals(concurrent.size(), 6);
+            assertEquals(concurrent.size(), sequential.size());
+            for (int i = 0; i < sequential.size(); i++) {
+                assertEquals(concurrent.get(i).getId(), sequential.get(i).getId());
+            }
+            // Resizing the parallelism once pages have been retrieved concurrently must not break further retrieval
+            prefetchClient.setPagePrefetchParallelism(2);
+            assertEquals(prefetchClient.getAllPages(null, prefetchClient.search(igcSearch)).size(), 6);
+            prefetchClient.setPagePrefetchParallelism(4);
+            assertEquals(prefetchClient.getAllPages(null, prefetchClient.search(igcSearch)).size(), 6);
+            prefetchClient.disconnect();
+        } catch (IGCException e) {
+            assertNull(e, "Fatal error interacting with IGC.");
+        }
+
+    }
+
+    @Test
+    public void testPreparedSearch() {
+
+        IGCSearchConditionSet prepared = new IGCSearchConditionSet(new IGCSearchCondition("name", "=", IGCPreparedSearch.PARAMETER));
+        prepared.addCondition(new IGCSearchCondition("_id", Arrays.asList(IGCPreparedSearch.PARAMETER, "fixed")));
+        IGCSearch template = new IGCSearch("term", prepared);
+        template.addProperties(IGCRestConstants.getModificationProperties());
+        template.setPageSize(2);
+        template.addSortingCriteria(new IGCSearchSorting("_id", true));
+        IGCPreparedSearch preparedSearch = new IGCPreparedSearch(template);
+        assertEquals(preparedSearch.getParameterCount(), 2);
+        assertEquals(preparedSearch.getPageSize(), 2);
+
+        String name = "Address \"Line\" 1";
+        IGCSearchConditionSet literal = new IGCSearchConditionSet(new IGCSearchCondition("name", "=", name));
+        literal.addCondition(new IGCSearchCondition("_id", Arrays.asList("abc", "fixed")));
+        IGCSearch igcSearch = new IGCSearch("term", literal);
+        igcSearch.addProperties(IGCRestConstants.getModificationProperties());
+        igcSearch.setPageSize(2);
+        igcSearch.addSortingCriteria(new IGCSearchSorting("_id", true));
+        assertEquals(preparedSearch.render(name, "abc"), igcSearch.getQuery().toString());
+
+        try {
+            JsonNode paged = new ObjectMapper().readTree(preparedSearch.render(10, 5, name, "abc"));
+            assertEquals(paged.get("begin").asInt(), 10);
+            assertEquals(paged.get("pageSize").asInt(), 5);
+            assertEquals(paged.get("where").get("conditions").get(0).get("value").asText(), name);
+            JsonNode unpaged = new ObjectMapper().readTree(preparedSearch.render(0, 0, name, "abc"));
+            assertFalse(unpaged.has("begin"));
+            assertFalse(unpaged.has("pageSize"));
+        } catch (IOException e) {
+            assertNull(e, "Unable to parse rendered query.");
+        }
+        assertThrows(IllegalArgumentException.class, () -> preparedSearch.render("only one"));
+
+    }
+
     @Test
     public void testSearchNegationAndSorting() {
 
@@ -482,6 +882,262 @@ public class ClientTest {
 
     }
 
+    @Test
+    public void testConcurrentSessions() {
+
+        HttpTransportSettings settings = new HttpTransportSettings();
+        settings.setMaxSessions(2);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            IGCRestClient concurrentClient = new IGCRestClient(MockConstants.IGC_HOST, MockConstants.IGC_PORT, MockConstants.IGC_USER, MockConstants.IGC_PASS, settings);
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(concurrentClient::getOpenIgcBundles));
+            }
+            for (Future<List<String>> result : results) {
+                List<String> bundles = result.get();
+                assertNotNull(bundles);
+                assertTrue(bundles.contains("OMRS"));
+            }
+            assertTrue(concurrentClient.getSessionCount() <= 2);
+            concurrentClient.disconnect();
+        } catch (IGCException | InterruptedException | ExecutionException e) {
+            assertNull(e, "Fatal error interacting with IGC.");
+        } finally {
+            executor.shutdownNow();
+        }
+
+    }
+
+    @Test
+    public void testRequestCoalescing() {
+
+        IGCRequestCoalescer coalescer = new IGCRequestCoalescer();
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> first = executor.submit(() -> coalescer.execute("key", () -> {
+                inFlight.countDown();
+                awaitLatch(release);
+                return new Object();
+            }));
+            assertTrue(inFlight.await(10, TimeUnit.SECONDS));
+            Future<Object> second = executor.submit(() -> coalescer.execute("key", () -> {
+                fail("Identical in-flight request should not be sent.");
+                return null;
+            }));
+            long waited = 0;
+            while (coalescer.getCoalescedCount() == 0 && waited < 10000) {
+                Thread.sleep(10);
+                waited += 10;
+            }
+            release.countDown();
+            assertSame(second.get(), first.get());
+            assertEquals(coalescer.getExecutedCount(), 1);
+            assertEquals(coalescer.getCoalescedCount(), 1);
+            // Once complete, an identical request is sent again
+            assertNotSame(coalescer.execute("key", Object::new), first.get());
+            assertEquals(coalescer.getExecutedCount(), 2);
+        } catch (IGCException | InterruptedException | ExecutionException e) {
+            assertNull(e, "Fatal error interacting with IGC.");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        try {
+            long executedBefore = igcRestClient.getExecutedRequestCount();
+            Reference term = igcRestClient.getAssetById(MockConstants.TERM_WITH_NOTES_RID);
+            assertNotNull(term);
+            assertEquals(igcRestClient.getExecutedRequestCount(), executedBefore + 1);
+        } catch (IGCException e) {
+            assertNull(e, "Fatal error interacting with IGC.");
+        }
+
+    }
+
+    @Test
+    public void testRequestLimiter() {
+
+        IGCConnectivityException overloaded = new IGCConnectivityException("Overloaded", new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+        IGCRequestLimiter limiter = new IGCRequestLimiter(4, 0, 2, 1);
+        assertEquals(limiter.getLimit(), 4);
+        AtomicInteger attempts = new AtomicInteger(0);
+        try {
+            String result = limiter.execute(() -> {
+                if (attempts.incrementAndGet() <= 2) {
+                    throw overloaded;
+                }
+                return "done";
+            }, true);
+            assertEquals(result, "done");
+            assertEquals(attempts.get(), 3);
+            assertEquals(limiter.getRetryCount(), 2);
+            assertTrue(limiter.getLimit() < 4);
+            assertEquals(limiter.getInFlight(), 0);
+        } catch (IGCConnectivityException e) {
+            assertNull(e, "Fatal error interacting with IGC.");
+        }
+
+        // Requests that are not idempotent must never be retried
+        attempts.set(0);
+        assertThrows(IGCConnectivityException.class, () -> limiter.execute(() -> {
+            attempts.incrementAndGet();
+            throw overloaded;
+        }, false));
+        assertEquals(attempts.get(), 1);
+
+        // Requests that cannot be sent within the queue timeout are shed
+        IGCRequestLimiter single = new IGCRequestLimiter(1, 50, 0, 1);
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> holding = executor.submit(() -> single.execute(() -> {
+                inFlight.countDown();
+                awaitLatch(release);
+                return "held";
+            }, true));
+            assertTrue(inFlight.await(10, TimeUnit.SECONDS));
+            assertThrows(IGCConnectivityException.class, () -> single.execute(() -> "shed", true));
+            assertEquals(single.getShedCount(), 1);
+            release.countDown();
+            assertEquals(holding.get(), "held");
+        } catch (InterruptedException | ExecutionException e) {
+            assertNull(e, "Fatal error interacting with IGC.");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(igcRestClient.getConcurrentRequestLimit(), HttpTransportSettings.DEFAULT_MAX_SESSIONS);
+
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    public void testRequestMetrics() {
+
+        IGCSearchCondition igcSearchCondition = new IGCSearchCondition("name", "like %{0}%", "address");
+        IGCSearch igcSearch = new IGCSearch("term", new IGCSearchConditionSet(igcSearchCondition));
+        igcSearch.addProperties(IGCRestConstants.getModificationProperties());
+        igcSearch.setPageSize(2);
+        igcSearch.addSortingCriteria(new IGCSearchSorting("_id", true));
+
+        try {
+            IGCRestClient metricsClient = new IGCRestClient(MockConstants.IGC_HOST, MockConstants.IGC_PORT, MockConstants.IGC_USER, MockConstants.IGC_PASS, new HttpTransportSettings());
+            metricsClient.getAllPages(null, metricsClient.search(igcSearch));
+            metricsClient.getAssetById(MockConstants.TERM_WITH_NOTES_RID);
+            metricsClient.getOpenIgcBundles();
+
+            IGCRequestMetrics metrics = metricsClient.getRequestMetrics();
+            IGCRequestStatistics search = metrics.getStatistics(IGCOperation.SEARCH, "term");
+            assertNotNull(search);
+            assertEquals(search.getCount(), 1);
+            assertEquals(search.getErrorCount(), 0);
+            assertTrue(search.getRequestBytes() > 0);
+            assertTrue(search.getResponseBytes() > 0);
+            assertTrue(search.getLatencyPercentile(95) <= search.getMaxLatency());
+            IGCRequestStatistics nextPage = metrics.getStatistics(IGCOperation.NEXT_PAGE, "term");
+            assertNotNull(nextPage);
+            assertEquals(nextPage.getCount(), 2);
+            IGCRequestStatistics asset = metrics.getStatistics(IGCOperation.GET_ASSET, "term");
+            assertNotNull(asset);
+            assertEquals(asset.getCount(), 1);
+            assertNotNull(metrics.getStatistics(IGCOperation.GET_BUNDLES, null));
+            assertEquals(metrics.getCount(), 5);
+            assertTrue(metrics.getSummary().contains("search[term]: count=1"));
+            metricsClient.disconnect();
+        } catch (IGCException e) {
+            assertNull(e, "Fatal error interacting with IGC.");
+        }
+
+    }
+
+    @Test
+    public void testTypeCache() {
+
+        try {
+            File directory = java.nio.file.Files.createTempDirectory("igc-types").toFile();
+            IGCClientSettings settings = new IGCClientSettings();
+            settings.setTypeCacheDirectory(directory.getAbsolutePath());
+
+            IGCRestClient first = new IGCRestClient(MockConstants.IGC_HOST, MockConstants.IGC_PORT, MockConstants.IGC_USER, MockConstants.IGC_PASS, null, settings);
+            assertTrue(first.start());
+            assertEquals(first.getDisplayNameForType("term"), "Term");
+            List<String> allProperties = first.getAllPropertiesForType("term");
+            assertFalse(allProperties.isEmpty());
+            assertNotNull(first.getRequestMetrics().getStatistics(IGCOperation.GET_TYPE_DETAILS, "term"));
+            first.disconnect();
+            File[] files = directory.listFiles((dir, name) -> name.endsWith(".json"));
+            assertNotNull(files);
+            assertEquals(files.length, 1);
+
+            // A second client against the same environment should not need to retrieve the type details again
+            IGCRestClient second = new IGCRestClient(MockConstants.IGC_HOST, MockConstants.IGC_PORT, MockConstants.IGC_USER, MockConstants.IGC_PASS, null, settings);
+            assertTrue(second.start());
+            assertEquals(second.getDisplayNameForType("term"), "Term");
+            assertEquals(second.getAllPropertiesForType("term"), allProperties);
+            assertEquals(second.getAllStringPropertiesForType("term"), first.getAllStringPropertiesForType("term"));
+            assertEquals(second.isCreatable("term"), first.isCreatable("term"));
+            assertNull(second.getRequestMetrics().getStatistics(IGCOperation.GET_TYPE_DETAILS, "term"));
+            second.disconnect();
+
+            for (File file : directory.listFiles()) {
+                assertTrue(file.delete());
+            }
+            assertTrue(directory.delete());
+        } catch (IGCException | IOException e) {
+            assertNull(e, "Fatal error interacting with IGC.");
+        }
+
+    }
+
+    @Test
+    public void testConcurrentTypeDetails() {
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            IGCRestClient typesClient = new IGCRestClient(MockConstants.IGC_HOST, MockConstants.IGC_PORT, MockConstants.IGC_USER, MockConstants.IGC_PASS, new HttpTransportSettings());
+            CountDownLatch ready = new CountDownLatch(1);
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    awaitLatch(ready);
+                    return typesClient.getAllPropertiesForType("term");
+                }));
+            }
+            ready.countDown();
+            List<String> expected = null;
+            for (Future<List<String>> result : results) {
+                List<String> properties = result.get(30, TimeUnit.SECONDS);
+                assertTrue(properties.contains("long_description"));
+                if (expected == null) {
+                    expected = properties;
+                } else {
+                    assertSame(properties, expected);
+                }
+            }
+            IGCRequestStatistics typeDetails = typesClient.getRequestMetrics().getStatistics(IGCOperation.GET_TYPE_DETAILS, "term");
+            assertNotNull(typeDetails);
+            assertEquals(typeDetails.getCount(), 1);
+            assertThrows(UnsupportedOperationException.class, () -> typesClient.getAllPropertiesForType("term").add("invalid"));
+            typesClient.disconnect();
+        } catch (IGCException | InterruptedException | ExecutionException | TimeoutException e) {
+            assertNull(e, "Fatal error interacting with IGC.");
+        } finally {
+            executor.shutdownNow();
+        }
+
+    }
+
     @Test
     public void testRIDEncoding() {
 
@@ -5,6 +5,7 @@ package org.odpi.egeria.connectors.ibm.igc.clientlibrary;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCException;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCParsingException;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Identity;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearchConditionSet;
 import org.odpi.egeria.connectors.ibm.information.server.mocks.MockConstants;
 import org.odpi.openmetadata.http.HttpHelper;
@@ -12,6 +13,10 @@ import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import static org.testng.Assert.*;
 
 public class IdentityTest {
@@ -199,6 +204,55 @@ public class IdentityTest {
 
     }
 
+    @Test
+    public void testIdentityCache() {
+
+        try {
+            Reference host = new Reference("INFOSVR", "host", "host_rid");
+            Reference database = new Reference("SOMETHING", "database", "database_rid");
+            Reference table = new Reference("TABLE", "database_table", "table_rid");
+            List<Reference> context = Arrays.asList(host, database, table);
+
+            Reference column1 = new Reference("COLUMN1", "database_column", "column1_rid");
+            column1.setContext(context);
+            Reference column2 = new Reference("COLUMN2", "database_column", "column2_rid");
+            column2.setContext(context);
+
+            Identity first = column1.getIdentity(igcRestClient, null);
+            Identity second = column2.getIdentity(igcRestClient, null);
+            assertEquals(first.toString(), "(host)=INFOSVR::(database)=SOMETHING::(database_table)=TABLE::(database_column)=COLUMN1");
+            assertEquals(first, new Identity(context, "database_column", "COLUMN1", "column1_rid"));
+            assertEquals(first.hashCode(), new Identity(context, "database_column", "COLUMN1", "column1_rid").hashCode());
+            assertSame(first.getParentIdentity(), second.getParentIdentity());
+            assertSame(first.getUltimateParentIdentity(), second.getUltimateParentIdentity());
+            assertEquals(first.getUltimateParentIdentity().toString(), "(host)=INFOSVR");
+
+            // The same asset (re-retrieved) should re-use the same identity...
+            Reference again = new Reference("COLUMN1", "database_column", "column1_rid");
+            again.setContext(context);
+            assertSame(again.getIdentity(igcRestClient, null), first);
+
+            // ... but not once it (or one of its parents) has been renamed
+            List<Reference> renamed = new ArrayList<>(context);
+            renamed.set(2, new Reference("RENAMED", "database_table", "table_rid"));
+            Reference moved = new Reference("COLUMN1", "database_column", "column1_rid");
+            moved.setContext(renamed);
+            Identity changed = moved.getIdentity(igcRestClient, null);
+            assertNotEquals(changed, first);
+            assertEquals(changed.getParentIdentity().getName(), "RENAMED");
+            assertSame(changed.getUltimateParentIdentity(), first.getUltimateParentIdentity());
+
+            Identity parsed = Identity.getFromString(FULL_IDENTITY_STRING, igcRestClient, Identity.StringType.EXACT);
+            assertSame(Identity.getFromString(FULL_IDENTITY_STRING, igcRestClient, Identity.StringType.EXACT), parsed);
+            Identity partial = Identity.getFromString(FULL_IDENTITY_STRING, igcRestClient, Identity.StringType.CONTAINS);
+            assertTrue(partial.isPartial());
+            assertFalse(parsed.isPartial());
+        } catch (IGCException e) {
+            assertNull(e);
+        }
+
+    }
+
     @AfterSuite
     void stopClient() {
         try {
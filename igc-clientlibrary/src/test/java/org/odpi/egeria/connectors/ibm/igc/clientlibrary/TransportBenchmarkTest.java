@@ -0,0 +1,80 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary;
+
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.http.HttpTransportSettings;
+import org.odpi.egeria.connectors.ibm.information.server.mocks.MockConstants;
+import org.odpi.openmetadata.http.HttpHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Benchmark the throughput of the different HTTP transports against the mocked server resources.
+ * <br><br>
+ * The number of requests to send through each transport can be changed by setting the system property
+ * 'igc.benchmark.requests' (default: 100). As a benchmark rather than a functional test, it is only run when the
+ * benchmark profile is active (eg. {@code mvn test -Dbenchmark}).
+ */
+public class TransportBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TransportBenchmarkTest.class);
+
+    private static final int REQUESTS = Integer.getInteger("igc.benchmark.requests", 100);
+
+    public TransportBenchmarkTest() {
+        HttpHelper.noStrictSSL();
+    }
+
+    @Test(groups = "benchmark")
+    public void benchmarkTransports() {
+
+        double unpooled = benchmark(false);
+        double pooled = benchmark(true);
+        log.info("Requests/sec without pooling: {}", String.format("%.1f", unpooled));
+        log.info("Requests/sec with pooling:    {}", String.format("%.1f", pooled));
+        assertTrue(unpooled > 0);
+        assertTrue(pooled > 0);
+
+    }
+
+    /**
+     * Send the configured number of (lightweight) requests through a client using the specified transport.
+     *
+     * @param pooled whether to pool connections (true) or not (false)
+     * @return double giving the requests per second achieved
+     */
+    private double benchmark(boolean pooled) {
+
+        HttpTransportSettings settings = new HttpTransportSettings();
+        settings.setPooled(pooled);
+        IGCRestClient igcRestClient = null;
+        double requestsPerSecond = 0;
+        try {
+            igcRestClient = new IGCRestClient(MockConstants.IGC_HOST, MockConstants.IGC_PORT, MockConstants.IGC_USER, MockConstants.IGC_PASS, settings);
+            assertTrue(igcRestClient.start());
+            // Warm-up the transport (and JIT) before measuring
+            for (int i = 0; i < 10; i++) {
+                igcRestClient.getOpenIgcBundles();
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < REQUESTS; i++) {
+                List<String> bundles = igcRestClient.getOpenIgcBundles();
+                assertNotNull(bundles);
+            }
+            long elapsed = System.nanoTime() - start;
+            requestsPerSecond = REQUESTS / (elapsed / 1_000_000_000.0);
+            igcRestClient.disconnect();
+        } catch (IGCException e) {
+            assertNull(e, "Fatal error interacting with IGC.");
+        }
+        return requestsPerSecond;
+
+    }
+
+}
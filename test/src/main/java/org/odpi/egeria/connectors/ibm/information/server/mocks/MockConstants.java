@@ -145,6 +145,22 @@ public class MockConstants {
         return request;
     }
 
+    /**
+     * Create a mock IGC next page request for an unrestricted search (one with no 'where' clause) of a type.
+     * @param types the types to search
+     * @param pageSize the number of results per page
+     * @param begin the result index to start from
+     * @return HttpRequest
+     */
+    public static HttpRequest nextPageRequest(String types, String pageSize, String begin) {
+        return request().withMethod("GET").withPath(IGC_REST_EP + "search")
+                .withQueryStringParameters(
+                        param("types", types),
+                        param("pageSize", pageSize),
+                        param("begin", begin)
+                );
+    }
+
     /**
      * Create a mock IGC type query request.
      * @return HttpRequest
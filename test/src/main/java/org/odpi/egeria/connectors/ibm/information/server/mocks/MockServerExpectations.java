@@ -70,6 +70,7 @@ public class MockServerExpectations implements PluginExpectationInitializer {
         setStartupQuery(mockServerClient);
         setTypesQuery(mockServerClient);
         setMultipageSearch(mockServerClient);
+        setKeysetPagedSearch(mockServerClient);
         setSortedSearch(mockServerClient);
         setBundlesQuery(mockServerClient);
 
@@ -353,6 +354,16 @@ public class MockServerExpectations implements PluginExpectationInitializer {
                 .respond(withResponse(getResourceFileContents("by_case" + File.separator + "TermFindMultipage" + File.separator + "results_3.json")));
     }
 
+    private void setKeysetPagedSearch(MockServerClient mockServerClient) {
+        // Note: the first page is the same as for the multi-page search, and each further page is searched for as the
+        // results after the last result of the previous page
+        String caseName = "TermFindKeyset";
+        setSearchAndResponse(mockServerClient, caseName, "results_2.json",
+                "{\"types\":[\"term\"],\"properties\":[\"created_by\",\"created_on\",\"modified_by\",\"modified_on\"],\"pageSize\":2,\"where\":{\"conditions\":[{\"conditions\":[{\"property\":\"name\",\"operator\":\"like %{0}%\",\"value\":\"address\"}],\"operator\":\"and\"},{\"property\":\"_id\",\"operator\":\">\",\"value\":\"6662c0f2.e1b1ec6c.00263shlq.4d85kok.4i1f2f.o1ik8urlo2d2p0erdfotv\"}],\"operator\":\"and\"},\"sorts\":[{\"property\":\"_id\",\"ascending\":true}]}");
+        setSearchAndResponse(mockServerClient, caseName, "results_3.json",
+                "{\"types\":[\"term\"],\"properties\":[\"created_by\",\"created_on\",\"modified_by\",\"modified_on\"],\"pageSize\":2,\"where\":{\"conditions\":[{\"conditions\":[{\"property\":\"name\",\"operator\":\"like %{0}%\",\"value\":\"address\"}],\"operator\":\"and\"},{\"property\":\"_id\",\"operator\":\">\",\"value\":\"6662c0f2.e1b1ec6c.00263shmd.6u8o50l.dhhet6.5a7eo9o6q9j8vikjs6ds4\"}],\"operator\":\"and\"},\"sorts\":[{\"property\":\"_id\",\"ascending\":true}]}");
+    }
+
     private void setSortedSearch(MockServerClient mockServerClient) {
         setSearchAndResponse(mockServerClient, "TermFindSorting", "results_positive.json",
                 "{\"types\":[\"term\"],\"properties\":[\"created_by\",\"created_on\",\"modified_by\",\"modified_on\"],\"pageSize\":2,\"where\":{\"conditions\":[{\"property\":\"short_description\",\"operator\":\"<>\",\"value\":\"\"},{\"property\":\"name\",\"operator\":\"in\",\"value\":[\"Address Line 2\"],\"negated\":false}],\"operator\":\"and\"},\"sorts\":[{\"property\":\"name\",\"ascending\":true}]}");
@@ -1114,6 +1125,10 @@ public class MockServerExpectations implements PluginExpectationInitializer {
                 "{\"types\":[\"data_file_record\"],\"properties\":[\"FKViolationCount\",\"PKDuplicateCount\",\"alias_(business_name)\",\"created_by\",\"created_on\",\"fieldCount\",\"imported_from\",\"include_for_business_lineage\",\"long_description\",\"modified_by\",\"modified_on\",\"name\",\"native_id\",\"nbRecordTested\",\"qualityScore\",\"qualityScore_bubble\",\"quality_benchmark\",\"reviewDate\",\"rowCount\",\"short_description\",\"synchronized_from\"],\"pageSize\":5,\"sorts\":[{\"property\":\"_id\",\"ascending\":true}]}");
         setSearchAndResponse(mockServerClient, caseName, "data_connection_5.json",
                 "{\"types\":[\"data_connection\"],\"properties\":[\"connection_string\",\"created_by\",\"created_on\",\"imported_from\",\"long_description\",\"modified_by\",\"modified_on\",\"name\",\"native_id\",\"short_description\"],\"pageSize\":5,\"sorts\":[{\"property\":\"_id\",\"ascending\":true}]}");
+        mockServerClient
+                .withSecure(true)
+                .when(nextPageRequest("data_connection", "5", "5"))
+                .respond(withResponse(getResourceFileContents("by_case" + File.separator + caseName + File.separator + "data_connection_5_5.json")));
     }
 
     private void setFindDataClassByProperty(MockServerClient mockServerClient) {